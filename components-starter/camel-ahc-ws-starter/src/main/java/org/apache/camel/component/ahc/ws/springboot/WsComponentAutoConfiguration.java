@@ -27,10 +27,11 @@ import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
+import org.apache.camel.spring.boot.util.RegistryReferenceTypes;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
@@ -52,13 +53,21 @@ public class WsComponentAutoConfiguration {
     private ApplicationContext applicationContext;
     private final CamelContext camelContext;
     @Autowired
-    private WsComponentConfiguration configuration;
+    private ObjectProvider<WsComponentConfiguration> configuration;
 
     public WsComponentAutoConfiguration(
             org.apache.camel.CamelContext camelContext) {
         this.camelContext = camelContext;
-        ApplicationConversionService acs = (ApplicationConversionService) ApplicationConversionService.getSharedInstance();
-        acs.addConverter(new WsComponentConverter(camelContext));
+    }
+
+    @Bean(name = "camel.component.ahc-ws.reference-types")
+    public static RegistryReferenceTypes referenceTypes() {
+        return new RegistryReferenceTypes(
+                org.apache.camel.component.ahc.AhcBinding.class,
+                org.asynchttpclient.AsyncHttpClient.class,
+                org.asynchttpclient.AsyncHttpClientConfig.class,
+                org.apache.camel.spi.HeaderFilterStrategy.class,
+                org.apache.camel.support.jsse.SSLContextParameters.class);
     }
 
     @Lazy
@@ -67,7 +76,7 @@ public class WsComponentAutoConfiguration {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindProperties(camelContext, configuration.getObject(), target);
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.camel.component.ahc.AhcBinding;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.asynchttpclient.AsyncHttpClient;
 import org.asynchttpclient.AsyncHttpClientConfig;
@@ -196,4 +197,18 @@ public class WsComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("allowJavaSerializedObject", allowJavaSerializedObject);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("binding", binding);
+        binder.bind("client", client);
+        binder.bind("clientConfig", clientConfig);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+    }
 }
\ No newline at end of file
@@ -27,10 +27,11 @@ import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
+import org.apache.camel.spring.boot.util.RegistryReferenceTypes;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
@@ -52,13 +53,28 @@ public class AMQPComponentAutoConfiguration {
     private ApplicationContext applicationContext;
     private final CamelContext camelContext;
     @Autowired
-    private AMQPComponentConfiguration configuration;
+    private ObjectProvider<AMQPComponentConfiguration> configuration;
 
     public AMQPComponentAutoConfiguration(
             org.apache.camel.CamelContext camelContext) {
         this.camelContext = camelContext;
-        ApplicationConversionService acs = (ApplicationConversionService) ApplicationConversionService.getSharedInstance();
-        acs.addConverter(new AMQPComponentConverter(camelContext));
+    }
+
+    @Bean(name = "camel.component.amqp.reference-types")
+    public static RegistryReferenceTypes referenceTypes() {
+        return new RegistryReferenceTypes(
+                javax.jms.ConnectionFactory.class,
+                org.springframework.core.task.TaskExecutor.class,
+                org.apache.camel.component.jms.JmsConfiguration.class,
+                org.springframework.jms.support.destination.DestinationResolver.class,
+                org.springframework.util.ErrorHandler.class,
+                javax.jms.ExceptionListener.class,
+                org.springframework.jms.support.converter.MessageConverter.class,
+                org.apache.camel.component.jms.MessageCreatedStrategy.class,
+                org.apache.camel.component.jms.MessageListenerContainerFactory.class,
+                org.apache.camel.component.jms.QueueBrowseStrategy.class,
+                org.apache.camel.spi.HeaderFilterStrategy.class,
+                org.springframework.transaction.PlatformTransactionManager.class);
     }
 
     @Lazy
@@ -67,7 +83,7 @@ public class AMQPComponentAutoConfiguration {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindProperties(camelContext, configuration.getObject(), target);
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -32,6 +32,7 @@ import org.apache.camel.component.jms.QueueBrowseStrategy;
 import org.apache.camel.component.jms.ReplyToType;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.jms.support.converter.MessageConverter;
@@ -1578,4 +1579,106 @@ public class AMQPComponentConfiguration
     public void setTransactionTimeout(Integer transactionTimeout) {
         this.transactionTimeout = transactionTimeout;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("clientId", clientId);
+        binder.bind("connectionFactory", connectionFactory);
+        binder.bind("disableReplyTo", disableReplyTo);
+        binder.bind("durableSubscriptionName", durableSubscriptionName);
+        binder.bind("includeAmqpAnnotations", includeAmqpAnnotations);
+        binder.bind("jmsMessageType", jmsMessageType);
+        binder.bind("replyTo", replyTo);
+        binder.bind("testConnectionOnStartup", testConnectionOnStartup);
+        binder.bind("acknowledgementModeName", acknowledgementModeName);
+        binder.bind("asyncConsumer", asyncConsumer);
+        binder.bind("autoStartup", autoStartup);
+        binder.bind("cacheLevel", cacheLevel);
+        binder.bind("cacheLevelName", cacheLevelName);
+        binder.bind("concurrentConsumers", concurrentConsumers);
+        binder.bind("maxConcurrentConsumers", maxConcurrentConsumers);
+        binder.bind("replyToDeliveryPersistent", replyToDeliveryPersistent);
+        binder.bind("selector", selector);
+        binder.bind("subscriptionDurable", subscriptionDurable);
+        binder.bind("subscriptionName", subscriptionName);
+        binder.bind("subscriptionShared", subscriptionShared);
+        binder.bind("acceptMessagesWhileStopping", acceptMessagesWhileStopping);
+        binder.bind("allowReplyManagerQuickStop", allowReplyManagerQuickStop);
+        binder.bind("consumerType", consumerType);
+        binder.bind("defaultTaskExecutorType", defaultTaskExecutorType);
+        binder.bind("eagerLoadingOfProperties", eagerLoadingOfProperties);
+        binder.bind("eagerPoisonBody", eagerPoisonBody);
+        binder.bind("exposeListenerSession", exposeListenerSession);
+        binder.bind("replyToSameDestinationAllowed", replyToSameDestinationAllowed);
+        binder.bind("taskExecutor", taskExecutor);
+        binder.bind("deliveryDelay", deliveryDelay);
+        binder.bind("deliveryMode", deliveryMode);
+        binder.bind("deliveryPersistent", deliveryPersistent);
+        binder.bind("explicitQosEnabled", explicitQosEnabled);
+        binder.bind("formatDateHeadersToIso8601", formatDateHeadersToIso8601);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("preserveMessageQos", preserveMessageQos);
+        binder.bind("priority", priority);
+        binder.bind("replyToConcurrentConsumers", replyToConcurrentConsumers);
+        binder.bind("replyToMaxConcurrentConsumers", replyToMaxConcurrentConsumers);
+        binder.bind("replyToOnTimeoutMaxConcurrentConsumers", replyToOnTimeoutMaxConcurrentConsumers);
+        binder.bind("replyToOverride", replyToOverride);
+        binder.bind("replyToType", replyToType);
+        binder.bind("requestTimeout", requestTimeout);
+        binder.bind("timeToLive", timeToLive);
+        binder.bind("allowAdditionalHeaders", allowAdditionalHeaders);
+        binder.bind("allowNullBody", allowNullBody);
+        binder.bind("alwaysCopyMessage", alwaysCopyMessage);
+        binder.bind("correlationProperty", correlationProperty);
+        binder.bind("disableTimeToLive", disableTimeToLive);
+        binder.bind("forceSendOriginalMessage", forceSendOriginalMessage);
+        binder.bind("includeSentJmsMessageId", includeSentJmsMessageId);
+        binder.bind("replyToCacheLevelName", replyToCacheLevelName);
+        binder.bind("replyToDestinationSelectorName", replyToDestinationSelectorName);
+        binder.bind("streamMessageTypeEnabled", streamMessageTypeEnabled);
+        binder.bind("allowAutoWiredConnectionFactory", allowAutoWiredConnectionFactory);
+        binder.bind("allowAutoWiredDestinationResolver", allowAutoWiredDestinationResolver);
+        binder.bind("allowSerializedHeaders", allowSerializedHeaders);
+        binder.bind("artemisStreamingEnabled", artemisStreamingEnabled);
+        binder.bind("asyncStartListener", asyncStartListener);
+        binder.bind("asyncStopListener", asyncStopListener);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("destinationResolver", destinationResolver);
+        binder.bind("errorHandler", errorHandler);
+        binder.bind("exceptionListener", exceptionListener);
+        binder.bind("idleConsumerLimit", idleConsumerLimit);
+        binder.bind("idleTaskExecutionLimit", idleTaskExecutionLimit);
+        binder.bind("includeAllJmsxProperties", includeAllJmsxProperties);
+        binder.bind("jmsKeyFormatStrategy", jmsKeyFormatStrategy);
+        binder.bind("mapJmsMessage", mapJmsMessage);
+        binder.bind("maxMessagesPerTask", maxMessagesPerTask);
+        binder.bind("messageConverter", messageConverter);
+        binder.bind("messageCreatedStrategy", messageCreatedStrategy);
+        binder.bind("messageIdEnabled", messageIdEnabled);
+        binder.bind("messageListenerContainerFactory", messageListenerContainerFactory);
+        binder.bind("messageTimestampEnabled", messageTimestampEnabled);
+        binder.bind("pubSubNoLocal", pubSubNoLocal);
+        binder.bind("queueBrowseStrategy", queueBrowseStrategy);
+        binder.bind("receiveTimeout", receiveTimeout);
+        binder.bind("recoveryInterval", recoveryInterval);
+        binder.bind("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
+        binder.bind("synchronous", synchronous);
+        binder.bind("transferException", transferException);
+        binder.bind("transferExchange", transferExchange);
+        binder.bind("useMessageIdAsCorrelationId", useMessageIdAsCorrelationId);
+        binder.bind("waitForProvisionCorrelationToBeUpdatedCounter", waitForProvisionCorrelationToBeUpdatedCounter);
+        binder.bind("waitForProvisionCorrelationToBeUpdatedThreadSleepingTime", waitForProvisionCorrelationToBeUpdatedThreadSleepingTime);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+        binder.bind("errorHandlerLoggingLevel", errorHandlerLoggingLevel);
+        binder.bind("errorHandlerLogStackTrace", errorHandlerLogStackTrace);
+        binder.bind("password", password);
+        binder.bind("username", username);
+        binder.bind("transacted", transacted);
+        binder.bind("transactedInOut", transactedInOut);
+        binder.bind("lazyCreateTransactionManager", lazyCreateTransactionManager);
+        binder.bind("transactionManager", transactionManager);
+        binder.bind("transactionName", transactionName);
+        binder.bind("transactionTimeout", transactionTimeout);
+    }
 }
\ No newline at end of file
@@ -16,9 +16,10 @@
  */
 package org.apache.camel.component.apns.springboot;
 
-import javax.annotation.Generated;
 import com.notnoop.apns.ApnsService;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -104,4 +105,12 @@ public class ApnsComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("apnsService", apnsService);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
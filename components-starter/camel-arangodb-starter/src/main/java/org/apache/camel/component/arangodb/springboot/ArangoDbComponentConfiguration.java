@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.camel.component.arangodb.ArangoDbConfiguration;
 import org.apache.camel.component.arangodb.ArangoDbOperation;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -210,4 +211,20 @@ public class ArangoDbComponentConfiguration
     public void setUser(String user) {
         this.user = user;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("configuration", configuration);
+        binder.bind("documentCollection", documentCollection);
+        binder.bind("edgeCollection", edgeCollection);
+        binder.bind("graph", graph);
+        binder.bind("host", host);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("port", port);
+        binder.bind("vertexCollection", vertexCollection);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("password", password);
+        binder.bind("user", user);
+    }
 }
\ No newline at end of file
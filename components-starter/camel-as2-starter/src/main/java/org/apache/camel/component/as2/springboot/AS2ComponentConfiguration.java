@@ -19,6 +19,7 @@ package org.apache.camel.component.as2.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.as2.AS2Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -103,4 +104,12 @@ public class AS2ComponentConfiguration
     public void setConfiguration(AS2Configuration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+    }
 }
\ No newline at end of file
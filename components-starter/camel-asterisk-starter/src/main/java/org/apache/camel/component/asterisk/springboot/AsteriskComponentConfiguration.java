@@ -18,6 +18,7 @@ package org.apache.camel.component.asterisk.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -89,4 +90,11 @@ public class AsteriskComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
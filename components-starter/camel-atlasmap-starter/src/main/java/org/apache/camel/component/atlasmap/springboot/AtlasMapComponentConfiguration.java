@@ -16,9 +16,10 @@
  */
 package org.apache.camel.component.atlasmap.springboot;
 
-import javax.annotation.Generated;
 import io.atlasmap.api.AtlasContextFactory;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -86,4 +87,11 @@ public class AtlasMapComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("atlasContextFactory", atlasContextFactory);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
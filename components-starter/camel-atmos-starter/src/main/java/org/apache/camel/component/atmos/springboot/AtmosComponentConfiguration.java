@@ -18,6 +18,7 @@ package org.apache.camel.component.atmos.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -137,4 +138,15 @@ public class AtmosComponentConfiguration
     public void setSslValidation(Boolean sslValidation) {
         this.sslValidation = sslValidation;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("uri", uri);
+        binder.bind("fullTokenId", fullTokenId);
+        binder.bind("secretKey", secretKey);
+        binder.bind("sslValidation", sslValidation);
+    }
 }
\ No newline at end of file
@@ -16,17 +16,18 @@
  */
 package org.apache.camel.component.atomix.client.map.springboot;
 
+import io.atomix.Atomix;
+import io.atomix.catalyst.transport.Address;
+import io.atomix.resource.ReadConsistency;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import javax.annotation.Generated;
-import io.atomix.Atomix;
-import io.atomix.catalyst.transport.Address;
-import io.atomix.resource.ReadConsistency;
 import org.apache.camel.component.atomix.client.map.AtomixMap.Action;
 import org.apache.camel.component.atomix.client.map.AtomixMapComponent;
 import org.apache.camel.component.atomix.client.map.AtomixMapConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -284,4 +285,26 @@ public class AtomixMapComponentConfiguration
     public void setResourceOptions(Map<String, Properties> resourceOptions) {
         this.resourceOptions = resourceOptions;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("atomix", atomix);
+        binder.bind("configuration", configuration);
+        binder.bind("configurationUri", configurationUri);
+        binder.bind("defaultAction", defaultAction);
+        binder.bind("key", key);
+        binder.bind("nodes", nodes);
+        binder.bind("resultHeader", resultHeader);
+        binder.bind("transportClassName", transportClassName);
+        binder.bind("ttl", ttl);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("defaultResourceConfig", defaultResourceConfig);
+        binder.bind("defaultResourceOptions", defaultResourceOptions);
+        binder.bind("ephemeral", ephemeral);
+        binder.bind("readConsistency", readConsistency);
+        binder.bind("resourceConfigs", resourceConfigs);
+        binder.bind("resourceOptions", resourceOptions);
+    }
 }
\ No newline at end of file
@@ -16,18 +16,19 @@
  */
 package org.apache.camel.component.atomix.client.messaging.springboot;
 
+import io.atomix.Atomix;
+import io.atomix.catalyst.transport.Address;
+import io.atomix.resource.ReadConsistency;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import javax.annotation.Generated;
-import io.atomix.Atomix;
-import io.atomix.catalyst.transport.Address;
-import io.atomix.resource.ReadConsistency;
 import org.apache.camel.component.atomix.client.messaging.AtomixMessaging.Action;
 import org.apache.camel.component.atomix.client.messaging.AtomixMessaging.BroadcastType;
 import org.apache.camel.component.atomix.client.messaging.AtomixMessagingComponent;
 import org.apache.camel.component.atomix.client.messaging.AtomixMessagingConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -296,4 +297,27 @@ public class AtomixMessagingComponentConfiguration
     public void setResourceOptions(Map<String, Properties> resourceOptions) {
         this.resourceOptions = resourceOptions;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("atomix", atomix);
+        binder.bind("broadcastType", broadcastType);
+        binder.bind("channelName", channelName);
+        binder.bind("configuration", configuration);
+        binder.bind("configurationUri", configurationUri);
+        binder.bind("defaultAction", defaultAction);
+        binder.bind("memberName", memberName);
+        binder.bind("nodes", nodes);
+        binder.bind("resultHeader", resultHeader);
+        binder.bind("transportClassName", transportClassName);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("defaultResourceConfig", defaultResourceConfig);
+        binder.bind("defaultResourceOptions", defaultResourceOptions);
+        binder.bind("ephemeral", ephemeral);
+        binder.bind("readConsistency", readConsistency);
+        binder.bind("resourceConfigs", resourceConfigs);
+        binder.bind("resourceOptions", resourceOptions);
+    }
 }
\ No newline at end of file
@@ -16,17 +16,18 @@
  */
 package org.apache.camel.component.atomix.client.multimap.springboot;
 
+import io.atomix.Atomix;
+import io.atomix.catalyst.transport.Address;
+import io.atomix.resource.ReadConsistency;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import javax.annotation.Generated;
-import io.atomix.Atomix;
-import io.atomix.catalyst.transport.Address;
-import io.atomix.resource.ReadConsistency;
 import org.apache.camel.component.atomix.client.multimap.AtomixMultiMap.Action;
 import org.apache.camel.component.atomix.client.multimap.AtomixMultiMapComponent;
 import org.apache.camel.component.atomix.client.multimap.AtomixMultiMapConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -267,4 +268,25 @@ public class AtomixMultiMapComponentConfiguration
     public void setResourceOptions(Map<String, Properties> resourceOptions) {
         this.resourceOptions = resourceOptions;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("atomix", atomix);
+        binder.bind("configuration", configuration);
+        binder.bind("configurationUri", configurationUri);
+        binder.bind("defaultAction", defaultAction);
+        binder.bind("key", key);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("nodes", nodes);
+        binder.bind("resultHeader", resultHeader);
+        binder.bind("transportClassName", transportClassName);
+        binder.bind("ttl", ttl);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("defaultResourceConfig", defaultResourceConfig);
+        binder.bind("defaultResourceOptions", defaultResourceOptions);
+        binder.bind("ephemeral", ephemeral);
+        binder.bind("readConsistency", readConsistency);
+        binder.bind("resourceConfigs", resourceConfigs);
+        binder.bind("resourceOptions", resourceOptions);
+    }
 }
\ No newline at end of file
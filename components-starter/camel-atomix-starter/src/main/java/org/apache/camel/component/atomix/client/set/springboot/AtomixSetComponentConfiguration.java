@@ -16,17 +16,18 @@
  */
 package org.apache.camel.component.atomix.client.set.springboot;
 
+import io.atomix.Atomix;
+import io.atomix.catalyst.transport.Address;
+import io.atomix.resource.ReadConsistency;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import javax.annotation.Generated;
-import io.atomix.Atomix;
-import io.atomix.catalyst.transport.Address;
-import io.atomix.resource.ReadConsistency;
 import org.apache.camel.component.atomix.client.set.AtomixSet.Action;
 import org.apache.camel.component.atomix.client.set.AtomixSetComponent;
 import org.apache.camel.component.atomix.client.set.AtomixSetConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -271,4 +272,25 @@ public class AtomixSetComponentConfiguration
     public void setResourceOptions(Map<String, Properties> resourceOptions) {
         this.resourceOptions = resourceOptions;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("atomix", atomix);
+        binder.bind("configuration", configuration);
+        binder.bind("configurationUri", configurationUri);
+        binder.bind("defaultAction", defaultAction);
+        binder.bind("nodes", nodes);
+        binder.bind("resultHeader", resultHeader);
+        binder.bind("transportClassName", transportClassName);
+        binder.bind("ttl", ttl);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("defaultResourceConfig", defaultResourceConfig);
+        binder.bind("defaultResourceOptions", defaultResourceOptions);
+        binder.bind("ephemeral", ephemeral);
+        binder.bind("readConsistency", readConsistency);
+        binder.bind("resourceConfigs", resourceConfigs);
+        binder.bind("resourceOptions", resourceOptions);
+    }
 }
\ No newline at end of file
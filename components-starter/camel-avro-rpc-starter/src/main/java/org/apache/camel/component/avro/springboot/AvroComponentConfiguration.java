@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.avro.Protocol;
 import org.apache.camel.component.avro.AvroConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -179,4 +180,18 @@ public class AvroComponentConfiguration
     public void setConfiguration(AvroConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("protocol", protocol);
+        binder.bind("protocolClassName", protocolClassName);
+        binder.bind("protocolLocation", protocolLocation);
+        binder.bind("reflectionProtocol", reflectionProtocol);
+        binder.bind("singleParameter", singleParameter);
+        binder.bind("uriAuthority", uriAuthority);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+    }
 }
\ No newline at end of file
@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.aws.cw.springboot;
 
-import java.util.Date;
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.services.cloudwatch.AmazonCloudWatch;
+import java.util.Date;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.cw.CwComponent;
 import org.apache.camel.component.aws.cw.CwConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -239,4 +240,23 @@ public class CwComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonCwClient", amazonCwClient);
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("configuration", configuration);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("name", name);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("timestamp", timestamp);
+        binder.bind("unit", unit);
+        binder.bind("value", value);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.aws.ddb.springboot;
 
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.ddb.DdbComponent;
 import org.apache.camel.component.aws.ddb.DdbConfiguration;
 import org.apache.camel.component.aws.ddb.DdbOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -267,4 +268,25 @@ public class DdbComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonDDBClient", amazonDDBClient);
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("configuration", configuration);
+        binder.bind("consistentRead", consistentRead);
+        binder.bind("keyAttributeName", keyAttributeName);
+        binder.bind("keyAttributeType", keyAttributeType);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("readCapacity", readCapacity);
+        binder.bind("region", region);
+        binder.bind("writeCapacity", writeCapacity);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
@@ -16,14 +16,15 @@
  */
 package org.apache.camel.component.aws.ddbstream.springboot;
 
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDBStreams;
 import com.amazonaws.services.dynamodbv2.model.ShardIteratorType;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.ddbstream.DdbStreamComponent;
 import org.apache.camel.component.aws.ddbstream.DdbStreamConfiguration;
 import org.apache.camel.component.aws.ddbstream.SequenceNumberProvider;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -232,4 +233,22 @@ public class DdbStreamComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("amazonDynamoDbStreamsClient", amazonDynamoDbStreamsClient);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("configuration", configuration);
+        binder.bind("iteratorType", iteratorType);
+        binder.bind("maxResultsPerRequest", maxResultsPerRequest);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("sequenceNumberProvider", sequenceNumberProvider);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.aws.ec2.springboot;
 
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.services.ec2.AmazonEC2;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.ec2.EC2Component;
 import org.apache.camel.component.aws.ec2.EC2Configuration;
 import org.apache.camel.component.aws.ec2.EC2Operations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -206,4 +207,20 @@ public class EC2ComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("accessKey", accessKey);
+        binder.bind("amazonEc2Client", amazonEc2Client);
+        binder.bind("configuration", configuration);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("secretKey", secretKey);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
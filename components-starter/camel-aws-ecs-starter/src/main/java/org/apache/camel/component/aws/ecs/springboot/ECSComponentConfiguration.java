@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.aws.ecs.springboot;
 
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.services.ecs.AmazonECS;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.ecs.ECSComponent;
 import org.apache.camel.component.aws.ecs.ECSConfiguration;
 import org.apache.camel.component.aws.ecs.ECSOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -203,4 +204,20 @@ public class ECSComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("accessKey", accessKey);
+        binder.bind("configuration", configuration);
+        binder.bind("ecsClient", ecsClient);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("secretKey", secretKey);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
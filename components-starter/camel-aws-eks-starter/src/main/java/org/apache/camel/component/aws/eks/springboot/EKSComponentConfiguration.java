@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.aws.eks.springboot;
 
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.services.eks.AmazonEKS;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.eks.EKSComponent;
 import org.apache.camel.component.aws.eks.EKSConfiguration;
 import org.apache.camel.component.aws.eks.EKSOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -203,4 +204,20 @@ public class EKSComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("accessKey", accessKey);
+        binder.bind("configuration", configuration);
+        binder.bind("eksClient", eksClient);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("secretKey", secretKey);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
@@ -16,12 +16,13 @@
  */
 package org.apache.camel.component.aws.firehose.springboot;
 
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.services.kinesisfirehose.AmazonKinesisFirehose;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.firehose.KinesisFirehoseComponent;
 import org.apache.camel.component.aws.firehose.KinesisFirehoseConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -194,4 +195,19 @@ public class KinesisFirehoseComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonKinesisFirehoseClient", amazonKinesisFirehoseClient);
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("configuration", configuration);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
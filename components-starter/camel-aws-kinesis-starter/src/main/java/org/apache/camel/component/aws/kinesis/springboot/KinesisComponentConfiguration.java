@@ -16,14 +16,15 @@
  */
 package org.apache.camel.component.aws.kinesis.springboot;
 
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.services.kinesis.AmazonKinesis;
 import com.amazonaws.services.kinesis.model.ShardIteratorType;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.kinesis.KinesisComponent;
 import org.apache.camel.component.aws.kinesis.KinesisConfiguration;
 import org.apache.camel.component.aws.kinesis.KinesisShardClosedStrategyEnum;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -275,4 +276,25 @@ public class KinesisComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonKinesisClient", amazonKinesisClient);
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("configuration", configuration);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("iteratorType", iteratorType);
+        binder.bind("maxResultsPerRequest", maxResultsPerRequest);
+        binder.bind("sequenceNumber", sequenceNumber);
+        binder.bind("shardClosed", shardClosed);
+        binder.bind("shardId", shardId);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
@@ -16,15 +16,16 @@
  */
 package org.apache.camel.component.aws.s3.springboot;
 
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.EncryptionMaterials;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.s3.S3Component;
 import org.apache.camel.component.aws.s3.S3Configuration;
 import org.apache.camel.component.aws.s3.S3Operations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -567,4 +568,47 @@ public class S3ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonS3Client", amazonS3Client);
+        binder.bind("autoCreateBucket", autoCreateBucket);
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("configuration", configuration);
+        binder.bind("endpointConfiguration", endpointConfiguration);
+        binder.bind("pathStyleAccess", pathStyleAccess);
+        binder.bind("policy", policy);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("useIAMCredentials", useIAMCredentials);
+        binder.bind("encryptionMaterials", encryptionMaterials);
+        binder.bind("useEncryption", useEncryption);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("deleteAfterRead", deleteAfterRead);
+        binder.bind("delimiter", delimiter);
+        binder.bind("fileName", fileName);
+        binder.bind("includeBody", includeBody);
+        binder.bind("prefix", prefix);
+        binder.bind("autocloseBody", autocloseBody);
+        binder.bind("deleteAfterWrite", deleteAfterWrite);
+        binder.bind("keyName", keyName);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("multiPartUpload", multiPartUpload);
+        binder.bind("operation", operation);
+        binder.bind("partSize", partSize);
+        binder.bind("serverSideEncryption", serverSideEncryption);
+        binder.bind("storageClass", storageClass);
+        binder.bind("awsKMSKeyId", awsKMSKeyId);
+        binder.bind("useAwsKMS", useAwsKMS);
+        binder.bind("accelerateModeEnabled", accelerateModeEnabled);
+        binder.bind("chunkedEncodingDisabled", chunkedEncodingDisabled);
+        binder.bind("dualstackEnabled", dualstackEnabled);
+        binder.bind("forceGlobalBucketAccessEnabled", forceGlobalBucketAccessEnabled);
+        binder.bind("payloadSigningEnabled", payloadSigningEnabled);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
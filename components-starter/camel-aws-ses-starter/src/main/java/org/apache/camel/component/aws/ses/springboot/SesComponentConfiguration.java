@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.aws.ses.springboot;
 
-import java.util.List;
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.services.simpleemail.AmazonSimpleEmailService;
+import java.util.List;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.ses.SesComponent;
 import org.apache.camel.component.aws.ses.SesConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -243,4 +244,23 @@ public class SesComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonSESClient", amazonSESClient);
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("configuration", configuration);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("replyToAddresses", replyToAddresses);
+        binder.bind("returnPath", returnPath);
+        binder.bind("subject", subject);
+        binder.bind("to", to);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
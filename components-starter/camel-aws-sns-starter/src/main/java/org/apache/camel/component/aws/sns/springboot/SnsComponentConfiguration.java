@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.aws.sns.springboot;
 
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.services.sns.AmazonSNS;
 import com.amazonaws.services.sqs.AmazonSQS;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.sns.SnsComponent;
 import org.apache.camel.component.aws.sns.SnsConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -303,4 +304,28 @@ public class SnsComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonSNSClient", amazonSNSClient);
+        binder.bind("amazonSQSClient", amazonSQSClient);
+        binder.bind("autoCreateTopic", autoCreateTopic);
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("configuration", configuration);
+        binder.bind("kmsMasterKeyId", kmsMasterKeyId);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("messageStructure", messageStructure);
+        binder.bind("policy", policy);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("queueUrl", queueUrl);
+        binder.bind("region", region);
+        binder.bind("serverSideEncryptionEnabled", serverSideEncryptionEnabled);
+        binder.bind("subject", subject);
+        binder.bind("subscribeSNStoSQS", subscribeSNStoSQS);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
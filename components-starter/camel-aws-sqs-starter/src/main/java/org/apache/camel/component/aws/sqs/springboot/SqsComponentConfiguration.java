@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.aws.sqs.springboot;
 
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.services.sqs.AmazonSQS;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.sqs.SqsComponent;
 import org.apache.camel.component.aws.sqs.SqsConfiguration;
 import org.apache.camel.component.aws.sqs.SqsOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -570,4 +571,47 @@ public class SqsComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonAWSHost", amazonAWSHost);
+        binder.bind("amazonSQSClient", amazonSQSClient);
+        binder.bind("autoCreateQueue", autoCreateQueue);
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("configuration", configuration);
+        binder.bind("protocol", protocol);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("queueOwnerAWSAccountId", queueOwnerAWSAccountId);
+        binder.bind("region", region);
+        binder.bind("attributeNames", attributeNames);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("concurrentConsumers", concurrentConsumers);
+        binder.bind("defaultVisibilityTimeout", defaultVisibilityTimeout);
+        binder.bind("deleteAfterRead", deleteAfterRead);
+        binder.bind("deleteIfFiltered", deleteIfFiltered);
+        binder.bind("extendMessageVisibility", extendMessageVisibility);
+        binder.bind("kmsDataKeyReusePeriodSeconds", kmsDataKeyReusePeriodSeconds);
+        binder.bind("kmsMasterKeyId", kmsMasterKeyId);
+        binder.bind("messageAttributeNames", messageAttributeNames);
+        binder.bind("serverSideEncryptionEnabled", serverSideEncryptionEnabled);
+        binder.bind("visibilityTimeout", visibilityTimeout);
+        binder.bind("waitTimeSeconds", waitTimeSeconds);
+        binder.bind("delaySeconds", delaySeconds);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("messageDeduplicationIdStrategy", messageDeduplicationIdStrategy);
+        binder.bind("messageGroupIdStrategy", messageGroupIdStrategy);
+        binder.bind("operation", operation);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("delayQueue", delayQueue);
+        binder.bind("queueUrl", queueUrl);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("maximumMessageSize", maximumMessageSize);
+        binder.bind("messageRetentionPeriod", messageRetentionPeriod);
+        binder.bind("policy", policy);
+        binder.bind("receiveMessageWaitTimeSeconds", receiveMessageWaitTimeSeconds);
+        binder.bind("redrivePolicy", redrivePolicy);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
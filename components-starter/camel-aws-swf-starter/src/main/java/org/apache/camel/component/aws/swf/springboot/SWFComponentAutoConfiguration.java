@@ -27,10 +27,11 @@ import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
+import org.apache.camel.spring.boot.util.RegistryReferenceTypes;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
@@ -52,13 +53,23 @@ public class SWFComponentAutoConfiguration {
     private ApplicationContext applicationContext;
     private final CamelContext camelContext;
     @Autowired
-    private SWFComponentConfiguration configuration;
+    private ObjectProvider<SWFComponentConfiguration> configuration;
 
     public SWFComponentAutoConfiguration(
             org.apache.camel.CamelContext camelContext) {
         this.camelContext = camelContext;
-        ApplicationConversionService acs = (ApplicationConversionService) ApplicationConversionService.getSharedInstance();
-        acs.addConverter(new SWFComponentConverter(camelContext));
+    }
+
+    @Bean(name = "camel.component.aws-swf.reference-types")
+    public static RegistryReferenceTypes referenceTypes() {
+        return new RegistryReferenceTypes(
+                com.amazonaws.services.simpleworkflow.AmazonSimpleWorkflow.class,
+                org.apache.camel.component.aws.swf.SWFConfiguration.class,
+                com.amazonaws.services.simpleworkflow.flow.DataConverter.class,
+                com.amazonaws.services.simpleworkflow.flow.ActivitySchedulingOptions.class,
+                com.amazonaws.services.simpleworkflow.flow.worker.ActivityTypeExecutionOptions.class,
+                com.amazonaws.services.simpleworkflow.flow.worker.ActivityTypeRegistrationOptions.class,
+                com.amazonaws.services.simpleworkflow.flow.WorkflowTypeRegistrationOptions.class);
     }
 
     @Lazy
@@ -67,7 +78,7 @@ public class SWFComponentAutoConfiguration {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindProperties(camelContext, configuration.getObject(), target);
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -16,16 +16,17 @@
  */
 package org.apache.camel.component.aws.swf.springboot;
 
-import java.util.Map;
-import javax.annotation.Generated;
 import com.amazonaws.services.simpleworkflow.AmazonSimpleWorkflow;
 import com.amazonaws.services.simpleworkflow.flow.ActivitySchedulingOptions;
 import com.amazonaws.services.simpleworkflow.flow.DataConverter;
 import com.amazonaws.services.simpleworkflow.flow.WorkflowTypeRegistrationOptions;
 import com.amazonaws.services.simpleworkflow.flow.worker.ActivityTypeExecutionOptions;
 import com.amazonaws.services.simpleworkflow.flow.worker.ActivityTypeRegistrationOptions;
+import java.util.Map;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.swf.SWFConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -440,4 +441,38 @@ public class SWFComponentConfiguration
             WorkflowTypeRegistrationOptions workflowTypeRegistrationOptions) {
         this.workflowTypeRegistrationOptions = workflowTypeRegistrationOptions;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonSWClient", amazonSWClient);
+        binder.bind("configuration", configuration);
+        binder.bind("dataConverter", dataConverter);
+        binder.bind("domainName", domainName);
+        binder.bind("eventName", eventName);
+        binder.bind("region", region);
+        binder.bind("version", version);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("activityList", activityList);
+        binder.bind("activitySchedulingOptions", activitySchedulingOptions);
+        binder.bind("activityThreadPoolSize", activityThreadPoolSize);
+        binder.bind("activityTypeExecutionOptions", activityTypeExecutionOptions);
+        binder.bind("activityTypeRegistrationOptions", activityTypeRegistrationOptions);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("clientConfigurationParameters", clientConfigurationParameters);
+        binder.bind("startWorkflowOptionsParameters", startWorkflowOptionsParameters);
+        binder.bind("sWClientParameters", sWClientParameters);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+        binder.bind("childPolicy", childPolicy);
+        binder.bind("executionStartToCloseTimeout", executionStartToCloseTimeout);
+        binder.bind("operation", operation);
+        binder.bind("signalName", signalName);
+        binder.bind("stateResultType", stateResultType);
+        binder.bind("taskStartToCloseTimeout", taskStartToCloseTimeout);
+        binder.bind("terminationDetails", terminationDetails);
+        binder.bind("terminationReason", terminationReason);
+        binder.bind("workflowList", workflowList);
+        binder.bind("workflowTypeRegistrationOptions", workflowTypeRegistrationOptions);
+    }
 }
\ No newline at end of file
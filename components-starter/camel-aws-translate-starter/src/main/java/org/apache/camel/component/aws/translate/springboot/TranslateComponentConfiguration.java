@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.aws.translate.springboot;
 
-import javax.annotation.Generated;
 import com.amazonaws.Protocol;
 import com.amazonaws.services.translate.AmazonTranslate;
+import javax.annotation.Generated;
 import org.apache.camel.component.aws.translate.TranslateComponent;
 import org.apache.camel.component.aws.translate.TranslateConfiguration;
 import org.apache.camel.component.aws.translate.TranslateOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -240,4 +241,23 @@ public class TranslateComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("accessKey", accessKey);
+        binder.bind("autodetectSourceLanguage", autodetectSourceLanguage);
+        binder.bind("configuration", configuration);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("secretKey", secretKey);
+        binder.bind("sourceLanguage", sourceLanguage);
+        binder.bind("targetLanguage", targetLanguage);
+        binder.bind("translateClient", translateClient);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import org.apache.camel.component.aws2.athena.Athena2Configuration;
 import org.apache.camel.component.aws2.athena.Athena2Operations;
 import org.apache.camel.component.aws2.athena.Athena2OutputType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.athena.AthenaClient;
@@ -440,4 +441,37 @@ public class Athena2ComponentConfiguration
     public void setClientRequestToken(String clientRequestToken) {
         this.clientRequestToken = clientRequestToken;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("accessKey", accessKey);
+        binder.bind("amazonAthenaClient", amazonAthenaClient);
+        binder.bind("configuration", configuration);
+        binder.bind("database", database);
+        binder.bind("delay", delay);
+        binder.bind("encryptionOption", encryptionOption);
+        binder.bind("includeTrace", includeTrace);
+        binder.bind("initialDelay", initialDelay);
+        binder.bind("kmsKey", kmsKey);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("maxAttempts", maxAttempts);
+        binder.bind("maxResults", maxResults);
+        binder.bind("nextToken", nextToken);
+        binder.bind("operation", operation);
+        binder.bind("outputLocation", outputLocation);
+        binder.bind("outputType", outputType);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("queryExecutionId", queryExecutionId);
+        binder.bind("queryString", queryString);
+        binder.bind("region", region);
+        binder.bind("resetWaitTimeoutOnRetry", resetWaitTimeoutOnRetry);
+        binder.bind("retry", retry);
+        binder.bind("secretKey", secretKey);
+        binder.bind("waitTimeout", waitTimeout);
+        binder.bind("workGroup", workGroup);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("clientRequestToken", clientRequestToken);
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import org.apache.camel.component.aws2.ddb.Ddb2Component;
 import org.apache.camel.component.aws2.ddb.Ddb2Configuration;
 import org.apache.camel.component.aws2.ddb.Ddb2Operations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -264,4 +265,25 @@ public class Ddb2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonDDBClient", amazonDDBClient);
+        binder.bind("configuration", configuration);
+        binder.bind("consistentRead", consistentRead);
+        binder.bind("keyAttributeName", keyAttributeName);
+        binder.bind("keyAttributeType", keyAttributeType);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("readCapacity", readCapacity);
+        binder.bind("region", region);
+        binder.bind("trustAllCertificates", trustAllCertificates);
+        binder.bind("writeCapacity", writeCapacity);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import org.apache.camel.component.aws2.ddbstream.Ddb2StreamComponent;
 import org.apache.camel.component.aws2.ddbstream.Ddb2StreamConfiguration;
 import org.apache.camel.component.aws2.ddbstream.SequenceNumberProvider;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.dynamodb.model.ShardIteratorType;
@@ -232,4 +233,22 @@ public class Ddb2StreamComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonDynamoDbStreamsClient", amazonDynamoDbStreamsClient);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("configuration", configuration);
+        binder.bind("iteratorType", iteratorType);
+        binder.bind("maxResultsPerRequest", maxResultsPerRequest);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("sequenceNumberProvider", sequenceNumberProvider);
+        binder.bind("trustAllCertificates", trustAllCertificates);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import org.apache.camel.component.aws2.kinesis.Kinesis2Component;
 import org.apache.camel.component.aws2.kinesis.Kinesis2Configuration;
 import org.apache.camel.component.aws2.kinesis.Kinesis2ShardClosedStrategyEnum;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.kinesis.KinesisClient;
@@ -312,4 +313,28 @@ public class Kinesis2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonKinesisClient", amazonKinesisClient);
+        binder.bind("cborEnabled", cborEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("overrideEndpoint", overrideEndpoint);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("trustAllCertificates", trustAllCertificates);
+        binder.bind("uriEndpointOverride", uriEndpointOverride);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("iteratorType", iteratorType);
+        binder.bind("maxResultsPerRequest", maxResultsPerRequest);
+        binder.bind("sequenceNumber", sequenceNumber);
+        binder.bind("shardClosed", shardClosed);
+        binder.bind("shardId", shardId);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
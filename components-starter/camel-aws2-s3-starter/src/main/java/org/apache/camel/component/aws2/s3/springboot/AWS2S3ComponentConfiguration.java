@@ -21,6 +21,7 @@ import org.apache.camel.component.aws2.s3.AWS2S3Component;
 import org.apache.camel.component.aws2.s3.AWS2S3Configuration;
 import org.apache.camel.component.aws2.s3.AWS2S3Operations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -612,4 +613,50 @@ public class AWS2S3ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonS3Client", amazonS3Client);
+        binder.bind("amazonS3Presigner", amazonS3Presigner);
+        binder.bind("autoCreateBucket", autoCreateBucket);
+        binder.bind("configuration", configuration);
+        binder.bind("overrideEndpoint", overrideEndpoint);
+        binder.bind("pojoRequest", pojoRequest);
+        binder.bind("policy", policy);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("region", region);
+        binder.bind("trustAllCertificates", trustAllCertificates);
+        binder.bind("uriEndpointOverride", uriEndpointOverride);
+        binder.bind("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        binder.bind("customerAlgorithm", customerAlgorithm);
+        binder.bind("customerKeyId", customerKeyId);
+        binder.bind("customerKeyMD5", customerKeyMD5);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("deleteAfterRead", deleteAfterRead);
+        binder.bind("delimiter", delimiter);
+        binder.bind("destinationBucket", destinationBucket);
+        binder.bind("destinationBucketPrefix", destinationBucketPrefix);
+        binder.bind("destinationBucketSuffix", destinationBucketSuffix);
+        binder.bind("fileName", fileName);
+        binder.bind("includeBody", includeBody);
+        binder.bind("includeFolders", includeFolders);
+        binder.bind("moveAfterRead", moveAfterRead);
+        binder.bind("prefix", prefix);
+        binder.bind("autocloseBody", autocloseBody);
+        binder.bind("deleteAfterWrite", deleteAfterWrite);
+        binder.bind("keyName", keyName);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("multiPartUpload", multiPartUpload);
+        binder.bind("operation", operation);
+        binder.bind("partSize", partSize);
+        binder.bind("storageClass", storageClass);
+        binder.bind("awsKMSKeyId", awsKMSKeyId);
+        binder.bind("useAwsKMS", useAwsKMS);
+        binder.bind("useCustomerKey", useCustomerKey);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.camel.component.aws2.sns.Sns2Component;
 import org.apache.camel.component.aws2.sns.Sns2Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.sns.SnsClient;
@@ -334,4 +335,30 @@ public class Sns2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonSNSClient", amazonSNSClient);
+        binder.bind("autoCreateTopic", autoCreateTopic);
+        binder.bind("configuration", configuration);
+        binder.bind("kmsMasterKeyId", kmsMasterKeyId);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("messageDeduplicationIdStrategy", messageDeduplicationIdStrategy);
+        binder.bind("messageGroupIdStrategy", messageGroupIdStrategy);
+        binder.bind("messageStructure", messageStructure);
+        binder.bind("policy", policy);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("queueUrl", queueUrl);
+        binder.bind("region", region);
+        binder.bind("serverSideEncryptionEnabled", serverSideEncryptionEnabled);
+        binder.bind("subject", subject);
+        binder.bind("subscribeSNStoSQS", subscribeSNStoSQS);
+        binder.bind("trustAllCertificates", trustAllCertificates);
+        binder.bind("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import org.apache.camel.component.aws2.sqs.Sqs2Component;
 import org.apache.camel.component.aws2.sqs.Sqs2Configuration;
 import org.apache.camel.component.aws2.sqs.Sqs2Operations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.sqs.SqsClient;
@@ -584,4 +585,48 @@ public class Sqs2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amazonAWSHost", amazonAWSHost);
+        binder.bind("amazonSQSClient", amazonSQSClient);
+        binder.bind("autoCreateQueue", autoCreateQueue);
+        binder.bind("configuration", configuration);
+        binder.bind("protocol", protocol);
+        binder.bind("proxyProtocol", proxyProtocol);
+        binder.bind("queueOwnerAWSAccountId", queueOwnerAWSAccountId);
+        binder.bind("region", region);
+        binder.bind("trustAllCertificates", trustAllCertificates);
+        binder.bind("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        binder.bind("attributeNames", attributeNames);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("concurrentConsumers", concurrentConsumers);
+        binder.bind("defaultVisibilityTimeout", defaultVisibilityTimeout);
+        binder.bind("deleteAfterRead", deleteAfterRead);
+        binder.bind("deleteIfFiltered", deleteIfFiltered);
+        binder.bind("extendMessageVisibility", extendMessageVisibility);
+        binder.bind("kmsDataKeyReusePeriodSeconds", kmsDataKeyReusePeriodSeconds);
+        binder.bind("kmsMasterKeyId", kmsMasterKeyId);
+        binder.bind("messageAttributeNames", messageAttributeNames);
+        binder.bind("serverSideEncryptionEnabled", serverSideEncryptionEnabled);
+        binder.bind("visibilityTimeout", visibilityTimeout);
+        binder.bind("waitTimeSeconds", waitTimeSeconds);
+        binder.bind("delaySeconds", delaySeconds);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("messageDeduplicationIdStrategy", messageDeduplicationIdStrategy);
+        binder.bind("messageGroupIdStrategy", messageGroupIdStrategy);
+        binder.bind("operation", operation);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("delayQueue", delayQueue);
+        binder.bind("queueUrl", queueUrl);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("maximumMessageSize", maximumMessageSize);
+        binder.bind("messageRetentionPeriod", messageRetentionPeriod);
+        binder.bind("policy", policy);
+        binder.bind("receiveMessageWaitTimeSeconds", receiveMessageWaitTimeSeconds);
+        binder.bind("redrivePolicy", redrivePolicy);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
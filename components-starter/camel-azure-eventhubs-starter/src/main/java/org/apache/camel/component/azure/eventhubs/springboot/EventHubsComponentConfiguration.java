@@ -16,17 +16,18 @@
  */
 package org.apache.camel.component.azure.eventhubs.springboot;
 
-import java.util.Map;
-import javax.annotation.Generated;
 import com.azure.core.amqp.AmqpRetryOptions;
 import com.azure.core.amqp.AmqpTransportType;
 import com.azure.messaging.eventhubs.CheckpointStore;
 import com.azure.messaging.eventhubs.EventHubProducerAsyncClient;
 import com.azure.messaging.eventhubs.models.EventPosition;
 import com.azure.storage.common.StorageSharedKeyCredential;
+import java.util.Map;
+import javax.annotation.Generated;
 import org.apache.camel.component.azure.eventhubs.EventHubsComponent;
 import org.apache.camel.component.azure.eventhubs.EventHubsConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -371,4 +372,29 @@ public class EventHubsComponentConfiguration
     public void setSharedAccessName(String sharedAccessName) {
         this.sharedAccessName = sharedAccessName;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amqpRetryOptions", amqpRetryOptions);
+        binder.bind("amqpTransportType", amqpTransportType);
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("configuration", configuration);
+        binder.bind("blobAccessKey", blobAccessKey);
+        binder.bind("blobAccountName", blobAccountName);
+        binder.bind("blobContainerName", blobContainerName);
+        binder.bind("blobStorageSharedKeyCredential", blobStorageSharedKeyCredential);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("checkpointStore", checkpointStore);
+        binder.bind("consumerGroupName", consumerGroupName);
+        binder.bind("eventPosition", eventPosition);
+        binder.bind("prefetchCount", prefetchCount);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("partitionId", partitionId);
+        binder.bind("partitionKey", partitionKey);
+        binder.bind("producerAsyncClient", producerAsyncClient);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("connectionString", connectionString);
+        binder.bind("sharedAccessKey", sharedAccessKey);
+        binder.bind("sharedAccessName", sharedAccessName);
+    }
 }
\ No newline at end of file
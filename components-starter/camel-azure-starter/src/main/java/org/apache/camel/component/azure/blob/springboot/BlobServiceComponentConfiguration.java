@@ -16,15 +16,16 @@
  */
 package org.apache.camel.component.azure.blob.springboot;
 
-import java.util.Map;
-import javax.annotation.Generated;
 import com.microsoft.azure.storage.StorageCredentials;
 import com.microsoft.azure.storage.blob.CloudBlob;
+import java.util.Map;
+import javax.annotation.Generated;
 import org.apache.camel.component.azure.blob.BlobServiceComponent;
 import org.apache.camel.component.azure.blob.BlobServiceConfiguration;
 import org.apache.camel.component.azure.blob.BlobServiceOperations;
 import org.apache.camel.component.azure.blob.BlobType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -328,4 +329,30 @@ public class BlobServiceComponentConfiguration
     public void setCredentialsAccountName(String credentialsAccountName) {
         this.credentialsAccountName = credentialsAccountName;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("azureBlobClient", azureBlobClient);
+        binder.bind("blobOffset", blobOffset);
+        binder.bind("blobType", blobType);
+        binder.bind("closeStreamAfterRead", closeStreamAfterRead);
+        binder.bind("credentials", credentials);
+        binder.bind("dataLength", dataLength);
+        binder.bind("fileDir", fileDir);
+        binder.bind("publicForRead", publicForRead);
+        binder.bind("streamReadSize", streamReadSize);
+        binder.bind("validateClientURI", validateClientURI);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("blobMetadata", blobMetadata);
+        binder.bind("blobPrefix", blobPrefix);
+        binder.bind("closeStreamAfterWrite", closeStreamAfterWrite);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("streamWriteSize", streamWriteSize);
+        binder.bind("useFlatListing", useFlatListing);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("credentialsAccountKey", credentialsAccountKey);
+        binder.bind("credentialsAccountName", credentialsAccountName);
+    }
 }
\ No newline at end of file
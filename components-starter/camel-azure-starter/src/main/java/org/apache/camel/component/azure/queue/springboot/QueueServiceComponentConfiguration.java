@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.azure.queue.springboot;
 
-import javax.annotation.Generated;
 import com.microsoft.azure.storage.StorageCredentials;
 import com.microsoft.azure.storage.queue.CloudQueue;
+import javax.annotation.Generated;
 import org.apache.camel.component.azure.queue.QueueServiceComponent;
 import org.apache.camel.component.azure.queue.QueueServiceConfiguration;
 import org.apache.camel.component.azure.queue.QueueServiceOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -217,4 +218,21 @@ public class QueueServiceComponentConfiguration
     public void setCredentialsAccountName(String credentialsAccountName) {
         this.credentialsAccountName = credentialsAccountName;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("azureQueueClient", azureQueueClient);
+        binder.bind("credentials", credentials);
+        binder.bind("validateClientURI", validateClientURI);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("messageTimeToLive", messageTimeToLive);
+        binder.bind("messageVisibilityDelay", messageVisibilityDelay);
+        binder.bind("operation", operation);
+        binder.bind("queuePrefix", queuePrefix);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("credentialsAccountKey", credentialsAccountKey);
+        binder.bind("credentialsAccountName", credentialsAccountName);
+    }
 }
\ No newline at end of file
@@ -16,16 +16,17 @@
  */
 package org.apache.camel.component.azure.storage.blob.springboot;
 
-import java.time.Duration;
-import javax.annotation.Generated;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.models.BlockListType;
 import com.azure.storage.common.StorageSharedKeyCredential;
+import java.time.Duration;
+import javax.annotation.Generated;
 import org.apache.camel.component.azure.storage.blob.BlobComponent;
 import org.apache.camel.component.azure.storage.blob.BlobConfiguration;
 import org.apache.camel.component.azure.storage.blob.BlobOperationsDefinition;
 import org.apache.camel.component.azure.storage.blob.BlobType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -427,4 +428,36 @@ public class BlobComponentConfiguration
     public void setAccessKey(String accessKey) {
         this.accessKey = accessKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("blobName", blobName);
+        binder.bind("blobOffset", blobOffset);
+        binder.bind("blobType", blobType);
+        binder.bind("closeStreamAfterRead", closeStreamAfterRead);
+        binder.bind("configuration", configuration);
+        binder.bind("credentials", credentials);
+        binder.bind("dataCount", dataCount);
+        binder.bind("fileDir", fileDir);
+        binder.bind("maxResultsPerPage", maxResultsPerPage);
+        binder.bind("maxRetryRequests", maxRetryRequests);
+        binder.bind("prefix", prefix);
+        binder.bind("regex", regex);
+        binder.bind("serviceClient", serviceClient);
+        binder.bind("timeout", timeout);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("blobSequenceNumber", blobSequenceNumber);
+        binder.bind("blockListType", blockListType);
+        binder.bind("closeStreamAfterWrite", closeStreamAfterWrite);
+        binder.bind("commitBlockListLater", commitBlockListLater);
+        binder.bind("createAppendBlob", createAppendBlob);
+        binder.bind("createPageBlob", createPageBlob);
+        binder.bind("downloadLinkExpiration", downloadLinkExpiration);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("pageBlobSize", pageBlobSize);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+    }
 }
\ No newline at end of file
@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.azure.storage.queue.springboot;
 
-import java.time.Duration;
-import javax.annotation.Generated;
 import com.azure.storage.common.StorageSharedKeyCredential;
 import com.azure.storage.queue.QueueServiceClient;
+import java.time.Duration;
+import javax.annotation.Generated;
 import org.apache.camel.component.azure.storage.queue.QueueConfiguration;
 import org.apache.camel.component.azure.storage.queue.QueueOperationDefinition;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -283,4 +284,24 @@ public class QueueComponentConfiguration
     public void setCredentials(StorageSharedKeyCredential credentials) {
         this.credentials = credentials;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("autoDiscoverClient", autoDiscoverClient);
+        binder.bind("configuration", configuration);
+        binder.bind("serviceClient", serviceClient);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("createQueue", createQueue);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("maxMessages", maxMessages);
+        binder.bind("messageId", messageId);
+        binder.bind("popReceipt", popReceipt);
+        binder.bind("timeout", timeout);
+        binder.bind("timeToLive", timeToLive);
+        binder.bind("visibilityTimeout", visibilityTimeout);
+        binder.bind("accessKey", accessKey);
+        binder.bind("credentials", credentials);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.camel.BeanScope;
 import org.apache.camel.component.bean.BeanComponent;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.DeprecatedConfigurationProperty;
 
@@ -115,4 +116,12 @@ public class BeanComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("cache", cache);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("scope", scope);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import javax.validation.TraversableResolver;
 import javax.validation.ValidationProviderResolver;
 import javax.validation.ValidatorFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -156,4 +157,16 @@ public class BeanValidatorComponentConfiguration
     public void setValidatorFactory(ValidatorFactory validatorFactory) {
         this.validatorFactory = validatorFactory;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("ignoreXmlConfiguration", ignoreXmlConfiguration);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("constraintValidatorFactory", constraintValidatorFactory);
+        binder.bind("messageInterpolator", messageInterpolator);
+        binder.bind("traversableResolver", traversableResolver);
+        binder.bind("validationProviderResolver", validationProviderResolver);
+        binder.bind("validatorFactory", validatorFactory);
+    }
 }
\ No newline at end of file
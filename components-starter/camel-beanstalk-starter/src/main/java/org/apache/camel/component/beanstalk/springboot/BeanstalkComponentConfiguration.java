@@ -19,6 +19,7 @@ package org.apache.camel.component.beanstalk.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.beanstalk.ConnectionSettingsFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -107,4 +108,12 @@ public class BeanstalkComponentConfiguration
             ConnectionSettingsFactory connectionSettingsFactory) {
         this.connectionSettingsFactory = connectionSettingsFactory;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("connectionSettingsFactory", connectionSettingsFactory);
+    }
 }
\ No newline at end of file
@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.box.springboot;
 
-import java.util.Map;
-import javax.annotation.Generated;
 import com.box.sdk.EncryptionAlgorithm;
 import com.box.sdk.IAccessTokenCache;
+import java.util.Map;
+import javax.annotation.Generated;
 import org.apache.camel.component.box.BoxComponent;
 import org.apache.camel.component.box.BoxConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -296,4 +297,27 @@ public class BoxComponentConfiguration
     public void setUserPassword(String userPassword) {
         this.userPassword = userPassword;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("clientId", clientId);
+        binder.bind("configuration", configuration);
+        binder.bind("enterpriseId", enterpriseId);
+        binder.bind("userId", userId);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("httpParams", httpParams);
+        binder.bind("authenticationType", authenticationType);
+        binder.bind("accessTokenCache", accessTokenCache);
+        binder.bind("clientSecret", clientSecret);
+        binder.bind("encryptionAlgorithm", encryptionAlgorithm);
+        binder.bind("maxCacheEntries", maxCacheEntries);
+        binder.bind("privateKeyFile", privateKeyFile);
+        binder.bind("privateKeyPassword", privateKeyPassword);
+        binder.bind("publicKeyId", publicKeyId);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("userName", userName);
+        binder.bind("userPassword", userPassword);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.braintree.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.braintree.BraintreeConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -86,4 +87,11 @@ public class BraintreeComponentConfiguration
     public void setConfiguration(BraintreeConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+    }
 }
\ No newline at end of file
@@ -16,14 +16,15 @@
  */
 package org.apache.camel.component.caffeine.load.springboot;
 
-import javax.annotation.Generated;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import javax.annotation.Generated;
 import org.apache.camel.component.caffeine.CaffeineConfiguration;
 import org.apache.camel.component.caffeine.EvictionType;
 import org.apache.camel.component.caffeine.load.CaffeineLoadCacheComponent;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -268,4 +269,25 @@ public class CaffeineLoadCacheComponentConfiguration
     public void setValueType(String valueType) {
         this.valueType = valueType;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("action", action);
+        binder.bind("cacheLoader", cacheLoader);
+        binder.bind("createCacheIfNotExist", createCacheIfNotExist);
+        binder.bind("evictionType", evictionType);
+        binder.bind("expireAfterAccessTime", expireAfterAccessTime);
+        binder.bind("expireAfterWriteTime", expireAfterWriteTime);
+        binder.bind("initialCapacity", initialCapacity);
+        binder.bind("key", key);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("maximumSize", maximumSize);
+        binder.bind("removalListener", removalListener);
+        binder.bind("statsCounter", statsCounter);
+        binder.bind("statsEnabled", statsEnabled);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("keyType", keyType);
+        binder.bind("valueType", valueType);
+    }
 }
\ No newline at end of file
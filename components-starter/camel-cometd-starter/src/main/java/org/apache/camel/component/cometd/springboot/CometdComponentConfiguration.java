@@ -19,6 +19,7 @@ package org.apache.camel.component.cometd.springboot;
 import java.util.List;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.cometd.bayeux.server.BayeuxServer.Extension;
 import org.cometd.bayeux.server.SecurityPolicy;
@@ -183,4 +184,18 @@ public class CometdComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("extensions", extensions);
+        binder.bind("securityPolicy", securityPolicy);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("sslKeyPassword", sslKeyPassword);
+        binder.bind("sslKeystore", sslKeystore);
+        binder.bind("sslPassword", sslPassword);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+    }
 }
\ No newline at end of file
@@ -16,15 +16,16 @@
  */
 package org.apache.camel.component.consul.springboot;
 
+import com.orbitz.consul.Consul;
+import com.orbitz.consul.option.ConsistencyMode;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.util.List;
 import javax.annotation.Generated;
-import com.orbitz.consul.Consul;
-import com.orbitz.consul.option.ConsistencyMode;
 import org.apache.camel.component.consul.ConsulComponent;
 import org.apache.camel.component.consul.ConsulConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.DeprecatedConfigurationProperty;
@@ -434,4 +435,37 @@ public class ConsulComponentConfiguration
     public void setRecursive(Boolean recursive) {
         this.recursive = recursive;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("connectTimeout", connectTimeout);
+        binder.bind("connectTimeoutMillis", connectTimeoutMillis);
+        binder.bind("consulClient", consulClient);
+        binder.bind("key", key);
+        binder.bind("pingInstance", pingInstance);
+        binder.bind("readTimeout", readTimeout);
+        binder.bind("readTimeoutMillis", readTimeoutMillis);
+        binder.bind("tags", tags);
+        binder.bind("url", url);
+        binder.bind("writeTimeout", writeTimeout);
+        binder.bind("writeTimeoutMillis", writeTimeoutMillis);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("action", action);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("valueAsString", valueAsString);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("consistencyMode", consistencyMode);
+        binder.bind("datacenter", datacenter);
+        binder.bind("nearNode", nearNode);
+        binder.bind("nodeMeta", nodeMeta);
+        binder.bind("aclToken", aclToken);
+        binder.bind("password", password);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        binder.bind("userName", userName);
+        binder.bind("blockSeconds", blockSeconds);
+        binder.bind("firstIndex", firstIndex);
+        binder.bind("recursive", recursive);
+    }
 }
\ No newline at end of file
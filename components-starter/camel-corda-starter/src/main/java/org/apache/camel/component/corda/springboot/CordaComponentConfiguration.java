@@ -24,6 +24,7 @@ import net.corda.core.node.services.vault.QueryCriteria;
 import net.corda.core.node.services.vault.Sort;
 import org.apache.camel.component.corda.CordaConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -251,4 +252,22 @@ public class CordaComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("configuration", configuration);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("pageSpecification", pageSpecification);
+        binder.bind("processSnapshot", processSnapshot);
+        binder.bind("sort", sort);
+        binder.bind("contractStateClass", contractStateClass);
+        binder.bind("flowLogicArguments", flowLogicArguments);
+        binder.bind("flowLogicClass", flowLogicClass);
+        binder.bind("queryCriteria", queryCriteria);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("password", password);
+        binder.bind("username", username);
+    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package org.apache.camel.component.cron.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -84,4 +85,11 @@ public class CronComponentConfiguration
     public void setCronService(String cronService) {
         this.cronService = cronService;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("cronService", cronService);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.camel.component.crypto.cms.crypt.EnvelopedDataDecryptorConfiguration;
 import org.apache.camel.component.crypto.cms.sig.SignedDataVerifierConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -105,4 +106,12 @@ public class CryptoCmsComponentConfiguration
             SignedDataVerifierConfiguration signedDataVerifierConfiguration) {
         this.signedDataVerifierConfiguration = signedDataVerifierConfiguration;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("envelopedDataDecryptorConfiguration", envelopedDataDecryptorConfiguration);
+        binder.bind("signedDataVerifierConfiguration", signedDataVerifierConfiguration);
+    }
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import java.security.cert.Certificate;
 import javax.annotation.Generated;
 import org.apache.camel.component.crypto.DigitalSignatureConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.KeyStoreParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -338,4 +339,29 @@ public class DigitalSignatureComponentConfiguration
     public void setPassword(String password) {
         this.password = password;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("algorithm", algorithm);
+        binder.bind("alias", alias);
+        binder.bind("certificateName", certificateName);
+        binder.bind("keystore", keystore);
+        binder.bind("keystoreName", keystoreName);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("privateKey", privateKey);
+        binder.bind("privateKeyName", privateKeyName);
+        binder.bind("provider", provider);
+        binder.bind("publicKeyName", publicKeyName);
+        binder.bind("secureRandomName", secureRandomName);
+        binder.bind("signatureHeaderName", signatureHeaderName);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("bufferSize", bufferSize);
+        binder.bind("certificate", certificate);
+        binder.bind("clearHeaders", clearHeaders);
+        binder.bind("configuration", configuration);
+        binder.bind("keyStoreParameters", keyStoreParameters);
+        binder.bind("publicKey", publicKey);
+        binder.bind("secureRandom", secureRandom);
+        binder.bind("password", password);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.cxf.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -134,4 +135,14 @@ public class CxfComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("allowStreaming", allowStreaming);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+    }
 }
\ No newline at end of file
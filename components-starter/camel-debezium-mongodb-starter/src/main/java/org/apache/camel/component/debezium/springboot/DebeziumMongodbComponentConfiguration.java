@@ -20,6 +20,7 @@ import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.MongoDbConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -821,4 +822,65 @@ public class DebeziumMongodbComponentConfiguration
     public void setTombstonesOnDelete(Boolean tombstonesOnDelete) {
         this.tombstonesOnDelete = tombstonesOnDelete;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("additionalProperties", additionalProperties);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("configuration", configuration);
+        binder.bind("internalKeyConverter", internalKeyConverter);
+        binder.bind("internalValueConverter", internalValueConverter);
+        binder.bind("offsetCommitPolicy", offsetCommitPolicy);
+        binder.bind("offsetCommitTimeoutMs", offsetCommitTimeoutMs);
+        binder.bind("offsetFlushIntervalMs", offsetFlushIntervalMs);
+        binder.bind("offsetStorage", offsetStorage);
+        binder.bind("offsetStorageFileName", offsetStorageFileName);
+        binder.bind("offsetStoragePartitions", offsetStoragePartitions);
+        binder.bind("offsetStorageReplicationFactor", offsetStorageReplicationFactor);
+        binder.bind("offsetStorageTopic", offsetStorageTopic);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("collectionExcludeList", collectionExcludeList);
+        binder.bind("collectionIncludeList", collectionIncludeList);
+        binder.bind("connectBackoffInitialDelayMs", connectBackoffInitialDelayMs);
+        binder.bind("connectBackoffMaxDelayMs", connectBackoffMaxDelayMs);
+        binder.bind("connectMaxAttempts", connectMaxAttempts);
+        binder.bind("converters", converters);
+        binder.bind("databaseExcludeList", databaseExcludeList);
+        binder.bind("databaseHistoryFileFilename", databaseHistoryFileFilename);
+        binder.bind("databaseIncludeList", databaseIncludeList);
+        binder.bind("eventProcessingFailureHandlingMode", eventProcessingFailureHandlingMode);
+        binder.bind("fieldExcludeList", fieldExcludeList);
+        binder.bind("fieldRenames", fieldRenames);
+        binder.bind("heartbeatIntervalMs", heartbeatIntervalMs);
+        binder.bind("heartbeatTopicsPrefix", heartbeatTopicsPrefix);
+        binder.bind("maxBatchSize", maxBatchSize);
+        binder.bind("maxQueueSize", maxQueueSize);
+        binder.bind("maxQueueSizeInBytes", maxQueueSizeInBytes);
+        binder.bind("mongodbAuthsource", mongodbAuthsource);
+        binder.bind("mongodbConnectTimeoutMs", mongodbConnectTimeoutMs);
+        binder.bind("mongodbHosts", mongodbHosts);
+        binder.bind("mongodbMembersAutoDiscover", mongodbMembersAutoDiscover);
+        binder.bind("mongodbName", mongodbName);
+        binder.bind("mongodbPassword", mongodbPassword);
+        binder.bind("mongodbPollIntervalMs", mongodbPollIntervalMs);
+        binder.bind("mongodbServerSelectionTimeoutMs", mongodbServerSelectionTimeoutMs);
+        binder.bind("mongodbSocketTimeoutMs", mongodbSocketTimeoutMs);
+        binder.bind("mongodbSslEnabled", mongodbSslEnabled);
+        binder.bind("mongodbSslInvalidHostnameAllowed", mongodbSslInvalidHostnameAllowed);
+        binder.bind("mongodbUser", mongodbUser);
+        binder.bind("pollIntervalMs", pollIntervalMs);
+        binder.bind("provideTransactionMetadata", provideTransactionMetadata);
+        binder.bind("queryFetchSize", queryFetchSize);
+        binder.bind("retriableRestartConnectorWaitMs", retriableRestartConnectorWaitMs);
+        binder.bind("sanitizeFieldNames", sanitizeFieldNames);
+        binder.bind("skippedOperations", skippedOperations);
+        binder.bind("snapshotCollectionFilterOverrides", snapshotCollectionFilterOverrides);
+        binder.bind("snapshotDelayMs", snapshotDelayMs);
+        binder.bind("snapshotFetchSize", snapshotFetchSize);
+        binder.bind("snapshotIncludeCollectionList", snapshotIncludeCollectionList);
+        binder.bind("snapshotMaxThreads", snapshotMaxThreads);
+        binder.bind("snapshotMode", snapshotMode);
+        binder.bind("sourceStructVersion", sourceStructVersion);
+        binder.bind("tombstonesOnDelete", tombstonesOnDelete);
+    }
 }
\ No newline at end of file
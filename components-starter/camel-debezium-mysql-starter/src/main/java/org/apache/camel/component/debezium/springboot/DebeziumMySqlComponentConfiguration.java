@@ -20,6 +20,7 @@ import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.MySqlConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -1235,4 +1236,88 @@ public class DebeziumMySqlComponentConfiguration
     public void setTombstonesOnDelete(Boolean tombstonesOnDelete) {
         this.tombstonesOnDelete = tombstonesOnDelete;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("additionalProperties", additionalProperties);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("configuration", configuration);
+        binder.bind("internalKeyConverter", internalKeyConverter);
+        binder.bind("internalValueConverter", internalValueConverter);
+        binder.bind("offsetCommitPolicy", offsetCommitPolicy);
+        binder.bind("offsetCommitTimeoutMs", offsetCommitTimeoutMs);
+        binder.bind("offsetFlushIntervalMs", offsetFlushIntervalMs);
+        binder.bind("offsetStorage", offsetStorage);
+        binder.bind("offsetStorageFileName", offsetStorageFileName);
+        binder.bind("offsetStoragePartitions", offsetStoragePartitions);
+        binder.bind("offsetStorageReplicationFactor", offsetStorageReplicationFactor);
+        binder.bind("offsetStorageTopic", offsetStorageTopic);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("bigintUnsignedHandlingMode", bigintUnsignedHandlingMode);
+        binder.bind("binaryHandlingMode", binaryHandlingMode);
+        binder.bind("binlogBufferSize", binlogBufferSize);
+        binder.bind("columnBlacklist", columnBlacklist);
+        binder.bind("columnExcludeList", columnExcludeList);
+        binder.bind("columnIncludeList", columnIncludeList);
+        binder.bind("connectKeepAlive", connectKeepAlive);
+        binder.bind("connectKeepAliveIntervalMs", connectKeepAliveIntervalMs);
+        binder.bind("connectTimeoutMs", connectTimeoutMs);
+        binder.bind("databaseExcludeList", databaseExcludeList);
+        binder.bind("databaseHistory", databaseHistory);
+        binder.bind("databaseHistoryFileFilename", databaseHistoryFileFilename);
+        binder.bind("databaseHistoryKafkaBootstrapServers", databaseHistoryKafkaBootstrapServers);
+        binder.bind("databaseHistoryKafkaRecoveryAttempts", databaseHistoryKafkaRecoveryAttempts);
+        binder.bind("databaseHistoryKafkaRecoveryPollIntervalMs", databaseHistoryKafkaRecoveryPollIntervalMs);
+        binder.bind("databaseHistoryKafkaTopic", databaseHistoryKafkaTopic);
+        binder.bind("databaseHistorySkipUnparseableDdl", databaseHistorySkipUnparseableDdl);
+        binder.bind("databaseHistoryStoreOnlyMonitoredTablesDdl", databaseHistoryStoreOnlyMonitoredTablesDdl);
+        binder.bind("databaseHostname", databaseHostname);
+        binder.bind("databaseIncludeList", databaseIncludeList);
+        binder.bind("databaseInitialStatements", databaseInitialStatements);
+        binder.bind("databaseJdbcDriver", databaseJdbcDriver);
+        binder.bind("databasePassword", databasePassword);
+        binder.bind("databasePort", databasePort);
+        binder.bind("databaseServerId", databaseServerId);
+        binder.bind("databaseServerIdOffset", databaseServerIdOffset);
+        binder.bind("databaseServerName", databaseServerName);
+        binder.bind("databaseSslKeystore", databaseSslKeystore);
+        binder.bind("databaseSslKeystorePassword", databaseSslKeystorePassword);
+        binder.bind("databaseSslMode", databaseSslMode);
+        binder.bind("databaseSslTruststore", databaseSslTruststore);
+        binder.bind("databaseSslTruststorePassword", databaseSslTruststorePassword);
+        binder.bind("databaseUser", databaseUser);
+        binder.bind("decimalHandlingMode", decimalHandlingMode);
+        binder.bind("enableTimeAdjuster", enableTimeAdjuster);
+        binder.bind("eventDeserializationFailureHandlingMode", eventDeserializationFailureHandlingMode);
+        binder.bind("eventProcessingFailureHandlingMode", eventProcessingFailureHandlingMode);
+        binder.bind("gtidNewChannelPosition", gtidNewChannelPosition);
+        binder.bind("gtidSourceExcludes", gtidSourceExcludes);
+        binder.bind("gtidSourceFilterDmlEvents", gtidSourceFilterDmlEvents);
+        binder.bind("gtidSourceIncludes", gtidSourceIncludes);
+        binder.bind("heartbeatIntervalMs", heartbeatIntervalMs);
+        binder.bind("heartbeatTopicsPrefix", heartbeatTopicsPrefix);
+        binder.bind("includeQuery", includeQuery);
+        binder.bind("includeSchemaChanges", includeSchemaChanges);
+        binder.bind("inconsistentSchemaHandlingMode", inconsistentSchemaHandlingMode);
+        binder.bind("maxBatchSize", maxBatchSize);
+        binder.bind("maxQueueSize", maxQueueSize);
+        binder.bind("messageKeyColumns", messageKeyColumns);
+        binder.bind("pollIntervalMs", pollIntervalMs);
+        binder.bind("skippedOperations", skippedOperations);
+        binder.bind("snapshotDelayMs", snapshotDelayMs);
+        binder.bind("snapshotEventsAsInserts", snapshotEventsAsInserts);
+        binder.bind("snapshotFetchSize", snapshotFetchSize);
+        binder.bind("snapshotLockingMode", snapshotLockingMode);
+        binder.bind("snapshotMode", snapshotMode);
+        binder.bind("snapshotNewTables", snapshotNewTables);
+        binder.bind("snapshotSelectStatementOverrides", snapshotSelectStatementOverrides);
+        binder.bind("sourceStructVersion", sourceStructVersion);
+        binder.bind("tableBlacklist", tableBlacklist);
+        binder.bind("tableExcludeList", tableExcludeList);
+        binder.bind("tableIgnoreBuiltin", tableIgnoreBuiltin);
+        binder.bind("tableIncludeList", tableIncludeList);
+        binder.bind("tableWhitelist", tableWhitelist);
+        binder.bind("timePrecisionMode", timePrecisionMode);
+        binder.bind("tombstonesOnDelete", tombstonesOnDelete);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.PostgresConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -1292,4 +1293,95 @@ public class DebeziumPostgresComponentConfiguration
     public void setXminFetchIntervalMs(Long xminFetchIntervalMs) {
         this.xminFetchIntervalMs = xminFetchIntervalMs;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("additionalProperties", additionalProperties);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("configuration", configuration);
+        binder.bind("internalKeyConverter", internalKeyConverter);
+        binder.bind("internalValueConverter", internalValueConverter);
+        binder.bind("offsetCommitPolicy", offsetCommitPolicy);
+        binder.bind("offsetCommitTimeoutMs", offsetCommitTimeoutMs);
+        binder.bind("offsetFlushIntervalMs", offsetFlushIntervalMs);
+        binder.bind("offsetStorage", offsetStorage);
+        binder.bind("offsetStorageFileName", offsetStorageFileName);
+        binder.bind("offsetStoragePartitions", offsetStoragePartitions);
+        binder.bind("offsetStorageReplicationFactor", offsetStorageReplicationFactor);
+        binder.bind("offsetStorageTopic", offsetStorageTopic);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("binaryHandlingMode", binaryHandlingMode);
+        binder.bind("columnBlacklist", columnBlacklist);
+        binder.bind("columnExcludeList", columnExcludeList);
+        binder.bind("columnIncludeList", columnIncludeList);
+        binder.bind("columnPropagateSourceType", columnPropagateSourceType);
+        binder.bind("columnWhitelist", columnWhitelist);
+        binder.bind("converters", converters);
+        binder.bind("databaseDbname", databaseDbname);
+        binder.bind("databaseHistoryFileFilename", databaseHistoryFileFilename);
+        binder.bind("databaseHostname", databaseHostname);
+        binder.bind("databaseInitialStatements", databaseInitialStatements);
+        binder.bind("databasePassword", databasePassword);
+        binder.bind("databasePort", databasePort);
+        binder.bind("databaseServerName", databaseServerName);
+        binder.bind("databaseSslcert", databaseSslcert);
+        binder.bind("databaseSslfactory", databaseSslfactory);
+        binder.bind("databaseSslkey", databaseSslkey);
+        binder.bind("databaseSslmode", databaseSslmode);
+        binder.bind("databaseSslpassword", databaseSslpassword);
+        binder.bind("databaseSslrootcert", databaseSslrootcert);
+        binder.bind("databaseTcpkeepalive", databaseTcpkeepalive);
+        binder.bind("databaseUser", databaseUser);
+        binder.bind("datatypePropagateSourceType", datatypePropagateSourceType);
+        binder.bind("decimalHandlingMode", decimalHandlingMode);
+        binder.bind("eventProcessingFailureHandlingMode", eventProcessingFailureHandlingMode);
+        binder.bind("heartbeatActionQuery", heartbeatActionQuery);
+        binder.bind("heartbeatIntervalMs", heartbeatIntervalMs);
+        binder.bind("heartbeatTopicsPrefix", heartbeatTopicsPrefix);
+        binder.bind("hstoreHandlingMode", hstoreHandlingMode);
+        binder.bind("includeUnknownDatatypes", includeUnknownDatatypes);
+        binder.bind("intervalHandlingMode", intervalHandlingMode);
+        binder.bind("maxBatchSize", maxBatchSize);
+        binder.bind("maxQueueSize", maxQueueSize);
+        binder.bind("maxQueueSizeInBytes", maxQueueSizeInBytes);
+        binder.bind("messageKeyColumns", messageKeyColumns);
+        binder.bind("pluginName", pluginName);
+        binder.bind("pollIntervalMs", pollIntervalMs);
+        binder.bind("provideTransactionMetadata", provideTransactionMetadata);
+        binder.bind("publicationAutocreateMode", publicationAutocreateMode);
+        binder.bind("publicationName", publicationName);
+        binder.bind("queryFetchSize", queryFetchSize);
+        binder.bind("retriableRestartConnectorWaitMs", retriableRestartConnectorWaitMs);
+        binder.bind("sanitizeFieldNames", sanitizeFieldNames);
+        binder.bind("schemaBlacklist", schemaBlacklist);
+        binder.bind("schemaExcludeList", schemaExcludeList);
+        binder.bind("schemaIncludeList", schemaIncludeList);
+        binder.bind("schemaRefreshMode", schemaRefreshMode);
+        binder.bind("schemaWhitelist", schemaWhitelist);
+        binder.bind("skippedOperations", skippedOperations);
+        binder.bind("slotDropOnStop", slotDropOnStop);
+        binder.bind("slotMaxRetries", slotMaxRetries);
+        binder.bind("slotName", slotName);
+        binder.bind("slotRetryDelayMs", slotRetryDelayMs);
+        binder.bind("slotStreamParams", slotStreamParams);
+        binder.bind("snapshotCustomClass", snapshotCustomClass);
+        binder.bind("snapshotDelayMs", snapshotDelayMs);
+        binder.bind("snapshotFetchSize", snapshotFetchSize);
+        binder.bind("snapshotIncludeCollectionList", snapshotIncludeCollectionList);
+        binder.bind("snapshotLockTimeoutMs", snapshotLockTimeoutMs);
+        binder.bind("snapshotMaxThreads", snapshotMaxThreads);
+        binder.bind("snapshotMode", snapshotMode);
+        binder.bind("snapshotSelectStatementOverrides", snapshotSelectStatementOverrides);
+        binder.bind("sourceStructVersion", sourceStructVersion);
+        binder.bind("statusUpdateIntervalMs", statusUpdateIntervalMs);
+        binder.bind("tableBlacklist", tableBlacklist);
+        binder.bind("tableExcludeList", tableExcludeList);
+        binder.bind("tableIgnoreBuiltin", tableIgnoreBuiltin);
+        binder.bind("tableIncludeList", tableIncludeList);
+        binder.bind("tableWhitelist", tableWhitelist);
+        binder.bind("timePrecisionMode", timePrecisionMode);
+        binder.bind("toastedValuePlaceholder", toastedValuePlaceholder);
+        binder.bind("tombstonesOnDelete", tombstonesOnDelete);
+        binder.bind("xminFetchIntervalMs", xminFetchIntervalMs);
+    }
 }
\ No newline at end of file
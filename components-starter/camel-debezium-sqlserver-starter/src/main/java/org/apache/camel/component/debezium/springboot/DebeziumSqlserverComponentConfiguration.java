@@ -20,6 +20,7 @@ import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.SqlServerConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -1001,4 +1002,75 @@ public class DebeziumSqlserverComponentConfiguration
     public void setTombstonesOnDelete(Boolean tombstonesOnDelete) {
         this.tombstonesOnDelete = tombstonesOnDelete;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("additionalProperties", additionalProperties);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("configuration", configuration);
+        binder.bind("internalKeyConverter", internalKeyConverter);
+        binder.bind("internalValueConverter", internalValueConverter);
+        binder.bind("offsetCommitPolicy", offsetCommitPolicy);
+        binder.bind("offsetCommitTimeoutMs", offsetCommitTimeoutMs);
+        binder.bind("offsetFlushIntervalMs", offsetFlushIntervalMs);
+        binder.bind("offsetStorage", offsetStorage);
+        binder.bind("offsetStorageFileName", offsetStorageFileName);
+        binder.bind("offsetStoragePartitions", offsetStoragePartitions);
+        binder.bind("offsetStorageReplicationFactor", offsetStorageReplicationFactor);
+        binder.bind("offsetStorageTopic", offsetStorageTopic);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("columnBlacklist", columnBlacklist);
+        binder.bind("columnExcludeList", columnExcludeList);
+        binder.bind("columnIncludeList", columnIncludeList);
+        binder.bind("columnPropagateSourceType", columnPropagateSourceType);
+        binder.bind("columnWhitelist", columnWhitelist);
+        binder.bind("converters", converters);
+        binder.bind("databaseDbname", databaseDbname);
+        binder.bind("databaseHistory", databaseHistory);
+        binder.bind("databaseHistoryFileFilename", databaseHistoryFileFilename);
+        binder.bind("databaseHistoryKafkaBootstrapServers", databaseHistoryKafkaBootstrapServers);
+        binder.bind("databaseHistoryKafkaRecoveryAttempts", databaseHistoryKafkaRecoveryAttempts);
+        binder.bind("databaseHistoryKafkaRecoveryPollIntervalMs", databaseHistoryKafkaRecoveryPollIntervalMs);
+        binder.bind("databaseHistoryKafkaTopic", databaseHistoryKafkaTopic);
+        binder.bind("databaseHostname", databaseHostname);
+        binder.bind("databaseInstance", databaseInstance);
+        binder.bind("databasePassword", databasePassword);
+        binder.bind("databasePort", databasePort);
+        binder.bind("databaseServerName", databaseServerName);
+        binder.bind("databaseServerTimezone", databaseServerTimezone);
+        binder.bind("databaseUser", databaseUser);
+        binder.bind("datatypePropagateSourceType", datatypePropagateSourceType);
+        binder.bind("decimalHandlingMode", decimalHandlingMode);
+        binder.bind("eventProcessingFailureHandlingMode", eventProcessingFailureHandlingMode);
+        binder.bind("heartbeatIntervalMs", heartbeatIntervalMs);
+        binder.bind("heartbeatTopicsPrefix", heartbeatTopicsPrefix);
+        binder.bind("includeSchemaChanges", includeSchemaChanges);
+        binder.bind("maxBatchSize", maxBatchSize);
+        binder.bind("maxQueueSize", maxQueueSize);
+        binder.bind("maxQueueSizeInBytes", maxQueueSizeInBytes);
+        binder.bind("messageKeyColumns", messageKeyColumns);
+        binder.bind("pollIntervalMs", pollIntervalMs);
+        binder.bind("provideTransactionMetadata", provideTransactionMetadata);
+        binder.bind("queryFetchSize", queryFetchSize);
+        binder.bind("retriableRestartConnectorWaitMs", retriableRestartConnectorWaitMs);
+        binder.bind("sanitizeFieldNames", sanitizeFieldNames);
+        binder.bind("skippedOperations", skippedOperations);
+        binder.bind("snapshotDelayMs", snapshotDelayMs);
+        binder.bind("snapshotFetchSize", snapshotFetchSize);
+        binder.bind("snapshotIncludeCollectionList", snapshotIncludeCollectionList);
+        binder.bind("snapshotIsolationMode", snapshotIsolationMode);
+        binder.bind("snapshotLockTimeoutMs", snapshotLockTimeoutMs);
+        binder.bind("snapshotMaxThreads", snapshotMaxThreads);
+        binder.bind("snapshotMode", snapshotMode);
+        binder.bind("snapshotSelectStatementOverrides", snapshotSelectStatementOverrides);
+        binder.bind("sourceStructVersion", sourceStructVersion);
+        binder.bind("sourceTimestampMode", sourceTimestampMode);
+        binder.bind("tableBlacklist", tableBlacklist);
+        binder.bind("tableExcludeList", tableExcludeList);
+        binder.bind("tableIgnoreBuiltin", tableIgnoreBuiltin);
+        binder.bind("tableIncludeList", tableIncludeList);
+        binder.bind("tableWhitelist", tableWhitelist);
+        binder.bind("timePrecisionMode", timePrecisionMode);
+        binder.bind("tombstonesOnDelete", tombstonesOnDelete);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.directvm.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -144,4 +145,15 @@ public class DirectVmComponentConfiguration
     public void setPropagateProperties(Boolean propagateProperties) {
         this.propagateProperties = propagateProperties;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("block", block);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("timeout", timeout);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+        binder.bind("propagateProperties", propagateProperties);
+    }
 }
\ No newline at end of file
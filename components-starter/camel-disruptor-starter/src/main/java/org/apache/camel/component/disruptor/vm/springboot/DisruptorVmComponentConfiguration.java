@@ -21,6 +21,7 @@ import org.apache.camel.component.disruptor.DisruptorProducerType;
 import org.apache.camel.component.disruptor.DisruptorWaitStrategy;
 import org.apache.camel.component.disruptor.vm.DisruptorVmComponent;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -167,4 +168,17 @@ public class DisruptorVmComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bufferSize", bufferSize);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("defaultConcurrentConsumers", defaultConcurrentConsumers);
+        binder.bind("defaultMultipleConsumers", defaultMultipleConsumers);
+        binder.bind("defaultWaitStrategy", defaultWaitStrategy);
+        binder.bind("defaultBlockWhenFull", defaultBlockWhenFull);
+        binder.bind("defaultProducerType", defaultProducerType);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.docker.DockerConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -309,4 +310,29 @@ public class DockerComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("configuration", configuration);
+        binder.bind("email", email);
+        binder.bind("host", host);
+        binder.bind("port", port);
+        binder.bind("requestTimeout", requestTimeout);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("cmdExecFactory", cmdExecFactory);
+        binder.bind("followRedirectFilter", followRedirectFilter);
+        binder.bind("loggingFilter", loggingFilter);
+        binder.bind("maxPerRouteConnections", maxPerRouteConnections);
+        binder.bind("maxTotalConnections", maxTotalConnections);
+        binder.bind("parameters", parameters);
+        binder.bind("serverAddress", serverAddress);
+        binder.bind("socket", socket);
+        binder.bind("certPath", certPath);
+        binder.bind("password", password);
+        binder.bind("secure", secure);
+        binder.bind("tlsVerify", tlsVerify);
+        binder.bind("username", username);
+    }
 }
\ No newline at end of file
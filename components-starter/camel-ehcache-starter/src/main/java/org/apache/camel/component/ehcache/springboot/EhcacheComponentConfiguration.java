@@ -20,6 +20,7 @@ import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.ehcache.EhcacheComponent;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.ehcache.CacheManager;
 import org.ehcache.config.CacheConfiguration;
 import org.ehcache.config.Configuration;
@@ -261,4 +262,24 @@ public class EhcacheComponentConfiguration
     public void setValueType(String valueType) {
         this.valueType = valueType;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("cacheManager", cacheManager);
+        binder.bind("cacheManagerConfiguration", cacheManagerConfiguration);
+        binder.bind("configurationUri", configurationUri);
+        binder.bind("createCacheIfNotExist", createCacheIfNotExist);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("eventFiring", eventFiring);
+        binder.bind("eventOrdering", eventOrdering);
+        binder.bind("eventTypes", eventTypes);
+        binder.bind("action", action);
+        binder.bind("key", key);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("configurations", configurations);
+        binder.bind("keyType", keyType);
+        binder.bind("valueType", valueType);
+    }
 }
\ No newline at end of file
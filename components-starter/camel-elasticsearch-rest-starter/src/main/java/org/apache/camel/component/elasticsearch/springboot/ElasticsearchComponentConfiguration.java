@@ -18,6 +18,7 @@ package org.apache.camel.component.elasticsearch.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.elasticsearch.client.RestClient;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -212,4 +213,21 @@ public class ElasticsearchComponentConfiguration
     public void setUser(String user) {
         this.user = user;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("client", client);
+        binder.bind("connectionTimeout", connectionTimeout);
+        binder.bind("enableSniffer", enableSniffer);
+        binder.bind("hostAddresses", hostAddresses);
+        binder.bind("maxRetryTimeout", maxRetryTimeout);
+        binder.bind("sniffAfterFailureDelay", sniffAfterFailureDelay);
+        binder.bind("snifferInterval", snifferInterval);
+        binder.bind("socketTimeout", socketTimeout);
+        binder.bind("enableSSL", enableSSL);
+        binder.bind("password", password);
+        binder.bind("user", user);
+    }
 }
\ No newline at end of file
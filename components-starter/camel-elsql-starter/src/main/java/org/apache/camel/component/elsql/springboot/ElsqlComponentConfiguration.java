@@ -16,11 +16,12 @@
  */
 package org.apache.camel.component.elsql.springboot;
 
+import com.opengamma.elsql.ElSqlConfig;
 import javax.annotation.Generated;
 import javax.sql.DataSource;
-import com.opengamma.elsql.ElSqlConfig;
 import org.apache.camel.component.elsql.ElSqlDatabaseVendor;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -147,4 +148,15 @@ public class ElsqlComponentConfiguration
     public void setElSqlConfig(ElSqlConfig elSqlConfig) {
         this.elSqlConfig = elSqlConfig;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("databaseVendor", databaseVendor);
+        binder.bind("dataSource", dataSource);
+        binder.bind("resourceUri", resourceUri);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("elSqlConfig", elSqlConfig);
+    }
 }
\ No newline at end of file
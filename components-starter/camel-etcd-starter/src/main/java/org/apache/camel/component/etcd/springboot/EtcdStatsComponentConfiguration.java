@@ -19,6 +19,7 @@ package org.apache.camel.component.etcd.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.etcd.EtcdConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -240,4 +241,23 @@ public class EtcdStatsComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("configuration", configuration);
+        binder.bind("recursive", recursive);
+        binder.bind("servicePath", servicePath);
+        binder.bind("timeout", timeout);
+        binder.bind("uris", uris);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("sendEmptyExchangeOnTimeout", sendEmptyExchangeOnTimeout);
+        binder.bind("fromIndex", fromIndex);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("timeToLive", timeToLive);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("password", password);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        binder.bind("userName", userName);
+    }
 }
\ No newline at end of file
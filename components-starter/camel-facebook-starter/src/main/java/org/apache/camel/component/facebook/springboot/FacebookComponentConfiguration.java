@@ -19,6 +19,7 @@ package org.apache.camel.component.facebook.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.facebook.config.FacebookConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -429,4 +430,39 @@ public class FacebookComponentConfiguration
     public void setOAuthPermissions(String oAuthPermissions) {
         this.oAuthPermissions = oAuthPermissions;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("clientURL", clientURL);
+        binder.bind("clientVersion", clientVersion);
+        binder.bind("debugEnabled", debugEnabled);
+        binder.bind("gzipEnabled", gzipEnabled);
+        binder.bind("httpConnectionTimeout", httpConnectionTimeout);
+        binder.bind("httpDefaultMaxPerRoute", httpDefaultMaxPerRoute);
+        binder.bind("httpMaxTotalConnections", httpMaxTotalConnections);
+        binder.bind("httpReadTimeout", httpReadTimeout);
+        binder.bind("httpRetryCount", httpRetryCount);
+        binder.bind("httpRetryIntervalSeconds", httpRetryIntervalSeconds);
+        binder.bind("httpStreamingReadTimeout", httpStreamingReadTimeout);
+        binder.bind("jsonStoreEnabled", jsonStoreEnabled);
+        binder.bind("mbeanEnabled", mbeanEnabled);
+        binder.bind("prettyDebugEnabled", prettyDebugEnabled);
+        binder.bind("restBaseURL", restBaseURL);
+        binder.bind("useSSL", useSSL);
+        binder.bind("videoBaseURL", videoBaseURL);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("httpProxyHost", httpProxyHost);
+        binder.bind("httpProxyPassword", httpProxyPassword);
+        binder.bind("httpProxyPort", httpProxyPort);
+        binder.bind("httpProxyUser", httpProxyUser);
+        binder.bind("oAuthAccessToken", oAuthAccessToken);
+        binder.bind("oAuthAccessTokenURL", oAuthAccessTokenURL);
+        binder.bind("oAuthAppId", oAuthAppId);
+        binder.bind("oAuthAppSecret", oAuthAppSecret);
+        binder.bind("oAuthAuthorizationURL", oAuthAuthorizationURL);
+        binder.bind("oAuthPermissions", oAuthPermissions);
+    }
 }
\ No newline at end of file
@@ -16,12 +16,13 @@
  */
 package org.apache.camel.component.fhir.springboot;
 
-import javax.annotation.Generated;
 import ca.uhn.fhir.context.FhirContext;
 import ca.uhn.fhir.rest.client.api.IGenericClient;
 import ca.uhn.fhir.rest.client.api.IRestfulClientFactory;
+import javax.annotation.Generated;
 import org.apache.camel.component.fhir.FhirConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -388,4 +389,35 @@ public class FhirComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("encoding", encoding);
+        binder.bind("fhirVersion", fhirVersion);
+        binder.bind("log", log);
+        binder.bind("prettyPrint", prettyPrint);
+        binder.bind("serverUrl", serverUrl);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("client", client);
+        binder.bind("clientFactory", clientFactory);
+        binder.bind("compress", compress);
+        binder.bind("configuration", configuration);
+        binder.bind("connectionTimeout", connectionTimeout);
+        binder.bind("deferModelScanning", deferModelScanning);
+        binder.bind("fhirContext", fhirContext);
+        binder.bind("forceConformanceCheck", forceConformanceCheck);
+        binder.bind("sessionCookie", sessionCookie);
+        binder.bind("socketTimeout", socketTimeout);
+        binder.bind("summary", summary);
+        binder.bind("validationMode", validationMode);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPassword", proxyPassword);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyUser", proxyUser);
+        binder.bind("accessToken", accessToken);
+        binder.bind("password", password);
+        binder.bind("username", username);
+    }
 }
\ No newline at end of file
@@ -16,9 +16,10 @@
  */
 package org.apache.camel.component.file.watch.springboot;
 
-import javax.annotation.Generated;
 import io.methvin.watcher.hashing.FileHasher;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -143,4 +144,15 @@ public class FileWatchComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("concurrentConsumers", concurrentConsumers);
+        binder.bind("fileHasher", fileHasher);
+        binder.bind("pollThreads", pollThreads);
+        binder.bind("queueSize", queueSize);
+        binder.bind("useFileHashing", useFileHashing);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
@@ -16,9 +16,10 @@
  */
 package org.apache.camel.component.freemarker.springboot;
 
-import javax.annotation.Generated;
 import freemarker.template.Configuration;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -117,4 +118,13 @@ public class FreemarkerComponentConfiguration
     public void setConfiguration(Configuration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("allowContextMapAll", allowContextMapAll);
+        binder.bind("allowTemplateFromHeader", allowTemplateFromHeader);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+    }
 }
\ No newline at end of file
@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.ganglia.springboot;
 
-import javax.annotation.Generated;
 import info.ganglia.gmetric4j.gmetric.GMetric.UDPAddressingMode;
 import info.ganglia.gmetric4j.gmetric.GMetricSlope;
 import info.ganglia.gmetric4j.gmetric.GMetricType;
+import javax.annotation.Generated;
 import org.apache.camel.component.ganglia.GangliaComponent;
 import org.apache.camel.component.ganglia.GangliaConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -240,4 +241,23 @@ public class GangliaComponentConfiguration
     public void setConfiguration(GangliaConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("dmax", dmax);
+        binder.bind("groupName", groupName);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("metricName", metricName);
+        binder.bind("mode", mode);
+        binder.bind("prefix", prefix);
+        binder.bind("slope", slope);
+        binder.bind("spoofHostname", spoofHostname);
+        binder.bind("tmax", tmax);
+        binder.bind("ttl", ttl);
+        binder.bind("type", type);
+        binder.bind("units", units);
+        binder.bind("wireFormat31x", wireFormat31x);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+    }
 }
\ No newline at end of file
@@ -16,9 +16,10 @@
  */
 package org.apache.camel.component.geocoder.springboot;
 
-import javax.annotation.Generated;
 import com.google.maps.GeoApiContext;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -87,4 +88,11 @@ public class GeoCoderComponentConfiguration
     public void setGeoApiContext(GeoApiContext geoApiContext) {
         this.geoApiContext = geoApiContext;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("geoApiContext", geoApiContext);
+    }
 }
\ No newline at end of file
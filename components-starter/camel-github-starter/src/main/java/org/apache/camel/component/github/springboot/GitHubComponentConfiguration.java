@@ -18,6 +18,7 @@ package org.apache.camel.component.github.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -101,4 +102,12 @@ public class GitHubComponentConfiguration
     public void setOauthToken(String oauthToken) {
         this.oauthToken = oauthToken;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("oauthToken", oauthToken);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.google.bigquery.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.google.bigquery.GoogleBigQueryConnectionFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -112,4 +113,13 @@ public class GoogleBigQueryComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("connectionFactory", connectionFactory);
+        binder.bind("datasetId", datasetId);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("projectId", projectId);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.camel.component.google.calendar.GoogleCalendarClientFactory;
 import org.apache.camel.component.google.calendar.GoogleCalendarConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -237,4 +238,22 @@ public class GoogleCalendarComponentConfiguration
     public void setUser(String user) {
         this.user = user;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("applicationName", applicationName);
+        binder.bind("clientId", clientId);
+        binder.bind("configuration", configuration);
+        binder.bind("scopes", scopes);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("clientFactory", clientFactory);
+        binder.bind("accessToken", accessToken);
+        binder.bind("clientSecret", clientSecret);
+        binder.bind("emailAddress", emailAddress);
+        binder.bind("p12FileName", p12FileName);
+        binder.bind("refreshToken", refreshToken);
+        binder.bind("user", user);
+    }
 }
\ No newline at end of file
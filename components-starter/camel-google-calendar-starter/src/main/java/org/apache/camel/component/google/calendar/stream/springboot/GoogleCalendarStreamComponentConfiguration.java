@@ -21,6 +21,7 @@ import javax.annotation.Generated;
 import org.apache.camel.component.google.calendar.GoogleCalendarClientFactory;
 import org.apache.camel.component.google.calendar.stream.GoogleCalendarStreamConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -290,4 +291,27 @@ public class GoogleCalendarStreamComponentConfiguration
     public void setUser(String user) {
         this.user = user;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("applicationName", applicationName);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("calendarId", calendarId);
+        binder.bind("clientId", clientId);
+        binder.bind("configuration", configuration);
+        binder.bind("considerLastUpdate", considerLastUpdate);
+        binder.bind("consumeFromNow", consumeFromNow);
+        binder.bind("maxResults", maxResults);
+        binder.bind("query", query);
+        binder.bind("scopes", scopes);
+        binder.bind("syncFlow", syncFlow);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("clientFactory", clientFactory);
+        binder.bind("accessToken", accessToken);
+        binder.bind("clientSecret", clientSecret);
+        binder.bind("emailAddress", emailAddress);
+        binder.bind("p12FileName", p12FileName);
+        binder.bind("refreshToken", refreshToken);
+        binder.bind("user", user);
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import javax.annotation.Generated;
 import org.apache.camel.component.google.drive.GoogleDriveClientFactory;
 import org.apache.camel.component.google.drive.GoogleDriveConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -196,4 +197,19 @@ public class GoogleDriveComponentConfiguration
     public void setRefreshToken(String refreshToken) {
         this.refreshToken = refreshToken;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("applicationName", applicationName);
+        binder.bind("clientId", clientId);
+        binder.bind("configuration", configuration);
+        binder.bind("scopes", scopes);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("clientFactory", clientFactory);
+        binder.bind("accessToken", accessToken);
+        binder.bind("clientSecret", clientSecret);
+        binder.bind("refreshToken", refreshToken);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.camel.component.google.mail.GoogleMailClientFactory;
 import org.apache.camel.component.google.mail.GoogleMailConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -181,4 +182,18 @@ public class GoogleMailComponentConfiguration
     public void setRefreshToken(String refreshToken) {
         this.refreshToken = refreshToken;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("applicationName", applicationName);
+        binder.bind("clientId", clientId);
+        binder.bind("configuration", configuration);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("clientFactory", clientFactory);
+        binder.bind("accessToken", accessToken);
+        binder.bind("clientSecret", clientSecret);
+        binder.bind("refreshToken", refreshToken);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.camel.component.google.mail.GoogleMailClientFactory;
 import org.apache.camel.component.google.mail.stream.GoogleMailStreamConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -209,4 +210,21 @@ public class GoogleMailStreamComponentConfiguration
     public void setRefreshToken(String refreshToken) {
         this.refreshToken = refreshToken;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("applicationName", applicationName);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("clientId", clientId);
+        binder.bind("labels", labels);
+        binder.bind("markAsRead", markAsRead);
+        binder.bind("maxResults", maxResults);
+        binder.bind("query", query);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("clientFactory", clientFactory);
+        binder.bind("configuration", configuration);
+        binder.bind("accessToken", accessToken);
+        binder.bind("clientSecret", clientSecret);
+        binder.bind("refreshToken", refreshToken);
+    }
 }
\ No newline at end of file
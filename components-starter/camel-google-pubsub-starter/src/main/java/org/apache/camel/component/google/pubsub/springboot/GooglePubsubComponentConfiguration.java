@@ -18,6 +18,7 @@ package org.apache.camel.component.google.pubsub.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -139,4 +140,15 @@ public class GooglePubsubComponentConfiguration
             Integer publisherTerminationTimeout) {
         this.publisherTerminationTimeout = publisherTerminationTimeout;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("endpoint", endpoint);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("publisherCacheSize", publisherCacheSize);
+        binder.bind("publisherCacheTimeout", publisherCacheTimeout);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("publisherTerminationTimeout", publisherTerminationTimeout);
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import javax.annotation.Generated;
 import org.apache.camel.component.google.sheets.GoogleSheetsClientFactory;
 import org.apache.camel.component.google.sheets.stream.GoogleSheetsStreamConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -268,4 +269,25 @@ public class GoogleSheetsStreamComponentConfiguration
     public void setRefreshToken(String refreshToken) {
         this.refreshToken = refreshToken;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("applicationName", applicationName);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("clientId", clientId);
+        binder.bind("configuration", configuration);
+        binder.bind("includeGridData", includeGridData);
+        binder.bind("majorDimension", majorDimension);
+        binder.bind("maxResults", maxResults);
+        binder.bind("range", range);
+        binder.bind("scopes", scopes);
+        binder.bind("splitResults", splitResults);
+        binder.bind("spreadsheetId", spreadsheetId);
+        binder.bind("valueRenderOption", valueRenderOption);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("clientFactory", clientFactory);
+        binder.bind("accessToken", accessToken);
+        binder.bind("clientSecret", clientSecret);
+        binder.bind("refreshToken", refreshToken);
+    }
 }
\ No newline at end of file
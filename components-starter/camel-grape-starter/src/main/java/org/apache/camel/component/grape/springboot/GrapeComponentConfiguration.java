@@ -19,6 +19,7 @@ package org.apache.camel.component.grape.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.grape.PatchesRepository;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -88,4 +89,11 @@ public class GrapeComponentConfiguration
     public void setPatchesRepository(PatchesRepository patchesRepository) {
         this.patchesRepository = patchesRepository;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("patchesRepository", patchesRepository);
+    }
 }
\ No newline at end of file
@@ -16,9 +16,10 @@
  */
 package org.apache.camel.component.guava.eventbus.springboot;
 
-import javax.annotation.Generated;
 import com.google.common.eventbus.EventBus;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -119,4 +120,13 @@ public class GuavaEventBusComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("eventBus", eventBus);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("listenerInterface", listenerInterface);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
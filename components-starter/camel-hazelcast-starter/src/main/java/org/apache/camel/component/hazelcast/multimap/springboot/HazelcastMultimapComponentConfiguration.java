@@ -16,9 +16,10 @@
  */
 package org.apache.camel.component.hazelcast.multimap.springboot;
 
-import javax.annotation.Generated;
 import com.hazelcast.core.HazelcastInstance;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -118,4 +119,13 @@ public class HazelcastMultimapComponentConfiguration
     public void setHazelcastMode(String hazelcastMode) {
         this.hazelcastMode = hazelcastMode;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("hazelcastInstance", hazelcastInstance);
+        binder.bind("hazelcastMode", hazelcastMode);
+    }
 }
\ No newline at end of file
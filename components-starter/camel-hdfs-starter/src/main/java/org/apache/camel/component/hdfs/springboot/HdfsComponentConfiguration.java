@@ -19,6 +19,7 @@ package org.apache.camel.component.hdfs.springboot;
 import javax.annotation.Generated;
 import javax.security.auth.login.Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -118,4 +119,13 @@ public class HdfsComponentConfiguration
     public void setKerberosConfigFile(String kerberosConfigFile) {
         this.kerberosConfigFile = kerberosConfigFile;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("jAASConfiguration", jAASConfiguration);
+        binder.bind("kerberosConfigFile", kerberosConfigFile);
+    }
 }
\ No newline at end of file
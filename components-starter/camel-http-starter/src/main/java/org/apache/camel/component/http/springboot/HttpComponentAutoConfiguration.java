@@ -27,10 +27,11 @@ import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
+import org.apache.camel.spring.boot.util.RegistryReferenceTypes;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
@@ -52,13 +53,25 @@ public class HttpComponentAutoConfiguration {
     private ApplicationContext applicationContext;
     private final CamelContext camelContext;
     @Autowired
-    private HttpComponentConfiguration configuration;
+    private ObjectProvider<HttpComponentConfiguration> configuration;
 
     public HttpComponentAutoConfiguration(
             org.apache.camel.CamelContext camelContext) {
         this.camelContext = camelContext;
-        ApplicationConversionService acs = (ApplicationConversionService) ApplicationConversionService.getSharedInstance();
-        acs.addConverter(new HttpComponentConverter(camelContext));
+    }
+
+    @Bean(name = "camel.component.http.reference-types")
+    public static RegistryReferenceTypes referenceTypes() {
+        return new RegistryReferenceTypes(
+                org.apache.http.client.CookieStore.class,
+                org.apache.http.conn.HttpClientConnectionManager.class,
+                org.apache.camel.http.common.HttpBinding.class,
+                org.apache.camel.component.http.HttpClientConfigurer.class,
+                org.apache.camel.http.common.HttpConfiguration.class,
+                org.apache.http.protocol.HttpContext.class,
+                org.apache.camel.spi.HeaderFilterStrategy.class,
+                org.apache.camel.support.jsse.SSLContextParameters.class,
+                javax.net.ssl.HostnameVerifier.class);
     }
 
     @Lazy
@@ -67,7 +80,7 @@ public class HttpComponentAutoConfiguration {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindProperties(camelContext, configuration.getObject(), target);
             }
             @Override
             public boolean isEnabled(String name, Component target) {
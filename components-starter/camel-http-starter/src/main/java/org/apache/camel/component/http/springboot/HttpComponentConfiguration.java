@@ -23,6 +23,7 @@ import org.apache.camel.http.common.HttpBinding;
 import org.apache.camel.http.common.HttpConfiguration;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.http.client.CookieStore;
 import org.apache.http.conn.HttpClientConnectionManager;
@@ -411,4 +412,34 @@ public class HttpComponentConfiguration
     public void setSocketTimeout(Integer socketTimeout) {
         this.socketTimeout = socketTimeout;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("cookieStore", cookieStore);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("allowJavaSerializedObject", allowJavaSerializedObject);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("clientConnectionManager", clientConnectionManager);
+        binder.bind("connectionsPerRoute", connectionsPerRoute);
+        binder.bind("connectionTimeToLive", connectionTimeToLive);
+        binder.bind("httpBinding", httpBinding);
+        binder.bind("httpClientConfigurer", httpClientConfigurer);
+        binder.bind("httpConfiguration", httpConfiguration);
+        binder.bind("httpContext", httpContext);
+        binder.bind("maxTotalConnections", maxTotalConnections);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+        binder.bind("proxyAuthDomain", proxyAuthDomain);
+        binder.bind("proxyAuthHost", proxyAuthHost);
+        binder.bind("proxyAuthMethod", proxyAuthMethod);
+        binder.bind("proxyAuthNtHost", proxyAuthNtHost);
+        binder.bind("proxyAuthPassword", proxyAuthPassword);
+        binder.bind("proxyAuthPort", proxyAuthPort);
+        binder.bind("proxyAuthUsername", proxyAuthUsername);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        binder.bind("x509HostnameVerifier", x509HostnameVerifier);
+        binder.bind("connectionRequestTimeout", connectionRequestTimeout);
+        binder.bind("connectTimeout", connectTimeout);
+        binder.bind("socketTimeout", socketTimeout);
+    }
 }
\ No newline at end of file
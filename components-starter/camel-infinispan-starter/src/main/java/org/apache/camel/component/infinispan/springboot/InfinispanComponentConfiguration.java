@@ -25,6 +25,7 @@ import org.apache.camel.component.infinispan.InfinispanCustomListener;
 import org.apache.camel.component.infinispan.InfinispanOperation;
 import org.apache.camel.component.infinispan.InfinispanQueryBuilder;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.infinispan.commons.api.BasicCacheContainer;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.DeprecatedConfigurationProperty;
@@ -444,4 +445,37 @@ public class InfinispanComponentConfiguration
     public void setResultHeader(Object resultHeader) {
         this.resultHeader = resultHeader;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("configuration", configuration);
+        binder.bind("hosts", hosts);
+        binder.bind("queryBuilder", queryBuilder);
+        binder.bind("secure", secure);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("clusteredListener", clusteredListener);
+        binder.bind("command", command);
+        binder.bind("customListener", customListener);
+        binder.bind("eventTypes", eventTypes);
+        binder.bind("sync", sync);
+        binder.bind("defaultValue", defaultValue);
+        binder.bind("key", key);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("oldValue", oldValue);
+        binder.bind("operation", operation);
+        binder.bind("value", value);
+        binder.bind("password", password);
+        binder.bind("saslMechanism", saslMechanism);
+        binder.bind("securityRealm", securityRealm);
+        binder.bind("securityServerName", securityServerName);
+        binder.bind("username", username);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("cacheContainer", cacheContainer);
+        binder.bind("cacheContainerConfiguration", cacheContainerConfiguration);
+        binder.bind("configurationProperties", configurationProperties);
+        binder.bind("configurationUri", configurationUri);
+        binder.bind("flags", flags);
+        binder.bind("remappingFunction", remappingFunction);
+        binder.bind("resultHeader", resultHeader);
+    }
 }
\ No newline at end of file
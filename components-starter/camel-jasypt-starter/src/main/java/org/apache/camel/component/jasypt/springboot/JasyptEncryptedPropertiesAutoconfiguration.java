@@ -18,11 +18,13 @@ package org.apache.camel.component.jasypt.springboot;
 
 import org.apache.camel.component.properties.PropertiesParser;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.util.PropertiesParserCache;
 import org.jasypt.encryption.StringEncryptor;
 import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
 import org.jasypt.encryption.pbe.config.EnvironmentStringPBEConfig;
 import org.jasypt.salt.RandomSaltGenerator;
 import org.jasypt.salt.SaltGenerator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -104,10 +106,12 @@ public class JasyptEncryptedPropertiesAutoconfiguration {
     /*
         This bean override the default org.apache.camel.spring.boot.SpringPropertiesParser
         and allow the use of encrypted properties inside the camel context.
+        The decrypted values are cached in the properties parser cache of camel-spring-boot, if any.
      */
     @Bean
-    public PropertiesParser encryptedPropertiesParser(PropertyResolver propertyResolver, StringEncryptor stringEncryptor) {
-        return new JasyptSpringEncryptedPropertiesParser(propertyResolver, stringEncryptor);
+    public PropertiesParser encryptedPropertiesParser(PropertyResolver propertyResolver, StringEncryptor stringEncryptor,
+                                                      ObjectProvider<PropertiesParserCache> cache) {
+        return new JasyptSpringEncryptedPropertiesParser(propertyResolver, stringEncryptor, cache.getIfAvailable());
     }
 
     public SaltGenerator getSaltGenerator(JasyptEncryptedPropertiesConfiguration configuration) {
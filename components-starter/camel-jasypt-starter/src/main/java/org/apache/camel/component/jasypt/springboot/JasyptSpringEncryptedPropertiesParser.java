@@ -18,6 +18,7 @@ package org.apache.camel.component.jasypt.springboot;
 
 import org.apache.camel.component.properties.DefaultPropertiesParser;
 import org.apache.camel.component.properties.PropertiesLookup;
+import org.apache.camel.spring.boot.util.PropertiesParserCache;
 import org.jasypt.encryption.StringEncryptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.PropertyResolver;
@@ -32,14 +33,31 @@ public class JasyptSpringEncryptedPropertiesParser extends DefaultPropertiesPars
 
     private StringEncryptor stringEncryptor;
 
+    private PropertiesParserCache cache;
+
     @Autowired
     public JasyptSpringEncryptedPropertiesParser(PropertyResolver propertyResolver, StringEncryptor stringEncryptor){
         this.propertyResolver = propertyResolver;
         this.stringEncryptor = stringEncryptor;
     }
 
+    /**
+     * Creates a parser which caches the resolved (and decrypted) values in the given cache, if not null.
+     */
+    public JasyptSpringEncryptedPropertiesParser(PropertyResolver propertyResolver, StringEncryptor stringEncryptor, PropertiesParserCache cache){
+        this(propertyResolver, stringEncryptor);
+        this.cache = cache;
+    }
+
     @Override
     public String parseProperty(String key, String value, PropertiesLookup properties) {
+        if (cache != null) {
+            return cache.get(key, this::resolveProperty);
+        }
+        return resolveProperty(key);
+    }
+
+    private String resolveProperty(String key) {
         String originalValue = this.propertyResolver.getProperty(key);
         return isEncryptedValue(originalValue) ? decrypt(originalValue, this.stringEncryptor) : originalValue;
     }
@@ -20,6 +20,7 @@ import java.util.Map;
 import javax.annotation.Generated;
 import javax.cache.configuration.Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -154,4 +155,16 @@ public class JCacheComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("cacheConfiguration", cacheConfiguration);
+        binder.bind("cacheConfigurationProperties", cacheConfigurationProperties);
+        binder.bind("cacheConfigurationPropertiesRef", cacheConfigurationPropertiesRef);
+        binder.bind("cachingProvider", cachingProvider);
+        binder.bind("configurationUri", configurationUri);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.jclouds.springboot;
 import java.util.List;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.jclouds.blobstore.BlobStore;
 import org.jclouds.compute.ComputeService;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -117,4 +118,13 @@ public class JcloudsComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("blobStores", blobStores);
+        binder.bind("computeServices", computeServices);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import org.apache.camel.http.common.HttpBinding;
 import org.apache.camel.http.common.HttpConfiguration;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.eclipse.jetty.jmx.MBeanContainer;
 import org.eclipse.jetty.server.Connector;
@@ -483,4 +484,40 @@ public class JettyHttpComponentConfiguration9
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("continuationTimeout", continuationTimeout);
+        binder.bind("enableJmx", enableJmx);
+        binder.bind("maxThreads", maxThreads);
+        binder.bind("minThreads", minThreads);
+        binder.bind("requestBufferSize", requestBufferSize);
+        binder.bind("requestHeaderSize", requestHeaderSize);
+        binder.bind("responseBufferSize", responseBufferSize);
+        binder.bind("responseHeaderSize", responseHeaderSize);
+        binder.bind("sendServerVersion", sendServerVersion);
+        binder.bind("useContinuation", useContinuation);
+        binder.bind("useXForwardedForHeader", useXForwardedForHeader);
+        binder.bind("threadPool", threadPool);
+        binder.bind("allowJavaSerializedObject", allowJavaSerializedObject);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("errorHandler", errorHandler);
+        binder.bind("httpBinding", httpBinding);
+        binder.bind("httpConfiguration", httpConfiguration);
+        binder.bind("jettyHttpBinding", jettyHttpBinding);
+        binder.bind("mbContainer", mbContainer);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("keystore", keystore);
+        binder.bind("socketConnectorProperties", socketConnectorProperties);
+        binder.bind("socketConnectors", socketConnectors);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("sslKeyPassword", sslKeyPassword);
+        binder.bind("sslPassword", sslPassword);
+        binder.bind("sslSocketConnectorProperties", sslSocketConnectorProperties);
+        binder.bind("sslSocketConnectors", sslSocketConnectors);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+    }
 }
\ No newline at end of file
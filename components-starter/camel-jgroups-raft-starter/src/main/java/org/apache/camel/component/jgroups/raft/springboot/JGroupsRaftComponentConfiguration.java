@@ -18,6 +18,7 @@ package org.apache.camel.component.jgroups.raft.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.jgroups.protocols.raft.StateMachine;
 import org.jgroups.raft.RaftHandle;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -141,4 +142,15 @@ public class JGroupsRaftComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("channelProperties", channelProperties);
+        binder.bind("raftHandle", raftHandle);
+        binder.bind("raftId", raftId);
+        binder.bind("stateMachine", stateMachine);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package org.apache.camel.component.jgroups.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.jgroups.JChannel;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -128,4 +129,14 @@ public class JGroupsComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("channel", channel);
+        binder.bind("channelProperties", channelProperties);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("enableViewMessages", enableViewMessages);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.jira.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.jira.JiraConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -205,4 +206,20 @@ public class JiraComponentConfiguration
     public void setVerificationCode(String verificationCode) {
         this.verificationCode = verificationCode;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("delay", delay);
+        binder.bind("jiraUrl", jiraUrl);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("accessToken", accessToken);
+        binder.bind("consumerKey", consumerKey);
+        binder.bind("password", password);
+        binder.bind("privateKey", privateKey);
+        binder.bind("username", username);
+        binder.bind("verificationCode", verificationCode);
+    }
 }
\ No newline at end of file
@@ -16,9 +16,10 @@
  */
 package org.apache.camel.component.jolt.springboot;
 
-import javax.annotation.Generated;
 import com.bazaarvoice.jolt.Transform;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -102,4 +103,12 @@ public class JoltComponentConfiguration
     public void setTransform(Transform transform) {
         this.transform = transform;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("allowTemplateFromHeader", allowTemplateFromHeader);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("transform", transform);
+    }
 }
\ No newline at end of file
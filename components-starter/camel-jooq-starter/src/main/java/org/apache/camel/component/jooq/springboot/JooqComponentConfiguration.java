@@ -21,6 +21,7 @@ import org.apache.camel.component.jooq.JooqComponent;
 import org.apache.camel.component.jooq.JooqConfiguration;
 import org.apache.camel.component.jooq.JooqOperation;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.jooq.Configuration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -156,4 +157,16 @@ public class JooqComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("configuration", configuration);
+        binder.bind("databaseConfiguration", databaseConfiguration);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("consumeDelete", consumeDelete);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("query", query);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
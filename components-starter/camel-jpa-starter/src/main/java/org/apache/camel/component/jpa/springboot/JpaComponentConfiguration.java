@@ -19,6 +19,7 @@ package org.apache.camel.component.jpa.springboot;
 import javax.annotation.Generated;
 import javax.persistence.EntityManagerFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -151,4 +152,15 @@ public class JpaComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("entityManagerFactory", entityManagerFactory);
+        binder.bind("joinTransaction", joinTransaction);
+        binder.bind("sharedEntityManager", sharedEntityManager);
+        binder.bind("transactionManager", transactionManager);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
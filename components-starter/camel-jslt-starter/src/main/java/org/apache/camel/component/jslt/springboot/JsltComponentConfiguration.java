@@ -16,11 +16,12 @@
  */
 package org.apache.camel.component.jslt.springboot;
 
-import java.util.Collection;
-import javax.annotation.Generated;
 import com.schibsted.spt.data.jslt.Function;
 import com.schibsted.spt.data.jslt.filters.JsonFilter;
+import java.util.Collection;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -115,4 +116,13 @@ public class JsltComponentConfiguration
     public void setObjectFilter(JsonFilter objectFilter) {
         this.objectFilter = objectFilter;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("allowTemplateFromHeader", allowTemplateFromHeader);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("functions", functions);
+        binder.bind("objectFilter", objectFilter);
+    }
 }
\ No newline at end of file
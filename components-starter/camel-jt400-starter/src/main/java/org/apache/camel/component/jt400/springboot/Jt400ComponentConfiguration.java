@@ -16,9 +16,10 @@
  */
 package org.apache.camel.component.jt400.springboot;
 
-import javax.annotation.Generated;
 import com.ibm.as400.access.AS400ConnectionPool;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -106,4 +107,12 @@ public class Jt400ComponentConfiguration
     public void setConnectionPool(AS400ConnectionPool connectionPool) {
         this.connectionPool = connectionPool;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("connectionPool", connectionPool);
+    }
 }
\ No newline at end of file
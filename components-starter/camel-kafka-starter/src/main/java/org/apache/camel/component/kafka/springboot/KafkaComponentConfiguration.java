@@ -26,6 +26,7 @@ import org.apache.camel.component.kafka.serde.KafkaHeaderSerializer;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spi.StateRepository;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -1487,4 +1488,106 @@ public class KafkaComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("additionalProperties", additionalProperties);
+        binder.bind("brokers", brokers);
+        binder.bind("clientId", clientId);
+        binder.bind("configuration", configuration);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+        binder.bind("reconnectBackoffMaxMs", reconnectBackoffMaxMs);
+        binder.bind("shutdownTimeout", shutdownTimeout);
+        binder.bind("allowManualCommit", allowManualCommit);
+        binder.bind("autoCommitEnable", autoCommitEnable);
+        binder.bind("autoCommitIntervalMs", autoCommitIntervalMs);
+        binder.bind("autoCommitOnStop", autoCommitOnStop);
+        binder.bind("autoOffsetReset", autoOffsetReset);
+        binder.bind("breakOnFirstError", breakOnFirstError);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("checkCrcs", checkCrcs);
+        binder.bind("consumerRequestTimeoutMs", consumerRequestTimeoutMs);
+        binder.bind("consumersCount", consumersCount);
+        binder.bind("consumerStreams", consumerStreams);
+        binder.bind("fetchMaxBytes", fetchMaxBytes);
+        binder.bind("fetchMinBytes", fetchMinBytes);
+        binder.bind("fetchWaitMaxMs", fetchWaitMaxMs);
+        binder.bind("groupId", groupId);
+        binder.bind("headerDeserializer", headerDeserializer);
+        binder.bind("heartbeatIntervalMs", heartbeatIntervalMs);
+        binder.bind("keyDeserializer", keyDeserializer);
+        binder.bind("maxPartitionFetchBytes", maxPartitionFetchBytes);
+        binder.bind("maxPollIntervalMs", maxPollIntervalMs);
+        binder.bind("maxPollRecords", maxPollRecords);
+        binder.bind("offsetRepository", offsetRepository);
+        binder.bind("partitionAssignor", partitionAssignor);
+        binder.bind("pollTimeoutMs", pollTimeoutMs);
+        binder.bind("seekTo", seekTo);
+        binder.bind("sessionTimeoutMs", sessionTimeoutMs);
+        binder.bind("specificAvroReader", specificAvroReader);
+        binder.bind("topicIsPattern", topicIsPattern);
+        binder.bind("valueDeserializer", valueDeserializer);
+        binder.bind("kafkaManualCommitFactory", kafkaManualCommitFactory);
+        binder.bind("bufferMemorySize", bufferMemorySize);
+        binder.bind("compressionCodec", compressionCodec);
+        binder.bind("connectionMaxIdleMs", connectionMaxIdleMs);
+        binder.bind("enableIdempotence", enableIdempotence);
+        binder.bind("headerSerializer", headerSerializer);
+        binder.bind("key", key);
+        binder.bind("keySerializer", keySerializer);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("lingerMs", lingerMs);
+        binder.bind("maxBlockMs", maxBlockMs);
+        binder.bind("maxInFlightRequest", maxInFlightRequest);
+        binder.bind("maxRequestSize", maxRequestSize);
+        binder.bind("metadataMaxAgeMs", metadataMaxAgeMs);
+        binder.bind("metricReporters", metricReporters);
+        binder.bind("metricsSampleWindowMs", metricsSampleWindowMs);
+        binder.bind("noOfMetricsSample", noOfMetricsSample);
+        binder.bind("partitioner", partitioner);
+        binder.bind("partitionKey", partitionKey);
+        binder.bind("producerBatchSize", producerBatchSize);
+        binder.bind("queueBufferingMaxMessages", queueBufferingMaxMessages);
+        binder.bind("receiveBufferBytes", receiveBufferBytes);
+        binder.bind("reconnectBackoffMs", reconnectBackoffMs);
+        binder.bind("recordMetadata", recordMetadata);
+        binder.bind("requestRequiredAcks", requestRequiredAcks);
+        binder.bind("requestTimeoutMs", requestTimeoutMs);
+        binder.bind("retries", retries);
+        binder.bind("retryBackoffMs", retryBackoffMs);
+        binder.bind("sendBufferBytes", sendBufferBytes);
+        binder.bind("valueSerializer", valueSerializer);
+        binder.bind("workerPool", workerPool);
+        binder.bind("workerPoolCoreSize", workerPoolCoreSize);
+        binder.bind("workerPoolMaxSize", workerPoolMaxSize);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("synchronous", synchronous);
+        binder.bind("schemaRegistryURL", schemaRegistryURL);
+        binder.bind("interceptorClasses", interceptorClasses);
+        binder.bind("kerberosBeforeReloginMinTime", kerberosBeforeReloginMinTime);
+        binder.bind("kerberosInitCmd", kerberosInitCmd);
+        binder.bind("kerberosPrincipalToLocalRules", kerberosPrincipalToLocalRules);
+        binder.bind("kerberosRenewJitter", kerberosRenewJitter);
+        binder.bind("kerberosRenewWindowFactor", kerberosRenewWindowFactor);
+        binder.bind("saslJaasConfig", saslJaasConfig);
+        binder.bind("saslKerberosServiceName", saslKerberosServiceName);
+        binder.bind("saslMechanism", saslMechanism);
+        binder.bind("securityProtocol", securityProtocol);
+        binder.bind("sslCipherSuites", sslCipherSuites);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("sslEnabledProtocols", sslEnabledProtocols);
+        binder.bind("sslEndpointAlgorithm", sslEndpointAlgorithm);
+        binder.bind("sslKeymanagerAlgorithm", sslKeymanagerAlgorithm);
+        binder.bind("sslKeyPassword", sslKeyPassword);
+        binder.bind("sslKeystoreLocation", sslKeystoreLocation);
+        binder.bind("sslKeystorePassword", sslKeystorePassword);
+        binder.bind("sslKeystoreType", sslKeystoreType);
+        binder.bind("sslProtocol", sslProtocol);
+        binder.bind("sslProvider", sslProvider);
+        binder.bind("sslTrustmanagerAlgorithm", sslTrustmanagerAlgorithm);
+        binder.bind("sslTruststoreLocation", sslTruststoreLocation);
+        binder.bind("sslTruststorePassword", sslTruststorePassword);
+        binder.bind("sslTruststoreType", sslTruststoreType);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import java.io.File;
 import javax.annotation.Generated;
 import org.apache.camel.component.lucene.LuceneConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.lucene.analysis.Analyzer;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -143,4 +144,15 @@ public class LuceneComponentConfiguration
     public void setConfig(LuceneConfiguration config) {
         this.config = config;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("analyzer", analyzer);
+        binder.bind("indexDir", indexDir);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("maxHits", maxHits);
+        binder.bind("srcDir", srcDir);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("config", config);
+    }
 }
\ No newline at end of file
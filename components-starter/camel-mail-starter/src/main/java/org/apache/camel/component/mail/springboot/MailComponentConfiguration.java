@@ -26,6 +26,7 @@ import org.apache.camel.component.mail.MailAuthenticator;
 import org.apache.camel.component.mail.MailConfiguration;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -655,4 +656,51 @@ public class MailComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("closeFolder", closeFolder);
+        binder.bind("copyTo", copyTo);
+        binder.bind("decodeFilename", decodeFilename);
+        binder.bind("delete", delete);
+        binder.bind("disconnect", disconnect);
+        binder.bind("handleFailedMessage", handleFailedMessage);
+        binder.bind("mimeDecodeHeaders", mimeDecodeHeaders);
+        binder.bind("moveTo", moveTo);
+        binder.bind("peek", peek);
+        binder.bind("skipFailedMessage", skipFailedMessage);
+        binder.bind("unseen", unseen);
+        binder.bind("fetchSize", fetchSize);
+        binder.bind("folderName", folderName);
+        binder.bind("mapMailMessage", mapMailMessage);
+        binder.bind("bcc", bcc);
+        binder.bind("cc", cc);
+        binder.bind("from", from);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("replyTo", replyTo);
+        binder.bind("subject", subject);
+        binder.bind("to", to);
+        binder.bind("javaMailSender", javaMailSender);
+        binder.bind("additionalJavaMailProperties", additionalJavaMailProperties);
+        binder.bind("alternativeBodyHeader", alternativeBodyHeader);
+        binder.bind("attachmentsContentTransferEncodingResolver", attachmentsContentTransferEncodingResolver);
+        binder.bind("authenticator", authenticator);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("connectionTimeout", connectionTimeout);
+        binder.bind("contentType", contentType);
+        binder.bind("contentTypeResolver", contentTypeResolver);
+        binder.bind("debugMode", debugMode);
+        binder.bind("ignoreUnsupportedCharset", ignoreUnsupportedCharset);
+        binder.bind("ignoreUriScheme", ignoreUriScheme);
+        binder.bind("javaMailProperties", javaMailProperties);
+        binder.bind("session", session);
+        binder.bind("useInlineAttachments", useInlineAttachments);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+        binder.bind("password", password);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        binder.bind("username", username);
+    }
 }
\ No newline at end of file
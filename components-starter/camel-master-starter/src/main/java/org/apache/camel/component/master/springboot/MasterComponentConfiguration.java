@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.camel.cluster.CamelClusterService;
 import org.apache.camel.cluster.CamelClusterService.Selector;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -100,4 +101,12 @@ public class MasterComponentConfiguration
     public void setServiceSelector(Selector serviceSelector) {
         this.serviceSelector = serviceSelector;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("service", service);
+        binder.bind("serviceSelector", serviceSelector);
+    }
 }
\ No newline at end of file
@@ -16,9 +16,10 @@
  */
 package org.apache.camel.component.metrics.springboot;
 
-import javax.annotation.Generated;
 import com.codahale.metrics.MetricRegistry;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -87,4 +88,11 @@ public class MetricsComponentConfiguration
     public void setMetricRegistry(MetricRegistry metricRegistry) {
         this.metricRegistry = metricRegistry;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("metricRegistry", metricRegistry);
+    }
 }
\ No newline at end of file
@@ -16,9 +16,10 @@
  */
 package org.apache.camel.component.micrometer.springboot;
 
-import javax.annotation.Generated;
 import io.micrometer.core.instrument.MeterRegistry;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -87,4 +88,11 @@ public class MicrometerComponentConfiguration
     public void setMetricsRegistry(MeterRegistry metricsRegistry) {
         this.metricsRegistry = metricsRegistry;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("metricsRegistry", metricsRegistry);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.milo.client.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.milo.client.MiloClientConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -347,4 +348,32 @@ public class MiloClientComponentConfiguration
     public void setSessionTimeout(Long sessionTimeout) {
         this.sessionTimeout = sessionTimeout;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("clientId", clientId);
+        binder.bind("configuration", configuration);
+        binder.bind("discoveryEndpointSuffix", discoveryEndpointSuffix);
+        binder.bind("discoveryEndpointUri", discoveryEndpointUri);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("allowedSecurityPolicies", allowedSecurityPolicies);
+        binder.bind("applicationName", applicationName);
+        binder.bind("applicationUri", applicationUri);
+        binder.bind("channelLifetime", channelLifetime);
+        binder.bind("keyAlias", keyAlias);
+        binder.bind("keyPassword", keyPassword);
+        binder.bind("keyStorePassword", keyStorePassword);
+        binder.bind("keyStoreType", keyStoreType);
+        binder.bind("keyStoreUrl", keyStoreUrl);
+        binder.bind("maxPendingPublishRequests", maxPendingPublishRequests);
+        binder.bind("maxResponseMessageSize", maxResponseMessageSize);
+        binder.bind("overrideHost", overrideHost);
+        binder.bind("productUri", productUri);
+        binder.bind("requestedPublishingInterval", requestedPublishingInterval);
+        binder.bind("requestTimeout", requestTimeout);
+        binder.bind("sessionName", sessionName);
+        binder.bind("sessionTimeout", sessionTimeout);
+    }
 }
\ No newline at end of file
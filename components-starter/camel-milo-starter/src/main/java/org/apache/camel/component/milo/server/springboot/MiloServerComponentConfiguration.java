@@ -20,6 +20,7 @@ import java.security.cert.X509Certificate;
 import java.util.Set;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
 import org.eclipse.milo.opcua.stack.core.security.CertificateValidator;
 import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
@@ -311,4 +312,28 @@ public class MiloServerComponentConfiguration
             SecurityPolicy usernameSecurityPolicyUri) {
         this.usernameSecurityPolicyUri = usernameSecurityPolicyUri;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("applicationName", applicationName);
+        binder.bind("applicationUri", applicationUri);
+        binder.bind("bindAddresses", bindAddresses);
+        binder.bind("buildInfo", buildInfo);
+        binder.bind("namespaceUri", namespaceUri);
+        binder.bind("path", path);
+        binder.bind("port", port);
+        binder.bind("productUri", productUri);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("certificate", certificate);
+        binder.bind("certificateManager", certificateManager);
+        binder.bind("certificateValidator", certificateValidator);
+        binder.bind("defaultCertificateValidator", defaultCertificateValidator);
+        binder.bind("enableAnonymousAuthentication", enableAnonymousAuthentication);
+        binder.bind("securityPolicies", securityPolicies);
+        binder.bind("securityPoliciesById", securityPoliciesById);
+        binder.bind("userAuthenticationCredentials", userAuthenticationCredentials);
+        binder.bind("usernameSecurityPolicyUri", usernameSecurityPolicyUri);
+    }
 }
\ No newline at end of file
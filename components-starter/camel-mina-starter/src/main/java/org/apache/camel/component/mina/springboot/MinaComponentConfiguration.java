@@ -23,6 +23,7 @@ import org.apache.camel.component.mina.MinaComponent;
 import org.apache.camel.component.mina.MinaConfiguration;
 import org.apache.camel.component.mina.MinaTextLineDelimiter;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.mina.core.filterchain.IoFilter;
 import org.apache.mina.filter.codec.ProtocolCodecFactory;
@@ -429,4 +430,36 @@ public class MinaComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("disconnect", disconnect);
+        binder.bind("minaLogger", minaLogger);
+        binder.bind("sync", sync);
+        binder.bind("timeout", timeout);
+        binder.bind("writeTimeout", writeTimeout);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("clientMode", clientMode);
+        binder.bind("disconnectOnNoReply", disconnectOnNoReply);
+        binder.bind("noReplyLogLevel", noReplyLogLevel);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("cachedAddress", cachedAddress);
+        binder.bind("lazySessionCreation", lazySessionCreation);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("maximumPoolSize", maximumPoolSize);
+        binder.bind("orderedThreadPoolExecutor", orderedThreadPoolExecutor);
+        binder.bind("transferExchange", transferExchange);
+        binder.bind("allowDefaultCodec", allowDefaultCodec);
+        binder.bind("codec", codec);
+        binder.bind("decoderMaxLineLength", decoderMaxLineLength);
+        binder.bind("encoderMaxLineLength", encoderMaxLineLength);
+        binder.bind("encoding", encoding);
+        binder.bind("filters", filters);
+        binder.bind("textline", textline);
+        binder.bind("textlineDelimiter", textlineDelimiter);
+        binder.bind("autoStartTls", autoStartTls);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+    }
 }
\ No newline at end of file
@@ -16,15 +16,16 @@
  */
 package org.apache.camel.component.minio.springboot;
 
-import java.time.ZonedDateTime;
-import javax.annotation.Generated;
 import io.minio.MinioClient;
 import io.minio.ServerSideEncryption;
 import io.minio.ServerSideEncryptionCustomerKey;
+import java.time.ZonedDateTime;
+import javax.annotation.Generated;
 import okhttp3.OkHttpClient;
 import org.apache.camel.component.minio.MinioConfiguration;
 import org.apache.camel.component.minio.MinioOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -667,4 +668,55 @@ public class MinioComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("autoCreateBucket", autoCreateBucket);
+        binder.bind("configuration", configuration);
+        binder.bind("customHttpClient", customHttpClient);
+        binder.bind("endpoint", endpoint);
+        binder.bind("minioClient", minioClient);
+        binder.bind("objectLock", objectLock);
+        binder.bind("policy", policy);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("region", region);
+        binder.bind("secure", secure);
+        binder.bind("serverSideEncryption", serverSideEncryption);
+        binder.bind("serverSideEncryptionCustomerKey", serverSideEncryptionCustomerKey);
+        binder.bind("autoCloseBody", autoCloseBody);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("bypassGovernanceMode", bypassGovernanceMode);
+        binder.bind("deleteAfterRead", deleteAfterRead);
+        binder.bind("delimiter", delimiter);
+        binder.bind("destinationBucketName", destinationBucketName);
+        binder.bind("destinationObjectName", destinationObjectName);
+        binder.bind("includeBody", includeBody);
+        binder.bind("includeFolders", includeFolders);
+        binder.bind("includeUserMetadata", includeUserMetadata);
+        binder.bind("includeVersions", includeVersions);
+        binder.bind("length", length);
+        binder.bind("matchETag", matchETag);
+        binder.bind("maxConnections", maxConnections);
+        binder.bind("maxMessagesPerPoll", maxMessagesPerPoll);
+        binder.bind("modifiedSince", modifiedSince);
+        binder.bind("moveAfterRead", moveAfterRead);
+        binder.bind("notMatchETag", notMatchETag);
+        binder.bind("objectName", objectName);
+        binder.bind("offset", offset);
+        binder.bind("prefix", prefix);
+        binder.bind("recursive", recursive);
+        binder.bind("startAfter", startAfter);
+        binder.bind("unModifiedSince", unModifiedSince);
+        binder.bind("useVersion1", useVersion1);
+        binder.bind("versionId", versionId);
+        binder.bind("deleteAfterWrite", deleteAfterWrite);
+        binder.bind("keyName", keyName);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("operation", operation);
+        binder.bind("pojoRequest", pojoRequest);
+        binder.bind("storageClass", storageClass);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("accessKey", accessKey);
+        binder.bind("secretKey", secretKey);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.mllp.springboot;
 import java.nio.charset.Charset;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -128,4 +129,14 @@ public class MllpComponentConfiguration
     public void setLogPhiMaxBytes(Integer logPhiMaxBytes) {
         this.logPhiMaxBytes = logPhiMaxBytes;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("defaultCharset", defaultCharset);
+        binder.bind("logPhi", logPhi);
+        binder.bind("logPhiMaxBytes", logPhiMaxBytes);
+    }
 }
\ No newline at end of file
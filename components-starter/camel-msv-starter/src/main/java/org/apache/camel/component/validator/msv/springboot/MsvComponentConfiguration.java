@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import javax.xml.validation.SchemaFactory;
 import org.apache.camel.component.validator.ValidatorResourceResolverFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -103,4 +104,12 @@ public class MsvComponentConfiguration
     public void setSchemaFactory(SchemaFactory schemaFactory) {
         this.schemaFactory = schemaFactory;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("resourceResolverFactory", resourceResolverFactory);
+        binder.bind("schemaFactory", schemaFactory);
+    }
 }
\ No newline at end of file
@@ -16,9 +16,10 @@
  */
 package org.apache.camel.component.mustache.springboot;
 
-import javax.annotation.Generated;
 import com.github.mustachejava.MustacheFactory;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -117,4 +118,13 @@ public class MustacheComponentConfiguration
     public void setMustacheFactory(MustacheFactory mustacheFactory) {
         this.mustacheFactory = mustacheFactory;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("allowContextMapAll", allowContextMapAll);
+        binder.bind("allowTemplateFromHeader", allowTemplateFromHeader);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("mustacheFactory", mustacheFactory);
+    }
 }
\ No newline at end of file
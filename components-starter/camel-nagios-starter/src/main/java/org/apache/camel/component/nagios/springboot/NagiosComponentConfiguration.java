@@ -16,10 +16,11 @@
  */
 package org.apache.camel.component.nagios.springboot;
 
-import javax.annotation.Generated;
 import com.googlecode.jsendnsca.encryption.Encryption;
+import javax.annotation.Generated;
 import org.apache.camel.component.nagios.NagiosConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -135,4 +136,15 @@ public class NagiosComponentConfiguration
     public void setPassword(String password) {
         this.password = password;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("connectionTimeout", connectionTimeout);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("timeout", timeout);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("encryption", encryption);
+        binder.bind("password", password);
+    }
 }
\ No newline at end of file
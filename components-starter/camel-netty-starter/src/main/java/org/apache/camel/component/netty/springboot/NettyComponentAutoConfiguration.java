@@ -27,10 +27,11 @@ import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
+import org.apache.camel.spring.boot.util.RegistryReferenceTypes;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
@@ -52,13 +53,26 @@ public class NettyComponentAutoConfiguration {
     private ApplicationContext applicationContext;
     private final CamelContext camelContext;
     @Autowired
-    private NettyComponentConfiguration configuration;
+    private ObjectProvider<NettyComponentConfiguration> configuration;
 
     public NettyComponentAutoConfiguration(
             org.apache.camel.CamelContext camelContext) {
         this.camelContext = camelContext;
-        ApplicationConversionService acs = (ApplicationConversionService) ApplicationConversionService.getSharedInstance();
-        acs.addConverter(new NettyComponentConverter(camelContext));
+    }
+
+    @Bean(name = "camel.component.netty.reference-types")
+    public static RegistryReferenceTypes referenceTypes() {
+        return new RegistryReferenceTypes(
+                org.apache.camel.component.netty.NettyConfiguration.class,
+                io.netty.channel.EventLoopGroup.class,
+                io.netty.util.concurrent.EventExecutorGroup.class,
+                org.apache.camel.component.netty.NettyServerBootstrapFactory.class,
+                org.apache.camel.component.netty.ServerInitializerFactory.class,
+                org.apache.camel.component.netty.ClientInitializerFactory.class,
+                org.apache.camel.component.netty.NettyCamelStateCorrelationManager.class,
+                io.netty.channel.group.ChannelGroup.class,
+                org.apache.camel.support.jsse.SSLContextParameters.class,
+                io.netty.handler.ssl.SslHandler.class);
     }
 
     @Lazy
@@ -67,7 +81,7 @@ public class NettyComponentAutoConfiguration {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindProperties(camelContext, configuration.getObject(), target);
             }
             @Override
             public boolean isEnabled(String name, Component target) {
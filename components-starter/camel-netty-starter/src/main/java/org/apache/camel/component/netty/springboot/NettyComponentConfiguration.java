@@ -16,15 +16,15 @@
  */
 package org.apache.camel.component.netty.springboot;
 
-import java.io.File;
-import java.util.List;
-import java.util.Map;
-import javax.annotation.Generated;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.util.concurrent.EventExecutorGroup;
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Generated;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.component.netty.ClientInitializerFactory;
 import org.apache.camel.component.netty.NettyCamelStateCorrelationManager;
@@ -34,6 +34,7 @@ import org.apache.camel.component.netty.NettyServerBootstrapFactory;
 import org.apache.camel.component.netty.ServerInitializerFactory;
 import org.apache.camel.component.netty.TextLineDelimiter;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -1067,4 +1068,80 @@ public class NettyComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("configuration", configuration);
+        binder.bind("disconnect", disconnect);
+        binder.bind("keepAlive", keepAlive);
+        binder.bind("reuseAddress", reuseAddress);
+        binder.bind("reuseChannel", reuseChannel);
+        binder.bind("sync", sync);
+        binder.bind("tcpNoDelay", tcpNoDelay);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("broadcast", broadcast);
+        binder.bind("clientMode", clientMode);
+        binder.bind("reconnect", reconnect);
+        binder.bind("reconnectInterval", reconnectInterval);
+        binder.bind("backlog", backlog);
+        binder.bind("bossCount", bossCount);
+        binder.bind("bossGroup", bossGroup);
+        binder.bind("disconnectOnNoReply", disconnectOnNoReply);
+        binder.bind("executorService", executorService);
+        binder.bind("maximumPoolSize", maximumPoolSize);
+        binder.bind("nettyServerBootstrapFactory", nettyServerBootstrapFactory);
+        binder.bind("networkInterface", networkInterface);
+        binder.bind("noReplyLogLevel", noReplyLogLevel);
+        binder.bind("serverClosedChannelExceptionCaughtLogLevel", serverClosedChannelExceptionCaughtLogLevel);
+        binder.bind("serverExceptionCaughtLogLevel", serverExceptionCaughtLogLevel);
+        binder.bind("serverInitializerFactory", serverInitializerFactory);
+        binder.bind("usingExecutorService", usingExecutorService);
+        binder.bind("connectTimeout", connectTimeout);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("requestTimeout", requestTimeout);
+        binder.bind("clientInitializerFactory", clientInitializerFactory);
+        binder.bind("correlationManager", correlationManager);
+        binder.bind("lazyChannelCreation", lazyChannelCreation);
+        binder.bind("producerPoolEnabled", producerPoolEnabled);
+        binder.bind("producerPoolMaxActive", producerPoolMaxActive);
+        binder.bind("producerPoolMaxIdle", producerPoolMaxIdle);
+        binder.bind("producerPoolMinEvictableIdle", producerPoolMinEvictableIdle);
+        binder.bind("producerPoolMinIdle", producerPoolMinIdle);
+        binder.bind("udpConnectionlessSending", udpConnectionlessSending);
+        binder.bind("useByteBuf", useByteBuf);
+        binder.bind("allowSerializedHeaders", allowSerializedHeaders);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("channelGroup", channelGroup);
+        binder.bind("nativeTransport", nativeTransport);
+        binder.bind("options", options);
+        binder.bind("receiveBufferSize", receiveBufferSize);
+        binder.bind("receiveBufferSizePredictor", receiveBufferSizePredictor);
+        binder.bind("sendBufferSize", sendBufferSize);
+        binder.bind("transferExchange", transferExchange);
+        binder.bind("udpByteArrayCodec", udpByteArrayCodec);
+        binder.bind("workerCount", workerCount);
+        binder.bind("workerGroup", workerGroup);
+        binder.bind("allowDefaultCodec", allowDefaultCodec);
+        binder.bind("autoAppendDelimiter", autoAppendDelimiter);
+        binder.bind("decoderMaxLineLength", decoderMaxLineLength);
+        binder.bind("decoders", decoders);
+        binder.bind("delimiter", delimiter);
+        binder.bind("encoders", encoders);
+        binder.bind("encoding", encoding);
+        binder.bind("textline", textline);
+        binder.bind("enabledProtocols", enabledProtocols);
+        binder.bind("keyStoreFile", keyStoreFile);
+        binder.bind("keyStoreFormat", keyStoreFormat);
+        binder.bind("keyStoreResource", keyStoreResource);
+        binder.bind("needClientAuth", needClientAuth);
+        binder.bind("passphrase", passphrase);
+        binder.bind("securityProvider", securityProvider);
+        binder.bind("ssl", ssl);
+        binder.bind("sslClientCertHeaders", sslClientCertHeaders);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("sslHandler", sslHandler);
+        binder.bind("trustStoreFile", trustStoreFile);
+        binder.bind("trustStoreResource", trustStoreResource);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+    }
 }
\ No newline at end of file
@@ -1,75 +0,0 @@
-/*
- * Licensed to the Apache Software Foundation (ASF) under one or more
- * contributor license agreements.  See the NOTICE file distributed with
- * this work for additional information regarding copyright ownership.
- * The ASF licenses this file to You under the Apache License, Version 2.0
- * (the "License"); you may not use this file except in compliance with
- * the License.  You may obtain a copy of the License at
- *
- *      http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.apache.camel.component.olingo2.springboot;
-
-import java.util.LinkedHashSet;
-import java.util.Set;
-import javax.annotation.Generated;
-import org.apache.camel.CamelContext;
-import org.springframework.core.convert.TypeDescriptor;
-import org.springframework.core.convert.converter.GenericConverter;
-
-/**
- * Generated by camel-package-maven-plugin - do not edit this file!
- */
-@Generated("org.apache.camel.springboot.maven.SpringBootAutoConfigurationMojo")
-public class Olingo2ComponentConverter
-        implements
-            org.springframework.core.convert.converter.GenericConverter {
-
-    private final CamelContext camelContext;
-
-    public Olingo2ComponentConverter(org.apache.camel.CamelContext camelContext) {
-        this.camelContext = camelContext;
-    }
-
-    public Set<ConvertiblePair> getConvertibleTypes() {
-        Set<ConvertiblePair> answer = new LinkedHashSet<>();
-        answer.add(new ConvertiblePair(String.class, org.apache.camel.component.olingo2.Olingo2Configuration.class));
-        answer.add(new ConvertiblePair(String.class, org.apache.olingo.odata2.api.ep.EntityProviderReadProperties.class));
-        answer.add(new ConvertiblePair(String.class, org.apache.olingo.odata2.api.ep.EntityProviderWriteProperties.class));
-        answer.add(new ConvertiblePair(String.class, org.apache.http.HttpHost.class));
-        answer.add(new ConvertiblePair(String.class, org.apache.http.impl.nio.client.HttpAsyncClientBuilder.class));
-        answer.add(new ConvertiblePair(String.class, org.apache.http.impl.client.HttpClientBuilder.class));
-        answer.add(new ConvertiblePair(String.class, org.apache.camel.support.jsse.SSLContextParameters.class));
-        return answer;
-    }
-
-    public Object convert(
-            Object source,
-            TypeDescriptor sourceType,
-            TypeDescriptor targetType) {
-        if (source == null) {
-            return null;
-        }
-        String ref = source.toString();
-        if (!ref.startsWith("#")) {
-            return null;
-        }
-        ref = ref.startsWith("#bean:") ? ref.substring(6) : ref.substring(1);
-        switch (targetType.getName()) {
-            case "org.apache.camel.component.olingo2.Olingo2Configuration": return camelContext.getRegistry().lookupByNameAndType(ref, org.apache.camel.component.olingo2.Olingo2Configuration.class);
-            case "org.apache.olingo.odata2.api.ep.EntityProviderReadProperties": return camelContext.getRegistry().lookupByNameAndType(ref, org.apache.olingo.odata2.api.ep.EntityProviderReadProperties.class);
-            case "org.apache.olingo.odata2.api.ep.EntityProviderWriteProperties": return camelContext.getRegistry().lookupByNameAndType(ref, org.apache.olingo.odata2.api.ep.EntityProviderWriteProperties.class);
-            case "org.apache.http.HttpHost": return camelContext.getRegistry().lookupByNameAndType(ref, org.apache.http.HttpHost.class);
-            case "org.apache.http.impl.nio.client.HttpAsyncClientBuilder": return camelContext.getRegistry().lookupByNameAndType(ref, org.apache.http.impl.nio.client.HttpAsyncClientBuilder.class);
-            case "org.apache.http.impl.client.HttpClientBuilder": return camelContext.getRegistry().lookupByNameAndType(ref, org.apache.http.impl.client.HttpClientBuilder.class);
-            case "org.apache.camel.support.jsse.SSLContextParameters": return camelContext.getRegistry().lookupByNameAndType(ref, org.apache.camel.support.jsse.SSLContextParameters.class);
-        }
-        return null;
-    }
-}
\ No newline at end of file
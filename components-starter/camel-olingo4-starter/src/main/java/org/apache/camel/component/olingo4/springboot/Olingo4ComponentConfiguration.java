@@ -20,6 +20,7 @@ import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.component.olingo4.Olingo4Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.http.HttpHost;
 import org.apache.http.impl.client.HttpClientBuilder;
@@ -272,4 +273,24 @@ public class Olingo4ComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("configuration", configuration);
+        binder.bind("connectTimeout", connectTimeout);
+        binder.bind("contentType", contentType);
+        binder.bind("filterAlreadySeen", filterAlreadySeen);
+        binder.bind("httpHeaders", httpHeaders);
+        binder.bind("proxy", proxy);
+        binder.bind("serviceUri", serviceUri);
+        binder.bind("socketTimeout", socketTimeout);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("splitResult", splitResult);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("httpAsyncClientBuilder", httpAsyncClientBuilder);
+        binder.bind("httpClientBuilder", httpClientBuilder);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+    }
 }
\ No newline at end of file
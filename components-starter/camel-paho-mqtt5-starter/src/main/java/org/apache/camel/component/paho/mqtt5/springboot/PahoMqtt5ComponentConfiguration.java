@@ -25,6 +25,7 @@ import org.apache.camel.component.paho.mqtt5.PahoMqtt5Component;
 import org.apache.camel.component.paho.mqtt5.PahoMqtt5Configuration;
 import org.apache.camel.component.paho.mqtt5.PahoMqtt5Persistence;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.eclipse.paho.mqttv5.client.MqttClient;
 import org.eclipse.paho.mqttv5.common.packet.MqttProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -556,4 +557,39 @@ public class PahoMqtt5ComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("automaticReconnect", automaticReconnect);
+        binder.bind("brokerUrl", brokerUrl);
+        binder.bind("cleanStart", cleanStart);
+        binder.bind("clientId", clientId);
+        binder.bind("configuration", configuration);
+        binder.bind("connectionTimeout", connectionTimeout);
+        binder.bind("filePersistenceDirectory", filePersistenceDirectory);
+        binder.bind("keepAliveInterval", keepAliveInterval);
+        binder.bind("maxReconnectDelay", maxReconnectDelay);
+        binder.bind("persistence", persistence);
+        binder.bind("qos", qos);
+        binder.bind("receiveMaximum", receiveMaximum);
+        binder.bind("retained", retained);
+        binder.bind("serverURIs", serverURIs);
+        binder.bind("willMqttProperties", willMqttProperties);
+        binder.bind("willPayload", willPayload);
+        binder.bind("willQos", willQos);
+        binder.bind("willRetained", willRetained);
+        binder.bind("willTopic", willTopic);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("client", client);
+        binder.bind("customWebSocketHeaders", customWebSocketHeaders);
+        binder.bind("executorServiceTimeout", executorServiceTimeout);
+        binder.bind("httpsHostnameVerificationEnabled", httpsHostnameVerificationEnabled);
+        binder.bind("password", password);
+        binder.bind("socketFactory", socketFactory);
+        binder.bind("sslClientProps", sslClientProps);
+        binder.bind("sslHostnameVerifier", sslHostnameVerifier);
+        binder.bind("userName", userName);
+    }
 }
\ No newline at end of file
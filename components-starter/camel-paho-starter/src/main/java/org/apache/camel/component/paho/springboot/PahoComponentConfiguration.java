@@ -24,6 +24,7 @@ import org.apache.camel.component.paho.PahoComponent;
 import org.apache.camel.component.paho.PahoConfiguration;
 import org.apache.camel.component.paho.PahoPersistence;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.eclipse.paho.client.mqttv3.MqttClient;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -559,4 +560,39 @@ public class PahoComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("automaticReconnect", automaticReconnect);
+        binder.bind("brokerUrl", brokerUrl);
+        binder.bind("cleanSession", cleanSession);
+        binder.bind("clientId", clientId);
+        binder.bind("configuration", configuration);
+        binder.bind("connectionTimeout", connectionTimeout);
+        binder.bind("filePersistenceDirectory", filePersistenceDirectory);
+        binder.bind("keepAliveInterval", keepAliveInterval);
+        binder.bind("maxInflight", maxInflight);
+        binder.bind("maxReconnectDelay", maxReconnectDelay);
+        binder.bind("mqttVersion", mqttVersion);
+        binder.bind("persistence", persistence);
+        binder.bind("qos", qos);
+        binder.bind("retained", retained);
+        binder.bind("serverURIs", serverURIs);
+        binder.bind("willPayload", willPayload);
+        binder.bind("willQos", willQos);
+        binder.bind("willRetained", willRetained);
+        binder.bind("willTopic", willTopic);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("client", client);
+        binder.bind("customWebSocketHeaders", customWebSocketHeaders);
+        binder.bind("executorServiceTimeout", executorServiceTimeout);
+        binder.bind("httpsHostnameVerificationEnabled", httpsHostnameVerificationEnabled);
+        binder.bind("password", password);
+        binder.bind("socketFactory", socketFactory);
+        binder.bind("sslClientProps", sslClientProps);
+        binder.bind("sslHostnameVerifier", sslHostnameVerifier);
+        binder.bind("userName", userName);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.platform.http.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.platform.http.spi.PlatformHttpEngine;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -85,4 +86,11 @@ public class PlatformHttpComponentConfiguration
     public void setEngine(PlatformHttpEngine engine) {
         this.engine = engine;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("engine", engine);
+    }
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import org.apache.camel.component.pulsar.utils.AutoConfiguration;
 import org.apache.camel.component.pulsar.utils.consumers.SubscriptionInitialPosition;
 import org.apache.camel.component.pulsar.utils.consumers.SubscriptionType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.pulsar.client.api.BatcherBuilder;
 import org.apache.pulsar.client.api.CompressionType;
 import org.apache.pulsar.client.api.MessageRouter;
@@ -535,4 +536,44 @@ public class PulsarComponentConfiguration
     public void setPulsarClient(PulsarClient pulsarClient) {
         this.pulsarClient = pulsarClient;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("configuration", configuration);
+        binder.bind("ackGroupTimeMillis", ackGroupTimeMillis);
+        binder.bind("ackTimeoutMillis", ackTimeoutMillis);
+        binder.bind("allowManualAcknowledgement", allowManualAcknowledgement);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("consumerName", consumerName);
+        binder.bind("consumerNamePrefix", consumerNamePrefix);
+        binder.bind("consumerQueueSize", consumerQueueSize);
+        binder.bind("deadLetterTopic", deadLetterTopic);
+        binder.bind("maxRedeliverCount", maxRedeliverCount);
+        binder.bind("negativeAckRedeliveryDelayMicros", negativeAckRedeliveryDelayMicros);
+        binder.bind("numberOfConsumers", numberOfConsumers);
+        binder.bind("readCompacted", readCompacted);
+        binder.bind("subscriptionInitialPosition", subscriptionInitialPosition);
+        binder.bind("subscriptionName", subscriptionName);
+        binder.bind("subscriptionTopicsMode", subscriptionTopicsMode);
+        binder.bind("subscriptionType", subscriptionType);
+        binder.bind("topicsPattern", topicsPattern);
+        binder.bind("pulsarMessageReceiptFactory", pulsarMessageReceiptFactory);
+        binder.bind("batcherBuilder", batcherBuilder);
+        binder.bind("batchingEnabled", batchingEnabled);
+        binder.bind("batchingMaxMessages", batchingMaxMessages);
+        binder.bind("batchingMaxPublishDelayMicros", batchingMaxPublishDelayMicros);
+        binder.bind("blockIfQueueFull", blockIfQueueFull);
+        binder.bind("compressionType", compressionType);
+        binder.bind("initialSequenceId", initialSequenceId);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("maxPendingMessages", maxPendingMessages);
+        binder.bind("maxPendingMessagesAcrossPartitions", maxPendingMessagesAcrossPartitions);
+        binder.bind("messageRouter", messageRouter);
+        binder.bind("messageRoutingMode", messageRoutingMode);
+        binder.bind("producerName", producerName);
+        binder.bind("sendTimeoutMs", sendTimeoutMs);
+        binder.bind("autoConfiguration", autoConfiguration);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("pulsarClient", pulsarClient);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.quartz.springboot;
 import java.util.Map;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -218,4 +219,21 @@ public class QuartzComponentConfiguration
     public void setStartDelayedSeconds(Integer startDelayedSeconds) {
         this.startDelayedSeconds = startDelayedSeconds;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("enableJmx", enableJmx);
+        binder.bind("prefixInstanceName", prefixInstanceName);
+        binder.bind("prefixJobNameWithEndpointId", prefixJobNameWithEndpointId);
+        binder.bind("properties", properties);
+        binder.bind("propertiesFile", propertiesFile);
+        binder.bind("propertiesRef", propertiesRef);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("scheduler", scheduler);
+        binder.bind("schedulerFactory", schedulerFactory);
+        binder.bind("autoStartScheduler", autoStartScheduler);
+        binder.bind("interruptJobsOnShutdown", interruptJobsOnShutdown);
+        binder.bind("startDelayedSeconds", startDelayedSeconds);
+    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package org.apache.camel.component.quickfixj.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import quickfix.LogFactory;
 import quickfix.MessageFactory;
@@ -144,4 +145,15 @@ public class QuickfixjComponentConfiguration
     public void setMessageStoreFactory(MessageStoreFactory messageStoreFactory) {
         this.messageStoreFactory = messageStoreFactory;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("lazyCreateEngines", lazyCreateEngines);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("logFactory", logFactory);
+        binder.bind("messageFactory", messageFactory);
+        binder.bind("messageStoreFactory", messageStoreFactory);
+    }
 }
\ No newline at end of file
@@ -16,12 +16,13 @@
  */
 package org.apache.camel.component.rabbitmq.springboot;
 
+import com.rabbitmq.client.ConnectionFactory;
+import com.rabbitmq.client.ExceptionHandler;
 import java.util.Map;
 import javax.annotation.Generated;
 import javax.net.ssl.TrustManager;
-import com.rabbitmq.client.ConnectionFactory;
-import com.rabbitmq.client.ExceptionHandler;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -778,4 +779,63 @@ public class RabbitMQComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("addresses", addresses);
+        binder.bind("autoDelete", autoDelete);
+        binder.bind("connectionFactory", connectionFactory);
+        binder.bind("deadLetterExchange", deadLetterExchange);
+        binder.bind("deadLetterExchangeType", deadLetterExchangeType);
+        binder.bind("deadLetterQueue", deadLetterQueue);
+        binder.bind("deadLetterRoutingKey", deadLetterRoutingKey);
+        binder.bind("declare", declare);
+        binder.bind("durable", durable);
+        binder.bind("exclusive", exclusive);
+        binder.bind("hostname", hostname);
+        binder.bind("passive", passive);
+        binder.bind("portNumber", portNumber);
+        binder.bind("skipExchangeDeclare", skipExchangeDeclare);
+        binder.bind("skipQueueBind", skipQueueBind);
+        binder.bind("skipQueueDeclare", skipQueueDeclare);
+        binder.bind("vhost", vhost);
+        binder.bind("autoAck", autoAck);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("exclusiveConsumer", exclusiveConsumer);
+        binder.bind("prefetchCount", prefetchCount);
+        binder.bind("prefetchEnabled", prefetchEnabled);
+        binder.bind("prefetchGlobal", prefetchGlobal);
+        binder.bind("prefetchSize", prefetchSize);
+        binder.bind("threadPoolSize", threadPoolSize);
+        binder.bind("additionalHeaders", additionalHeaders);
+        binder.bind("additionalProperties", additionalProperties);
+        binder.bind("allowNullHeaders", allowNullHeaders);
+        binder.bind("channelPoolMaxSize", channelPoolMaxSize);
+        binder.bind("channelPoolMaxWait", channelPoolMaxWait);
+        binder.bind("guaranteedDeliveries", guaranteedDeliveries);
+        binder.bind("immediate", immediate);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("mandatory", mandatory);
+        binder.bind("publisherAcknowledgements", publisherAcknowledgements);
+        binder.bind("publisherAcknowledgementsTimeout", publisherAcknowledgementsTimeout);
+        binder.bind("args", args);
+        binder.bind("autoDetectConnectionFactory", autoDetectConnectionFactory);
+        binder.bind("automaticRecoveryEnabled", automaticRecoveryEnabled);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("clientProperties", clientProperties);
+        binder.bind("connectionFactoryExceptionHandler", connectionFactoryExceptionHandler);
+        binder.bind("connectionTimeout", connectionTimeout);
+        binder.bind("networkRecoveryInterval", networkRecoveryInterval);
+        binder.bind("requestedChannelMax", requestedChannelMax);
+        binder.bind("requestedFrameMax", requestedFrameMax);
+        binder.bind("requestedHeartbeat", requestedHeartbeat);
+        binder.bind("requestTimeout", requestTimeout);
+        binder.bind("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
+        binder.bind("topologyRecoveryEnabled", topologyRecoveryEnabled);
+        binder.bind("transferException", transferException);
+        binder.bind("password", password);
+        binder.bind("sslProtocol", sslProtocol);
+        binder.bind("trustManager", trustManager);
+        binder.bind("username", username);
+    }
 }
\ No newline at end of file
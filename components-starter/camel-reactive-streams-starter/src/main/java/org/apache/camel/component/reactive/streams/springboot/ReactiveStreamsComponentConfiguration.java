@@ -21,6 +21,7 @@ import org.apache.camel.component.reactive.streams.ReactiveStreamsBackpressureSt
 import org.apache.camel.component.reactive.streams.ReactiveStreamsComponent;
 import org.apache.camel.component.reactive.streams.engine.ReactiveStreamsEngineConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -174,4 +175,17 @@ public class ReactiveStreamsComponentConfiguration
     public void setServiceType(String serviceType) {
         this.serviceType = serviceType;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("threadPoolMaxSize", threadPoolMaxSize);
+        binder.bind("threadPoolMinSize", threadPoolMinSize);
+        binder.bind("threadPoolName", threadPoolName);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("backpressureStrategy", backpressureStrategy);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("reactiveStreamsEngineConfiguration", reactiveStreamsEngineConfiguration);
+        binder.bind("serviceType", serviceType);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.rest.openapi.springboot;
 import java.net.URI;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -200,4 +201,18 @@ public class RestOpenApiComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("basePath", basePath);
+        binder.bind("componentName", componentName);
+        binder.bind("consumes", consumes);
+        binder.bind("host", host);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("produces", produces);
+        binder.bind("specificationUri", specificationUri);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+    }
 }
\ No newline at end of file
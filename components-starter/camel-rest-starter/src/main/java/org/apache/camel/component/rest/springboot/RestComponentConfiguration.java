@@ -18,6 +18,7 @@ package org.apache.camel.component.rest.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.DeprecatedConfigurationProperty;
 
@@ -168,4 +169,16 @@ public class RestComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("consumerComponentName", consumerComponentName);
+        binder.bind("apiDoc", apiDoc);
+        binder.bind("componentName", componentName);
+        binder.bind("host", host);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("producerComponentName", producerComponentName);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import java.io.File;
 import javax.annotation.Generated;
 import org.apache.camel.component.robotframework.RobotFrameworkCamelConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -695,4 +696,59 @@ public class RobotFrameworkComponentConfiguration
     public void setConfiguration(RobotFrameworkCamelConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("allowContextMapAll", allowContextMapAll);
+        binder.bind("allowTemplateFromHeader", allowTemplateFromHeader);
+        binder.bind("argumentFile", argumentFile);
+        binder.bind("combinedTagStats", combinedTagStats);
+        binder.bind("criticalTags", criticalTags);
+        binder.bind("debugFile", debugFile);
+        binder.bind("document", document);
+        binder.bind("dryrun", dryrun);
+        binder.bind("excludes", excludes);
+        binder.bind("exitOnFailure", exitOnFailure);
+        binder.bind("includes", includes);
+        binder.bind("listener", listener);
+        binder.bind("listeners", listeners);
+        binder.bind("log", log);
+        binder.bind("logLevel", logLevel);
+        binder.bind("logTitle", logTitle);
+        binder.bind("metadata", metadata);
+        binder.bind("monitorColors", monitorColors);
+        binder.bind("monitorWidth", monitorWidth);
+        binder.bind("name", name);
+        binder.bind("nonCriticalTags", nonCriticalTags);
+        binder.bind("noStatusReturnCode", noStatusReturnCode);
+        binder.bind("output", output);
+        binder.bind("outputDirectory", outputDirectory);
+        binder.bind("randomize", randomize);
+        binder.bind("report", report);
+        binder.bind("reportBackground", reportBackground);
+        binder.bind("reportTitle", reportTitle);
+        binder.bind("runEmptySuite", runEmptySuite);
+        binder.bind("runFailed", runFailed);
+        binder.bind("runMode", runMode);
+        binder.bind("skipTeardownOnExit", skipTeardownOnExit);
+        binder.bind("splitOutputs", splitOutputs);
+        binder.bind("suites", suites);
+        binder.bind("suiteStatLevel", suiteStatLevel);
+        binder.bind("summaryTitle", summaryTitle);
+        binder.bind("tagDocs", tagDocs);
+        binder.bind("tags", tags);
+        binder.bind("tagStatExcludes", tagStatExcludes);
+        binder.bind("tagStatIncludes", tagStatIncludes);
+        binder.bind("tagStatLinks", tagStatLinks);
+        binder.bind("tests", tests);
+        binder.bind("timestampOutputs", timestampOutputs);
+        binder.bind("variableFiles", variableFiles);
+        binder.bind("variables", variables);
+        binder.bind("warnOnSkippedFiles", warnOnSkippedFiles);
+        binder.bind("xunitFile", xunitFile);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+    }
 }
\ No newline at end of file
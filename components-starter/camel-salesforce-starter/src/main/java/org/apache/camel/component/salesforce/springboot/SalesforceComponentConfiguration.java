@@ -16,10 +16,10 @@
  */
 package org.apache.camel.component.salesforce.springboot;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Generated;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.camel.component.salesforce.AuthenticationType;
 import org.apache.camel.component.salesforce.NotFoundBehaviour;
 import org.apache.camel.component.salesforce.SalesforceComponent;
@@ -32,6 +32,7 @@ import org.apache.camel.component.salesforce.internal.PayloadFormat;
 import org.apache.camel.component.salesforce.internal.dto.NotifyForFieldsEnum;
 import org.apache.camel.component.salesforce.internal.dto.NotifyForOperationsEnum;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.KeyStoreParameters;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -1027,4 +1028,82 @@ public class SalesforceComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("apexMethod", apexMethod);
+        binder.bind("apexQueryParams", apexQueryParams);
+        binder.bind("apiVersion", apiVersion);
+        binder.bind("backoffIncrement", backoffIncrement);
+        binder.bind("batchId", batchId);
+        binder.bind("contentType", contentType);
+        binder.bind("defaultReplayId", defaultReplayId);
+        binder.bind("format", format);
+        binder.bind("httpClient", httpClient);
+        binder.bind("httpClientConnectionTimeout", httpClientConnectionTimeout);
+        binder.bind("httpClientIdleTimeout", httpClientIdleTimeout);
+        binder.bind("httpMaxContentLength", httpMaxContentLength);
+        binder.bind("httpRequestBufferSize", httpRequestBufferSize);
+        binder.bind("includeDetails", includeDetails);
+        binder.bind("initialReplayIdMap", initialReplayIdMap);
+        binder.bind("instanceId", instanceId);
+        binder.bind("jobId", jobId);
+        binder.bind("limit", limit);
+        binder.bind("maxBackoff", maxBackoff);
+        binder.bind("notFoundBehaviour", notFoundBehaviour);
+        binder.bind("notifyForFields", notifyForFields);
+        binder.bind("notifyForOperationCreate", notifyForOperationCreate);
+        binder.bind("notifyForOperationDelete", notifyForOperationDelete);
+        binder.bind("notifyForOperations", notifyForOperations);
+        binder.bind("notifyForOperationUndelete", notifyForOperationUndelete);
+        binder.bind("notifyForOperationUpdate", notifyForOperationUpdate);
+        binder.bind("objectMapper", objectMapper);
+        binder.bind("packages", packages);
+        binder.bind("rawPayload", rawPayload);
+        binder.bind("reportId", reportId);
+        binder.bind("reportMetadata", reportMetadata);
+        binder.bind("resultId", resultId);
+        binder.bind("sObjectBlobFieldName", sObjectBlobFieldName);
+        binder.bind("sObjectClass", sObjectClass);
+        binder.bind("sObjectFields", sObjectFields);
+        binder.bind("sObjectId", sObjectId);
+        binder.bind("sObjectIdName", sObjectIdName);
+        binder.bind("sObjectIdValue", sObjectIdValue);
+        binder.bind("sObjectName", sObjectName);
+        binder.bind("sObjectQuery", sObjectQuery);
+        binder.bind("sObjectSearch", sObjectSearch);
+        binder.bind("updateTopic", updateTopic);
+        binder.bind("config", config);
+        binder.bind("httpClientProperties", httpClientProperties);
+        binder.bind("longPollingTransportProperties", longPollingTransportProperties);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("apexUrl", apexUrl);
+        binder.bind("compositeMethod", compositeMethod);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("httpProxyExcludedAddresses", httpProxyExcludedAddresses);
+        binder.bind("httpProxyHost", httpProxyHost);
+        binder.bind("httpProxyIncludedAddresses", httpProxyIncludedAddresses);
+        binder.bind("httpProxyPort", httpProxyPort);
+        binder.bind("httpProxySocks4", httpProxySocks4);
+        binder.bind("authenticationType", authenticationType);
+        binder.bind("clientId", clientId);
+        binder.bind("clientSecret", clientSecret);
+        binder.bind("httpProxyAuthUri", httpProxyAuthUri);
+        binder.bind("httpProxyPassword", httpProxyPassword);
+        binder.bind("httpProxyRealm", httpProxyRealm);
+        binder.bind("httpProxySecure", httpProxySecure);
+        binder.bind("httpProxyUseDigestAuth", httpProxyUseDigestAuth);
+        binder.bind("httpProxyUsername", httpProxyUsername);
+        binder.bind("instanceUrl", instanceUrl);
+        binder.bind("keystore", keystore);
+        binder.bind("lazyLogin", lazyLogin);
+        binder.bind("loginConfig", loginConfig);
+        binder.bind("loginUrl", loginUrl);
+        binder.bind("password", password);
+        binder.bind("refreshToken", refreshToken);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        binder.bind("userName", userName);
+    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package org.apache.camel.component.scheduler.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -84,4 +85,11 @@ public class SchedulerComponentConfiguration
     public void setConcurrentTasks(Integer concurrentTasks) {
         this.concurrentTasks = concurrentTasks;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("concurrentTasks", concurrentTasks);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.camel.Exchange;
 import org.apache.camel.component.seda.BlockingQueueFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -177,4 +178,17 @@ public class SedaComponentConfiguration
     public void setQueueSize(Integer queueSize) {
         this.queueSize = queueSize;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("concurrentConsumers", concurrentConsumers);
+        binder.bind("defaultBlockWhenFull", defaultBlockWhenFull);
+        binder.bind("defaultDiscardWhenFull", defaultDiscardWhenFull);
+        binder.bind("defaultOfferTimeout", defaultOfferTimeout);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("defaultQueueFactory", defaultQueueFactory);
+        binder.bind("queueSize", queueSize);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.camel.cloud.ServiceRegistry;
 import org.apache.camel.cloud.ServiceRegistry.Selector;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -99,4 +100,12 @@ public class ServiceComponentConfiguration
     public void setServiceSelector(Selector serviceSelector) {
         this.serviceSelector = serviceSelector;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("service", service);
+        binder.bind("serviceSelector", serviceSelector);
+    }
 }
\ No newline at end of file
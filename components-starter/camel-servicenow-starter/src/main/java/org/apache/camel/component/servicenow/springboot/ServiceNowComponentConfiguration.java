@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.servicenow.springboot;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Map;
 import javax.annotation.Generated;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.camel.component.servicenow.ServiceNowComponent;
 import org.apache.camel.component.servicenow.ServiceNowConfiguration;
 import org.apache.camel.component.servicenow.ServiceNowRelease;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.cxf.configuration.security.ProxyAuthorizationPolicy;
 import org.apache.cxf.transports.http.configuration.HTTPClientPolicy;
@@ -666,4 +667,56 @@ public class ServiceNowComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("configuration", configuration);
+        binder.bind("display", display);
+        binder.bind("displayValue", displayValue);
+        binder.bind("excludeReferenceLink", excludeReferenceLink);
+        binder.bind("favorites", favorites);
+        binder.bind("includeAggregates", includeAggregates);
+        binder.bind("includeAvailableAggregates", includeAvailableAggregates);
+        binder.bind("includeAvailableBreakdowns", includeAvailableBreakdowns);
+        binder.bind("includeScoreNotes", includeScoreNotes);
+        binder.bind("includeScores", includeScores);
+        binder.bind("inputDisplayValue", inputDisplayValue);
+        binder.bind("key", key);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("models", models);
+        binder.bind("perPage", perPage);
+        binder.bind("release", release);
+        binder.bind("requestModels", requestModels);
+        binder.bind("resource", resource);
+        binder.bind("responseModels", responseModels);
+        binder.bind("sortBy", sortBy);
+        binder.bind("sortDir", sortDir);
+        binder.bind("suppressAutoSysField", suppressAutoSysField);
+        binder.bind("suppressPaginationHeader", suppressPaginationHeader);
+        binder.bind("table", table);
+        binder.bind("target", target);
+        binder.bind("topLevelOnly", topLevelOnly);
+        binder.bind("apiVersion", apiVersion);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("dateFormat", dateFormat);
+        binder.bind("dateTimeFormat", dateTimeFormat);
+        binder.bind("httpClientPolicy", httpClientPolicy);
+        binder.bind("instanceName", instanceName);
+        binder.bind("mapper", mapper);
+        binder.bind("proxyAuthorizationPolicy", proxyAuthorizationPolicy);
+        binder.bind("retrieveTargetRecordOnImport", retrieveTargetRecordOnImport);
+        binder.bind("timeFormat", timeFormat);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("apiUrl", apiUrl);
+        binder.bind("oauthClientId", oauthClientId);
+        binder.bind("oauthClientSecret", oauthClientSecret);
+        binder.bind("oauthTokenUrl", oauthTokenUrl);
+        binder.bind("password", password);
+        binder.bind("proxyPassword", proxyPassword);
+        binder.bind("proxyUserName", proxyUserName);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        binder.bind("userName", userName);
+    }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import org.apache.camel.http.common.HttpConfiguration;
 import org.apache.camel.http.common.HttpRegistry;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -187,4 +188,18 @@ public class ServletComponentConfiguration
             HeaderFilterStrategy headerFilterStrategy) {
         this.headerFilterStrategy = headerFilterStrategy;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("servletName", servletName);
+        binder.bind("attachmentMultipartBinding", attachmentMultipartBinding);
+        binder.bind("fileNameExtWhitelist", fileNameExtWhitelist);
+        binder.bind("httpRegistry", httpRegistry);
+        binder.bind("allowJavaSerializedObject", allowJavaSerializedObject);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("httpBinding", httpBinding);
+        binder.bind("httpConfiguration", httpConfiguration);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+    }
 }
\ No newline at end of file
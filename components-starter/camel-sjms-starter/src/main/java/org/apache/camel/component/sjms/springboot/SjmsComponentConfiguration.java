@@ -23,6 +23,7 @@ import org.apache.camel.component.sjms.jms.JmsKeyFormatStrategy;
 import org.apache.camel.component.sjms.jms.MessageCreatedStrategy;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -220,4 +221,19 @@ public class SjmsComponentConfiguration
             HeaderFilterStrategy headerFilterStrategy) {
         this.headerFilterStrategy = headerFilterStrategy;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("connectionFactory", connectionFactory);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("destinationCreationStrategy", destinationCreationStrategy);
+        binder.bind("jmsKeyFormatStrategy", jmsKeyFormatStrategy);
+        binder.bind("messageCreatedStrategy", messageCreatedStrategy);
+        binder.bind("recoveryInterval", recoveryInterval);
+        binder.bind("replyToOnTimeoutMaxConcurrentConsumers", replyToOnTimeoutMaxConcurrentConsumers);
+        binder.bind("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+    }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import org.apache.camel.component.smpp.SmppComponent;
 import org.apache.camel.component.smpp.SmppConfiguration;
 import org.apache.camel.component.smpp.SmppSplittingPolicy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.jsmpp.session.SessionStateListener;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -590,4 +591,46 @@ public class SmppComponentConfiguration
     public void setUsingSSL(Boolean usingSSL) {
         this.usingSSL = usingSSL;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("initialReconnectDelay", initialReconnectDelay);
+        binder.bind("maxReconnect", maxReconnect);
+        binder.bind("reconnectDelay", reconnectDelay);
+        binder.bind("splittingPolicy", splittingPolicy);
+        binder.bind("systemType", systemType);
+        binder.bind("addressRange", addressRange);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("destAddr", destAddr);
+        binder.bind("destAddrNpi", destAddrNpi);
+        binder.bind("destAddrTon", destAddrTon);
+        binder.bind("lazySessionCreation", lazySessionCreation);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("numberingPlanIndicator", numberingPlanIndicator);
+        binder.bind("priorityFlag", priorityFlag);
+        binder.bind("protocolId", protocolId);
+        binder.bind("registeredDelivery", registeredDelivery);
+        binder.bind("replaceIfPresentFlag", replaceIfPresentFlag);
+        binder.bind("serviceType", serviceType);
+        binder.bind("sourceAddr", sourceAddr);
+        binder.bind("sourceAddrNpi", sourceAddrNpi);
+        binder.bind("sourceAddrTon", sourceAddrTon);
+        binder.bind("typeOfNumber", typeOfNumber);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("enquireLinkTimer", enquireLinkTimer);
+        binder.bind("sessionStateListener", sessionStateListener);
+        binder.bind("transactionTimer", transactionTimer);
+        binder.bind("alphabet", alphabet);
+        binder.bind("dataCoding", dataCoding);
+        binder.bind("encoding", encoding);
+        binder.bind("httpProxyHost", httpProxyHost);
+        binder.bind("httpProxyPassword", httpProxyPassword);
+        binder.bind("httpProxyPort", httpProxyPort);
+        binder.bind("httpProxyUsername", httpProxyUsername);
+        binder.bind("proxyHeaders", proxyHeaders);
+        binder.bind("password", password);
+        binder.bind("systemId", systemId);
+        binder.bind("usingSSL", usingSSL);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.splunk.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.splunk.SplunkConfigurationFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -104,4 +105,12 @@ public class SplunkComponentConfiguration
             SplunkConfigurationFactory splunkConfigurationFactory) {
         this.splunkConfigurationFactory = splunkConfigurationFactory;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("splunkConfigurationFactory", splunkConfigurationFactory);
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import org.apache.camel.component.springrabbit.ListenerContainerFactory;
 import org.apache.camel.component.springrabbit.MessagePropertiesConverter;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.MessageConverter;
@@ -330,4 +331,28 @@ public class SpringRabbitMQComponentConfiguration
             HeaderFilterStrategy headerFilterStrategy) {
         this.headerFilterStrategy = headerFilterStrategy;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("amqpAdmin", amqpAdmin);
+        binder.bind("connectionFactory", connectionFactory);
+        binder.bind("testConnectionOnStartup", testConnectionOnStartup);
+        binder.bind("autoDeclare", autoDeclare);
+        binder.bind("autoStartup", autoStartup);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("deadLetterExchange", deadLetterExchange);
+        binder.bind("deadLetterExchangeType", deadLetterExchangeType);
+        binder.bind("deadLetterQueue", deadLetterQueue);
+        binder.bind("deadLetterRoutingKey", deadLetterRoutingKey);
+        binder.bind("errorHandler", errorHandler);
+        binder.bind("listenerContainerFactory", listenerContainerFactory);
+        binder.bind("prefetchCount", prefetchCount);
+        binder.bind("shutdownTimeout", shutdownTimeout);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("ignoreDeclarationExceptions", ignoreDeclarationExceptions);
+        binder.bind("messageConverter", messageConverter);
+        binder.bind("messagePropertiesConverter", messagePropertiesConverter);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.sql.springboot.SqlComponentConfiguration;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(SpringRunner.class)
+@SpringBootApplication
+@DirtiesContext
+@ContextConfiguration(classes = LazyComponentsTest.class)
+@SpringBootTest(properties = {
+        "camel.springboot.lazy-components=true",
+        "camel.component.sql.use-placeholder=false",
+        "spring.datasource.url=jdbc:dummy://localhost/test",
+        "spring.datasource.username=dbuser",
+        "spring.datasource.password=dbpass",
+        "spring.datasource.driver-class-name=org.apache.camel.component.sql.support.DummyJDBCDriver"
+})
+public class LazyComponentsTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private CamelContext context;
+
+    @Test
+    public void testComponentIsConfiguredOnFirstLookup() {
+        String[] names = beanFactory.getBeanNamesForType(SqlComponentConfiguration.class, true, false);
+        assertEquals(1, names.length);
+
+        // nothing is created nor bound at startup
+        assertTrue(beanFactory.getBeanDefinition(names[0]).isLazyInit());
+        assertFalse(beanFactory.containsSingleton(names[0]));
+        assertNull(context.hasComponent("sql"));
+
+        SqlComponent component = context.getComponent("sql", SqlComponent.class);
+        assertNotNull(component);
+        assertFalse(component.isUsePlaceholder());
+        assertTrue(beanFactory.containsSingleton(names[0]));
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.camel.component.ssh.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.ssh.SshConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.sshd.common.keyprovider.KeyPairProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -278,4 +279,25 @@ public class SshComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("failOnUnknownHost", failOnUnknownHost);
+        binder.bind("knownHostsResource", knownHostsResource);
+        binder.bind("timeout", timeout);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("pollCommand", pollCommand);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("channelType", channelType);
+        binder.bind("configuration", configuration);
+        binder.bind("shellPrompt", shellPrompt);
+        binder.bind("sleepForShellPrompt", sleepForShellPrompt);
+        binder.bind("certResource", certResource);
+        binder.bind("certResourcePassword", certResourcePassword);
+        binder.bind("keyPairProvider", keyPairProvider);
+        binder.bind("keyType", keyType);
+        binder.bind("password", password);
+        binder.bind("username", username);
+    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package org.apache.camel.component.telegram.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.asynchttpclient.AsyncHttpClient;
 import org.asynchttpclient.AsyncHttpClientConfig;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -144,4 +145,15 @@ public class TelegramComponentConfiguration
     public void setAuthorizationToken(String authorizationToken) {
         this.authorizationToken = authorizationToken;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("baseUri", baseUri);
+        binder.bind("client", client);
+        binder.bind("clientConfig", clientConfig);
+        binder.bind("authorizationToken", authorizationToken);
+    }
 }
\ No newline at end of file
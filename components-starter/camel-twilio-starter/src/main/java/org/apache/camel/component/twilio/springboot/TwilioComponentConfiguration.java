@@ -16,10 +16,11 @@
  */
 package org.apache.camel.component.twilio.springboot;
 
-import javax.annotation.Generated;
 import com.twilio.http.TwilioRestClient;
+import javax.annotation.Generated;
 import org.apache.camel.component.twilio.TwilioConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -153,4 +154,16 @@ public class TwilioComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("configuration", configuration);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("restClient", restClient);
+        binder.bind("accountSid", accountSid);
+        binder.bind("password", password);
+        binder.bind("username", username);
+    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package org.apache.camel.component.twitter.search.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -185,4 +186,19 @@ public class TwitterSearchComponentConfiguration
     public void setConsumerSecret(String consumerSecret) {
         this.consumerSecret = consumerSecret;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("httpProxyHost", httpProxyHost);
+        binder.bind("httpProxyPassword", httpProxyPassword);
+        binder.bind("httpProxyPort", httpProxyPort);
+        binder.bind("httpProxyUser", httpProxyUser);
+        binder.bind("accessToken", accessToken);
+        binder.bind("accessTokenSecret", accessTokenSecret);
+        binder.bind("consumerKey", consumerKey);
+        binder.bind("consumerSecret", consumerSecret);
+    }
 }
\ No newline at end of file
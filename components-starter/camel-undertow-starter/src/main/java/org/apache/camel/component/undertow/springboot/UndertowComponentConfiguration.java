@@ -21,6 +21,7 @@ import org.apache.camel.component.undertow.UndertowHostOptions;
 import org.apache.camel.component.undertow.UndertowHttpBinding;
 import org.apache.camel.component.undertow.spi.UndertowSecurityProvider;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -204,4 +205,19 @@ public class UndertowComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("muteException", muteException);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("hostOptions", hostOptions);
+        binder.bind("undertowHttpBinding", undertowHttpBinding);
+        binder.bind("allowedRoles", allowedRoles);
+        binder.bind("securityConfiguration", securityConfiguration);
+        binder.bind("securityProvider", securityProvider);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+    }
 }
\ No newline at end of file
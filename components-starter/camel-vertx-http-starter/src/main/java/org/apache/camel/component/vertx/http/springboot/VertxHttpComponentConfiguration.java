@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.vertx.http.springboot;
 
-import javax.annotation.Generated;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.net.ProxyType;
+import javax.annotation.Generated;
 import org.apache.camel.component.vertx.http.VertxHttpBinding;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -271,4 +272,25 @@ public class VertxHttpComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("allowJavaSerializedObject", allowJavaSerializedObject);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("vertx", vertx);
+        binder.bind("vertxHttpBinding", vertxHttpBinding);
+        binder.bind("vertxOptions", vertxOptions);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+        binder.bind("proxyHost", proxyHost);
+        binder.bind("proxyPassword", proxyPassword);
+        binder.bind("proxyPort", proxyPort);
+        binder.bind("proxyType", proxyType);
+        binder.bind("proxyUsername", proxyUsername);
+        binder.bind("basicAuthPassword", basicAuthPassword);
+        binder.bind("basicAuthUsername", basicAuthUsername);
+        binder.bind("bearerToken", bearerToken);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+    }
 }
\ No newline at end of file
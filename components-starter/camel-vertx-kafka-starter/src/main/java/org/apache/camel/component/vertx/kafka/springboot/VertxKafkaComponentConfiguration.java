@@ -16,13 +16,14 @@
  */
 package org.apache.camel.component.vertx.kafka.springboot;
 
-import java.util.Map;
-import javax.annotation.Generated;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import java.util.Map;
+import javax.annotation.Generated;
 import org.apache.camel.component.vertx.kafka.configuration.VertxKafkaConfiguration;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -1681,4 +1682,111 @@ public class VertxKafkaComponentConfiguration
     public void setSslTruststoreType(String sslTruststoreType) {
         this.sslTruststoreType = sslTruststoreType;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("additionalProperties", additionalProperties);
+        binder.bind("bootstrapServers", bootstrapServers);
+        binder.bind("clientDnsLookup", clientDnsLookup);
+        binder.bind("clientId", clientId);
+        binder.bind("configuration", configuration);
+        binder.bind("connectionsMaxIdleMs", connectionsMaxIdleMs);
+        binder.bind("headerFilterStrategy", headerFilterStrategy);
+        binder.bind("interceptorClasses", interceptorClasses);
+        binder.bind("metadataMaxAgeMs", metadataMaxAgeMs);
+        binder.bind("metricReporters", metricReporters);
+        binder.bind("metricsNumSamples", metricsNumSamples);
+        binder.bind("metricsRecordingLevel", metricsRecordingLevel);
+        binder.bind("metricsSampleWindowMs", metricsSampleWindowMs);
+        binder.bind("partitionId", partitionId);
+        binder.bind("receiveBufferBytes", receiveBufferBytes);
+        binder.bind("reconnectBackoffMaxMs", reconnectBackoffMaxMs);
+        binder.bind("reconnectBackoffMs", reconnectBackoffMs);
+        binder.bind("requestTimeoutMs", requestTimeoutMs);
+        binder.bind("retryBackoffMs", retryBackoffMs);
+        binder.bind("sendBufferBytes", sendBufferBytes);
+        binder.bind("socketConnectionSetupTimeoutMaxMs", socketConnectionSetupTimeoutMaxMs);
+        binder.bind("socketConnectionSetupTimeoutMs", socketConnectionSetupTimeoutMs);
+        binder.bind("allowAutoCreateTopics", allowAutoCreateTopics);
+        binder.bind("autoCommitIntervalMs", autoCommitIntervalMs);
+        binder.bind("autoOffsetReset", autoOffsetReset);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("checkCrcs", checkCrcs);
+        binder.bind("clientRack", clientRack);
+        binder.bind("defaultApiTimeoutMs", defaultApiTimeoutMs);
+        binder.bind("enableAutoCommit", enableAutoCommit);
+        binder.bind("excludeInternalTopics", excludeInternalTopics);
+        binder.bind("fetchMaxBytes", fetchMaxBytes);
+        binder.bind("fetchMaxWaitMs", fetchMaxWaitMs);
+        binder.bind("fetchMinBytes", fetchMinBytes);
+        binder.bind("groupId", groupId);
+        binder.bind("groupInstanceId", groupInstanceId);
+        binder.bind("heartbeatIntervalMs", heartbeatIntervalMs);
+        binder.bind("isolationLevel", isolationLevel);
+        binder.bind("keyDeserializer", keyDeserializer);
+        binder.bind("maxPartitionFetchBytes", maxPartitionFetchBytes);
+        binder.bind("maxPollIntervalMs", maxPollIntervalMs);
+        binder.bind("maxPollRecords", maxPollRecords);
+        binder.bind("partitionAssignmentStrategy", partitionAssignmentStrategy);
+        binder.bind("seekToOffset", seekToOffset);
+        binder.bind("seekToPosition", seekToPosition);
+        binder.bind("sessionTimeoutMs", sessionTimeoutMs);
+        binder.bind("valueDeserializer", valueDeserializer);
+        binder.bind("acks", acks);
+        binder.bind("batchSize", batchSize);
+        binder.bind("bufferMemory", bufferMemory);
+        binder.bind("compressionType", compressionType);
+        binder.bind("deliveryTimeoutMs", deliveryTimeoutMs);
+        binder.bind("enableIdempotence", enableIdempotence);
+        binder.bind("keySerializer", keySerializer);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("lingerMs", lingerMs);
+        binder.bind("maxBlockMs", maxBlockMs);
+        binder.bind("maxInFlightRequestsPerConnection", maxInFlightRequestsPerConnection);
+        binder.bind("maxRequestSize", maxRequestSize);
+        binder.bind("metadataMaxIdleMs", metadataMaxIdleMs);
+        binder.bind("partitionerClass", partitionerClass);
+        binder.bind("retries", retries);
+        binder.bind("transactionalId", transactionalId);
+        binder.bind("transactionTimeoutMs", transactionTimeoutMs);
+        binder.bind("valueSerializer", valueSerializer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("vertx", vertx);
+        binder.bind("vertxOptions", vertxOptions);
+        binder.bind("saslClientCallbackHandlerClass", saslClientCallbackHandlerClass);
+        binder.bind("saslJaasConfig", saslJaasConfig);
+        binder.bind("saslKerberosKinitCmd", saslKerberosKinitCmd);
+        binder.bind("saslKerberosMinTimeBeforeRelogin", saslKerberosMinTimeBeforeRelogin);
+        binder.bind("saslKerberosServiceName", saslKerberosServiceName);
+        binder.bind("saslKerberosTicketRenewJitter", saslKerberosTicketRenewJitter);
+        binder.bind("saslKerberosTicketRenewWindowFactor", saslKerberosTicketRenewWindowFactor);
+        binder.bind("saslLoginCallbackHandlerClass", saslLoginCallbackHandlerClass);
+        binder.bind("saslLoginClass", saslLoginClass);
+        binder.bind("saslLoginRefreshBufferSeconds", saslLoginRefreshBufferSeconds);
+        binder.bind("saslLoginRefreshMinPeriodSeconds", saslLoginRefreshMinPeriodSeconds);
+        binder.bind("saslLoginRefreshWindowFactor", saslLoginRefreshWindowFactor);
+        binder.bind("saslLoginRefreshWindowJitter", saslLoginRefreshWindowJitter);
+        binder.bind("saslMechanism", saslMechanism);
+        binder.bind("securityProtocol", securityProtocol);
+        binder.bind("securityProviders", securityProviders);
+        binder.bind("sslCipherSuites", sslCipherSuites);
+        binder.bind("sslEnabledProtocols", sslEnabledProtocols);
+        binder.bind("sslEndpointIdentificationAlgorithm", sslEndpointIdentificationAlgorithm);
+        binder.bind("sslEngineFactoryClass", sslEngineFactoryClass);
+        binder.bind("sslKeymanagerAlgorithm", sslKeymanagerAlgorithm);
+        binder.bind("sslKeyPassword", sslKeyPassword);
+        binder.bind("sslKeystoreCertificateChain", sslKeystoreCertificateChain);
+        binder.bind("sslKeystoreKey", sslKeystoreKey);
+        binder.bind("sslKeystoreLocation", sslKeystoreLocation);
+        binder.bind("sslKeystorePassword", sslKeystorePassword);
+        binder.bind("sslKeystoreType", sslKeystoreType);
+        binder.bind("sslProtocol", sslProtocol);
+        binder.bind("sslProvider", sslProvider);
+        binder.bind("sslSecureRandomImplementation", sslSecureRandomImplementation);
+        binder.bind("sslTrustmanagerAlgorithm", sslTrustmanagerAlgorithm);
+        binder.bind("sslTruststoreCertificates", sslTruststoreCertificates);
+        binder.bind("sslTruststoreLocation", sslTruststoreLocation);
+        binder.bind("sslTruststorePassword", sslTruststorePassword);
+        binder.bind("sslTruststoreType", sslTruststoreType);
+    }
 }
\ No newline at end of file
@@ -16,11 +16,12 @@
  */
 package org.apache.camel.component.vertx.springboot;
 
-import javax.annotation.Generated;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.spi.VertxFactory;
+import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -168,4 +169,17 @@ public class VertxComponentConfiguration
     public void setVertxFactory(VertxFactory vertxFactory) {
         this.vertxFactory = vertxFactory;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("host", host);
+        binder.bind("port", port);
+        binder.bind("timeout", timeout);
+        binder.bind("vertx", vertx);
+        binder.bind("vertxOptions", vertxOptions);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("vertxFactory", vertxFactory);
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import java.util.List;
 import javax.annotation.Generated;
 import org.apache.camel.component.web3j.Web3jConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.web3j.protocol.Web3j;
 
@@ -530,4 +531,46 @@ public class Web3jComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("addresses", addresses);
+        binder.bind("configuration", configuration);
+        binder.bind("fromAddress", fromAddress);
+        binder.bind("fromBlock", fromBlock);
+        binder.bind("fullTransactionObjects", fullTransactionObjects);
+        binder.bind("gasLimit", gasLimit);
+        binder.bind("privateFor", privateFor);
+        binder.bind("quorumAPI", quorumAPI);
+        binder.bind("toAddress", toAddress);
+        binder.bind("toBlock", toBlock);
+        binder.bind("topics", topics);
+        binder.bind("web3j", web3j);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("address", address);
+        binder.bind("atBlock", atBlock);
+        binder.bind("blockHash", blockHash);
+        binder.bind("clientId", clientId);
+        binder.bind("data", data);
+        binder.bind("databaseName", databaseName);
+        binder.bind("filterId", filterId);
+        binder.bind("gasPrice", gasPrice);
+        binder.bind("hashrate", hashrate);
+        binder.bind("headerPowHash", headerPowHash);
+        binder.bind("index", index);
+        binder.bind("keyName", keyName);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("mixDigest", mixDigest);
+        binder.bind("nonce", nonce);
+        binder.bind("operation", operation);
+        binder.bind("position", position);
+        binder.bind("priority", priority);
+        binder.bind("sha3HashOfDataToSign", sha3HashOfDataToSign);
+        binder.bind("signedTransactionData", signedTransactionData);
+        binder.bind("sourceCode", sourceCode);
+        binder.bind("transactionHash", transactionHash);
+        binder.bind("ttl", ttl);
+        binder.bind("value", value);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+    }
 }
\ No newline at end of file
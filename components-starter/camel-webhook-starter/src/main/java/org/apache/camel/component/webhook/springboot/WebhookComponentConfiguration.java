@@ -19,6 +19,7 @@ package org.apache.camel.component.webhook.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.webhook.WebhookConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -150,4 +151,16 @@ public class WebhookComponentConfiguration
     public void setConfiguration(WebhookConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("webhookAutoRegister", webhookAutoRegister);
+        binder.bind("webhookBasePath", webhookBasePath);
+        binder.bind("webhookComponentName", webhookComponentName);
+        binder.bind("webhookExternalUrl", webhookExternalUrl);
+        binder.bind("webhookPath", webhookPath);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package org.apache.camel.websocket.jsr356.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.websocket.jsr356.ServerEndpointDeploymentStrategy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -106,4 +107,12 @@ public class JSR356WebSocketComponentConfiguration
             ServerEndpointDeploymentStrategy serverEndpointDeploymentStrategy) {
         this.serverEndpointDeploymentStrategy = serverEndpointDeploymentStrategy;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("serverEndpointDeploymentStrategy", serverEndpointDeploymentStrategy);
+    }
 }
\ No newline at end of file
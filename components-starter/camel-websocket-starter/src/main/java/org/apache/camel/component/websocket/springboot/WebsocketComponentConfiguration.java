@@ -18,6 +18,7 @@ package org.apache.camel.component.websocket.springboot;
 
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.eclipse.jetty.util.thread.ThreadPool;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -250,4 +251,23 @@ public class WebsocketComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("host", host);
+        binder.bind("port", port);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("staticResources", staticResources);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("enableJmx", enableJmx);
+        binder.bind("maxThreads", maxThreads);
+        binder.bind("minThreads", minThreads);
+        binder.bind("threadPool", threadPool);
+        binder.bind("sslContextParameters", sslContextParameters);
+        binder.bind("sslKeyPassword", sslKeyPassword);
+        binder.bind("sslKeystore", sslKeystore);
+        binder.bind("sslPassword", sslPassword);
+        binder.bind("useGlobalSslContextParameters", useGlobalSslContextParameters);
+    }
 }
\ No newline at end of file
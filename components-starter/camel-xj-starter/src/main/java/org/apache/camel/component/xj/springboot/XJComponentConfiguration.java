@@ -23,6 +23,7 @@ import net.sf.saxon.Configuration;
 import org.apache.camel.component.xslt.TransformerFactoryConfigurationStrategy;
 import org.apache.camel.component.xslt.XsltUriResolverFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -190,4 +191,18 @@ public class XJComponentConfiguration
     public void setUriResolverFactory(XsltUriResolverFactory uriResolverFactory) {
         this.uriResolverFactory = uriResolverFactory;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("contentCache", contentCache);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("saxonConfiguration", saxonConfiguration);
+        binder.bind("saxonConfigurationProperties", saxonConfigurationProperties);
+        binder.bind("saxonExtensionFunctions", saxonExtensionFunctions);
+        binder.bind("transformerFactoryClass", transformerFactoryClass);
+        binder.bind("transformerFactoryConfigurationStrategy", transformerFactoryConfigurationStrategy);
+        binder.bind("uriResolver", uriResolver);
+        binder.bind("uriResolverFactory", uriResolverFactory);
+    }
 }
\ No newline at end of file
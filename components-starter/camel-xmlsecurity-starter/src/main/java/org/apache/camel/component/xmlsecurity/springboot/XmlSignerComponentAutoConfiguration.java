@@ -27,10 +27,11 @@ import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
+import org.apache.camel.spring.boot.util.RegistryReferenceTypes;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
@@ -52,13 +53,22 @@ public class XmlSignerComponentAutoConfiguration {
     private ApplicationContext applicationContext;
     private final CamelContext camelContext;
     @Autowired
-    private XmlSignerComponentConfiguration configuration;
+    private ObjectProvider<XmlSignerComponentConfiguration> configuration;
 
     public XmlSignerComponentAutoConfiguration(
             org.apache.camel.CamelContext camelContext) {
         this.camelContext = camelContext;
-        ApplicationConversionService acs = (ApplicationConversionService) ApplicationConversionService.getSharedInstance();
-        acs.addConverter(new XmlSignerComponentConverter(camelContext));
+    }
+
+    @Bean(name = "camel.component.xmlsecurity-sign.reference-types")
+    public static RegistryReferenceTypes referenceTypes() {
+        return new RegistryReferenceTypes(
+                javax.xml.crypto.AlgorithmMethod.class,
+                org.apache.camel.component.xmlsecurity.api.KeyAccessor.class,
+                javax.xml.crypto.dsig.spec.XPathFilterParameterSpec.class,
+                org.apache.camel.component.xmlsecurity.api.XmlSignatureProperties.class,
+                org.apache.camel.component.xmlsecurity.processor.XmlSignerConfiguration.class,
+                javax.xml.crypto.URIDereferencer.class);
     }
 
     @Lazy
@@ -67,7 +77,7 @@ public class XmlSignerComponentAutoConfiguration {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindProperties(camelContext, configuration.getObject(), target);
             }
             @Override
             public boolean isEnabled(String name, Component target) {
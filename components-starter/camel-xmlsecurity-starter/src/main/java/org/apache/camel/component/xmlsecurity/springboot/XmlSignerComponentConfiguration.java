@@ -26,6 +26,7 @@ import org.apache.camel.component.xmlsecurity.api.KeyAccessor;
 import org.apache.camel.component.xmlsecurity.api.XmlSignatureProperties;
 import org.apache.camel.component.xmlsecurity.processor.XmlSignerConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -503,4 +504,37 @@ public class XmlSignerComponentConfiguration
     public void setUriDereferencer(URIDereferencer uriDereferencer) {
         this.uriDereferencer = uriDereferencer;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("addKeyInfoReference", addKeyInfoReference);
+        binder.bind("baseUri", baseUri);
+        binder.bind("canonicalizationMethod", canonicalizationMethod);
+        binder.bind("clearHeaders", clearHeaders);
+        binder.bind("contentObjectId", contentObjectId);
+        binder.bind("contentReferenceType", contentReferenceType);
+        binder.bind("contentReferenceUri", contentReferenceUri);
+        binder.bind("cryptoContextProperties", cryptoContextProperties);
+        binder.bind("digestAlgorithm", digestAlgorithm);
+        binder.bind("disallowDoctypeDecl", disallowDoctypeDecl);
+        binder.bind("keyAccessor", keyAccessor);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("omitXmlDeclaration", omitXmlDeclaration);
+        binder.bind("outputXmlEncoding", outputXmlEncoding);
+        binder.bind("parentLocalName", parentLocalName);
+        binder.bind("parentNamespace", parentNamespace);
+        binder.bind("parentXpath", parentXpath);
+        binder.bind("plainText", plainText);
+        binder.bind("plainTextEncoding", plainTextEncoding);
+        binder.bind("prefixForXmlSignatureNamespace", prefixForXmlSignatureNamespace);
+        binder.bind("properties", properties);
+        binder.bind("schemaResourceUri", schemaResourceUri);
+        binder.bind("signatureAlgorithm", signatureAlgorithm);
+        binder.bind("signatureId", signatureId);
+        binder.bind("transformMethods", transformMethods);
+        binder.bind("xpathsToIdAttributes", xpathsToIdAttributes);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("signerConfiguration", signerConfiguration);
+        binder.bind("uriDereferencer", uriDereferencer);
+    }
 }
\ No newline at end of file
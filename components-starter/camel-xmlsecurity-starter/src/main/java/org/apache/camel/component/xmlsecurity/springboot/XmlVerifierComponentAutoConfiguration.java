@@ -27,10 +27,11 @@ import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
+import org.apache.camel.spring.boot.util.RegistryReferenceTypes;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
@@ -52,13 +53,22 @@ public class XmlVerifierComponentAutoConfiguration {
     private ApplicationContext applicationContext;
     private final CamelContext camelContext;
     @Autowired
-    private XmlVerifierComponentConfiguration configuration;
+    private ObjectProvider<XmlVerifierComponentConfiguration> configuration;
 
     public XmlVerifierComponentAutoConfiguration(
             org.apache.camel.CamelContext camelContext) {
         this.camelContext = camelContext;
-        ApplicationConversionService acs = (ApplicationConversionService) ApplicationConversionService.getSharedInstance();
-        acs.addConverter(new XmlVerifierComponentConverter(camelContext));
+    }
+
+    @Bean(name = "camel.component.xmlsecurity-verify.reference-types")
+    public static RegistryReferenceTypes referenceTypes() {
+        return new RegistryReferenceTypes(
+                javax.xml.crypto.KeySelector.class,
+                org.apache.camel.component.xmlsecurity.api.ValidationFailedHandler.class,
+                org.apache.camel.component.xmlsecurity.api.XmlSignature2Message.class,
+                org.apache.camel.component.xmlsecurity.api.XmlSignatureChecker.class,
+                javax.xml.crypto.URIDereferencer.class,
+                org.apache.camel.component.xmlsecurity.processor.XmlVerifierConfiguration.class);
     }
 
     @Lazy
@@ -67,7 +77,7 @@ public class XmlVerifierComponentAutoConfiguration {
         return new ComponentCustomizer() {
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                CamelPropertiesHelper.bindProperties(camelContext, configuration.getObject(), target);
             }
             @Override
             public boolean isEnabled(String name, Component target) {
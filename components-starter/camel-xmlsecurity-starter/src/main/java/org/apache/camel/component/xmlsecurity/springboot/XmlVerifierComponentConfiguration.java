@@ -25,6 +25,7 @@ import org.apache.camel.component.xmlsecurity.api.XmlSignature2Message;
 import org.apache.camel.component.xmlsecurity.api.XmlSignatureChecker;
 import org.apache.camel.component.xmlsecurity.processor.XmlVerifierConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -356,4 +357,27 @@ public class XmlVerifierComponentConfiguration
             XmlVerifierConfiguration verifierConfiguration) {
         this.verifierConfiguration = verifierConfiguration;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("baseUri", baseUri);
+        binder.bind("clearHeaders", clearHeaders);
+        binder.bind("cryptoContextProperties", cryptoContextProperties);
+        binder.bind("disallowDoctypeDecl", disallowDoctypeDecl);
+        binder.bind("keySelector", keySelector);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("omitXmlDeclaration", omitXmlDeclaration);
+        binder.bind("outputNodeSearch", outputNodeSearch);
+        binder.bind("outputNodeSearchType", outputNodeSearchType);
+        binder.bind("outputXmlEncoding", outputXmlEncoding);
+        binder.bind("removeSignatureElements", removeSignatureElements);
+        binder.bind("schemaResourceUri", schemaResourceUri);
+        binder.bind("secureValidation", secureValidation);
+        binder.bind("validationFailedHandler", validationFailedHandler);
+        binder.bind("xmlSignature2Message", xmlSignature2Message);
+        binder.bind("xmlSignatureChecker", xmlSignatureChecker);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("uriDereferencer", uriDereferencer);
+        binder.bind("verifierConfiguration", verifierConfiguration);
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import javax.xml.transform.URIResolver;
 import org.apache.camel.component.xslt.TransformerFactoryConfigurationStrategy;
 import org.apache.camel.component.xslt.XsltUriResolverFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -147,4 +148,15 @@ public class XsltComponentConfiguration
     public void setUriResolverFactory(XsltUriResolverFactory uriResolverFactory) {
         this.uriResolverFactory = uriResolverFactory;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("contentCache", contentCache);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("transformerFactoryClass", transformerFactoryClass);
+        binder.bind("transformerFactoryConfigurationStrategy", transformerFactoryConfigurationStrategy);
+        binder.bind("uriResolver", uriResolver);
+        binder.bind("uriResolverFactory", uriResolverFactory);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import javax.annotation.Generated;
 import org.apache.camel.component.yammer.ApiRequestor;
 import org.apache.camel.component.yammer.YammerConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -251,4 +252,23 @@ public class YammerComponentConfiguration
     public void setConsumerSecret(String consumerSecret) {
         this.consumerSecret = consumerSecret;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("useJson", useJson);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("delay", delay);
+        binder.bind("limit", limit);
+        binder.bind("newerThan", newerThan);
+        binder.bind("olderThan", olderThan);
+        binder.bind("threaded", threaded);
+        binder.bind("userId", userId);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("requestor", requestor);
+        binder.bind("accessToken", accessToken);
+        binder.bind("consumerKey", consumerKey);
+        binder.bind("consumerSecret", consumerSecret);
+    }
 }
\ No newline at end of file
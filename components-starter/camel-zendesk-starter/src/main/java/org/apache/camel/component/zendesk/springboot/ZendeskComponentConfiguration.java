@@ -19,6 +19,7 @@ package org.apache.camel.component.zendesk.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.zendesk.ZendeskConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.zendesk.client.v2.Zendesk;
 
@@ -177,4 +178,18 @@ public class ZendeskComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("serverUrl", serverUrl);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+        binder.bind("zendesk", zendesk);
+        binder.bind("oauthToken", oauthToken);
+        binder.bind("password", password);
+        binder.bind("token", token);
+        binder.bind("username", username);
+    }
 }
\ No newline at end of file
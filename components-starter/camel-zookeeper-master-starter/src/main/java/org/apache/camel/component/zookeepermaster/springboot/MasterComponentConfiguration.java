@@ -19,6 +19,7 @@ package org.apache.camel.component.zookeepermaster.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.zookeepermaster.ContainerIdFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.apache.curator.framework.CuratorFramework;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -150,4 +151,16 @@ public class MasterComponentConfiguration
     public void setZooKeeperPassword(String zooKeeperPassword) {
         this.zooKeeperPassword = zooKeeperPassword;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("maximumConnectionTimeout", maximumConnectionTimeout);
+        binder.bind("zkRoot", zkRoot);
+        binder.bind("zooKeeperUrl", zooKeeperUrl);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("containerIdFactory", containerIdFactory);
+        binder.bind("curator", curator);
+        binder.bind("zooKeeperPassword", zooKeeperPassword);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.apache.camel.component.zookeeper.springboot;
 import javax.annotation.Generated;
 import org.apache.camel.component.zookeeper.ZooKeeperConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -188,4 +189,19 @@ public class ZooKeeperComponentConfiguration
     public void setConfiguration(ZooKeeperConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void bindTo(ComponentPropertiesBinder binder) {
+        binder.bind("listChildren", listChildren);
+        binder.bind("timeout", timeout);
+        binder.bind("backoff", backoff);
+        binder.bind("bridgeErrorHandler", bridgeErrorHandler);
+        binder.bind("repeat", repeat);
+        binder.bind("sendEmptyMessageOnDelete", sendEmptyMessageOnDelete);
+        binder.bind("create", create);
+        binder.bind("createMode", createMode);
+        binder.bind("lazyStartProducer", lazyStartProducer);
+        binder.bind("autowiredEnabled", autowiredEnabled);
+        binder.bind("configuration", configuration);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ConsumerTemplate;
@@ -33,14 +34,22 @@ import org.apache.camel.main.RoutesCollector;
 import org.apache.camel.model.Model;
 import org.apache.camel.spi.BeanRepository;
 import org.apache.camel.spring.CamelBeanPostProcessor;
+import org.apache.camel.spring.boot.startup.CamelStartupRecorder;
+import org.apache.camel.spring.boot.util.HierarchicalPropertiesCache;
+import org.apache.camel.spring.boot.util.PropertiesParserCache;
+import org.apache.camel.spring.boot.util.RegistryReferenceConverter;
+import org.apache.camel.spring.boot.util.RegistryReferenceTypes;
 import org.apache.camel.spring.spi.ApplicationContextBeanRepository;
 import org.apache.camel.spring.spi.XmlCamelContextConfigurer;
 import org.apache.camel.support.DefaultRegistry;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBinding;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -53,6 +62,10 @@ import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.MutablePropertySources;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
 @Configuration(proxyBeanMethods = false)
 @EnableConfigurationProperties(CamelConfigurationProperties.class)
 @Import(TypeConversionConfiguration.class)
@@ -91,6 +104,23 @@ public class CamelAutoConfiguration {
                                                 CamelContext camelContext,
                                                 CamelConfigurationProperties config) throws Exception {
 
+        // register the startup recorder so the steps of starting Camel can be recorded
+        CamelStartupRecorder recorder = applicationContext.getBeanProvider(CamelStartupRecorder.class).getIfAvailable();
+        if (recorder != null) {
+            camelContext.setExtension(CamelStartupRecorder.class, recorder);
+            // the steps after starting Camel are not part of its startup
+            camelContext.addStartupListener((context, alreadyStarted) -> recorder.stop());
+        }
+
+        try (CamelStartupRecorder.Step step = CamelStartupRecorder.get(camelContext).beginStep(CamelStartupRecorder.TYPE_CAMEL_CONTEXT, camelContext.getName())) {
+            return configureCamelContext(applicationContext, camelContext, config);
+        }
+    }
+
+    private static CamelContext configureCamelContext(ApplicationContext applicationContext,
+                                                      CamelContext camelContext,
+                                                      CamelConfigurationProperties config) throws Exception {
+
         camelContext.build();
 
         // initialize properties component eager
@@ -123,7 +153,10 @@ public class CamelAutoConfiguration {
             }
         }
 
-        camelContext.adapt(ExtendedCamelContext.class).setPackageScanClassResolver(new FatJarPackageScanClassResolver());
+        FatJarPackageScanClassResolver packageScanClassResolver = new FatJarPackageScanClassResolver();
+        packageScanClassResolver.setScanIndexEnabled(config.isPackageScanIndexEnabled());
+        packageScanClassResolver.setParallelism(config.getPackageScanParallelism());
+        camelContext.adapt(ExtendedCamelContext.class).setPackageScanClassResolver(packageScanClassResolver);
 
         if (config.getRouteFilterIncludePattern() != null || config.getRouteFilterExcludePattern() != null) {
             LOG.info("Route filtering pattern: include={}, exclude={}", config.getRouteFilterIncludePattern(), config.getRouteFilterExcludePattern());
@@ -147,8 +180,11 @@ public class CamelAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(RoutesCollector.class)
-    RoutesCollector routesCollector(ApplicationContext applicationContext) {
-        return new SpringBootRoutesCollector(applicationContext);
+    RoutesCollector routesCollector(ApplicationContext applicationContext, CamelConfigurationProperties config) {
+        SpringBootRoutesCollector collector = new SpringBootRoutesCollector(applicationContext);
+        collector.setXmlParallelism(config.getXmlRoutesParallelism());
+        collector.setXmlRoutesCacheDirectory(config.getXmlRoutesCacheDirectory());
+        return collector;
     }
 
     @Bean
@@ -227,6 +263,17 @@ public class CamelAutoConfiguration {
         return new SpringPropertiesParser();
     }
 
+    /**
+     * Caches the values resolved by the properties parser, discarded when the environment is changed.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    PropertiesParserCache propertiesParserCache(CamelConfigurationProperties config) {
+        PropertiesParserCache cache = new PropertiesParserCache();
+        cache.setMaximumCacheSize(config.getPropertiesCacheSize());
+        return cache;
+    }
+
     // We explicitly declare the destroyMethod to be "" as the Spring @Bean
     // annotation defaults to AbstractBeanDefinition.INFER_METHOD otherwise
     // and in that case ShutdownableService::shutdown/Service::close
@@ -239,6 +286,40 @@ public class CamelAutoConfiguration {
         return pc;
     }
 
+    /**
+     * Converts bean references such as #myBean into the referenced bean, for the types contributed by the starters.
+     */
+    @Bean
+    @ConfigurationPropertiesBinding
+    static RegistryReferenceConverter registryReferenceConverter(ObjectProvider<CamelContext> camelContext, ObjectProvider<RegistryReferenceTypes> types) {
+        return new RegistryReferenceConverter(camelContext::getIfAvailable, types.orderedStream().collect(Collectors.toList()));
+    }
+
+    /**
+     * Defers the binding of the component configurations when camel.springboot.lazy-components is enabled.
+     */
+    @Bean
+    static LazyComponentsBeanFactoryPostProcessor lazyComponentsBeanFactoryPostProcessor(Environment environment) {
+        return new LazyComponentsBeanFactoryPostProcessor(environment);
+    }
+
+    /**
+     * Records the steps of starting Camel when camel.springboot.startup-recorder-enabled is enabled.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    CamelStartupRecorder camelStartupRecorder(CamelConfigurationProperties config) {
+        return new CamelStartupRecorder(config.isStartupRecorderEnabled(), config.isStartupRecorderFlightRecorder());
+    }
+
+    /**
+     * Discards the cached evaluation of the hierarchical enabled flags when the environment is changed.
+     */
+    @Bean
+    static HierarchicalPropertiesCache.InvalidationListener hierarchicalPropertiesCacheInvalidationListener() {
+        return new HierarchicalPropertiesCache.InvalidationListener();
+    }
+
     /**
      * Camel post processor - required to support Camel annotations.
      */
@@ -247,4 +328,24 @@ public class CamelAutoConfiguration {
         return new CamelSpringBootBeanPostProcessor(applicationContext);
     }
 
+    /**
+     * Publishes the hits and misses of the properties parser cache when Micrometer is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class PropertiesParserCacheMetricsConfiguration {
+
+        @Bean
+        MeterBinder propertiesParserCacheMetrics(PropertiesParserCache cache) {
+            return registry -> {
+                FunctionCounter.builder("camel.properties.cache.hits", cache, PropertiesParserCache::getHitCount)
+                    .description("The number of properties found in the cache").register(registry);
+                FunctionCounter.builder("camel.properties.cache.misses", cache, PropertiesParserCache::getMissCount)
+                    .description("The number of properties resolved from the environment").register(registry);
+                Gauge.builder("camel.properties.cache.size", cache, PropertiesParserCache::getCacheSize)
+                    .description("The number of cached properties").register(registry);
+            };
+        }
+    }
+
 }
@@ -47,6 +47,68 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
      */
     private boolean warnOnEarlyShutdown = true;
 
+    /**
+     * Whether to use the build-time scan index (META-INF/camel-scan-index) of the nested jars in a Spring Boot
+     * fat jar, when scanning the classpath for classes. Nested jars having an index are not inflated and scanned,
+     * which speeds up startup. The index is generated by the generate-scan-index goal
+     * of the camel-spring-boot-generator-maven-plugin.
+     */
+    private boolean packageScanIndexEnabled;
+
+    /**
+     * The maximum number of nested jars of a Spring Boot fat jar to inflate and scan concurrently,
+     * when scanning the classpath for classes. By default nested jars are scanned one after another.
+     */
+    private int packageScanParallelism = 1;
+
+    /**
+     * Whether to configure the components from the starters on demand. When enabled the binding of the
+     * camel.component.xxx properties and the creation of the component customizers are deferred until Camel
+     * resolves the component for the first time.
+     * This reduces the startup time and memory when many starters are on the classpath but only a few of them are used.
+     */
+    private boolean lazyComponents;
+
+    /**
+     * Whether to record the duration and the allocated memory of the steps of starting Camel, such as configuring
+     * the CamelContext, customizing the components, collecting the route builders and loading the XML routes.
+     * The recorded steps are exposed by the camelstartup actuator endpoint.
+     */
+    private boolean startupRecorderEnabled;
+
+    /**
+     * Whether to emit the recorded startup steps as Java Flight Recorder events (requires the startup recorder to be
+     * enabled and a JVM with Java Flight Recorder).
+     */
+    private boolean startupRecorderFlightRecorder;
+
+    /**
+     * The maximum number of XML routes, route templates and rests resources to load concurrently.
+     * The loaded routes are added in the same order as when loading the resources one after another, which is the default.
+     */
+    private int xmlRoutesParallelism = 1;
+
+    /**
+     * Directory of a cache of the route models loaded from the XML routes, route templates and rests resources.
+     * The models are stored in a compact binary form keyed by the SHA-256 hash of the XML resources, so unchanged
+     * resources are loaded on the next startup without parsing the XML. The cache is disabled by default.
+     */
+    private String xmlRoutesCacheDirectory;
+
+    /**
+     * The maximum number of pairs of source and target types for which the Spring type converter caches
+     * which conversion service can convert them. The cache is discarded when the application context is refreshed
+     * or converters are bridged from Camel. Setting the value to 0 disables the cache.
+     */
+    private int typeConversionCacheSize = 1000;
+
+    /**
+     * The maximum number of property placeholders for which the value resolved from the Spring environment
+     * (and decrypted when using Jasypt) is cached. The cache is discarded when the environment changes.
+     * The random and missing properties are not cached. The cache is disabled by default (0).
+     */
+    private int propertiesCacheSize;
+
     // Default Properties via camel-main
     // ---------------------------------
 
@@ -693,4 +755,76 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
         this.warnOnEarlyShutdown = warnOnEarlyShutdown;
     }
 
+    public boolean isPackageScanIndexEnabled() {
+        return packageScanIndexEnabled;
+    }
+
+    public void setPackageScanIndexEnabled(boolean packageScanIndexEnabled) {
+        this.packageScanIndexEnabled = packageScanIndexEnabled;
+    }
+
+    public int getPackageScanParallelism() {
+        return packageScanParallelism;
+    }
+
+    public void setPackageScanParallelism(int packageScanParallelism) {
+        this.packageScanParallelism = packageScanParallelism;
+    }
+
+    public boolean isLazyComponents() {
+        return lazyComponents;
+    }
+
+    public void setLazyComponents(boolean lazyComponents) {
+        this.lazyComponents = lazyComponents;
+    }
+
+    public boolean isStartupRecorderEnabled() {
+        return startupRecorderEnabled;
+    }
+
+    public void setStartupRecorderEnabled(boolean startupRecorderEnabled) {
+        this.startupRecorderEnabled = startupRecorderEnabled;
+    }
+
+    public boolean isStartupRecorderFlightRecorder() {
+        return startupRecorderFlightRecorder;
+    }
+
+    public void setStartupRecorderFlightRecorder(boolean startupRecorderFlightRecorder) {
+        this.startupRecorderFlightRecorder = startupRecorderFlightRecorder;
+    }
+
+    public int getXmlRoutesParallelism() {
+        return xmlRoutesParallelism;
+    }
+
+    public void setXmlRoutesParallelism(int xmlRoutesParallelism) {
+        this.xmlRoutesParallelism = xmlRoutesParallelism;
+    }
+
+    public int getTypeConversionCacheSize() {
+        return typeConversionCacheSize;
+    }
+
+    public void setTypeConversionCacheSize(int typeConversionCacheSize) {
+        this.typeConversionCacheSize = typeConversionCacheSize;
+    }
+
+    public int getPropertiesCacheSize() {
+        return propertiesCacheSize;
+    }
+
+    public void setPropertiesCacheSize(int propertiesCacheSize) {
+        this.propertiesCacheSize = propertiesCacheSize;
+    }
+
+    public String getXmlRoutesCacheDirectory() {
+        return xmlRoutesCacheDirectory;
+    }
+
+    public void setXmlRoutesCacheDirectory(String xmlRoutesCacheDirectory) {
+        this.xmlRoutesCacheDirectory = xmlRoutesCacheDirectory;
+    }
+
 }
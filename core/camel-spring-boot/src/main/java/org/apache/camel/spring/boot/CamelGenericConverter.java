@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Set;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.service.ServiceHelper;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.ConditionalGenericConverter;
+
+/**
+ * A Spring {@link org.springframework.core.convert.converter.GenericConverter} which converts using the type
+ * converters of the Camel {@link TypeConverterRegistry}, so Spring code such as <tt>@Value</tt> injection or
+ * {@link org.springframework.core.env.Environment#getProperty(String, Class)} can use the Camel converters.
+ * <p/>
+ * This is the opposite of {@link SpringTypeConverter}, which lets Camel convert using Spring. The converter does
+ * not list any pair of types, so it is matched against the pairs the conversion service has no specific converter
+ * for. It matches the pairs which the Spring Boot default converters cannot convert, and for which a Camel converter
+ * is found with {@link TypeConverterRegistry#lookup}. The conversion service caches which converter it selected
+ * for a pair of types.
+ */
+public class CamelGenericConverter implements ConditionalGenericConverter, AutoCloseable {
+
+    // the conversions of spring boot take precedence, such as String to Integer
+    private final ConversionService defaults = new ApplicationConversionService();
+    private volatile TypeConverterRegistry registry;
+
+    public CamelGenericConverter(CamelContext camelContext) {
+        this.registry = camelContext.getTypeConverterRegistry();
+        // the type converters are loaded when the registry is initialized
+        ServiceHelper.initService(registry);
+    }
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        // a conditional converter which is matched against any pair of types
+        return null;
+    }
+
+    @Override
+    public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        TypeConverterRegistry registry = this.registry;
+        return registry != null && !defaults.canConvert(sourceType, targetType) && lookup(registry, sourceType, targetType) != null;
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (source == null) {
+            return null;
+        }
+
+        TypeConverterRegistry registry = this.registry;
+        TypeConverter converter = registry != null ? lookup(registry, sourceType, targetType) : null;
+        if (converter == null) {
+            throw new ConversionFailedException(sourceType, targetType, source,
+                new IllegalStateException("No Camel type converter from " + sourceType + " to " + targetType));
+        }
+        try {
+            Object answer = converter.convertTo(targetType.getObjectType(), source);
+            return answer == TypeConverter.MISS_VALUE ? null : answer;
+        } catch (TypeConversionException e) {
+            throw new ConversionFailedException(sourceType, targetType, source, e);
+        }
+    }
+
+    /**
+     * Stops converting using Camel, as the converter cannot be removed from the conversion service
+     * it has been added to.
+     */
+    @Override
+    public void close() {
+        registry = null;
+    }
+
+    private static TypeConverter lookup(TypeConverterRegistry registry, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        return registry.lookup(targetType.getObjectType(), sourceType.getObjectType());
+    }
+}
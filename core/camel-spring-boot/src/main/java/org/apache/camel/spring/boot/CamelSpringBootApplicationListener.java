@@ -35,6 +35,7 @@ import org.apache.camel.main.SimpleMainShutdownStrategy;
 import org.apache.camel.spi.CamelEvent;
 import org.apache.camel.spi.CamelEvent.Type;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spring.boot.startup.CamelStartupRecorder;
 import org.apache.camel.support.EventNotifierSupport;
 import org.apache.camel.support.LifecycleStrategySupport;
 import org.apache.camel.support.service.ServiceHelper;
@@ -99,7 +100,9 @@ public class CamelSpringBootApplicationListener implements ApplicationListener<C
             if (!addRestsToRoutes) {
                 configurer.setAddRestsToRoutes(false);
             }
-            configurer.configureRoutes(camelContext, configurationProperties);
+            try (CamelStartupRecorder.Step step = CamelStartupRecorder.get(camelContext).beginStep(CamelStartupRecorder.TYPE_ROUTES, camelContext.getName())) {
+                configurer.configureRoutes(camelContext, configurationProperties);
+            }
 
             for (CamelContextConfiguration camelContextConfiguration : camelContextConfigurations) {
                 LOG.debug("CamelContextConfiguration found. Invoking beforeApplicationStart: {}", camelContextConfiguration);
@@ -16,6 +16,10 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.util.Map;
+
+import org.apache.camel.spring.boot.util.ComponentPropertiesBinder;
+import org.apache.camel.support.IntrospectionSupport;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 public class ComponentConfigurationPropertiesCommon {
@@ -39,6 +43,19 @@ public class ComponentConfigurationPropertiesCommon {
         return customizer;
     }
 
+    /**
+     * Binds the component options of this configuration using the given binder.
+     * <p/>
+     * The generated component configurations override this to bind each of their options without reflection.
+     */
+    @SuppressWarnings("deprecation")
+    public void bindTo(ComponentPropertiesBinder binder) {
+        Map<String, Object> properties = IntrospectionSupport.getNonNullProperties(this);
+        properties.remove("enabled");
+        properties.remove("customizer");
+        binder.bind(properties);
+    }
+
     // ********************************
     // Customizer
     // ********************************
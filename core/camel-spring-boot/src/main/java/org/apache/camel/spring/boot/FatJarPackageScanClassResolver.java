@@ -16,10 +16,24 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
 
@@ -29,13 +43,60 @@ import org.apache.camel.util.IOHelper;
 /**
  * An implementation of the {@code org.apache.camel.spi.PackageScanClassResolver} that is able to
  * scan spring-boot fat jars to find classes contained also in nested jars.
+ * <p/>
+ * When the scan index is enabled, nested jars that ship a {@link #SCAN_INDEX} file (as generated at build time
+ * by the {@code generate-scan-index} goal of the {@code camel-spring-boot-generator-maven-plugin}) are not
+ * inflated, and the class entries listed in the index are used instead.
+ * <p/>
+ * The class entries of nested jars are cached per jar url and CRC, so repeated scans during startup reuse the
+ * result of the first pass. When the parallelism is set to a value higher than 1, nested jars are inflated
+ * concurrently on a bounded fork-join pool shared by all the scans.
  */
 public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResolver {
 
+    /**
+     * Location of the build-time index listing all the .class entries of a jar.
+     */
+    public static final String SCAN_INDEX = "META-INF/camel-scan-index";
+
     private static final String SPRING_BOOT_CLASSIC_LIB_ROOT = "lib/";
     private static final String SPRING_BOOT_BOOT_INF_LIB_ROOT = "BOOT-INF/lib/";
     private static final String SPRING_BOOT_BOOT_INF_CLASSES_ROOT = "BOOT-INF/classes/";
 
+    private boolean scanIndexEnabled;
+    private volatile Map<String, List<String>> scanIndex;
+    private int parallelism = 1;
+    private volatile ForkJoinPool nestedJarPool;
+    private final Map<String, List<String>> nestedJarCache = new ConcurrentHashMap<>();
+
+    public boolean isScanIndexEnabled() {
+        return scanIndexEnabled;
+    }
+
+    /**
+     * Whether to use the build-time scan index of nested jars (if present) instead of inflating them.
+     */
+    public void setScanIndexEnabled(boolean scanIndexEnabled) {
+        this.scanIndexEnabled = scanIndexEnabled;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The maximum number of nested jars to inflate concurrently. Nested jars are scanned one after another
+     * when set to 1 (default).
+     */
+    public synchronized void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+
+        if (nestedJarPool != null) {
+            nestedJarPool.shutdown();
+            nestedJarPool = null;
+        }
+    }
+
     /**
      * Loads all the class entries from the main JAR and all nested jars.
      *
@@ -50,6 +111,9 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
 
     protected List<String> doLoadJarClassEntries(InputStream stream, String urlPath, boolean inspectNestedJars, boolean closeStream) {
         List<String> entries = new ArrayList<>();
+        ForkJoinPool pool = inspectNestedJars && parallelism > 1 ? getNestedJarPool() : null;
+        // when scanning concurrently, the entries are collected in segments which are merged in jar order
+        List<Supplier<List<String>>> segments = pool != null ? new ArrayList<>() : null;
 
         JarInputStream jarStream = null;
         try {
@@ -65,13 +129,45 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
                         entries.add(cleanupSpringbootClassName(name));
                     } else if (inspectNestedJars && !entry.isDirectory() && isSpringBootNestedJar(name)) {
                         String nestedUrl = urlPath + "!/" + name;
-                        log.trace("Inspecting nested jar: {}", nestedUrl);
+                        List<String> indexedEntries = scanIndexEnabled ? getScanIndex().get(name) : null;
+                        // stored nested jars (as required by spring-boot) have their CRC known upfront
+                        String cacheKey = indexedEntries == null ? getNestedJarCacheKey(nestedUrl, entry) : null;
+                        List<String> cachedEntries = cacheKey != null ? nestedJarCache.get(cacheKey) : null;
+
+                        if (indexedEntries != null) {
+                            log.trace("Using scan index of nested jar: {}", nestedUrl);
+                            entries.addAll(indexedEntries);
+                        } else if (cachedEntries != null) {
+                            log.trace("Using cached entries of nested jar: {}", nestedUrl);
+                            entries.addAll(cachedEntries);
+                        } else if (pool != null) {
+                            // the nested jar must be read from the fat jar stream before moving to the next entry,
+                            // but it can be inflated and scanned concurrently
+                            byte[] data = readNestedJar(jarStream);
+                            ForkJoinTask<List<String>> task = pool.submit(
+                                () -> loadNestedJarClassEntries(new ByteArrayInputStream(data), nestedUrl, cacheKey));
 
-                        List<String> nestedEntries = doLoadJarClassEntries(jarStream, nestedUrl, false, false);
-                        entries.addAll(nestedEntries);
+                            final List<String> segment = entries;
+                            segments.add(() -> segment);
+                            segments.add(task::join);
+                            entries = new ArrayList<>();
+                        } else {
+                            entries.addAll(loadNestedJarClassEntries(jarStream, nestedUrl, cacheKey));
+                        }
                     }
                 }
             }
+
+            if (segments != null && !segments.isEmpty()) {
+                // merge the entries in the order the nested jars appear in the fat jar
+                final List<String> last = entries;
+                segments.add(() -> last);
+
+                entries = new ArrayList<>();
+                for (Supplier<List<String>> segment : segments) {
+                    entries.addAll(segment.get());
+                }
+            }
         } catch (IOException ioe) {
             log.warn("Cannot search jar file '" + urlPath + " due to an IOException: " + ioe.getMessage() + ". This exception is ignored.", ioe);
         } finally {
@@ -84,6 +180,116 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
         return entries;
     }
 
+    /**
+     * Gets the pool used to scan the nested jars concurrently, which is shared by all the scans. Its worker
+     * threads are daemon threads which terminate when idle.
+     */
+    private ForkJoinPool getNestedJarPool() {
+        ForkJoinPool answer = nestedJarPool;
+        if (answer == null) {
+            synchronized (this) {
+                answer = nestedJarPool;
+                if (answer == null) {
+                    answer = new ForkJoinPool(parallelism);
+                    nestedJarPool = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
+    private List<String> loadNestedJarClassEntries(InputStream stream, String nestedUrl, String cacheKey) {
+        log.trace("Inspecting nested jar: {}", nestedUrl);
+
+        List<String> nestedEntries = doLoadJarClassEntries(stream, nestedUrl, false, false);
+        if (cacheKey != null) {
+            nestedJarCache.put(cacheKey, nestedEntries);
+        }
+        return nestedEntries;
+    }
+
+    private static byte[] readNestedJar(JarInputStream jarStream) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        IOHelper.copy(jarStream, bos);
+        return bos.toByteArray();
+    }
+
+    private static String getNestedJarCacheKey(String nestedUrl, JarEntry entry) {
+        long crc = entry.getCrc();
+        return crc != -1 ? nestedUrl + "@" + Long.toHexString(crc) : null;
+    }
+
+    /**
+     * Clears the cached class entries of the nested jars.
+     */
+    public void clearNestedJarCache() {
+        nestedJarCache.clear();
+    }
+
+    /**
+     * Gets the scan index of the nested jars, keyed by the name of the nested jar entry (such as
+     * <tt>BOOT-INF/lib/camel-core-engine.jar</tt>). The index is loaded once on first use.
+     */
+    protected Map<String, List<String>> getScanIndex() {
+        Map<String, List<String>> answer = scanIndex;
+        if (answer == null) {
+            synchronized (this) {
+                answer = scanIndex;
+                if (answer == null) {
+                    answer = loadScanIndex();
+                    log.debug("Loaded scan index for {} nested jars", answer.size());
+                    scanIndex = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
+    protected Map<String, List<String>> loadScanIndex() {
+        Map<String, List<String>> answer = new HashMap<>();
+        for (ClassLoader classLoader : getClassLoaders()) {
+            try {
+                Enumeration<URL> urls = classLoader.getResources(SCAN_INDEX);
+                while (urls.hasMoreElements()) {
+                    URL url = urls.nextElement();
+                    String name = getNestedJarName(url.toString());
+                    if (name != null && isSpringBootNestedJar(name) && !answer.containsKey(name)) {
+                        answer.put(name, loadScanIndex(url));
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Cannot load scan index from classloader: " + classLoader + " due to an IOException: " + e.getMessage()
+                        + ". This exception is ignored.", e);
+            }
+        }
+        return Collections.unmodifiableMap(answer);
+    }
+
+    private List<String> loadScanIndex(URL url) throws IOException {
+        List<String> entries = new ArrayList<>();
+        try (BufferedReader reader = IOHelper.buffered(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    entries.add(line);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static String getNestedJarName(String url) {
+        // jar:file:/app.jar!/BOOT-INF/lib/foo.jar!/META-INF/camel-scan-index -> BOOT-INF/lib/foo.jar
+        String suffix = "!/" + SCAN_INDEX;
+        if (!url.endsWith(suffix)) {
+            return null;
+        }
+        String jarUrl = url.substring(0, url.length() - suffix.length());
+        int idx = jarUrl.lastIndexOf("!/");
+        return idx != -1 ? jarUrl.substring(idx + 2) : null;
+    }
+
     private boolean isSpringBootNestedJar(String name) {
         // Supporting both versions of the packaging model
         return name.endsWith(".jar") && (name.startsWith(SPRING_BOOT_CLASSIC_LIB_ROOT) || name.startsWith(SPRING_BOOT_BOOT_INF_LIB_ROOT));
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.env.Environment;
+
+/**
+ * Marks the component configuration beans (the generated <tt>*ComponentConfiguration</tt> classes) as lazy when
+ * <tt>camel.springboot.lazy-components</tt> is enabled, so the properties are only bound when Camel
+ * first resolves the component and its customizer is invoked.
+ */
+public class LazyComponentsBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+
+    public static final String LAZY_COMPONENTS = "camel.springboot.lazy-components";
+
+    private static final Logger LOG = LoggerFactory.getLogger(LazyComponentsBeanFactoryPostProcessor.class);
+
+    private final Environment environment;
+
+    public LazyComponentsBeanFactoryPostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        if (!environment.getProperty(LAZY_COMPONENTS, Boolean.class, false)) {
+            return;
+        }
+
+        int count = 0;
+        for (String name : beanFactory.getBeanNamesForType(ComponentConfigurationPropertiesCommon.class, true, false)) {
+            if (beanFactory.containsBeanDefinition(name)) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                definition.setLazyInit(true);
+                count++;
+            }
+        }
+        LOG.debug("Configured {} component configurations to be lazy", count);
+    }
+}
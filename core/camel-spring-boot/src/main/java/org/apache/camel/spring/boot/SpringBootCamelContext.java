@@ -16,7 +16,9 @@
  */
 package org.apache.camel.spring.boot;
 
+import org.apache.camel.RoutesBuilder;
 import org.apache.camel.spring.SpringCamelContext;
+import org.apache.camel.spring.boot.startup.CamelStartupRecorder;
 import org.apache.camel.util.StopWatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +39,14 @@ public class SpringBootCamelContext extends SpringCamelContext {
         this.warnOnEarlyShutdown = warnOnEarlyShutdown;
     }
 
+    @Override
+    public void addRoutes(RoutesBuilder builder) throws Exception {
+        // record adding the routes of each builder as a startup step
+        try (CamelStartupRecorder.Step step = CamelStartupRecorder.get(this).beginStep(CamelStartupRecorder.TYPE_ROUTE_BUILDER, builder.getClass().getName())) {
+            super.addRoutes(builder);
+        }
+    }
+
     @Override
     protected void doStart() throws Exception {
         stopWatch.restart();
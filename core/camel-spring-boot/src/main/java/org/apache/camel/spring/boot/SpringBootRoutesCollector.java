@@ -17,10 +17,15 @@
 package org.apache.camel.spring.boot;
 
 import java.io.FileNotFoundException;
+import java.io.InputStream;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ExtendedCamelContext;
@@ -33,8 +38,9 @@ import org.apache.camel.model.RouteTemplatesDefinition;
 import org.apache.camel.model.RoutesDefinition;
 import org.apache.camel.model.rest.RestsDefinition;
 import org.apache.camel.spi.XMLRoutesDefinitionLoader;
-import org.apache.camel.util.AntPathMatcher;
-import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.spring.boot.startup.CamelStartupRecorder;
+import org.apache.camel.spring.boot.util.AntPathPatterns;
+import org.springframework.beans.factory.FactoryBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.Resource;
 
@@ -44,6 +50,8 @@ import org.springframework.core.io.Resource;
 public class SpringBootRoutesCollector extends DefaultRoutesCollector {
 
     private final ApplicationContext applicationContext;
+    private int xmlParallelism = 1;
+    private String xmlRoutesCacheDirectory;
 
     public SpringBootRoutesCollector(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
@@ -51,6 +59,13 @@ public class SpringBootRoutesCollector extends DefaultRoutesCollector {
 
     @Override
     public List<RoutesBuilder> collectRoutesFromRegistry(final CamelContext camelContext, final String excludePattern, final String includePattern) {
+        final CamelStartupRecorder recorder = CamelStartupRecorder.get(camelContext);
+        try (CamelStartupRecorder.Step step = recorder.beginStep(CamelStartupRecorder.TYPE_ROUTES_COLLECTOR, "registry")) {
+            return doCollectRoutesFromRegistry(camelContext, excludePattern, includePattern);
+        }
+    }
+
+    private List<RoutesBuilder> doCollectRoutesFromRegistry(CamelContext camelContext, String excludePattern, String includePattern) {
         final List<RoutesBuilder> routes = new ArrayList<>();
 
         Set<LambdaRouteBuilder> lrbs = camelContext.getRegistry().findByType(LambdaRouteBuilder.class);
@@ -64,149 +79,193 @@ public class SpringBootRoutesCollector extends DefaultRoutesCollector {
             routes.add(rb);
         }
 
-        final AntPathMatcher matcher = new AntPathMatcher();
-        for (RoutesBuilder routesBuilder : applicationContext.getBeansOfType(RoutesBuilder.class, true, true).values()) {
-            // filter out abstract classes
-            boolean abs = Modifier.isAbstract(routesBuilder.getClass().getModifiers());
-            if (!abs) {
-                String name = routesBuilder.getClass().getName();
-                // make name as path so we can use ant path matcher
-                name = name.replace('.', '/');
-
-                boolean match = !"false".equals(includePattern);
-                // exclude take precedence over include
-                if (match && ObjectHelper.isNotEmpty(excludePattern)) {
-                    // there may be multiple separated by comma
-                    String[] parts = excludePattern.split(",");
-                    for (String part : parts) {
-                        // must negate when excluding, and hence !
-                        match = !matcher.match(part, name);
-                        log.trace("Java RoutesBuilder: {} exclude filter: {} -> {}", name, part, match);
-                        if (!match) {
-                            break;
-                        }
-                    }
-                }
-                // special support for testing with @ExcludeRoutes annotation with camel-test-spring
-                String sysExcludePattern = System.getProperty("CamelTestSpringExcludeRoutes");
-                // exclude take precedence over include
-                if (match && ObjectHelper.isNotEmpty(sysExcludePattern)) {
-                    // this property is a comma separated list of FQN class names, so we need to make
-                    // name as path so we can use ant patch matcher
-                    sysExcludePattern = sysExcludePattern.replace('.', '/');
-                    // there may be multiple separated by comma
-                    String[] parts = sysExcludePattern.split(",");
-                    for (String part : parts) {
-                        // must negate when excluding, and hence !
-                        match = !matcher.match(part, name);
-                        log.trace("Java RoutesBuilder: {} exclude filter: {} -> {}", name, part, match);
-                        if (!match) {
-                            break;
-                        }
-                    }
-                }
-                if (match && ObjectHelper.isNotEmpty(includePattern)) {
-                    // there may be multiple separated by comma
-                    String[] parts = includePattern.split(",");
-                    for (String part : parts) {
-                        match = matcher.match(part, name);
-                        log.trace("Java RoutesBuilder: {} include filter: {} -> {}", name, part, match);
-                        if (match) {
-                            break;
-                        }
-                    }
-                }
-                log.debug("Java RoutesBuilder: {} accepted by include/exclude filter: {}", name, match);
-                if (match) {
-                    routes.add(routesBuilder);
-                }
+        // compile the patterns once for all the builders
+        final boolean includeAll = !"false".equals(includePattern);
+        final AntPathPatterns excludes = AntPathPatterns.compile(excludePattern);
+        final AntPathPatterns includes = AntPathPatterns.compile(includePattern);
+        // special support for testing with @ExcludeRoutes annotation with camel-test-spring
+        String sysExcludePattern = System.getProperty("CamelTestSpringExcludeRoutes");
+        // this property is a comma separated list of FQN class names, so we need to make
+        // name as path so we can use ant patch matcher
+        final AntPathPatterns sysExcludes = AntPathPatterns.compile(sysExcludePattern != null ? sysExcludePattern.replace('.', '/') : null);
+
+        if (!includeAll) {
+            return routes;
+        }
+
+        for (String name : applicationContext.getBeanNamesForType(RoutesBuilder.class, true, false)) {
+            // filter by the type of the bean so the builders which are filtered out are not created, unless
+            // the type is only known from the instance, such as a factory bean or a bean method returning RouteBuilder
+            Class<?> type = applicationContext.getType(name, false);
+            boolean known = type != null && !FactoryBean.class.isAssignableFrom(type)
+                && !type.isInterface() && !Modifier.isAbstract(type.getModifiers());
+            if (known && !accept(type, includeAll, excludes, sysExcludes, includes)) {
+                continue;
+            }
+            RoutesBuilder routesBuilder = applicationContext.getBean(name, RoutesBuilder.class);
+            if (known || accept(routesBuilder.getClass(), includeAll, excludes, sysExcludes, includes)) {
+                routes.add(routesBuilder);
             }
         }
 
         return routes;
     }
 
-    @Override
-    public List<RoutesDefinition> collectXmlRoutesFromDirectory(CamelContext camelContext, String directory) {
-        List<RoutesDefinition> answer = new ArrayList<>();
+    private boolean accept(Class<?> type, boolean includeAll, AntPathPatterns excludes, AntPathPatterns sysExcludes, AntPathPatterns includes) {
+        // make name as path so we can use ant path matcher
+        String name = type.getName().replace('.', '/');
 
-        String[] parts = directory.split(",");
-        for (String part : parts) {
-            log.info("Loading additional Camel XML routes from: {}", part);
-            try {
-                Resource[] xmlRoutes = applicationContext.getResources(part);
-                for (Resource xmlRoute : xmlRoutes) {
-                    log.debug("Found XML route: {}", xmlRoute);
-                    ExtendedCamelContext extendedCamelContext = camelContext.adapt(ExtendedCamelContext.class);
-                    XMLRoutesDefinitionLoader xmlLoader = extendedCamelContext.getXMLRoutesDefinitionLoader();
-                    RoutesDefinition routes = (RoutesDefinition) xmlLoader.loadRoutesDefinition(camelContext, xmlRoute.getInputStream());
-                    if (routes != null) {
-                        answer.add(routes);
-                    }
-                }
-            } catch (FileNotFoundException e) {
-                log.debug("No XML routes found in {}. Skipping XML routes detection.", part);
-            } catch (Exception e) {
-                throw RuntimeCamelException.wrapRuntimeException(e);
-            }
+        boolean match = includeAll;
+        // exclude take precedence over include
+        if (match && excludes != null) {
+            // must negate when excluding, and hence !
+            match = !excludes.matches(name);
+            log.trace("Java RoutesBuilder: {} exclude filter: {} -> {}", name, excludes, match);
+        }
+        if (match && sysExcludes != null) {
+            match = !sysExcludes.matches(name);
+            log.trace("Java RoutesBuilder: {} exclude filter: {} -> {}", name, sysExcludes, match);
         }
+        if (match && includes != null) {
+            match = includes.matches(name);
+            log.trace("Java RoutesBuilder: {} include filter: {} -> {}", name, includes, match);
+        }
+        log.debug("Java RoutesBuilder: {} accepted by include/exclude filter: {}", name, match);
+        return match;
+    }
 
-        return answer;
+    @Override
+    public List<RoutesDefinition> collectXmlRoutesFromDirectory(CamelContext camelContext, String directory) {
+        return collectXmlFromDirectory(camelContext, directory, "routes", CamelStartupRecorder.TYPE_XML_ROUTES, RoutesDefinition.class,
+            (loader, is) -> (RoutesDefinition) loader.loadRoutesDefinition(camelContext, is));
     }
 
     @Override
     public List<RouteTemplatesDefinition> collectXmlRouteTemplatesFromDirectory(CamelContext camelContext, String directory) throws Exception {
-        List<RouteTemplatesDefinition> answer = new ArrayList<>();
+        return collectXmlFromDirectory(camelContext, directory, "route templates", CamelStartupRecorder.TYPE_XML_ROUTE_TEMPLATES, RouteTemplatesDefinition.class,
+            (loader, is) -> (RouteTemplatesDefinition) loader.loadRouteTemplatesDefinition(camelContext, is));
+    }
+
+    @Override
+    public List<RestsDefinition> collectXmlRestsFromDirectory(CamelContext camelContext, String directory) {
+        return collectXmlFromDirectory(camelContext, directory, "rests", CamelStartupRecorder.TYPE_XML_RESTS, RestsDefinition.class,
+            (loader, is) -> (RestsDefinition) loader.loadRestsDefinition(camelContext, is));
+    }
+
+    /**
+     * Loads the XML resources of the given directories (separated by comma), in parallel when
+     * {@link #setXmlParallelism(int)} is greater than 1. The loaded definitions are returned in the order of the
+     * resources, regardless how many threads have been used.
+     */
+    private <T> List<T> collectXmlFromDirectory(CamelContext camelContext, String directory, String kind, String stepType,
+                                                Class<T> type, XmlDefinitionLoader<T> definitionLoader) {
+        final XMLRoutesDefinitionLoader xmlLoader = camelContext.adapt(ExtendedCamelContext.class).getXMLRoutesDefinitionLoader();
+        final CamelStartupRecorder recorder = CamelStartupRecorder.get(camelContext);
 
+        List<Resource> resources = new ArrayList<>();
         String[] parts = directory.split(",");
         for (String part : parts) {
-            log.info("Loading additional Camel XML route templates from: {}", part);
+            log.info("Loading additional Camel XML {} from: {}", kind, part);
             try {
-                Resource[] xmlRouteTemplates = applicationContext.getResources(part);
-                for (Resource xmlRoute : xmlRouteTemplates) {
-                    log.debug("Found XML route template: {}", xmlRoute);
-                    ExtendedCamelContext extendedCamelContext = camelContext.adapt(ExtendedCamelContext.class);
-                    XMLRoutesDefinitionLoader xmlLoader = extendedCamelContext.getXMLRoutesDefinitionLoader();
-                    RouteTemplatesDefinition templates = (RouteTemplatesDefinition) xmlLoader.loadRouteTemplatesDefinition(camelContext, xmlRoute.getInputStream());
-                    if (templates != null) {
-                        answer.add(templates);
-                    }
+                for (Resource resource : applicationContext.getResources(part)) {
+                    log.debug("Found XML {}: {}", kind, resource);
+                    resources.add(resource);
                 }
             } catch (FileNotFoundException e) {
-                log.debug("No XML route templates found in {}. Skipping XML route templates detection.", part);
+                log.debug("No XML {} found in {}. Skipping XML {} detection.", kind, part, kind);
             } catch (Exception e) {
                 throw RuntimeCamelException.wrapRuntimeException(e);
             }
         }
 
-        return answer;
-    }
-
-    @Override
-    public List<RestsDefinition> collectXmlRestsFromDirectory(CamelContext camelContext, String directory) {
-        List<RestsDefinition> answer = new ArrayList<>();
+        final XmlRoutesModelCache cache = xmlRoutesCacheDirectory != null
+            ? new XmlRoutesModelCache(xmlRoutesCacheDirectory, camelContext) : null;
 
-        String[] parts = directory.split(",");
-        for (String part : parts) {
-            log.info("Loading additional Camel XML rests from: {}", part);
-            try {
-                final Resource[] xmlRests = applicationContext.getResources(part);
-                for (final Resource xmlRest : xmlRests) {
-                    ExtendedCamelContext extendedCamelContext = camelContext.adapt(ExtendedCamelContext.class);
-                    XMLRoutesDefinitionLoader xmlLoader = extendedCamelContext.getXMLRoutesDefinitionLoader();
-                    RestsDefinition rests = (RestsDefinition) xmlLoader.loadRestsDefinition(camelContext, xmlRest.getInputStream());
-                    if (rests != null) {
-                        answer.add(rests);
+        List<Callable<T>> tasks = new ArrayList<>(resources.size());
+        for (Resource resource : resources) {
+            tasks.add(() -> {
+                try (CamelStartupRecorder.Step step = recorder.beginStep(stepType, resource.getDescription());
+                     InputStream is = resource.getInputStream()) {
+                    if (cache != null) {
+                        return cache.load(kind, is, type, in -> definitionLoader.load(xmlLoader, in));
                     }
+                    return definitionLoader.load(xmlLoader, is);
+                } catch (FileNotFoundException e) {
+                    // an explicit location which does not exist is skipped as no resources are found
+                    log.debug("No XML {} found in {}. Skipping XML {} detection.", kind, resource.getDescription(), kind);
+                    return null;
+                }
+            });
+        }
+
+        List<T> answer = new ArrayList<>(tasks.size());
+        int threads = Math.min(xmlParallelism, tasks.size());
+        if (threads <= 1) {
+            for (Callable<T> task : tasks) {
+                try {
+                    addIfNotNull(answer, task.call());
+                } catch (Exception e) {
+                    throw RuntimeCamelException.wrapRuntimeException(e);
                 }
-            } catch (FileNotFoundException e) {
-                log.debug("No XML rests found in {}. Skipping XML rests detection.", part);
-            } catch (Exception e) {
-                throw RuntimeCamelException.wrapRuntimeException(e);
             }
+            return answer;
         }
 
+        log.debug("Loading {} XML {} using {} threads", tasks.size(), kind, threads);
+        ExecutorService executor = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "XmlRoutesLoader", threads);
+        try {
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            // merge in the order of the resources so the outcome is the same as loading one after another
+            for (Future<T> future : futures) {
+                addIfNotNull(answer, future.get());
+            }
+        } catch (ExecutionException e) {
+            throw RuntimeCamelException.wrapRuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw RuntimeCamelException.wrapRuntimeException(e);
+        } finally {
+            camelContext.getExecutorServiceManager().shutdownNow(executor);
+        }
         return answer;
     }
 
+    private static <T> void addIfNotNull(List<T> list, T value) {
+        if (value != null) {
+            list.add(value);
+        }
+    }
+
+    public int getXmlParallelism() {
+        return xmlParallelism;
+    }
+
+    /**
+     * The maximum number of XML routes, route templates or rests resources to load concurrently.
+     * By default the resources are loaded one after another.
+     */
+    public void setXmlParallelism(int xmlParallelism) {
+        this.xmlParallelism = xmlParallelism;
+    }
+
+    public String getXmlRoutesCacheDirectory() {
+        return xmlRoutesCacheDirectory;
+    }
+
+    /**
+     * The directory of the cache of the route models loaded from the XML routes, route templates and rests resources,
+     * see {@link XmlRoutesModelCache}. The cache is disabled by default.
+     */
+    public void setXmlRoutesCacheDirectory(String xmlRoutesCacheDirectory) {
+        this.xmlRoutesCacheDirectory = xmlRoutesCacheDirectory;
+    }
+
+    @FunctionalInterface
+    private interface XmlDefinitionLoader<T> {
+        T load(XMLRoutesDefinitionLoader loader, InputStream is) throws Exception;
+    }
+
 }
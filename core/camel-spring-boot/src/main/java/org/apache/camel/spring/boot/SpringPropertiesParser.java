@@ -18,6 +18,7 @@ package org.apache.camel.spring.boot;
 
 import org.apache.camel.component.properties.DefaultPropertiesParser;
 import org.apache.camel.component.properties.PropertiesLookup;
+import org.apache.camel.spring.boot.util.PropertiesParserCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 
@@ -28,10 +29,16 @@ class SpringPropertiesParser extends DefaultPropertiesParser {
     @Autowired
     private Environment env;
 
+    @Autowired(required = false)
+    private PropertiesParserCache cache;
+
     // Overridden
 
     @Override
     public String parseProperty(String key, String value, PropertiesLookup properties) {
+        if (cache != null) {
+            return cache.get(key, env::getProperty);
+        }
         return env.getProperty(key);
     }
 
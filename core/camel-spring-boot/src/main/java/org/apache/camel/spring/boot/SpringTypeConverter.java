@@ -20,66 +20,179 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.TypeConversionException;
 import org.apache.camel.support.TypeConverterSupport;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.TypeDescriptor;
 
-public class SpringTypeConverter extends TypeConverterSupport {
+/**
+ * A fallback {@link org.apache.camel.TypeConverter} which converts using the Spring {@link ConversionService}s.
+ * <p/>
+ * As this converter is invoked for every conversion which Camel cannot do itself, the decision of which
+ * conversion service can convert from a source type to a target type is cached per pair of types when
+ * {@link #setMaximumCacheSize(int)} is set, including the pairs which no conversion service can convert. As
+ * converters may be added to the conversion services later on, the cache is discarded when the application context
+ * is refreshed, and {@link #invalidate()} should be called whenever converters are added afterwards.
+ */
+public class SpringTypeConverter extends TypeConverterSupport implements ApplicationListener<ContextRefreshedEvent> {
+
+    // the cached decision when the pair of types is never converted by Spring, such as the Camel types
+    private static final int NO_CONVERSION = -1;
+    // the cached decision when no conversion service can convert the pair of types, until the cache is invalidated
+    private static final int NO_CONVERTER = -2;
 
     private final List<ConversionService> conversionServices;
     private final ConcurrentHashMap<Class<?>, TypeDescriptor> types;
+    private final ConcurrentMap<ConversionPair, Integer> decisions;
+    private volatile int maximumCacheSize;
 
     @Autowired
     public SpringTypeConverter(List<ConversionService> conversionServices) {
         this.conversionServices = conversionServices;
         this.types = new ConcurrentHashMap<>();
+        this.decisions = new ConcurrentHashMap<>();
+    }
+
+    public int getMaximumCacheSize() {
+        return maximumCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of pairs of types whose conversion decision is cached, 0 (the default) disables
+     * the cache. On Spring Boot it is set by <tt>camel.springboot.type-conversion-cache-size</tt>.
+     */
+    public void setMaximumCacheSize(int maximumCacheSize) {
+        this.maximumCacheSize = maximumCacheSize;
+        invalidate();
+    }
+
+    /**
+     * Gets the number of pairs of types whose conversion decision is cached.
+     */
+    public int getCacheSize() {
+        return decisions.size();
+    }
+
+    /**
+     * Discards the cached conversion decisions, to be called when the converters of the conversion services
+     * have been changed.
+     */
+    public void invalidate() {
+        decisions.clear();
+        types.clear();
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        // the converters of the conversion services are registered while the context is refreshed
+        invalidate();
     }
 
     @Override
     public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
-        // do not attempt to convert Camel types
-        if (type.getCanonicalName().startsWith("org.apache")) {
+        ConversionPair pair = new ConversionPair(value.getClass(), type);
+        Integer decision = decisions.get(pair);
+        if (decision == null) {
+            decision = decide(type, value);
+            if (maximumCacheSize > 0) {
+                // keep it simple and start over when the cache is full, as the set of pairs
+                // converted by a running application is expected to be small and stable
+                if (decisions.size() >= maximumCacheSize) {
+                    decisions.clear();
+                }
+                decisions.put(pair, decision);
+            }
+        }
+        if (decision < 0) {
             return null;
         }
-        
+
+        TypeDescriptor sourceType = types.computeIfAbsent(value.getClass(), TypeDescriptor::valueOf);
+        TypeDescriptor targetType = types.computeIfAbsent(type, TypeDescriptor::valueOf);
+        ConversionService conversionService = conversionServices.get(decision);
+        try {
+            return (T)conversionService.convert(value, sourceType, targetType);
+        } catch (ConversionFailedException e) {
+            // if value is a collection or an array the check ConversionService::canConvert
+            // may return true but then the conversion of specific objects may fail
+            //
+            // https://issues.apache.org/jira/browse/CAMEL-10548
+            // https://jira.spring.io/browse/SPR-14971
+            //
+            if (e.getCause() instanceof ConverterNotFoundException && isArrayOrCollection(value)) {
+                return null;
+            } else {
+                throw new TypeConversionException(value, type, e);
+            }
+        }
+    }
+
+    /**
+     * Determines the index of the conversion service which can convert the value to the given type,
+     * which only depends on the type of the value.
+     */
+    private int decide(Class<?> type, Object value) {
+        // do not attempt to convert Camel types
+        String name = type.getCanonicalName();
+        if (name != null && name.startsWith("org.apache")) {
+            return NO_CONVERSION;
+        }
+
         // do not attempt to convert List -> Map. Ognl expression may use this converter as a fallback expecting null
         if (type.isAssignableFrom(Map.class) && isArrayOrCollection(value)) {
-            return null;
+            return NO_CONVERSION;
         }
 
         TypeDescriptor sourceType = types.computeIfAbsent(value.getClass(), TypeDescriptor::valueOf);
         TypeDescriptor targetType = types.computeIfAbsent(type, TypeDescriptor::valueOf);
 
-        for (ConversionService conversionService : conversionServices) {
-            if (conversionService.canConvert(sourceType, targetType)) {
-                try {
-                    return (T)conversionService.convert(value, sourceType, targetType);
-                } catch (ConversionFailedException e) {
-                    // if value is a collection or an array the check ConversionService::canConvert
-                    // may return true but then the conversion of specific objects may fail
-                    //
-                    // https://issues.apache.org/jira/browse/CAMEL-10548
-                    // https://jira.spring.io/browse/SPR-14971
-                    //
-                    if (e.getCause() instanceof ConverterNotFoundException && isArrayOrCollection(value)) {
-                        return null;
-                    } else {
-                        throw new TypeConversionException(value, type, e);
-                    }
-                }
+        for (int i = 0; i < conversionServices.size(); i++) {
+            if (conversionServices.get(i).canConvert(sourceType, targetType)) {
+                return i;
             }
         }
 
-        return null;
+        return NO_CONVERTER;
     }
 
     private boolean isArrayOrCollection(Object value) {
         return value instanceof Collection || value.getClass().isArray();
     }
+
+    private static final class ConversionPair {
+        private final Class<?> from;
+        private final Class<?> to;
+        private final int hash;
+
+        ConversionPair(Class<?> from, Class<?> to) {
+            this.from = from;
+            this.to = to;
+            this.hash = 31 * from.hashCode() + to.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConversionPair)) {
+                return false;
+            }
+            ConversionPair that = (ConversionPair) o;
+            return from == that.from && to == that.to;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
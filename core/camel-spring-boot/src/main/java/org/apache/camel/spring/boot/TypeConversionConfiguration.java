@@ -18,14 +18,20 @@ package org.apache.camel.spring.boot;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.TypeConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterRegistry;
+import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.env.ConfigurableEnvironment;
 
 import static java.util.Arrays.asList;
 
@@ -45,12 +51,44 @@ public class TypeConversionConfiguration {
     }
 
     @Bean
-    SpringTypeConverter springTypeConverter(CamelContext camelContext, ConversionService[] conversionServices) {
+    SpringTypeConverter springTypeConverter(CamelContext camelContext, ConversionService[] conversionServices,
+                                            CamelConfigurationProperties config) {
         SpringTypeConverter springTypeConverter = new SpringTypeConverter(asList(conversionServices));
+        springTypeConverter.setMaximumCacheSize(config.getTypeConversionCacheSize());
         camelContext.getTypeConverterRegistry().addFallbackTypeConverter(springTypeConverter, true);
         return springTypeConverter;
     }
 
+    // the Camel converters are added to the conversion services of the environment and the bean factory,
+    // and are no longer used once the application context is closed. The shared conversion service of
+    // spring boot is replaced by one of this application context, so the converter is never seen by the
+    // other application contexts of the JVM
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(value = "camel.springboot.type-conversion-bridge", havingValue = "true")
+    CamelGenericConverter camelGenericConverter(CamelContext camelContext, ConfigurableEnvironment environment,
+                                                ConfigurableListableBeanFactory beanFactory,
+                                                ObjectProvider<SpringTypeConverter> springTypeConverter) {
+        CamelGenericConverter converter = new CamelGenericConverter(camelContext);
+        ConversionService sharedConversionService = ApplicationConversionService.getSharedInstance();
+        ConfigurableConversionService conversionService = environment.getConversionService();
+        if (conversionService == sharedConversionService) {
+            conversionService = new ApplicationConversionService();
+            environment.setConversionService(conversionService);
+        }
+        conversionService.addConverter(converter);
+
+        // for @Value injection, unless the bean factory uses the same conversion service
+        ConversionService beanConversionService = beanFactory.getConversionService();
+        if (beanConversionService == sharedConversionService) {
+            beanFactory.setConversionService(conversionService);
+        } else if (beanConversionService != conversionService && beanConversionService instanceof ConverterRegistry) {
+            ((ConverterRegistry) beanConversionService).addConverter(converter);
+        }
+        // the conversion decisions cached before the converter was added are no longer valid
+        springTypeConverter.ifAvailable(SpringTypeConverter::invalidate);
+        return converter;
+    }
+
     @ConditionalOnMissingBean
     @Bean
     ConversionService defaultCamelConversionService(ApplicationContext applicationContext) {
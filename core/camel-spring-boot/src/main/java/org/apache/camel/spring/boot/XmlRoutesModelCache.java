@@ -0,0 +1,744 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.namespace.QName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.NamedNode;
+import org.apache.camel.spi.NamespaceAware;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of the route models loaded from XML resources, such as the routes, route templates and rests definitions.
+ * <p/>
+ * The definitions are stored in a compact binary form in the given directory, keyed by the SHA-256 hash of the
+ * content of the XML resource, so unchanged resources can be loaded on the next startup without creating the JAXB
+ * context and parsing the XML.
+ * <p/>
+ * Only the properties mapped by JAXB are stored, and they are restored the same way JAXB sets them when parsing the
+ * XML: through the field or the setter of the property, and collections are added to the collection created by the
+ * model class when there is one. The namespaces applied to the expressions by the XML loader are stored as well.
+ * <p/>
+ * A definition is stored only when it can be restored faithfully: when it is loaded from XML for the first time,
+ * it is restored from the stored form and both are dumped as XML, and the cache entry is kept only if the dumps are
+ * the same. Otherwise the resource is marked as not cacheable, and is always parsed from XML. The entries of
+ * another Camel version are ignored.
+ */
+public class XmlRoutesModelCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(XmlRoutesModelCache.class);
+
+    private static final int MAGIC = 0x43414D4C;
+    private static final int FORMAT_VERSION = 2;
+
+    private static final byte CACHED = 1;
+    private static final byte NOT_CACHEABLE = 2;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte INTEGER = 4;
+    private static final byte LONG = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte FLOAT = 7;
+    private static final byte SHORT = 8;
+    private static final byte BYTE = 9;
+    private static final byte CHARACTER = 10;
+    private static final byte ENUM = 11;
+    private static final byte LIST = 12;
+    private static final byte SET = 13;
+    private static final byte MAP = 14;
+    private static final byte QNAME = 15;
+    private static final byte OBJECT = 16;
+
+    private static final ConcurrentMap<Class<?>, List<Property>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final CamelContext camelContext;
+    private final String version;
+
+    /**
+     * @param directory    the directory of the cache
+     * @param camelContext the Camel context, which version is the version of the cached definitions
+     */
+    public XmlRoutesModelCache(String directory, CamelContext camelContext) {
+        ObjectHelper.notNull(directory, "directory");
+        ObjectHelper.notNull(camelContext, "camelContext");
+        this.directory = Paths.get(directory);
+        this.camelContext = camelContext;
+        this.version = camelContext.getVersion() != null ? camelContext.getVersion() : "";
+    }
+
+    /**
+     * Loads the definition of the given XML resource from the cache, or parses it with the given parser when it is
+     * not cached yet, in which case the parsed definition is stored in the cache.
+     *
+     * @param kind   the kind of definitions, such as routes or rests
+     * @param is     the XML resource, which is closed afterwards
+     * @param type   the type of the definition
+     * @param parser the parser of the XML resource
+     * @return the definition
+     */
+    public <T> T load(String kind, InputStream is, Class<T> type, Parser<T> parser) throws Exception {
+        byte[] content = readAllBytes(is);
+        Path file = directory.resolve(kind.replace(' ', '-') + "-" + sha256(content) + ".bin");
+
+        if (Files.isRegularFile(file)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION && version.equals(in.readUTF())) {
+                    if (in.readByte() == NOT_CACHEABLE) {
+                        LOG.debug("XML {} {} is not cacheable", kind, file);
+                        return parser.parse(new ByteArrayInputStream(content));
+                    }
+                    T answer = type.cast(new Reader(in).readValue());
+                    LOG.debug("Loaded XML {} from cache {}", kind, file);
+                    return answer;
+                }
+                LOG.debug("Ignoring cached XML {} {} created by another version", kind, file);
+            } catch (Exception e) {
+                LOG.debug("Ignoring cached XML {} {} due: {}", kind, file, e.getMessage(), e);
+            }
+        }
+
+        T answer = parser.parse(new ByteArrayInputStream(content));
+        if (answer != null) {
+            store(kind, file, answer);
+        }
+        return answer;
+    }
+
+    private void store(String kind, Path file, Object definition) {
+        byte[] data = null;
+        try {
+            data = serialize(definition);
+            Object restored = new Reader(new DataInputStream(new ByteArrayInputStream(data))).readValue();
+            if (!Arrays.equals(data, serialize(restored)) || !dump(definition).equals(dump(restored))) {
+                LOG.debug("Cannot restore XML {} {} faithfully from the cache", kind, file);
+                data = null;
+            }
+        } catch (Exception e) {
+            LOG.debug("Cannot cache XML {} {} due: {}", kind, file, e.getMessage(), e);
+            data = null;
+        }
+
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (OutputStream os = Files.newOutputStream(tmp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(version);
+                // remember the resources which are not cacheable, so they are not verified on every startup
+                out.writeByte(data != null ? CACHED : NOT_CACHEABLE);
+                if (data != null) {
+                    out.write(data);
+                }
+            }
+            // move the complete file so concurrent readers never see a partial one
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.debug("Cannot write the cached XML {} {} due: {}", kind, file, e.getMessage(), e);
+            if (tmp != null) {
+                deleteQuietly(tmp);
+            }
+        }
+    }
+
+    private String dump(Object definition) throws Exception {
+        if (!(definition instanceof NamedNode)) {
+            throw new NotCacheableException("Cannot dump " + definition.getClass().getName() + " as XML");
+        }
+        return camelContext.adapt(ExtendedCamelContext.class).getModelToXMLDumper().dumpModelAsXml(camelContext, (NamedNode) definition);
+    }
+
+    private static byte[] serialize(Object definition) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bos)) {
+            new Writer(out).writeValue(definition);
+        }
+        return bos.toByteArray();
+    }
+
+    private static byte[] readAllBytes(InputStream is) throws IOException {
+        try (InputStream in = is) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                bos.write(buffer, 0, n);
+            }
+            return bos.toByteArray();
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    /**
+     * Parses a XML resource.
+     */
+    @FunctionalInterface
+    public interface Parser<T> {
+        T parse(InputStream is) throws Exception;
+    }
+
+    // JAXB mapping
+    // ------------
+
+    /**
+     * The properties mapped by JAXB of a model class, including the ones of its super classes, following the
+     * {@link XmlAccessorType} of each class.
+     */
+    private static List<Property> properties(Class<?> type) {
+        return PROPERTIES.computeIfAbsent(type, t -> {
+            List<Class<?>> hierarchy = new ArrayList<>();
+            for (Class<?> c = t; c != null && c != Object.class; c = c.getSuperclass()) {
+                hierarchy.add(0, c);
+            }
+
+            Map<String, Property> answer = new LinkedHashMap<>();
+            for (Class<?> c : hierarchy) {
+                XmlAccessType access = accessType(c);
+
+                Field[] fields = c.getDeclaredFields();
+                Arrays.sort(fields, Comparator.comparing(Field::getName));
+                for (Field field : fields) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+                        || field.isAnnotationPresent(XmlTransient.class)) {
+                        continue;
+                    }
+                    if (isMapped(field) || access == XmlAccessType.FIELD
+                        || access == XmlAccessType.PUBLIC_MEMBER && Modifier.isPublic(modifiers)) {
+                        field.setAccessible(true);
+                        answer.putIfAbsent(field.getName(), new FieldProperty(field));
+                    }
+                }
+
+                Method[] methods = c.getDeclaredMethods();
+                Arrays.sort(methods, Comparator.comparing(Method::getName));
+                for (Method getter : methods) {
+                    String name = propertyName(getter);
+                    if (name == null || answer.containsKey(name)) {
+                        continue;
+                    }
+                    Method setter = setter(c, name, getter.getReturnType());
+                    if (getter.isAnnotationPresent(XmlTransient.class) || setter != null && setter.isAnnotationPresent(XmlTransient.class)) {
+                        continue;
+                    }
+                    boolean mapped = isMapped(getter) || setter != null && isMapped(setter);
+                    boolean pair = setter != null || Collection.class.isAssignableFrom(getter.getReturnType());
+                    if (mapped || pair && (access == XmlAccessType.PROPERTY
+                        || access == XmlAccessType.PUBLIC_MEMBER && Modifier.isPublic(getter.getModifiers()))) {
+                        getter.setAccessible(true);
+                        if (setter != null) {
+                            setter.setAccessible(true);
+                        }
+                        answer.put(name, new MethodProperty(name, getter, setter));
+                    }
+                }
+            }
+            return new ArrayList<>(answer.values());
+        });
+    }
+
+    private static XmlAccessType accessType(Class<?> type) {
+        XmlAccessorType accessorType = type.getAnnotation(XmlAccessorType.class);
+        if (accessorType == null && type.getPackage() != null) {
+            accessorType = type.getPackage().getAnnotation(XmlAccessorType.class);
+        }
+        return accessorType != null ? accessorType.value() : XmlAccessType.PUBLIC_MEMBER;
+    }
+
+    private static boolean isMapped(AnnotatedElement element) {
+        for (java.lang.annotation.Annotation annotation : element.getAnnotations()) {
+            if (annotation.annotationType().getName().startsWith("javax.xml.bind.annotation.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String propertyName(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.isSynthetic()
+            || method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+            return null;
+        }
+        String name = method.getName();
+        String property;
+        if (name.startsWith("get") && name.length() > 3) {
+            property = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2 && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            property = name.substring(2);
+        } else {
+            return null;
+        }
+        return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+    }
+
+    private static Method setter(Class<?> type, String name, Class<?> parameterType) {
+        String setter = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredMethod(setter, parameterType);
+            } catch (NoSuchMethodException e) {
+                // try the super class
+            }
+        }
+        return null;
+    }
+
+    private static boolean isModel(Class<?> type) {
+        return (type.isAnnotationPresent(XmlRootElement.class) || type.isAnnotationPresent(XmlType.class))
+            && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    /**
+     * A property mapped by JAXB.
+     */
+    private abstract static class Property {
+
+        abstract String getName();
+
+        abstract Class<?> getType();
+
+        abstract Object get(Object target) throws Exception;
+
+        abstract void doSet(Object target, Object value) throws Exception;
+
+        @SuppressWarnings("unchecked")
+        void set(Object target, Object value) throws Exception {
+            if (value == null) {
+                // an absent element or attribute is not set by JAXB either
+                return;
+            }
+            if (value instanceof Collection) {
+                // JAXB adds the elements to the collection of the model class when there is one
+                Object existing = get(target);
+                if (existing instanceof Collection) {
+                    ((Collection<Object>) existing).clear();
+                    ((Collection<Object>) existing).addAll((Collection<Object>) value);
+                    return;
+                }
+                value = newContainer(getType(), value);
+            } else if (value instanceof Map) {
+                Object existing = get(target);
+                if (existing instanceof Map) {
+                    ((Map<Object, Object>) existing).clear();
+                    ((Map<Object, Object>) existing).putAll((Map<Object, Object>) value);
+                    return;
+                }
+                value = newContainer(getType(), value);
+            }
+            doSet(target, value);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Object newContainer(Class<?> type, Object value) throws Exception {
+            if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+                Object answer = type.getDeclaredConstructor().newInstance();
+                if (answer instanceof Collection) {
+                    ((Collection<Object>) answer).addAll((Collection<Object>) value);
+                } else {
+                    ((Map<Object, Object>) answer).putAll((Map<Object, Object>) value);
+                }
+                return answer;
+            }
+            if (value instanceof Set) {
+                return Set.class.isAssignableFrom(type) ? new LinkedHashSet<>((Set<Object>) value) : new ArrayList<>((Set<Object>) value);
+            }
+            if (value instanceof Map) {
+                return new HashMap<>((Map<Object, Object>) value);
+            }
+            return Set.class.isAssignableFrom(type) ? new LinkedHashSet<>((Collection<Object>) value) : value;
+        }
+    }
+
+    private static final class FieldProperty extends Property {
+
+        private final Field field;
+
+        FieldProperty(Field field) {
+            this.field = field;
+        }
+
+        @Override
+        String getName() {
+            return field.getName();
+        }
+
+        @Override
+        Class<?> getType() {
+            return field.getType();
+        }
+
+        @Override
+        Object get(Object target) throws Exception {
+            return field.get(target);
+        }
+
+        @Override
+        void doSet(Object target, Object value) throws Exception {
+            field.set(target, value);
+        }
+    }
+
+    private static final class MethodProperty extends Property {
+
+        private final String name;
+        private final Method getter;
+        private final Method setter;
+
+        MethodProperty(String name, Method getter, Method setter) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        String getName() {
+            return name;
+        }
+
+        @Override
+        Class<?> getType() {
+            return getter.getReturnType();
+        }
+
+        @Override
+        Object get(Object target) throws Exception {
+            return getter.invoke(target);
+        }
+
+        @Override
+        void doSet(Object target, Object value) throws Exception {
+            if (setter == null) {
+                throw new NotCacheableException("Property " + name + " of " + getter.getDeclaringClass().getName() + " has no setter");
+            }
+            setter.invoke(target, value);
+        }
+    }
+
+    private static final class NotCacheableException extends IOException {
+        NotCacheableException(String message) {
+            super(message);
+        }
+    }
+
+    // Binary form
+    // -----------
+
+    private static final class Writer {
+
+        private final DataOutputStream out;
+        private final Map<Class<?>, Integer> classes = new HashMap<>();
+        private final Set<Object> path = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeValue(Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(NULL);
+            } else if (value instanceof String) {
+                out.writeByte(STRING);
+                writeString((String) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(INTEGER);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Double) {
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof Float) {
+                out.writeByte(FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Short) {
+                out.writeByte(SHORT);
+                out.writeShort((Short) value);
+            } else if (value instanceof Byte) {
+                out.writeByte(BYTE);
+                out.writeByte((Byte) value);
+            } else if (value instanceof Character) {
+                out.writeByte(CHARACTER);
+                out.writeChar((Character) value);
+            } else if (value instanceof Enum) {
+                out.writeByte(ENUM);
+                writeString(((Enum<?>) value).getDeclaringClass().getName());
+                writeString(((Enum<?>) value).name());
+            } else if (value instanceof QName) {
+                QName qname = (QName) value;
+                out.writeByte(QNAME);
+                writeString(qname.getNamespaceURI());
+                writeString(qname.getLocalPart());
+                writeString(qname.getPrefix());
+            } else if (value instanceof Collection) {
+                enter(value);
+                Collection<?> collection = (Collection<?>) value;
+                out.writeByte(value instanceof Set ? SET : LIST);
+                out.writeInt(collection.size());
+                for (Object element : collection) {
+                    writeValue(element);
+                }
+                path.remove(value);
+            } else if (value instanceof Map) {
+                enter(value);
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeByte(MAP);
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(entry.getKey());
+                    writeValue(entry.getValue());
+                }
+                path.remove(value);
+            } else if (isModel(value.getClass())) {
+                enter(value);
+                out.writeByte(OBJECT);
+                writeClass(value.getClass());
+                for (Property property : properties(value.getClass())) {
+                    try {
+                        writeValue(property.get(value));
+                    } catch (IOException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new NotCacheableException("Cannot get property " + property.getName() + " of " + value.getClass().getName());
+                    }
+                }
+                if (value instanceof NamespaceAware) {
+                    // applied by the XML loader from the namespaces declared in the XML
+                    writeValue(((NamespaceAware) value).getNamespaces());
+                }
+                path.remove(value);
+            } else {
+                throw new NotCacheableException("Unsupported value of type " + value.getClass().getName());
+            }
+        }
+
+        private void enter(Object value) throws IOException {
+            // the model parsed by JAXB is a tree
+            if (!path.add(value)) {
+                throw new NotCacheableException("Cycle at value of type " + value.getClass().getName());
+            }
+        }
+
+        private void writeClass(Class<?> type) throws IOException {
+            Integer index = classes.get(type);
+            if (index != null) {
+                out.writeInt(index);
+            } else {
+                classes.put(type, classes.size());
+                out.writeInt(-1);
+                writeString(type.getName());
+                // the names of the properties detect a changed model class
+                List<Property> properties = properties(type);
+                out.writeInt(properties.size());
+                for (Property property : properties) {
+                    writeString(property.getName());
+                }
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+        private final List<Class<?>> classes = new ArrayList<>();
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Object readValue() throws Exception {
+            byte tag = in.readByte();
+            switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString();
+            case BOOLEAN:
+                return in.readBoolean();
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case CHARACTER:
+                return in.readChar();
+            case ENUM:
+                return Enum.valueOf((Class) loadClass(readString()), readString());
+            case QNAME:
+                return new QName(readString(), readString(), readString());
+            case LIST:
+            case SET: {
+                int size = in.readInt();
+                Collection<Object> collection = tag == SET ? new LinkedHashSet<>() : new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    collection.add(readValue());
+                }
+                return collection;
+            }
+            case MAP: {
+                int size = in.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    Object key = readValue();
+                    map.put(key, readValue());
+                }
+                return map;
+            }
+            case OBJECT: {
+                Class<?> type = readClass();
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                Object answer = constructor.newInstance();
+                for (Property property : properties(type)) {
+                    property.set(answer, readValue());
+                }
+                if (answer instanceof NamespaceAware) {
+                    Map<String, String> namespaces = (Map<String, String>) readValue();
+                    if (namespaces != null) {
+                        ((NamespaceAware) answer).setNamespaces(namespaces);
+                    }
+                }
+                return answer;
+            }
+            default:
+                throw new IOException("Unknown tag " + tag);
+            }
+        }
+
+        private Class<?> readClass() throws Exception {
+            int index = in.readInt();
+            if (index >= 0) {
+                return classes.get(index);
+            }
+            Class<?> type = loadClass(readString());
+            if (!isModel(type)) {
+                throw new IOException("Unsupported type " + type.getName());
+            }
+            List<Property> properties = properties(type);
+            int count = in.readInt();
+            boolean changed = count != properties.size();
+            for (int i = 0; i < count; i++) {
+                String name = readString();
+                if (!changed && !name.equals(properties.get(i).getName())) {
+                    changed = true;
+                }
+            }
+            if (changed) {
+                throw new IOException("The properties of " + type.getName() + " have changed");
+            }
+            classes.add(type);
+            return type;
+        }
+
+        private static Class<?> loadClass(String name) throws ClassNotFoundException {
+            return Class.forName(name, false, XmlRoutesModelCache.class.getClassLoader());
+        }
+
+        private String readString() throws IOException {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
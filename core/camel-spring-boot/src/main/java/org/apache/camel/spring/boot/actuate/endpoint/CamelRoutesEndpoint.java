@@ -16,14 +16,18 @@
  */
 package org.apache.camel.spring.boot.actuate.endpoint;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ExtendedCamelContext;
@@ -34,6 +38,10 @@ import org.apache.camel.api.management.ManagedCamelContext;
 import org.apache.camel.api.management.mbean.ManagedRouteMBean;
 import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.spi.RouteError;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.spring.boot.stats.RouteStatisticsCollector;
+import org.apache.camel.spring.boot.stats.RouteStatisticsSnapshot;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
@@ -65,11 +73,85 @@ public class CamelRoutesEndpoint {
         this.properties = properties;
     }
 
-    @ReadOperation
     public List<RouteEndpointInfo> readRoutes() {
         return getRoutesInfo();
     }
 
+    /**
+     * Reads the routes, optionally filtered, paged and with only the given fields.
+     *
+     * @param offset   the number of (filtered) routes to skip
+     * @param limit    the maximum number of routes
+     * @param group    only the routes of this group
+     * @param status   only the routes with this status
+     * @param idPrefix only the routes whose id starts with this prefix
+     * @param fields   comma separated fields of the routes to include, all by default
+     */
+    @ReadOperation
+    public Object readRoutes(@Nullable Integer offset, @Nullable Integer limit, @Nullable String group,
+                             @Nullable String status, @Nullable String idPrefix, @Nullable String fields) {
+        return getRoutesInfo(offset, limit, group, status, idPrefix, fields).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the information of the routes, optionally filtered, paged and with only the given fields.
+     */
+    Stream<?> getRoutesInfo(Integer offset, Integer limit, String group, String status, String idPrefix, String fields) {
+        // parse the fields first so an unknown field is reported before reading any route
+        List<RouteField> selected = fields != null ? RouteField.parse(fields) : null;
+        Stream<Route> routes = getRoutes(offset, limit, group, status, idPrefix);
+        if (selected == null) {
+            return routes.map(RouteEndpointInfo::new);
+        }
+        return routes.map(r -> RouteField.values(r, selected));
+    }
+
+    /**
+     * Reads a view of the routes, filtered and paged with the same parameters as when reading the routes.
+     * <ul>
+     *     <li>stats: a snapshot of the statistics of the routes</li>
+     * </ul>
+     * The routes can be streamed as JSON documents separated by new lines from {@link CamelRoutesStreamEndpoint}.
+     */
+    @ReadOperation
+    public Object readRoutesView(@Selector RoutesView view, @Nullable Integer offset, @Nullable Integer limit, @Nullable String group,
+                                 @Nullable String status, @Nullable String idPrefix) {
+        switch (view) {
+        case STATS:
+            List<String> ids = getRoutes(offset, limit, group, status, idPrefix).map(Route::getId).collect(Collectors.toList());
+            return getRouteStatistics(ids);
+        default:
+            throw new IllegalArgumentException("Unsupported view " + view);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the statistics of the routes, filtered and paged with the same parameters as when reading
+     * the routes, where the totals are the increase since the previous delta snapshot of the given client. This
+     * requires management.endpoint.camelroutes.statistics-enabled=true.
+     * <p/>
+     * This is a write operation only because it moves the baseline of the client, so it is allowed in read-only mode
+     * (the default), which only disables the operations changing the routes.
+     *
+     * @param client the name of the client, whose own baseline is updated
+     */
+    @WriteOperation
+    public Object takeRoutesView(@Selector RoutesView view, @Nullable Integer offset, @Nullable Integer limit, @Nullable String group,
+                                 @Nullable String status, @Nullable String idPrefix, String client) {
+        switch (view) {
+        case STATS:
+            RouteStatisticsCollector collector = getRouteStatisticsCollector();
+            if (collector == null) {
+                throw new InvalidEndpointRequestException("Delta statistics require management.endpoint.camelroutes.statistics-enabled=true",
+                    "Delta statistics are not enabled");
+            }
+            List<String> ids = getRoutes(offset, limit, group, status, idPrefix).map(Route::getId).collect(Collectors.toList());
+            return collector.deltaSnapshot(ids, client);
+        default:
+            throw new IllegalArgumentException("Unsupported view " + view);
+        }
+    }
+
     @ReadOperation
     public Object doReadAction(@Selector String id, @Selector ReadAction action) {
         switch (action) {
@@ -124,6 +206,62 @@ public class CamelRoutesEndpoint {
         return null;
     }
 
+    private Stream<Route> getRoutes(Integer offset, Integer limit, String group, String status, String idPrefix) {
+        Stream<Route> routes = camelContext.getRoutes().stream();
+        if (group != null) {
+            routes = routes.filter(r -> group.equals(r.getGroup()));
+        }
+        if (status != null) {
+            routes = routes.filter(r -> status.equalsIgnoreCase(getStatus(r)));
+        }
+        if (idPrefix != null) {
+            routes = routes.filter(r -> r.getId().startsWith(idPrefix));
+        }
+        if (offset != null && offset > 0) {
+            routes = routes.skip(offset);
+        }
+        if (limit != null && limit >= 0) {
+            routes = routes.limit(limit);
+        }
+        return routes;
+    }
+
+    private RouteStatisticsCollector getRouteStatisticsCollector() {
+        for (RoutePolicyFactory factory : camelContext.getRoutePolicyFactories()) {
+            if (factory instanceof RouteStatisticsCollector) {
+                return (RouteStatisticsCollector) factory;
+            }
+        }
+        return null;
+    }
+
+    private RouteStatisticsSnapshot getRouteStatistics(List<String> ids) {
+        RouteStatisticsCollector collector = getRouteStatisticsCollector();
+        if (collector != null) {
+            return collector.snapshot(ids);
+        }
+
+        // no collector so read the statistics of the managed routes
+        RouteStatisticsSnapshot answer = new RouteStatisticsSnapshot(System.currentTimeMillis(), false, ids.size());
+        if (camelContext.getManagementStrategy().getManagementAgent() != null) {
+            for (String id : ids) {
+                ManagedRouteMBean route = mcontext.getManagedRoute(id, ManagedRouteMBean.class);
+                if (route != null) {
+                    answer.add(id, route.getExchangesTotal(), route.getExchangesFailed(), route.getExchangesInflight(),
+                        route.getTotalProcessingTime(), route.getMinProcessingTime(), route.getMaxProcessingTime(), route.getLastProcessingTime());
+                }
+            }
+        }
+        return answer.trim();
+    }
+
+    private static String getStatus(Route route) {
+        if (route instanceof StatefulService) {
+            return ((StatefulService) route).getStatus().name();
+        }
+        return null;
+    }
+
     private List<RouteEndpointInfo> getRoutesInfo() {
         return camelContext.getRoutes().stream()
                 .map(RouteEndpointInfo::new)
@@ -224,11 +362,7 @@ public class CamelRoutesEndpoint {
                 this.properties = Collections.emptyMap();
             }
 
-            if (route instanceof StatefulService) {
-                this.status = ((StatefulService) route).getStatus().name();
-            } else {
-                this.status = null;
-            }
+            this.status = getStatus(route);
         }
 
         public String getId() {
@@ -482,6 +616,105 @@ public class CamelRoutesEndpoint {
         RESUME
     }
 
+    /*
+     * The fields of a route which can be selected when reading the routes
+     */
+    public enum RouteField {
+        ID {
+            @Override
+            Object getValue(Route route) {
+                return route.getId();
+            }
+        },
+        GROUP {
+            @Override
+            Object getValue(Route route) {
+                return route.getGroup();
+            }
+        },
+        DESCRIPTION {
+            @Override
+            Object getValue(Route route) {
+                return route.getDescription();
+            }
+        },
+        UPTIME {
+            @Override
+            Object getValue(Route route) {
+                return route.getUptime();
+            }
+        },
+        UPTIME_MILLIS {
+            @Override
+            Object getValue(Route route) {
+                return route.getUptimeMillis();
+            }
+        },
+        PROPERTIES {
+            @Override
+            Object getValue(Route route) {
+                return route.getProperties() != null ? new HashMap<>(route.getProperties()) : null;
+            }
+        },
+        STATUS {
+            @Override
+            Object getValue(Route route) {
+                return getStatus(route);
+            }
+        };
+
+        private final String fieldName;
+
+        RouteField() {
+            // the same names as the properties of RouteEndpointInfo
+            String[] parts = name().toLowerCase(Locale.ENGLISH).split("_");
+            this.fieldName = parts.length == 1 ? parts[0] : parts[0] + Character.toUpperCase(parts[1].charAt(0)) + parts[1].substring(1);
+        }
+
+        abstract Object getValue(Route route);
+
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        static List<RouteField> parse(String fields) {
+            List<RouteField> answer = new ArrayList<>();
+            for (String field : fields.split(",")) {
+                String name = field.trim();
+                RouteField match = null;
+                for (RouteField candidate : values()) {
+                    if (candidate.fieldName.equals(name)) {
+                        match = candidate;
+                        break;
+                    }
+                }
+                if (match == null) {
+                    throw new InvalidEndpointRequestException("Unknown route field " + name, "Unknown route field");
+                }
+                answer.add(match);
+            }
+            return answer;
+        }
+
+        static Map<String, Object> values(Route route, List<RouteField> fields) {
+            Map<String, Object> answer = new LinkedHashMap<>();
+            for (RouteField field : fields) {
+                Object value = field.getValue(route);
+                if (value != null) {
+                    answer.put(field.fieldName, value);
+                }
+            }
+            return answer;
+        }
+    }
+
+    /*
+     * List of views of all the routes available for the endpoint
+     */
+    public enum RoutesView {
+        STATS
+    }
+
     /*
      * List of read actions available for the endpoint
      */
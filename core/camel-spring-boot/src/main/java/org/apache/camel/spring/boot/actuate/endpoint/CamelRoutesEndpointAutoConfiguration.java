@@ -18,14 +18,19 @@ package org.apache.camel.spring.boot.actuate.endpoint;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.stats.RouteStatisticsCollector;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /*
  * Auto configuration for the {@link CamelRoutesEndpoint}.
  */
@@ -49,4 +54,21 @@ public class CamelRoutesEndpointAutoConfiguration {
         return new CamelRoutesEndpoint(camelContext, properties);
     }
 
+    // serializes the streamed routes like the actuator serializes the other responses
+    @Bean
+    @ConditionalOnClass(ObjectMapper.class)
+    @ConditionalOnBean(CamelRoutesEndpoint.class)
+    @ConditionalOnMissingBean
+    public CamelRoutesStreamEndpoint camelRoutesStreamEndpoint(CamelRoutesEndpoint routesEndpoint, ObjectProvider<ObjectMapper> objectMapper) {
+        return new CamelRoutesStreamEndpoint(routesEndpoint, objectMapper.getIfUnique(ObjectMapper::new));
+    }
+
+    // a route policy factory which must not depend on the camel context, as it is looked up when creating the context
+    @Bean
+    @ConditionalOnProperty(prefix = "management.endpoint.camelroutes", name = "statistics-enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public static RouteStatisticsCollector camelRouteStatisticsCollector() {
+        return new RouteStatisticsCollector();
+    }
+
 }
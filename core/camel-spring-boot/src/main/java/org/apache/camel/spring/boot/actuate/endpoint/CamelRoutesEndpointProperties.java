@@ -23,6 +23,11 @@ public class CamelRoutesEndpointProperties {
 
     private boolean readOnly = true;
     private boolean enabled = false;
+    /**
+     * Whether to collect the statistics of the routes in memory, so the statistics of many routes can be read at
+     * once (and as deltas) from camelroutes/stats, instead of reading the managed route of every route.
+     */
+    private boolean statisticsEnabled = false;
 
     public boolean isReadOnly() {
         return readOnly;
@@ -39,6 +44,14 @@ public class CamelRoutesEndpointProperties {
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
     
     
 
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/*
+ * {@link Endpoint} to stream the routes of the {@link CamelRoutesEndpoint} as JSON documents separated by
+ * new lines, so large numbers of routes can be consumed without building the whole list in memory.
+ */
+@Endpoint(id = "camelroutesstream", enableByDefault = true)
+public class CamelRoutesStreamEndpoint {
+
+    /**
+     * The media type of the streamed routes, which are written as JSON documents separated by new lines.
+     */
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final CamelRoutesEndpoint routesEndpoint;
+    private final ObjectWriter writer;
+
+    public CamelRoutesStreamEndpoint(CamelRoutesEndpoint routesEndpoint, ObjectMapper objectMapper) {
+        this.routesEndpoint = routesEndpoint;
+        // each route is written separately to the same stream
+        this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Streams the routes, filtered and paged with the same parameters as when reading the routes
+     * of the {@link CamelRoutesEndpoint}.
+     */
+    @ReadOperation(produces = NDJSON)
+    public Resource streamRoutes(@Nullable Integer offset, @Nullable Integer limit, @Nullable String group,
+                                 @Nullable String status, @Nullable String idPrefix, @Nullable String fields) {
+        Iterator<?> routes = routesEndpoint.getRoutesInfo(offset, limit, group, status, idPrefix, fields).iterator();
+        return new InputStreamResource(new NdjsonInputStream(writer, routes));
+    }
+
+    /*
+     * Writes the elements as JSON documents separated by new lines, serializing one element at a time when read
+     */
+    private static final class NdjsonInputStream extends InputStream {
+
+        private final ObjectWriter writer;
+        private final Iterator<?> elements;
+        private byte[] buffer = new byte[0];
+        private int position;
+
+        NdjsonInputStream(ObjectWriter writer, Iterator<?> elements) {
+            this.writer = writer;
+            this.elements = elements;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return buffer[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.length - position);
+            System.arraycopy(buffer, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        private boolean fill() throws IOException {
+            while (position == buffer.length) {
+                if (!elements.hasNext()) {
+                    return false;
+                }
+                ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+                writer.writeValue(bos, elements.next());
+                bos.write('\n');
+                buffer = bos.toByteArray();
+                position = 0;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.camel.spring.boot.startup.CamelStartupRecorder;
+import org.apache.camel.spring.boot.startup.StartupStep;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/*
+ * {@link Endpoint} to expose the steps recorded by the {@link CamelStartupRecorder}.
+ */
+@Endpoint(id = "camelstartup", enableByDefault = true)
+public class CamelStartupEndpoint {
+
+    private CamelStartupRecorder recorder;
+
+    public CamelStartupEndpoint(CamelStartupRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public StartupEndpointInfo readStartup() {
+        return new StartupEndpointInfo(recorder, recorder.getSteps());
+    }
+
+    /**
+     * The recorded steps of the given type, such as <tt>component</tt> or <tt>xml-routes</tt>, the slowest first.
+     */
+    @ReadOperation
+    public List<StartupStep> readSteps(@Selector String type) {
+        return recorder.getSteps().stream()
+            .filter(step -> type.equals(step.getType()))
+            .sorted(Comparator.comparingLong(StartupStep::getDuration).reversed())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Container for exposing the recorded startup steps as JSON.
+     */
+    @JsonPropertyOrder({"enabled", "flightRecorder", "duration", "steps"})
+    public static class StartupEndpointInfo {
+
+        private final boolean enabled;
+
+        private final boolean flightRecorder;
+
+        private final long duration;
+
+        private final List<StartupStep> steps;
+
+        public StartupEndpointInfo(CamelStartupRecorder recorder, List<StartupStep> steps) {
+            this.enabled = recorder.isEnabled();
+            this.flightRecorder = recorder.isFlightRecorder();
+            this.duration = steps.stream().filter(step -> step.getLevel() == 0).mapToLong(StartupStep::getDuration).sum();
+            this.steps = steps;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public boolean isFlightRecorder() {
+            return flightRecorder;
+        }
+
+        /**
+         * The total duration in millis of the top level steps.
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        public List<StartupStep> getSteps() {
+            return steps;
+        }
+    }
+}
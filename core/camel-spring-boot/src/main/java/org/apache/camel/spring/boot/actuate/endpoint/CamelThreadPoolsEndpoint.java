@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+
+import org.apache.camel.spring.boot.threadpool.AdaptiveThreadPoolController;
+import org.apache.camel.spring.boot.threadpool.AdaptiveThreadPoolController.Decision;
+import org.apache.camel.spring.boot.threadpool.AdaptiveThreadPoolController.PoolInfo;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/*
+ * {@link Endpoint} to expose the thread pools resized by the {@link AdaptiveThreadPoolController} and its decisions.
+ */
+@Endpoint(id = "camelthreadpools", enableByDefault = true)
+public class CamelThreadPoolsEndpoint {
+
+    private AdaptiveThreadPoolController controller;
+
+    public CamelThreadPoolsEndpoint(AdaptiveThreadPoolController controller) {
+        this.controller = controller;
+    }
+
+    @ReadOperation
+    public ThreadPoolsEndpointInfo readThreadPools() {
+        return new ThreadPoolsEndpointInfo(controller.getPools(), controller.getDecisions());
+    }
+
+    /**
+     * Container for exposing the controlled thread pools and the last decisions as JSON.
+     */
+    @JsonPropertyOrder({"pools", "decisions"})
+    public static class ThreadPoolsEndpointInfo {
+
+        private final List<PoolInfo> pools;
+
+        private final List<Decision> decisions;
+
+        public ThreadPoolsEndpointInfo(List<PoolInfo> pools, List<Decision> decisions) {
+            this.pools = pools;
+            this.decisions = decisions;
+        }
+
+        public List<PoolInfo> getPools() {
+            return pools;
+        }
+
+        /**
+         * The last decisions, the most recent first.
+         */
+        public List<Decision> getDecisions() {
+            return decisions;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.health.HealthCheck;
+import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+
+/**
+ * A Camel {@link org.springframework.boot.actuate.health.HealthIndicator} which runs the health checks on a
+ * background scheduler and reports the last result, so a slow check cannot make the health probes time out.
+ * <p/>
+ * The checks are run once the {@link CamelContext} has been started, and the health is unknown until then.
+ * Each check is given a timeout after which it is reported as down, and a check which is still running is not
+ * run again until it completes, so stuck checks do not use more threads. The health is reported as down when
+ * the last result is older than the max staleness (for example when the checks are stuck). A
+ * {@link CamelHealthChangedEvent} is published when the status or the state of any check has changed.
+ */
+public class AsyncCamelHealthCheckIndicator extends CamelHealthCheckIndicator
+        implements ApplicationEventPublisherAware, InitializingBean, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncCamelHealthCheckIndicator.class);
+
+    private final CamelContext camelContext;
+    private final long interval;
+    private final long checkTimeout;
+    private final long maxStaleness;
+    private ApplicationEventPublisher publisher;
+    private ScheduledExecutorService scheduler;
+    private ExecutorService invoker;
+    private final Set<HealthCheck> running = ConcurrentHashMap.newKeySet();
+    private volatile CachedResult result;
+
+    /**
+     * @param camelContext the camel context
+     * @param interval     the interval in millis between running the checks
+     * @param checkTimeout the timeout in millis of each check
+     * @param maxStaleness the max age in millis of the last result, or 0 for no limit
+     */
+    public AsyncCamelHealthCheckIndicator(CamelContext camelContext, long interval, long checkTimeout, long maxStaleness) {
+        super(camelContext);
+        this.camelContext = camelContext;
+        this.interval = interval;
+        this.checkTimeout = checkTimeout;
+        this.maxStaleness = maxStaleness;
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        scheduler = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "CamelHealthCheck");
+        invoker = camelContext.getExecutorServiceManager().newCachedThreadPool(this, "CamelHealthCheckInvoker");
+        // the checks would report down while camel is starting, so start running them once camel has started
+        camelContext.addStartupListener((context, alreadyStarted) -> start());
+    }
+
+    private synchronized void start() {
+        if (scheduler != null && !scheduler.isShutdown()) {
+            scheduler.scheduleWithFixedDelay(this::refresh, 0, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public synchronized void destroy() throws Exception {
+        if (scheduler != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(scheduler);
+            scheduler = null;
+        }
+        if (invoker != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(invoker);
+            invoker = null;
+        }
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) throws Exception {
+        builder.withDetail("name", "camel-health-check");
+
+        CachedResult last = result;
+        if (last == null) {
+            builder.unknown();
+            return;
+        }
+
+        long age = System.currentTimeMillis() - last.timestamp;
+        builder.withDetail("timestamp", last.timestamp);
+        if (maxStaleness > 0 && age > maxStaleness) {
+            builder.down().withDetail("stale", age);
+            return;
+        }
+
+        builder.up();
+        withStates(builder, last.states);
+    }
+
+    /**
+     * Runs the checks and caches the result.
+     */
+    void refresh() {
+        try {
+            Map<String, HealthCheck.State> states = toStates(invoke());
+            Status status = states.containsValue(HealthCheck.State.DOWN) ? Status.DOWN : Status.UP;
+
+            CachedResult previous = result;
+            result = new CachedResult(System.currentTimeMillis(), status, states);
+
+            if (publisher != null && (previous == null || previous.status != status || !previous.states.equals(states))) {
+                publisher.publishEvent(new CamelHealthChangedEvent(this,
+                    previous != null ? previous.status : Status.UNKNOWN, status,
+                    previous != null ? previous.states : Collections.emptyMap(), states));
+            }
+        } catch (Exception e) {
+            // keep the last result which gets stale if the checks keep failing
+            LOG.warn("Error running the health checks due to {}. This exception is ignored.", e.getMessage(), e);
+        }
+    }
+
+    private List<HealthCheck.Result> invoke() throws InterruptedException {
+        HealthCheckRegistry registry = camelContext.getExtension(HealthCheckRegistry.class);
+        if (registry == null || !registry.isEnabled()) {
+            return Collections.emptyList();
+        }
+
+        List<HealthCheck> checks = registry.stream()
+            .sorted(Comparator.comparingInt(HealthCheck::getOrder))
+            .distinct()
+            .collect(Collectors.toList());
+
+        // run the checks concurrently so they all have the same deadline
+        Map<HealthCheck, Future<HealthCheck.Result>> futures = new LinkedHashMap<>();
+        Map<HealthCheck, AtomicBoolean> started = new HashMap<>();
+        for (HealthCheck check : checks) {
+            // a check which did not complete in time may ignore being interrupted, so it is
+            // not run again until it completes, which bounds the number of threads to the number of checks
+            if (running.add(check)) {
+                AtomicBoolean checkStarted = new AtomicBoolean();
+                started.put(check, checkStarted);
+                futures.put(check, invoker.submit(() -> {
+                    checkStarted.set(true);
+                    try {
+                        return check.call();
+                    } finally {
+                        running.remove(check);
+                    }
+                }));
+            } else {
+                futures.put(check, null);
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(checkTimeout);
+        List<HealthCheck.Result> answer = new ArrayList<>(checks.size());
+        for (Map.Entry<HealthCheck, Future<HealthCheck.Result>> entry : futures.entrySet()) {
+            HealthCheck check = entry.getKey();
+            Future<HealthCheck.Result> future = entry.getValue();
+            if (future == null) {
+                answer.add(HealthCheckResultBuilder.on(check)
+                    .state(HealthCheck.State.DOWN)
+                    .message("Health check is still running since it did not complete within " + checkTimeout + " millis")
+                    .build());
+                continue;
+            }
+            try {
+                answer.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                if (future.cancel(true) && !started.get(check).get()) {
+                    // cancelled before it was started
+                    running.remove(check);
+                }
+                answer.add(HealthCheckResultBuilder.on(check)
+                    .state(HealthCheck.State.DOWN)
+                    .message("Health check did not complete within " + checkTimeout + " millis")
+                    .build());
+            } catch (ExecutionException e) {
+                answer.add(HealthCheckResultBuilder.on(check)
+                    .state(HealthCheck.State.DOWN)
+                    .error(e.getCause())
+                    .build());
+            }
+        }
+        return answer;
+    }
+
+    private static final class CachedResult {
+        private final long timestamp;
+        private final Status status;
+        private final Map<String, HealthCheck.State> states;
+
+        CachedResult(long timestamp, Status status, Map<String, HealthCheck.State> states) {
+            this.timestamp = timestamp;
+            this.status = status;
+            this.states = states;
+        }
+    }
+}
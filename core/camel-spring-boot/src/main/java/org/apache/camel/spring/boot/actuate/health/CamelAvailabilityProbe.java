@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Route;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.health.HealthCheck;
+import org.apache.camel.health.HealthCheckFilter;
+import org.apache.camel.health.HealthCheckHelper;
+import org.apache.camel.impl.cluster.ClusteredRouteController;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.RouteController;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.service.ServiceHelper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.actuate.health.Health;
+
+/**
+ * Evaluates the liveness and the readiness of Camel.
+ * <ul>
+ *     <li>liveness: the context has not failed to start. The other failures are recoverable, for example the
+ *     context is stopping during a graceful shutdown, or a route has been stopped, so they do not affect the
+ *     liveness</li>
+ *     <li>readiness: the context has been started, no route is starting, the routes of the clustered route
+ *     controller have been started on leadership, and the context and route health checks are up. The routes
+ *     which are not started automatically and the clustered routes are not taken into account by the route
+ *     health checks</li>
+ * </ul>
+ */
+public class CamelAvailabilityProbe implements InitializingBean, DisposableBean {
+
+    private static final String CONTEXT_CHECK = "context";
+    private static final String ROUTE_CHECK_PREFIX = "route:";
+
+    private final CamelContext camelContext;
+    private final boolean leadershipRequired;
+    private final EventNotifierSupport notifier = new EventNotifierSupport() {
+        @Override
+        public boolean isEnabled(CamelEvent event) {
+            return event instanceof CamelEvent.CamelContextStartupFailureEvent;
+        }
+
+        @Override
+        public void notify(CamelEvent event) throws Exception {
+            startupFailure = ((CamelEvent.CamelContextStartupFailureEvent) event).getCause();
+        }
+    };
+    private volatile Throwable startupFailure;
+
+    public CamelAvailabilityProbe(CamelContext camelContext, boolean leadershipRequired) {
+        this.camelContext = camelContext;
+        this.leadershipRequired = leadershipRequired;
+        this.notifier.setIgnoreExchangeEvents(true);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        camelContext.getManagementStrategy().addEventNotifier(notifier);
+        ServiceHelper.startService(notifier);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        camelContext.getManagementStrategy().removeEventNotifier(notifier);
+        ServiceHelper.stopService(notifier);
+    }
+
+    /**
+     * Gets the liveness of Camel, which is only down once the context has failed to start.
+     */
+    public Health liveness() {
+        Health.Builder builder = Health.up().withDetail("name", "camel-liveness");
+        builder.withDetail("status", camelContext.getStatus().name());
+        Throwable failure = startupFailure;
+        if (failure != null) {
+            builder.down(failure);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets the readiness of Camel.
+     */
+    public Health readiness() {
+        Health.Builder builder = Health.up().withDetail("name", "camel-readiness");
+        ServiceStatus status = camelContext.getStatus();
+        builder.withDetail("status", status.name());
+        if (!status.isStarted()) {
+            return builder.down().build();
+        }
+
+        RouteController controller = camelContext.getRouteController();
+        Collection<Route> clustered = controller instanceof ClusteredRouteController
+            ? controller.getControlledRoutes() : Collections.<Route>emptyList();
+
+        // the routes which are not started automatically, or only on leadership, are not expected to be running
+        Set<String> ignored = new HashSet<>();
+        for (Route route : camelContext.getRoutes()) {
+            if (Boolean.FALSE.equals(route.isAutoStartup()) || clustered.contains(route)) {
+                ignored.add(route.getId());
+            }
+        }
+
+        List<String> starting = new ArrayList<>();
+        for (Route route : camelContext.getRoutes()) {
+            if (ignored.contains(route.getId())) {
+                continue;
+            }
+            ServiceStatus routeStatus = controller.getRouteStatus(route.getId());
+            if (routeStatus != null && routeStatus.isStarting()) {
+                starting.add(route.getId());
+            }
+        }
+        if (!starting.isEmpty()) {
+            builder.down().withDetail("startingRoutes", starting);
+        }
+
+        if (leadershipRequired) {
+            // the clustered routes are only started once the leadership has been taken
+            List<String> waiting = new ArrayList<>();
+            for (Route route : clustered) {
+                if (Boolean.FALSE.equals(route.isAutoStartup())) {
+                    continue;
+                }
+                ServiceStatus routeStatus = controller.getRouteStatus(route.getId());
+                if (routeStatus == null || !routeStatus.isStarted()) {
+                    waiting.add(route.getId());
+                }
+            }
+            if (!waiting.isEmpty()) {
+                builder.down().withDetail("routesWithoutLeadership", waiting);
+            }
+        }
+
+        Map<String, HealthCheck.State> states = CamelHealthCheckIndicator.toStates(
+            HealthCheckHelper.invoke(camelContext, (HealthCheckFilter) check -> !isReadinessCheck(check.getId(), ignored)));
+        CamelHealthCheckIndicator.withStates(builder, states);
+        return builder.build();
+    }
+
+    private static boolean isReadinessCheck(String id, Set<String> ignoredRoutes) {
+        if (CONTEXT_CHECK.equals(id)) {
+            return true;
+        }
+        return id.startsWith(ROUTE_CHECK_PREFIX) && !ignoredRoutes.contains(id.substring(ROUTE_CHECK_PREFIX.length()));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.camel.health.HealthCheck;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published by the {@link AsyncCamelHealthCheckIndicator} when the status of Camel or the state of any of its
+ * health checks has changed.
+ */
+public class CamelHealthChangedEvent extends ApplicationEvent {
+
+    private final Status previousStatus;
+    private final Status status;
+    private final Map<String, HealthCheck.State> previousStates;
+    private final Map<String, HealthCheck.State> states;
+
+    public CamelHealthChangedEvent(Object source, Status previousStatus, Status status,
+                                   Map<String, HealthCheck.State> previousStates, Map<String, HealthCheck.State> states) {
+        super(source);
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.previousStates = Collections.unmodifiableMap(previousStates);
+        this.states = Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * The previous status, which is {@link Status#UNKNOWN} when the checks are run for the first time.
+     */
+    public Status getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * The previous states of the checks by their ids.
+     */
+    public Map<String, HealthCheck.State> getPreviousStates() {
+        return previousStates;
+    }
+
+    /**
+     * The states of the checks by their ids.
+     */
+    public Map<String, HealthCheck.State> getStates() {
+        return states;
+    }
+
+    @Override
+    public String toString() {
+        return "CamelHealthChangedEvent[" + previousStatus + " -> " + status + "]";
+    }
+}
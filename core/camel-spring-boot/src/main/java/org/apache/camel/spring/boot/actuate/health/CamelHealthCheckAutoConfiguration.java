@@ -29,6 +29,7 @@ import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -43,6 +44,32 @@ public class CamelHealthCheckAutoConfiguration {
 
     private static final Logger LOG = LoggerFactory.getLogger(CamelHealthCheckAutoConfiguration.class);
 
+    @Bean
+    @ConditionalOnProperty(prefix = "camel.health", name = "availability-enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public CamelAvailabilityProbe camelAvailabilityProbe(CamelContext camelContext, CamelHealthCheckConfigurationProperties config) {
+        return new CamelAvailabilityProbe(camelContext, config.isAvailabilityLeadershipRequired());
+    }
+
+    @Bean(name = "camelLiveness")
+    @ConditionalOnProperty(prefix = "camel.health", name = "availability-enabled", havingValue = "true")
+    public HealthIndicator camelLivenessHealthIndicator(CamelAvailabilityProbe probe) {
+        return new CamelLivenessHealthIndicator(probe);
+    }
+
+    @Bean(name = "camelReadiness")
+    @ConditionalOnProperty(prefix = "camel.health", name = "availability-enabled", havingValue = "true")
+    public HealthIndicator camelReadinessHealthIndicator(CamelAvailabilityProbe probe) {
+        return new CamelReadinessHealthIndicator(probe);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "camel.health", name = "availability-enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public CamelReadinessStatePublisher camelReadinessStatePublisher(CamelContext camelContext, CamelAvailabilityProbe probe) {
+        return new CamelReadinessStatePublisher(camelContext, probe);
+    }
+
     @Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
     @ConditionalOnClass({CamelContext.class})
     @ConditionalOnMissingBean(CamelHealthCheckIndicator.class)
@@ -122,6 +149,9 @@ public class CamelHealthCheckAutoConfiguration {
                 }
             }
 
+            if (config.isAsyncEnabled()) {
+                return new AsyncCamelHealthCheckIndicator(camelContext, config.getAsyncInterval(), config.getAsyncCheckTimeout(), config.getAsyncMaxStaleness());
+            }
             return new CamelHealthCheckIndicator(camelContext);
         }
     }
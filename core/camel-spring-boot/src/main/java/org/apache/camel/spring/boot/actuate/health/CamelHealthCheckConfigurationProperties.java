@@ -51,6 +51,40 @@ public class CamelHealthCheckConfigurationProperties {
      */
     private Boolean registryEnabled;
 
+    /**
+     * Whether to run the health checks on a background scheduler, so the health indicator reports the last result
+     * instead of running the checks on every request. Changes of the health are published as CamelHealthChangedEvent.
+     */
+    private boolean asyncEnabled;
+
+    /**
+     * The interval in millis between running the health checks when running them on a background scheduler.
+     */
+    private long asyncInterval = 10000;
+
+    /**
+     * The timeout in millis of each health check when running them on a background scheduler.
+     * A check which does not complete within the timeout is reported as down.
+     */
+    private long asyncCheckTimeout = 5000;
+
+    /**
+     * The max age in millis of the last result of the health checks when running them on a background scheduler.
+     * The health is reported as down when the last result is older, and 0 is for no limit.
+     */
+    private long asyncMaxStaleness = 60000;
+
+    /**
+     * Whether to add the camelLiveness and camelReadiness health indicators, to be included in the liveness and
+     * readiness health groups, and to refuse traffic (readiness state) while Camel is not ready.
+     */
+    private boolean availabilityEnabled;
+
+    /**
+     * Whether Camel is only ready once the clustered route controller has taken the leadership of its routes.
+     */
+    private boolean availabilityLeadershipRequired = true;
+
     /**
      * Additional health check properties for fine grained configuration of health checks.
      */
@@ -88,6 +122,54 @@ public class CamelHealthCheckConfigurationProperties {
         this.registryEnabled = registryEnabled;
     }
 
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    public void setAsyncEnabled(boolean asyncEnabled) {
+        this.asyncEnabled = asyncEnabled;
+    }
+
+    public long getAsyncInterval() {
+        return asyncInterval;
+    }
+
+    public void setAsyncInterval(long asyncInterval) {
+        this.asyncInterval = asyncInterval;
+    }
+
+    public long getAsyncCheckTimeout() {
+        return asyncCheckTimeout;
+    }
+
+    public void setAsyncCheckTimeout(long asyncCheckTimeout) {
+        this.asyncCheckTimeout = asyncCheckTimeout;
+    }
+
+    public long getAsyncMaxStaleness() {
+        return asyncMaxStaleness;
+    }
+
+    public void setAsyncMaxStaleness(long asyncMaxStaleness) {
+        this.asyncMaxStaleness = asyncMaxStaleness;
+    }
+
+    public boolean isAvailabilityEnabled() {
+        return availabilityEnabled;
+    }
+
+    public void setAvailabilityEnabled(boolean availabilityEnabled) {
+        this.availabilityEnabled = availabilityEnabled;
+    }
+
+    public boolean isAvailabilityLeadershipRequired() {
+        return availabilityLeadershipRequired;
+    }
+
+    public void setAvailabilityLeadershipRequired(boolean availabilityLeadershipRequired) {
+        this.availabilityLeadershipRequired = availabilityLeadershipRequired;
+    }
+
     public Map<String, HealthCheckConfigurationProperties> getConfig() {
         return config;
     }
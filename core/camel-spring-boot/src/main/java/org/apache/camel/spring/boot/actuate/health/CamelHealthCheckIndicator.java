@@ -17,6 +17,7 @@
 package org.apache.camel.spring.boot.actuate.health;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.apache.camel.CamelContext;
@@ -45,21 +46,38 @@ public class CamelHealthCheckIndicator extends AbstractHealthIndicator {
 
         if (camelContext != null) {
             Collection<HealthCheck.Result> results = HealthCheckHelper.invoke(camelContext);
+            withStates(builder, toStates(results));
+        }
+    }
 
-            for (HealthCheck.Result result : results) {
-                Map<String, Object> details = result.getDetails();
-                boolean enabled = true;
+    /**
+     * Gets the states of the enabled checks of the given results, by the id of the checks.
+     */
+    protected static Map<String, HealthCheck.State> toStates(Collection<HealthCheck.Result> results) {
+        Map<String, HealthCheck.State> answer = new LinkedHashMap<>();
+        for (HealthCheck.Result result : results) {
+            Map<String, Object> details = result.getDetails();
+            boolean enabled = true;
+
+            if (details.containsKey(AbstractHealthCheck.CHECK_ENABLED)) {
+                enabled = (boolean) details.get(AbstractHealthCheck.CHECK_ENABLED);
+            }
 
-                if (details.containsKey(AbstractHealthCheck.CHECK_ENABLED)) {
-                    enabled = (boolean) details.get(AbstractHealthCheck.CHECK_ENABLED);
-                }
+            if (enabled) {
+                answer.put(result.getCheck().getId(), result.getState());
+            }
+        }
+        return answer;
+    }
 
-                if (enabled) {
-                    builder.withDetail(result.getCheck().getId(), result.getState().name());
-                    if (result.getState() == HealthCheck.State.DOWN) {
-                        builder.down();
-                    }
-                }
+    /**
+     * Adds the states of the checks to the health, which is down if any check is down.
+     */
+    protected static void withStates(Health.Builder builder, Map<String, HealthCheck.State> states) {
+        for (Map.Entry<String, HealthCheck.State> entry : states.entrySet()) {
+            builder.withDetail(entry.getKey(), entry.getValue().name());
+            if (entry.getValue() == HealthCheck.State.DOWN) {
+                builder.down();
             }
         }
     }
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+
+/**
+ * Camel {@link org.springframework.boot.actuate.health.HealthIndicator} for the liveness health group.
+ *
+ * @see CamelAvailabilityProbe#liveness()
+ */
+public class CamelLivenessHealthIndicator extends AbstractHealthIndicator {
+
+    private final CamelAvailabilityProbe probe;
+
+    public CamelLivenessHealthIndicator(CamelAvailabilityProbe probe) {
+        this.probe = probe;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) throws Exception {
+        Health health = probe.liveness();
+        builder.status(health.getStatus()).withDetails(health.getDetails());
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.service.ServiceHelper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Publishes the readiness of Camel as the Spring Boot {@link ReadinessState}, so the application refuses traffic
+ * while the routes are starting or waiting for the leadership of the clustered route controller.
+ * <p/>
+ * The readiness is evaluated on a background thread shortly after Camel publishes a context or route event, so a
+ * burst of events (such as starting many routes) is evaluated once, and the thread publishing the events does not
+ * run the health checks. Camel never marks the application as accepting traffic before Spring Boot does, and marks
+ * it as refusing traffic again if Camel is not ready yet when Spring Boot does.
+ */
+public class CamelReadinessStatePublisher implements ApplicationListener<AvailabilityChangeEvent<ReadinessState>>,
+        ApplicationEventPublisherAware, InitializingBean, DisposableBean {
+
+    private static final long UPDATE_DELAY = 100;
+
+    private final CamelContext camelContext;
+    private final CamelAvailabilityProbe probe;
+    private final EventNotifierSupport notifier = new EventNotifierSupport() {
+        @Override
+        public boolean isEnabled(CamelEvent event) {
+            return event instanceof CamelEvent.CamelContextEvent || event instanceof CamelEvent.RouteEvent;
+        }
+
+        @Override
+        public void notify(CamelEvent event) throws Exception {
+            scheduleUpdate(UPDATE_DELAY);
+        }
+    };
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+    private ScheduledExecutorService executor;
+    private ApplicationEventPublisher publisher;
+    private volatile boolean applicationReady;
+    private volatile ReadinessState state;
+
+    public CamelReadinessStatePublisher(CamelContext camelContext, CamelAvailabilityProbe probe) {
+        this.camelContext = camelContext;
+        this.probe = probe;
+        this.notifier.setIgnoreExchangeEvents(true);
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        executor = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "CamelReadiness");
+        camelContext.getManagementStrategy().addEventNotifier(notifier);
+        ServiceHelper.startService(notifier);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        camelContext.getManagementStrategy().removeEventNotifier(notifier);
+        ServiceHelper.stopService(notifier);
+        if (executor != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executor);
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getSource() == this) {
+            return;
+        }
+        // spring boot is ready (or not) so camel can now change the readiness
+        synchronized (this) {
+            applicationReady = event.getState() == ReadinessState.ACCEPTING_TRAFFIC;
+            state = event.getState();
+        }
+        if (applicationReady) {
+            scheduleUpdate(0);
+        }
+    }
+
+    private void scheduleUpdate(long delay) {
+        if (executor == null || !updateScheduled.compareAndSet(false, true)) {
+            // an update is already pending and will see this change
+            return;
+        }
+        try {
+            executor.schedule(() -> {
+                updateScheduled.set(false);
+                update();
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // the executor has been shutdown with the context
+            updateScheduled.set(false);
+        }
+    }
+
+    /**
+     * Evaluates the readiness of Camel and publishes it when it has changed.
+     */
+    public void update() {
+        if (!applicationReady || publisher == null) {
+            return;
+        }
+        ReadinessState answer = Status.UP.equals(probe.readiness().getStatus())
+            ? ReadinessState.ACCEPTING_TRAFFIC : ReadinessState.REFUSING_TRAFFIC;
+        publish(answer);
+    }
+
+    private synchronized void publish(ReadinessState answer) {
+        if (applicationReady && answer != state) {
+            state = answer;
+            AvailabilityChangeEvent.publish(publisher, this, answer);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceDiscovery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ServiceDiscovery} which caches the services found by another service discovery, so the backing
+ * registries are not queried for each call of a service.
+ * <p/>
+ * The services are cached for a time to live. Once expired, they are still returned while they are refreshed in
+ * the background (stale-while-revalidate), unless they are older than the time to live plus the max staleness, in
+ * which case they are refreshed before returning. The concurrent lookups of a service share the same refresh.
+ * When a refresh fails, the last services found are kept. The {@link WatchableServiceDiscovery}s given with
+ * {@link #watch(List)} are watched for each service looked up, and trigger a refresh of the service when its
+ * instances change, including when they change during a lookup, which is then done again. A service is no longer
+ * watched once it has been invalidated.
+ */
+public class CamelCloudCachingServiceDiscovery implements ServiceDiscovery {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CamelCloudCachingServiceDiscovery.class);
+
+    private final ServiceDiscovery delegate;
+    private final ExecutorService executor;
+    private final long timeToLive;
+    private final long maxStaleness;
+    private final List<WatchableServiceDiscovery> watchables = new ArrayList<>();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate     the service discovery to cache
+     * @param executor     the executor used to refresh the services in the background
+     * @param timeToLive   the time in millis the services are cached
+     * @param maxStaleness the time in millis expired services are returned while being refreshed
+     */
+    public CamelCloudCachingServiceDiscovery(ServiceDiscovery delegate, ExecutorService executor, long timeToLive, long maxStaleness) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeToLive = timeToLive;
+        this.maxStaleness = maxStaleness;
+    }
+
+    public ServiceDiscovery getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Watches the services using the given service discoveries which support it.
+     */
+    public void watch(List<ServiceDiscovery> serviceDiscoveries) {
+        for (ServiceDiscovery serviceDiscovery : serviceDiscoveries) {
+            if (serviceDiscovery instanceof WatchableServiceDiscovery) {
+                watchables.add((WatchableServiceDiscovery) serviceDiscovery);
+            }
+        }
+    }
+
+    @Override
+    public List<ServiceDefinition> getServices(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            entry = newEntry(name);
+        }
+
+        List<ServiceDefinition> services = entry.services;
+        long age = System.currentTimeMillis() - entry.timestamp;
+        if (services == null || age > timeToLive + maxStaleness) {
+            return entry.load();
+        }
+        if (age > timeToLive) {
+            refreshAsync(entry);
+        }
+        return services;
+    }
+
+    /**
+     * Discards the cached services of the given service.
+     */
+    public void invalidate(String name) {
+        synchronized (entries) {
+            if (entries.remove(name) != null) {
+                unwatch(name);
+            }
+        }
+    }
+
+    /**
+     * Discards all the cached services.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            for (String name : new ArrayList<>(entries.keySet())) {
+                invalidate(name);
+            }
+        }
+    }
+
+    private Entry newEntry(String name) {
+        synchronized (entries) {
+            Entry existing = entries.get(name);
+            if (existing != null) {
+                return existing;
+            }
+            Entry entry = new Entry(name);
+            entries.put(name, entry);
+
+            for (WatchableServiceDiscovery watchable : watchables) {
+                try {
+                    // the callback looks up the entry by name, as the entry is replaced once invalidated
+                    watchable.watch(name, () -> onChange(name));
+                } catch (Exception e) {
+                    LOGGER.warn("Cannot watch service: {} using: {}", name, watchable, e);
+                }
+            }
+            return entry;
+        }
+    }
+
+    private void unwatch(String name) {
+        for (WatchableServiceDiscovery watchable : watchables) {
+            try {
+                watchable.unwatch(name);
+            } catch (Exception e) {
+                LOGGER.warn("Cannot unwatch service: {} using: {}", name, watchable, e);
+            }
+        }
+    }
+
+    private void onChange(String name) {
+        Entry entry = entries.get(name);
+        if (entry != null) {
+            // expire the services, which are still returned until refreshed
+            entry.changes.incrementAndGet();
+            entry.expire();
+            refreshAsync(entry);
+        }
+    }
+
+    private void refreshAsync(Entry entry) {
+        if (entry.refreshing.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        long changes;
+                        do {
+                            changes = entry.changes.get();
+                            entry.load();
+                            // the services have changed during the lookup, so it may have missed the change
+                        } while (entry.changes.get() != changes);
+                    } catch (Exception e) {
+                        // keep the stale services, the refresh is retried on the next call
+                        LOGGER.debug("Error refreshing service: {}", entry.name, e);
+                    } finally {
+                        entry.refreshing.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                entry.refreshing.set(false);
+                LOGGER.debug("Cannot refresh service: {}", entry.name, e);
+            }
+        }
+    }
+
+    /**
+     * Whether the given services have been returned by a caching service discovery, in which case the same list
+     * is returned as long as the services have not been refreshed.
+     */
+    static boolean isCached(List<ServiceDefinition> services) {
+        return services instanceof CachedServices;
+    }
+
+    /**
+     * The unmodifiable services cached for a service.
+     */
+    private static final class CachedServices extends AbstractList<ServiceDefinition> implements RandomAccess {
+        private final ServiceDefinition[] services;
+
+        CachedServices(List<ServiceDefinition> services) {
+            this.services = services != null ? services.toArray(new ServiceDefinition[0]) : new ServiceDefinition[0];
+        }
+
+        @Override
+        public ServiceDefinition get(int index) {
+            return services[index];
+        }
+
+        @Override
+        public int size() {
+            return services.length;
+        }
+    }
+
+    private final class Entry {
+        private final String name;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private final AtomicReference<Loading> loading = new AtomicReference<>();
+        // the number of changes notified by the watched service discoveries
+        private final AtomicLong changes = new AtomicLong();
+        private volatile List<ServiceDefinition> services;
+        private volatile long timestamp;
+
+        Entry(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Looks up the services, or waits for the lookup in progress if any.
+         */
+        List<ServiceDefinition> load() {
+            while (true) {
+                Loading current = loading.get();
+                if (current != null) {
+                    List<ServiceDefinition> answer = await(current.future);
+                    if (current.changes == changes.get()) {
+                        return answer;
+                    }
+                    // the services have changed since the lookup started, so look them up again
+                    continue;
+                }
+                Loading next = new Loading(changes.get());
+                if (loading.compareAndSet(null, next)) {
+                    try {
+                        List<ServiceDefinition> answer = doLoad(next.changes);
+                        next.future.complete(answer);
+                        return answer;
+                    } catch (RuntimeException e) {
+                        next.future.completeExceptionally(e);
+                        throw e;
+                    } finally {
+                        loading.set(null);
+                    }
+                }
+            }
+        }
+
+        void expire() {
+            timestamp = System.currentTimeMillis() - timeToLive - 1;
+        }
+
+        private List<ServiceDefinition> await(CompletableFuture<List<ServiceDefinition>> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        private List<ServiceDefinition> doLoad(long version) {
+            List<ServiceDefinition> answer;
+            try {
+                answer = delegate.getServices(name);
+            } catch (RuntimeException e) {
+                List<ServiceDefinition> last = services;
+                if (last == null) {
+                    throw e;
+                }
+                LOGGER.warn("Error looking up service: {}, using the last services found", name, e);
+                return last;
+            }
+
+            answer = new CachedServices(answer);
+            services = answer;
+            timestamp = System.currentTimeMillis();
+            if (changes.get() != version) {
+                // a change notified during the lookup may not be seen, so keep the services expired
+                expire();
+            }
+            return answer;
+        }
+    }
+
+    /**
+     * A lookup in progress, and the number of changes notified when it started.
+     */
+    private static final class Loading {
+        private final CompletableFuture<List<ServiceDefinition>> future = new CompletableFuture<>();
+        private final long changes;
+
+        Loading(long changes) {
+            this.changes = changes;
+        }
+    }
+}
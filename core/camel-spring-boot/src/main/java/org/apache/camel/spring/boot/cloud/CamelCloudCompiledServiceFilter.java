@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceFilter;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.StringHelper;
+
+/**
+ * A {@link ServiceFilter} applying the healthy and the blacklist filters in a single pass.
+ * <p/>
+ * The blacklist is compiled into a set of <tt>host:port</tt> keys per service. When the services come from a
+ * {@link CamelCloudCachingServiceDiscovery}, which returns the same list until the services are refreshed, the
+ * outcome is memoized per service so the filters only run again when the discovery returns a different list.
+ * Each call gets its own list of filtered services.
+ */
+public class CamelCloudCompiledServiceFilter implements ServiceFilter {
+    private final Map<String, Set<String>> blacklist;
+    private final ConcurrentMap<String, Result> results = new ConcurrentHashMap<>();
+
+    public CamelCloudCompiledServiceFilter(Map<String, ? extends Collection<String>> blacklist) {
+        this.blacklist = new HashMap<>();
+
+        for (Map.Entry<String, ? extends Collection<String>> entry : blacklist.entrySet()) {
+            for (String part : entry.getValue()) {
+                String host = StringHelper.before(part, ":");
+                String port = StringHelper.after(part, ":");
+
+                if (ObjectHelper.isNotEmpty(host) && ObjectHelper.isNotEmpty(port)) {
+                    this.blacklist.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).add(key(host, Integer.parseInt(port)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the given instance is blacklisted.
+     */
+    public boolean isBlacklisted(ServiceDefinition definition) {
+        Set<String> servers = definition.getName() != null ? blacklist.get(definition.getName()) : null;
+        return servers != null && servers.contains(key(definition.getHost(), definition.getPort()));
+    }
+
+    @Override
+    public List<ServiceDefinition> apply(List<ServiceDefinition> services) {
+        if (services.isEmpty()) {
+            return services;
+        }
+
+        final String name = services.get(0).getName();
+        if (name == null || !CamelCloudCachingServiceDiscovery.isCached(services)) {
+            // the list is not kept by the discovery, so it cannot be recognized on the next call
+            return filter(services);
+        }
+
+        Result last = results.get(name);
+        if (last == null || last.services != services) {
+            last = new Result(services, filter(services));
+            results.put(name, last);
+        }
+
+        return new ArrayList<>(last.filtered);
+    }
+
+    // *************************************************************************
+    // Helpers
+    // *************************************************************************
+
+    private List<ServiceDefinition> filter(List<ServiceDefinition> services) {
+        final List<ServiceDefinition> answer = new ArrayList<>(services.size());
+
+        for (int i = 0; i < services.size(); i++) {
+            ServiceDefinition definition = services.get(i);
+
+            if (definition.getHealth().isHealthy() && !isBlacklisted(definition)) {
+                answer.add(definition);
+            }
+        }
+
+        return answer;
+    }
+
+    private static String key(String host, int port) {
+        return host + ":" + port;
+    }
+
+    /**
+     * The filtered instances of a cached discovery result.
+     */
+    private static final class Result {
+        private final List<ServiceDefinition> services;
+        private final List<ServiceDefinition> filtered;
+
+        Result(List<ServiceDefinition> services, List<ServiceDefinition> filtered) {
+            this.services = services;
+            this.filtered = filtered;
+        }
+    }
+}
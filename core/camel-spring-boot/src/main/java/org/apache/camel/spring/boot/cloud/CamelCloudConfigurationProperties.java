@@ -202,6 +202,16 @@ public class CamelCloudConfigurationProperties {
          * Global option to enable/disable Camel cloud load balancer, default is true.
          */
         private boolean enabled = true;
+        /**
+         * The type of the Camel cloud load balancer: default (the Spring Cloud load balancer client, if any) or
+         * latency-aware (power of two choices with the moving average of the latency), default is default.
+         */
+        private CamelCloudLoadBalancerType type = CamelCloudLoadBalancerType.DEFAULT;
+        /**
+         * The time in millis after which the weight of a latency measure of the latency-aware load balancer has
+         * decayed to about a third, default is 10000.
+         */
+        private long decayTime = 10000;
 
         public boolean isEnabled() {
             return enabled;
@@ -210,6 +220,22 @@ public class CamelCloudConfigurationProperties {
         public void setEnabled(boolean enabled) {
             this.enabled = enabled;
         }
+
+        public CamelCloudLoadBalancerType getType() {
+            return type;
+        }
+
+        public void setType(CamelCloudLoadBalancerType type) {
+            this.type = type;
+        }
+
+        public long getDecayTime() {
+            return decayTime;
+        }
+
+        public void setDecayTime(long decayTime) {
+            this.decayTime = decayTime;
+        }
     }
 
     // *****************************************
@@ -237,6 +263,39 @@ public class CamelCloudConfigurationProperties {
          * Configure the service discovery rules.
          */
         private Map<String, ServiceDiscoveryConfiguration> configurations = new HashMap<>();
+        /**
+         * The time in millis the services found by the service discoveries are cached, default is 0 (no cache).
+         */
+        private long cacheTimeToLive;
+        /**
+         * The time in millis the expired cached services are still returned while being refreshed in the background,
+         * default is 60000.
+         */
+        private long cacheMaxStaleness = 60000;
+        /**
+         * Configure if the cached services should be refreshed when notified by the service discoveries which can
+         * watch the services, default true.
+         */
+        private boolean watchEnabled = true;
+        /**
+         * Configure if the service discoveries should be queried concurrently instead of one after another,
+         * default false.
+         */
+        private boolean parallelEnabled;
+        /**
+         * The max number of threads querying the service discoveries concurrently, default is 10. The lookups are
+         * failed (and the last services found are used) when the threads and their queue are all busy.
+         */
+        private int parallelMaxPoolSize = 10;
+        /**
+         * The time in millis after which the last services found by a service discovery are used when queried
+         * concurrently, default is 1000.
+         */
+        private long timeout = 1000;
+        /**
+         * Configure the time in millis after which the last services found are used, by service discovery bean name.
+         */
+        private Map<String, Long> timeouts = new HashMap<>();
 
         public boolean isEnabled() {
             return enabled;
@@ -249,6 +308,58 @@ public class CamelCloudConfigurationProperties {
         public Map<String, ServiceDiscoveryConfiguration> getConfigurations() {
             return configurations;
         }
+
+        public long getCacheTimeToLive() {
+            return cacheTimeToLive;
+        }
+
+        public void setCacheTimeToLive(long cacheTimeToLive) {
+            this.cacheTimeToLive = cacheTimeToLive;
+        }
+
+        public long getCacheMaxStaleness() {
+            return cacheMaxStaleness;
+        }
+
+        public void setCacheMaxStaleness(long cacheMaxStaleness) {
+            this.cacheMaxStaleness = cacheMaxStaleness;
+        }
+
+        public boolean isWatchEnabled() {
+            return watchEnabled;
+        }
+
+        public void setWatchEnabled(boolean watchEnabled) {
+            this.watchEnabled = watchEnabled;
+        }
+
+        public boolean isParallelEnabled() {
+            return parallelEnabled;
+        }
+
+        public void setParallelEnabled(boolean parallelEnabled) {
+            this.parallelEnabled = parallelEnabled;
+        }
+
+        public int getParallelMaxPoolSize() {
+            return parallelMaxPoolSize;
+        }
+
+        public void setParallelMaxPoolSize(int parallelMaxPoolSize) {
+            this.parallelMaxPoolSize = parallelMaxPoolSize;
+        }
+
+        public long getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(long timeout) {
+            this.timeout = timeout;
+        }
+
+        public Map<String, Long> getTimeouts() {
+            return timeouts;
+        }
     }
 
     // *****************************************
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceDiscovery;
+import org.apache.camel.cloud.ServiceDiscoveryAware;
+import org.apache.camel.cloud.ServiceFilter;
+import org.apache.camel.cloud.ServiceFilterAware;
+import org.apache.camel.cloud.ServiceLoadBalancer;
+import org.apache.camel.cloud.ServiceLoadBalancerFunction;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ServiceLoadBalancer} which chooses the service instances according to their observed latency, using
+ * the power of two choices: two instances are picked at random and the one with the lowest cost is used, the cost
+ * being the exponentially weighted moving average of the latency multiplied by the number of in-flight calls
+ * (plus one). A latency higher than the average replaces it right away, so a slow instance is quickly avoided.
+ * <p/>
+ * The latency and the outcome of each call are measured around the {@link ServiceLoadBalancerFunction}, and a
+ * failed call is accounted as a high latency so the instance is avoided until it recovers. The weight of a
+ * measure decays with its age, according to the decay time, and so does the cost of an instance which is not
+ * called anymore, so it is eventually probed again. Instances which have not been called yet are given the average
+ * latency of the measured instances of the service, multiplied by their in-flight calls as well, so a new instance
+ * is probed without receiving all the concurrent calls. The statistics of the instances which are no longer
+ * discovered are discarded.
+ * <p/>
+ * A load balancer keeps the service discovery and service filter of the service call using it, so an instance
+ * must not be shared by several service calls.
+ */
+public class CamelCloudLatencyAwareServiceLoadBalancer extends ServiceSupport
+        implements CamelContextAware, ServiceDiscoveryAware, ServiceFilterAware, ServiceLoadBalancer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CamelCloudLatencyAwareServiceLoadBalancer.class);
+    private static final long MIN_FAILURE_PENALTY = TimeUnit.SECONDS.toNanos(1);
+    private static final int FAILURE_PENALTY_FACTOR = 5;
+
+    private final Map<String, Map<String, InstanceStatistics>> statistics = new ConcurrentHashMap<>();
+    private CamelContext camelContext;
+    private ServiceDiscovery serviceDiscovery;
+    private ServiceFilter serviceFilter;
+    private long decayTime = 10000;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public ServiceDiscovery getServiceDiscovery() {
+        return serviceDiscovery;
+    }
+
+    @Override
+    public void setServiceDiscovery(ServiceDiscovery serviceDiscovery) {
+        this.serviceDiscovery = serviceDiscovery;
+    }
+
+    @Override
+    public ServiceFilter getServiceFilter() {
+        return serviceFilter;
+    }
+
+    @Override
+    public void setServiceFilter(ServiceFilter serviceFilter) {
+        this.serviceFilter = serviceFilter;
+    }
+
+    public long getDecayTime() {
+        return decayTime;
+    }
+
+    /**
+     * Sets the time in millis after which the weight of a latency measure has decayed to about a third.
+     */
+    public void setDecayTime(long decayTime) {
+        this.decayTime = decayTime;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(serviceDiscovery, "serviceDiscovery");
+
+        LOGGER.info("ServiceCall is using latency aware load balancer with service discovery: {} and service filter: {}",
+            serviceDiscovery, serviceFilter);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        statistics.clear();
+    }
+
+    @Override
+    public <T> T process(String serviceName, ServiceLoadBalancerFunction<T> function) throws Exception {
+        List<ServiceDefinition> services = serviceDiscovery.getServices(serviceName);
+        prune(serviceName, services);
+        if (services != null && !services.isEmpty() && serviceFilter != null) {
+            services = serviceFilter.apply(services);
+        }
+        if (services == null || services.isEmpty()) {
+            throw new RejectedExecutionException("No active services with name " + serviceName);
+        }
+
+        ServiceDefinition service = choose(serviceName, services);
+        InstanceStatistics instance = getStatistics(serviceName, service);
+
+        instance.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            T answer = function.apply(service);
+            instance.update(System.nanoTime() - start, false);
+            return answer;
+        } catch (Exception e) {
+            instance.update(System.nanoTime() - start, true);
+            throw e;
+        } finally {
+            instance.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Chooses the instance with the lowest cost out of two random instances.
+     */
+    ServiceDefinition choose(String serviceName, List<ServiceDefinition> services) {
+        int size = services.size();
+        if (size == 1) {
+            return services.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        ServiceDefinition a = services.get(first);
+        ServiceDefinition b = services.get(second);
+        InstanceStatistics statisticsA = getStatistics(serviceName, a);
+        InstanceStatistics statisticsB = getStatistics(serviceName, b);
+        double defaultLatency = statisticsA.isMeasured() && statisticsB.isMeasured() ? 0 : getAverageLatency(serviceName);
+        return statisticsA.cost(defaultLatency) <= statisticsB.cost(defaultLatency) ? a : b;
+    }
+
+    /**
+     * The average latency of the measured instances of the service, used for the instances not called yet.
+     */
+    private double getAverageLatency(String serviceName) {
+        Map<String, InstanceStatistics> instances = statistics.get(serviceName);
+        double sum = 0;
+        int count = 0;
+        if (instances != null) {
+            for (InstanceStatistics instance : instances.values()) {
+                double latency = instance.decayedLatency();
+                if (latency >= 0) {
+                    sum += latency;
+                    count++;
+                }
+            }
+        }
+        // when no instance is measured yet, the instances are only ranked by their in-flight calls
+        return count > 0 ? sum / count : 1;
+    }
+
+    private InstanceStatistics getStatistics(String serviceName, ServiceDefinition service) {
+        Map<String, InstanceStatistics> instances = statistics.computeIfAbsent(serviceName, k -> new ConcurrentHashMap<>());
+        String key = key(service);
+        InstanceStatistics answer = instances.get(key);
+        if (answer == null) {
+            answer = instances.computeIfAbsent(key, k -> new InstanceStatistics());
+        }
+        return answer;
+    }
+
+    /**
+     * Discards the statistics of the instances of the service which are no longer discovered.
+     */
+    private void prune(String serviceName, List<ServiceDefinition> services) {
+        Map<String, InstanceStatistics> instances = statistics.get(serviceName);
+        if (instances == null) {
+            return;
+        }
+        if (services == null || services.isEmpty()) {
+            statistics.remove(serviceName);
+            return;
+        }
+        if (instances.size() <= services.size()) {
+            // nothing to discard unless an instance has been replaced, which adds statistics
+            return;
+        }
+        Set<String> keys = new HashSet<>();
+        for (ServiceDefinition service : services) {
+            keys.add(key(service));
+        }
+        instances.keySet().retainAll(keys);
+    }
+
+    /**
+     * The number of instances of the service having statistics.
+     */
+    int getInstanceCount(String serviceName) {
+        Map<String, InstanceStatistics> instances = statistics.get(serviceName);
+        return instances != null ? instances.size() : 0;
+    }
+
+    private static String key(ServiceDefinition service) {
+        return service.getHost() + ':' + service.getPort();
+    }
+
+    private final class InstanceStatistics {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double latency;
+        private long timestamp;
+
+        synchronized void update(long elapsed, boolean failed) {
+            long now = System.nanoTime();
+            double measure = failed
+                ? Math.max(elapsed, Math.max(latency * FAILURE_PENALTY_FACTOR, MIN_FAILURE_PENALTY))
+                : elapsed;
+
+            if (timestamp == 0 || measure > latency) {
+                // react to a slower instance right away (peak ewma)
+                latency = measure;
+            } else {
+                double weight = Math.exp(-(double) (now - timestamp) / TimeUnit.MILLISECONDS.toNanos(Math.max(1, decayTime)));
+                latency = latency * weight + measure * (1 - weight);
+            }
+            timestamp = now;
+        }
+
+        synchronized boolean isMeasured() {
+            return timestamp != 0;
+        }
+
+        /**
+         * The latency decayed according to the age of the last measure, or -1 when the instance is not measured.
+         */
+        synchronized double decayedLatency() {
+            if (timestamp == 0) {
+                return -1;
+            }
+            // the latency of an instance which is not called anymore decays, so it is probed again at some point
+            double weight = Math.exp(-(double) (System.nanoTime() - timestamp) / TimeUnit.MILLISECONDS.toNanos(Math.max(1, decayTime)));
+            return latency * weight;
+        }
+
+        synchronized double cost(double defaultLatency) {
+            double answer = timestamp == 0 ? defaultLatency : decayedLatency();
+            return answer * (inFlight.get() + 1);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceDiscovery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ServiceDiscovery} which collects the services from several service discoveries concurrently, so the
+ * latency is the one of the slowest source instead of the sum of all the sources.
+ * <p/>
+ * Each source is given a deadline, after which (or when failing) the last services it has found for the service
+ * are used. The calls, failures, timeouts and latency of each source are recorded in {@link SourceStatistics}.
+ * The service discoveries are always queried with the executor, even when there is only one, so the deadline
+ * applies to every lookup. When the executor rejects a lookup, the source is handled as failed.
+ */
+public class CamelCloudParallelServiceDiscovery implements ServiceDiscovery {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CamelCloudParallelServiceDiscovery.class);
+
+    private final List<Source> sources = new ArrayList<>();
+    private final ExecutorService executor;
+
+    /**
+     * @param serviceDiscoveries the service discoveries by name
+     * @param executor           the executor used to query the service discoveries
+     * @param timeout            the default deadline in millis of each service discovery
+     * @param timeouts           the deadline in millis of some service discoveries by name
+     */
+    public CamelCloudParallelServiceDiscovery(Map<String, ServiceDiscovery> serviceDiscoveries, ExecutorService executor,
+                                              long timeout, Map<String, Long> timeouts) {
+        this.executor = executor;
+        for (Map.Entry<String, ServiceDiscovery> entry : serviceDiscoveries.entrySet()) {
+            Long sourceTimeout = timeouts != null ? timeouts.get(entry.getKey()) : null;
+            sources.add(new Source(entry.getKey(), entry.getValue(), sourceTimeout != null ? sourceTimeout : timeout));
+        }
+    }
+
+    @Override
+    public List<ServiceDefinition> getServices(String name) {
+        long start = System.nanoTime();
+        List<Future<Lookup>> futures = new ArrayList<>(sources.size());
+        for (Source source : sources) {
+            try {
+                futures.add(executor.submit(() -> source.lookup(name)));
+            } catch (RejectedExecutionException e) {
+                futures.add(null);
+            }
+        }
+
+        List<ServiceDefinition> answer = new ArrayList<>();
+        for (int i = 0; i < sources.size(); i++) {
+            Source source = sources.get(i);
+            Future<Lookup> future = futures.get(i);
+            if (future == null) {
+                answer.addAll(source.failed(name, null));
+                continue;
+            }
+
+            long remaining = source.timeout - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            try {
+                answer.addAll(source.found(name, future.get(Math.max(0, remaining), TimeUnit.MILLISECONDS)));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                answer.addAll(source.timedOut(name));
+            } catch (ExecutionException e) {
+                answer.addAll(source.failed(name, e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.stream().filter(f -> f != null).forEach(f -> f.cancel(true));
+                answer.addAll(source.failed(name, e));
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * The statistics of the service discoveries by name.
+     */
+    public Map<String, SourceStatistics> getStatistics() {
+        Map<String, SourceStatistics> answer = new LinkedHashMap<>();
+        for (Source source : sources) {
+            answer.put(source.name, source.statistics);
+        }
+        return answer;
+    }
+
+    /**
+     * The statistics of a service discovery.
+     */
+    public static final class SourceStatistics {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder fallbacks = new LongAdder();
+        private final LongAdder latency = new LongAdder();
+
+        /**
+         * The number of lookups.
+         */
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        /**
+         * The number of lookups which have failed.
+         */
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        /**
+         * The number of lookups which have not completed before the deadline.
+         */
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+        /**
+         * The number of failed or timed out lookups for which the last services found have been used.
+         */
+        public long getFallbacks() {
+            return fallbacks.sum();
+        }
+
+        /**
+         * The total time in nanos of the successful lookups.
+         */
+        public long getTotalLatency() {
+            return latency.sum();
+        }
+
+        /**
+         * The number of successful lookups.
+         */
+        public long getSuccesses() {
+            return Math.max(0, getCalls() - getFailures() - getTimeouts());
+        }
+    }
+
+    private static final class Source {
+        private final String name;
+        private final ServiceDiscovery serviceDiscovery;
+        private final long timeout;
+        private final SourceStatistics statistics = new SourceStatistics();
+        private final Map<String, List<ServiceDefinition>> lastKnownGood = new ConcurrentHashMap<>();
+
+        Source(String name, ServiceDiscovery serviceDiscovery, long timeout) {
+            this.name = name;
+            this.serviceDiscovery = serviceDiscovery;
+            this.timeout = timeout;
+        }
+
+        /**
+         * Runs in the executor so the latency is the one of this source only, not the time spent waiting for the
+         * sources collected before it.
+         */
+        Lookup lookup(String service) {
+            long start = System.nanoTime();
+            List<ServiceDefinition> services = serviceDiscovery.getServices(service);
+            return new Lookup(services, System.nanoTime() - start);
+        }
+
+        List<ServiceDefinition> found(String service, Lookup lookup) {
+            statistics.calls.increment();
+            statistics.latency.add(lookup.elapsed);
+
+            List<ServiceDefinition> answer = lookup.services != null ? lookup.services : Collections.emptyList();
+            lastKnownGood.put(service, answer);
+            return answer;
+        }
+
+        List<ServiceDefinition> timedOut(String service) {
+            statistics.calls.increment();
+            statistics.timeouts.increment();
+            LOGGER.debug("Service discovery: {} has not found service: {} within {} millis", name, service, timeout);
+            return fallback(service);
+        }
+
+        List<ServiceDefinition> failed(String service, Throwable cause) {
+            statistics.calls.increment();
+            statistics.failures.increment();
+            LOGGER.debug("Service discovery: {} has failed to find service: {}", name, service, cause);
+            return fallback(service);
+        }
+
+        private List<ServiceDefinition> fallback(String service) {
+            List<ServiceDefinition> answer = lastKnownGood.get(service);
+            if (answer == null) {
+                return Collections.emptyList();
+            }
+            statistics.fallbacks.increment();
+            return answer;
+        }
+    }
+
+    private static final class Lookup {
+        private final List<ServiceDefinition> services;
+        private final long elapsed;
+
+        Lookup(List<ServiceDefinition> services, long elapsed) {
+            this.services = services;
+            this.elapsed = elapsed;
+        }
+    }
+}
@@ -17,7 +17,6 @@
 package org.apache.camel.spring.boot.cloud;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.cloud.ServiceDefinition;
 import org.apache.camel.cloud.ServiceDiscovery;
@@ -32,6 +31,14 @@ public class CamelCloudServiceDiscovery implements ServiceDiscovery {
         this.delegate = new CombinedServiceDiscovery(serviceDiscoveryList);
     }
 
+    public CamelCloudServiceDiscovery(ServiceDiscovery delegate) {
+        this.delegate = delegate;
+    }
+
+    public ServiceDiscovery getDelegate() {
+        return delegate;
+    }
+
     @Override
     public List<ServiceDefinition> getServices(String name) {
         return delegate.getServices(name);
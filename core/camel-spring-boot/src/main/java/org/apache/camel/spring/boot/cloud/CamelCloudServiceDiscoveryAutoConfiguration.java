@@ -23,9 +23,13 @@ import javax.annotation.PostConstruct;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
 import org.apache.camel.cloud.ServiceDiscovery;
+import org.apache.camel.impl.cloud.CombinedServiceDiscovery;
 import org.apache.camel.impl.cloud.StaticServiceDiscovery;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.spring.boot.util.GroupCondition;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
@@ -34,12 +38,16 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnBean(CamelCloudAutoConfiguration.class)
 @EnableConfigurationProperties(CamelCloudConfigurationProperties.class)
@@ -67,8 +75,44 @@ public class CamelCloudServiceDiscoveryAutoConfiguration implements BeanFactoryA
 
     @Lazy
     @Bean(name = "service-discovery")
-    public CamelCloudServiceDiscovery serviceDiscovery(List<ServiceDiscovery> serviceDiscoveryList) throws NoTypeConversionAvailableException {
-        return new CamelCloudServiceDiscovery(serviceDiscoveryList);
+    public CamelCloudServiceDiscovery serviceDiscovery(List<ServiceDiscovery> serviceDiscoveryList,
+                                                      Map<String, ServiceDiscovery> serviceDiscoveries) throws NoTypeConversionAvailableException {
+        CamelCloudConfigurationProperties.ServiceDiscovery configuration = configurationProperties.getServiceDiscovery();
+
+        ServiceDiscovery delegate;
+        if (configuration.isParallelEnabled()) {
+            // Query the ServiceDiscovery beans concurrently, each one with its own deadline, on a bounded thread
+            // pool which rejects the lookups instead of running them in the caller when it is busy
+            ThreadPoolProfile profile = new ThreadPoolProfileBuilder("CamelCloudServiceDiscovery")
+                .poolSize(configuration.getParallelMaxPoolSize())
+                .maxPoolSize(configuration.getParallelMaxPoolSize())
+                .allowCoreThreadTimeOut(true)
+                .rejectedPolicy(ThreadPoolRejectedPolicy.Abort)
+                .build();
+            delegate = new CamelCloudParallelServiceDiscovery(
+                serviceDiscoveries,
+                camelContext.getExecutorServiceManager().newThreadPool(this, "CamelCloudServiceDiscovery", profile),
+                configuration.getTimeout(),
+                configuration.getTimeouts());
+        } else if (configuration.getCacheTimeToLive() > 0) {
+            delegate = new CombinedServiceDiscovery(serviceDiscoveryList);
+        } else {
+            return new CamelCloudServiceDiscovery(serviceDiscoveryList);
+        }
+
+        if (configuration.getCacheTimeToLive() > 0) {
+            // Cache the services collected from the ServiceDiscovery list
+            CamelCloudCachingServiceDiscovery cache = new CamelCloudCachingServiceDiscovery(
+                delegate,
+                camelContext.getExecutorServiceManager().newSingleThreadExecutor(this, "CamelCloudServiceDiscoveryRefresh"),
+                configuration.getCacheTimeToLive(),
+                configuration.getCacheMaxStaleness());
+            if (configuration.isWatchEnabled()) {
+                cache.watch(serviceDiscoveryList);
+            }
+            delegate = cache;
+        }
+        return new CamelCloudServiceDiscovery(delegate);
     }
 
     @PostConstruct
@@ -84,6 +128,21 @@ public class CamelCloudServiceDiscoveryAutoConfiguration implements BeanFactoryA
             .forEach(entry -> registerBean(factory, entry.getKey(), entry.getValue()));
     }
 
+    // *******************************
+    // Metrics
+    // *******************************
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    @ConditionalOnProperty(prefix = "camel.cloud.service-discovery", name = "parallel-enabled")
+    static class ServiceDiscoveryMetricsConfiguration {
+
+        @Bean
+        public CamelCloudServiceDiscoveryMetrics camelCloudServiceDiscoveryMetrics(CamelCloudServiceDiscovery serviceDiscovery) {
+            return new CamelCloudServiceDiscoveryMetrics(serviceDiscovery);
+        }
+    }
+
     // *******************************
     // Condition
     // *******************************
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.cloud.ServiceDiscovery;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A Micrometer {@link MeterBinder} for the statistics of each source of a {@link CamelCloudParallelServiceDiscovery},
+ * registered with the <tt>source</tt> tag (the bean name of the service discovery):
+ * <ul>
+ *     <li>camel.cloud.discovery.latency: the successful lookups</li>
+ *     <li>camel.cloud.discovery.failures: the failed lookups</li>
+ *     <li>camel.cloud.discovery.timeouts: the lookups which have not completed before the deadline</li>
+ *     <li>camel.cloud.discovery.fallbacks: the lookups which have used the last services found</li>
+ * </ul>
+ */
+public class CamelCloudServiceDiscoveryMetrics implements MeterBinder {
+
+    private final ServiceDiscovery serviceDiscovery;
+
+    public CamelCloudServiceDiscoveryMetrics(ServiceDiscovery serviceDiscovery) {
+        this.serviceDiscovery = serviceDiscovery;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CamelCloudParallelServiceDiscovery parallel = findParallelServiceDiscovery(serviceDiscovery);
+        if (parallel == null) {
+            return;
+        }
+
+        for (Map.Entry<String, CamelCloudParallelServiceDiscovery.SourceStatistics> entry : parallel.getStatistics().entrySet()) {
+            Tags tags = Tags.of("source", entry.getKey());
+            CamelCloudParallelServiceDiscovery.SourceStatistics statistics = entry.getValue();
+
+            FunctionTimer.builder("camel.cloud.discovery.latency", statistics,
+                    CamelCloudParallelServiceDiscovery.SourceStatistics::getSuccesses,
+                    CamelCloudParallelServiceDiscovery.SourceStatistics::getTotalLatency, TimeUnit.NANOSECONDS)
+                .tags(tags).description("The successful lookups of the service discovery").register(registry);
+            FunctionCounter.builder("camel.cloud.discovery.failures", statistics,
+                    CamelCloudParallelServiceDiscovery.SourceStatistics::getFailures)
+                .tags(tags).description("The failed lookups of the service discovery").register(registry);
+            FunctionCounter.builder("camel.cloud.discovery.timeouts", statistics,
+                    CamelCloudParallelServiceDiscovery.SourceStatistics::getTimeouts)
+                .tags(tags).description("The lookups of the service discovery not completed before the deadline").register(registry);
+            FunctionCounter.builder("camel.cloud.discovery.fallbacks", statistics,
+                    CamelCloudParallelServiceDiscovery.SourceStatistics::getFallbacks)
+                .tags(tags).description("The lookups of the service discovery using the last services found").register(registry);
+        }
+    }
+
+    private static CamelCloudParallelServiceDiscovery findParallelServiceDiscovery(ServiceDiscovery serviceDiscovery) {
+        ServiceDiscovery answer = serviceDiscovery;
+        while (answer != null && !(answer instanceof CamelCloudParallelServiceDiscovery)) {
+            if (answer instanceof CamelCloudServiceDiscovery) {
+                answer = ((CamelCloudServiceDiscovery) answer).getDelegate();
+            } else if (answer instanceof CamelCloudCachingServiceDiscovery) {
+                answer = ((CamelCloudCachingServiceDiscovery) answer).getDelegate();
+            } else {
+                answer = null;
+            }
+        }
+        return (CamelCloudParallelServiceDiscovery) answer;
+    }
+}
@@ -23,10 +23,14 @@ import org.apache.camel.cloud.ServiceFilter;
 import org.apache.camel.impl.cloud.CombinedServiceFilter;
 
 public class CamelCloudServiceFilter implements ServiceFilter {
-    private final CombinedServiceFilter serviceFilter;
+    private final ServiceFilter serviceFilter;
 
     public CamelCloudServiceFilter(List<ServiceFilter> serviceFilterList) {
-        this.serviceFilter = new CombinedServiceFilter(serviceFilterList);
+        this(new CombinedServiceFilter(serviceFilterList));
+    }
+
+    public CamelCloudServiceFilter(ServiceFilter serviceFilter) {
+        this.serviceFilter = serviceFilter;
     }
 
     @Override
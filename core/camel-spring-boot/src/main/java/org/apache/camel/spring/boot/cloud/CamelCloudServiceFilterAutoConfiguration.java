@@ -16,19 +16,10 @@
  */
 package org.apache.camel.spring.boot.cloud;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-
 import javax.annotation.PostConstruct;
 
 import org.apache.camel.CamelContext;
-import org.apache.camel.impl.cloud.BlacklistServiceFilter;
-import org.apache.camel.impl.cloud.DefaultServiceDefinition;
-import org.apache.camel.impl.cloud.HealthyServiceFilter;
 import org.apache.camel.spring.boot.util.GroupCondition;
-import org.apache.camel.util.ObjectHelper;
-import org.apache.camel.util.StringHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
@@ -106,26 +97,7 @@ public class CamelCloudServiceFilterAutoConfiguration implements BeanFactoryAwar
     }
 
     private CamelCloudServiceFilter createServiceFilter(CamelCloudConfigurationProperties.ServiceFilterConfiguration configuration) {
-        BlacklistServiceFilter blacklist = new BlacklistServiceFilter();
-
-        Map<String, List<String>> services = configuration.getBlacklist();
-        for (Map.Entry<String, List<String>> entry : services.entrySet()) {
-            for (String part : entry.getValue()) {
-                String host = StringHelper.before(part, ":");
-                String port = StringHelper.after(part, ":");
-
-                if (ObjectHelper.isNotEmpty(host) && ObjectHelper.isNotEmpty(port)) {
-                    blacklist.addServer(
-                        DefaultServiceDefinition.builder()
-                            .withName(entry.getKey())
-                            .withHost(host)
-                            .withPort(Integer.parseInt(port))
-                            .build()
-                    );
-                }
-            }
-        }
-
-        return new CamelCloudServiceFilter(Arrays.asList(new HealthyServiceFilter(), blacklist));
+        // the healthy and blacklist filters are applied in a single pass
+        return new CamelCloudServiceFilter(new CamelCloudCompiledServiceFilter(configuration.getBlacklist()));
     }
 }
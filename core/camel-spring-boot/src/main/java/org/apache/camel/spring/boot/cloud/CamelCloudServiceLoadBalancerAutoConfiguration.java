@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import org.apache.camel.cloud.ServiceLoadBalancer;
+import org.apache.camel.spring.boot.util.GroupCondition;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBean(CamelCloudAutoConfiguration.class)
+@AutoConfigureBefore(name = "org.apache.camel.spring.cloud.CamelSpringCloudServiceLoadBalancerAutoConfiguration")
+@EnableConfigurationProperties(CamelCloudConfigurationProperties.class)
+@Conditional(CamelCloudServiceLoadBalancerAutoConfiguration.LoadBalancerCondition.class)
+@ConditionalOnProperty(prefix = "camel.cloud.load-balancer", name = "type", havingValue = "latency-aware")
+public class CamelCloudServiceLoadBalancerAutoConfiguration {
+
+    /**
+     * A prototype, as the service call of each route sets its own service discovery and service filter on the
+     * load balancer it looks up.
+     */
+    @Bean(name = "load-balancer")
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    @ConditionalOnMissingBean
+    public ServiceLoadBalancer latencyAwareLoadBalancer(CamelCloudConfigurationProperties configurationProperties) {
+        CamelCloudLatencyAwareServiceLoadBalancer loadBalancer = new CamelCloudLatencyAwareServiceLoadBalancer();
+        loadBalancer.setDecayTime(configurationProperties.getLoadBalancer().getDecayTime());
+        return loadBalancer;
+    }
+
+    // *******************************
+    // Condition
+    // *******************************
+
+    public static class LoadBalancerCondition extends GroupCondition {
+        public LoadBalancerCondition() {
+            super(
+                "camel.cloud",
+                "camel.cloud.load-balancer"
+            );
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import org.apache.camel.cloud.ServiceDiscovery;
+
+/**
+ * A {@link ServiceDiscovery} which can notify the changes of the instances of a service, such as one backed by
+ * the watches of Consul, ZooKeeper or Kubernetes, so the cached services of a
+ * {@link CamelCloudCachingServiceDiscovery} are refreshed as soon as they change.
+ */
+public interface WatchableServiceDiscovery extends ServiceDiscovery {
+
+    /**
+     * Watches the instances of the given service.
+     *
+     * @param name     the name of the service
+     * @param onChange the callback to invoke when the instances of the service have changed
+     */
+    void watch(String name, Runnable onChange);
+
+    /**
+     * Stops watching the instances of the given service.
+     *
+     * @param name the name of the service
+     */
+    void unwatch(String name);
+
+}
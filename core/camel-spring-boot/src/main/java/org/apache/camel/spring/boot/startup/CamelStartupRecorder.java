@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.startup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the duration and the allocated memory of the steps of starting Camel on Spring Boot, such as
+ * configuring the {@link CamelContext}, customizing the components, collecting the route builders and
+ * loading the XML routes.
+ * <p/>
+ * The recorder is registered as an extension of the {@link CamelContext} and the recorded steps are exposed
+ * by the <tt>camelstartup</tt> actuator endpoint. The steps can also be emitted as Java Flight Recorder events.
+ * The recorder stops recording new steps once the {@link CamelContext} has been started.
+ */
+public class CamelStartupRecorder {
+
+    public static final String TYPE_CAMEL_CONTEXT = "camel-context";
+    public static final String TYPE_COMPONENT = "component";
+    public static final String TYPE_ROUTES = "routes";
+    public static final String TYPE_ROUTES_COLLECTOR = "routes-collector";
+    public static final String TYPE_ROUTE_BUILDER = "route-builder";
+    public static final String TYPE_XML_ROUTES = "xml-routes";
+    public static final String TYPE_XML_ROUTE_TEMPLATES = "xml-route-templates";
+    public static final String TYPE_XML_RESTS = "xml-rests";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelStartupRecorder.class);
+    private static final CamelStartupRecorder DISABLED = new CamelStartupRecorder(false, false);
+
+    private final boolean enabled;
+    private final boolean flightRecorder;
+    private final long startTime = System.nanoTime();
+    private final AtomicInteger counter = new AtomicInteger();
+    private final List<StartupStep> steps = new ArrayList<>();
+    private final ThreadLocal<Deque<Step>> active = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadMXBean threadMXBean;
+    private volatile boolean recording;
+
+    public CamelStartupRecorder(boolean enabled, boolean flightRecorder) {
+        this.enabled = enabled;
+        this.recording = enabled;
+        this.flightRecorder = enabled && flightRecorder && StartupFlightRecorderEvent.isAvailable();
+        if (enabled && flightRecorder && !this.flightRecorder) {
+            LOG.warn("Java Flight Recorder is not available, the startup steps are not emitted as events");
+        }
+        this.threadMXBean = enabled ? allocationMXBean() : null;
+    }
+
+    /**
+     * Gets the recorder registered on the given {@link CamelContext}, or a disabled recorder if there is none.
+     */
+    public static CamelStartupRecorder get(CamelContext camelContext) {
+        CamelStartupRecorder answer = camelContext.getExtension(CamelStartupRecorder.class);
+        return answer != null ? answer : DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isFlightRecorder() {
+        return flightRecorder;
+    }
+
+    /**
+     * Whether new steps are recorded, which is the case until the recorder is stopped.
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Stops recording new steps, such as when the {@link CamelContext} has been started.
+     * The steps which are still active are recorded when they end.
+     */
+    public void stop() {
+        if (recording) {
+            recording = false;
+            LOG.debug("Stopped recording the startup steps after {} ms", getElapsedMillis());
+        }
+    }
+
+    /**
+     * Begins a step, which must be ended by closing it (preferably using try-with-resources).
+     * Steps begun while another step of the same thread is active are recorded as its children.
+     * No step is recorded once the recorder has been stopped.
+     *
+     * @param type the type of the step, such as <tt>component</tt> or <tt>xml-routes</tt>
+     * @param name the name of the step, such as the name of the component or the XML resource
+     */
+    public Step beginStep(String type, String name) {
+        if (!recording) {
+            return Step.NOOP;
+        }
+
+        Deque<Step> stack = active.get();
+        Step parent = stack.peek();
+        Step step = new Step(this, counter.incrementAndGet(), parent != null ? parent.id : 0, stack.size(), type, name);
+        stack.push(step);
+        return step;
+    }
+
+    /**
+     * The recorded steps ordered by the time they have begun.
+     */
+    public List<StartupStep> getSteps() {
+        List<StartupStep> answer;
+        synchronized (steps) {
+            answer = new ArrayList<>(steps);
+        }
+        answer.sort((a, b) -> Integer.compare(a.getId(), b.getId()));
+        return answer;
+    }
+
+    /**
+     * The elapsed time in millis since the recorder was created.
+     */
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startTime) / 1000000L;
+    }
+
+    private void end(Step step) {
+        long duration = System.nanoTime() - step.begin;
+        long allocated = step.allocatedBegin >= 0 ? allocatedBytes() - step.allocatedBegin : -1;
+
+        Deque<Step> stack = active.get();
+        stack.remove(step);
+        if (stack.isEmpty()) {
+            active.remove();
+        }
+
+        StartupStep recorded = new StartupStep(step.id, step.parentId, step.level, step.type, step.name,
+            (step.begin - startTime) / 1000000L, duration / 1000000L, allocated);
+        synchronized (steps) {
+            steps.add(recorded);
+        }
+        if (step.event != null) {
+            step.event.commit(recorded);
+        }
+        LOG.debug("Startup step {} {} took {} ms", step.type, step.name, recorded.getDuration());
+    }
+
+    private long allocatedBytes() {
+        return threadMXBean != null
+            ? ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId())
+            : -1;
+    }
+
+    private static ThreadMXBean allocationMXBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemoryEnabled()) {
+                return bean;
+            }
+        } catch (Throwable e) {
+            LOG.debug("Cannot measure the allocated memory of threads due: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * An active step.
+     */
+    public static final class Step implements AutoCloseable {
+
+        static final Step NOOP = new Step(null, 0, 0, 0, null, null);
+
+        private final CamelStartupRecorder recorder;
+        private final int id;
+        private final int parentId;
+        private final int level;
+        private final String type;
+        private final String name;
+        private final long begin;
+        private final long allocatedBegin;
+        private final StartupFlightRecorderEvent event;
+        private boolean closed;
+
+        private Step(CamelStartupRecorder recorder, int id, int parentId, int level, String type, String name) {
+            this.recorder = recorder;
+            this.id = id;
+            this.parentId = parentId;
+            this.level = level;
+            this.type = type;
+            this.name = name;
+            this.allocatedBegin = recorder != null ? recorder.allocatedBytes() : -1;
+            this.event = recorder != null && recorder.flightRecorder ? StartupFlightRecorderEvent.begin() : null;
+            this.begin = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (recorder != null && !closed) {
+                closed = true;
+                recorder.end(this);
+            }
+        }
+    }
+}
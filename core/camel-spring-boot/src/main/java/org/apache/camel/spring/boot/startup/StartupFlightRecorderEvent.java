@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.startup;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Emits a recorded startup step as a Java Flight Recorder event.
+ * <p/>
+ * The JFR API is only accessed by reflection, as it is not available on every JVM. The event type is defined
+ * at runtime with <tt>jdk.jfr.EventFactory</tt> the first time it is used.
+ */
+final class StartupFlightRecorderEvent {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupFlightRecorderEvent.class);
+
+    // the indexes of the fields of the event type
+    private static final int ID = 0;
+    private static final int PARENT_ID = 1;
+    private static final int TYPE = 2;
+    private static final int NAME = 3;
+    private static final int ALLOCATED = 4;
+
+    private final Object event;
+
+    private StartupFlightRecorderEvent(Object event) {
+        this.event = event;
+    }
+
+    static boolean isAvailable() {
+        return EventType.INSTANCE != null;
+    }
+
+    static StartupFlightRecorderEvent begin() {
+        EventType type = EventType.INSTANCE;
+        if (type == null) {
+            return null;
+        }
+        try {
+            Object event = type.newEvent.invoke(type.factory);
+            type.begin.invoke(event);
+            return new StartupFlightRecorderEvent(event);
+        } catch (Exception e) {
+            LOG.debug("Cannot begin the flight recorder event due: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    void commit(StartupStep step) {
+        EventType type = EventType.INSTANCE;
+        try {
+            type.end.invoke(event);
+            if ((Boolean) type.shouldCommit.invoke(event)) {
+                type.set.invoke(event, ID, step.getId());
+                type.set.invoke(event, PARENT_ID, step.getParentId());
+                type.set.invoke(event, TYPE, step.getType());
+                type.set.invoke(event, NAME, step.getName());
+                type.set.invoke(event, ALLOCATED, step.getAllocated());
+                type.commit.invoke(event);
+            }
+        } catch (Exception e) {
+            LOG.debug("Cannot commit the flight recorder event due: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * The event type defined with the JFR API, which is <tt>null</tt> if JFR is not available.
+     */
+    private static final class EventType {
+
+        static final EventType INSTANCE = create();
+
+        final Object factory;
+        final Method newEvent;
+        final Method begin;
+        final Method end;
+        final Method shouldCommit;
+        final Method set;
+        final Method commit;
+
+        private EventType(Object factory, Class<?> factoryClass, Class<?> eventClass) throws Exception {
+            this.factory = factory;
+            this.newEvent = factoryClass.getMethod("newEvent");
+            this.begin = eventClass.getMethod("begin");
+            this.end = eventClass.getMethod("end");
+            this.shouldCommit = eventClass.getMethod("shouldCommit");
+            this.set = eventClass.getMethod("set", int.class, Object.class);
+            this.commit = eventClass.getMethod("commit");
+        }
+
+        private static EventType create() {
+            try {
+                Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+                Class<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor");
+                Constructor<?> annotation = annotationElement.getConstructor(Class.class, Object.class);
+                Constructor<?> field = valueDescriptor.getConstructor(Class.class, String.class, List.class);
+
+                List<Object> annotations = Arrays.asList(
+                    annotation.newInstance(Class.forName("jdk.jfr.Name"), "org.apache.camel.spring.boot.Startup"),
+                    annotation.newInstance(Class.forName("jdk.jfr.Label"), "Camel Startup Step"),
+                    annotation.newInstance(Class.forName("jdk.jfr.Description"), "A step of starting Camel on Spring Boot"),
+                    annotation.newInstance(Class.forName("jdk.jfr.Category"), new String[]{"Camel", "Spring Boot"}),
+                    annotation.newInstance(Class.forName("jdk.jfr.StackTrace"), false));
+
+                // the fields must be in the order of their indexes
+                List<Object> fields = Arrays.asList(
+                    field.newInstance(int.class, "id", label(annotation, "Id")),
+                    field.newInstance(int.class, "parentId", label(annotation, "Parent Id")),
+                    field.newInstance(String.class, "type", label(annotation, "Type")),
+                    field.newInstance(String.class, "name", label(annotation, "Name")),
+                    field.newInstance(long.class, "allocated", Arrays.asList(
+                        annotation.newInstance(Class.forName("jdk.jfr.Label"), "Allocated"),
+                        annotation.newInstance(Class.forName("jdk.jfr.DataAmount"), "BYTES"))));
+
+                Class<?> factoryClass = Class.forName("jdk.jfr.EventFactory");
+                Object factory = factoryClass.getMethod("create", List.class, List.class).invoke(null, annotations, fields);
+                return new EventType(factory, factoryClass, Class.forName("jdk.jfr.Event"));
+            } catch (Throwable e) {
+                LOG.debug("Java Flight Recorder is not available due: {}", e.getMessage());
+                return null;
+            }
+        }
+
+        private static List<Object> label(Constructor<?> annotation, String label) throws Exception {
+            return Collections.singletonList(annotation.newInstance(Class.forName("jdk.jfr.Label"), label));
+        }
+    }
+}
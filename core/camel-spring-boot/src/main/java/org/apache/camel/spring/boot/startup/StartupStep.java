@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.startup;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * A recorded step of starting Camel on Spring Boot.
+ */
+@JsonPropertyOrder({"id", "parentId", "level", "type", "name", "beginTime", "duration", "allocated"})
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class StartupStep {
+
+    private final int id;
+
+    private final int parentId;
+
+    private final int level;
+
+    private final String type;
+
+    private final String name;
+
+    private final long beginTime;
+
+    private final long duration;
+
+    private final long allocated;
+
+    public StartupStep(int id, int parentId, int level, String type, String name, long beginTime, long duration, long allocated) {
+        this.id = id;
+        this.parentId = parentId;
+        this.level = level;
+        this.type = type;
+        this.name = name;
+        this.beginTime = beginTime;
+        this.duration = duration;
+        this.allocated = allocated;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * The id of the enclosing step, or 0 for a top level step.
+     */
+    public int getParentId() {
+        return parentId;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The time in millis since the recorder was created when the step has begun.
+     */
+    public long getBeginTime() {
+        return beginTime;
+    }
+
+    /**
+     * The duration of the step in millis.
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * The memory allocated by the thread during the step in bytes, or -1 if the JVM cannot measure it.
+     */
+    public long getAllocated() {
+        return allocated;
+    }
+
+    @Override
+    public String toString() {
+        return type + ":" + name + " (" + duration + " ms)";
+    }
+}
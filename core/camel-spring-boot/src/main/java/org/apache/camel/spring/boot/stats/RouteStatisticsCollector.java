@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.stats;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Route;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.RoutePolicySupport;
+
+/**
+ * Collects the statistics of the routes in counters kept in memory, so the statistics of many routes can be read
+ * at once with {@link #snapshot(Collection)} without looking up the managed route of every route.
+ * <p/>
+ * The increase of the totals can be read with {@link #deltaSnapshot(Collection, String)}, where each client
+ * has its own baseline, so clients do not affect the deltas of each other.
+ * <p/>
+ * The collector is a {@link RoutePolicyFactory}, so it must be registered before the routes are created,
+ * which is done by declaring it as a bean.
+ */
+public class RouteStatisticsCollector implements RoutePolicyFactory {
+
+    /**
+     * The maximum number of clients whose baseline is kept, the baseline of the least recently used client
+     * is discarded when there are more clients.
+     */
+    public static final int MAXIMUM_CLIENTS = 16;
+
+    private final Map<String, RouteCounters> counters = new ConcurrentHashMap<>();
+    // the totals of the previous delta snapshot of each client by route id
+    private final Map<String, Map<String, long[]>> baselines = new LinkedHashMap<String, Map<String, long[]>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Map<String, long[]>> eldest) {
+            return size() > MAXIMUM_CLIENTS;
+        }
+    };
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+        RouteCounters answer = new RouteCounters(routeId);
+        counters.put(routeId, answer);
+        return answer;
+    }
+
+    /**
+     * Takes a snapshot of the statistics of the given routes, routes without statistics are skipped.
+     *
+     * @param routeIds the ids of the routes
+     */
+    public RouteStatisticsSnapshot snapshot(Collection<String> routeIds) {
+        RouteStatisticsSnapshot answer = new RouteStatisticsSnapshot(System.currentTimeMillis(), false, routeIds.size());
+        for (String routeId : routeIds) {
+            RouteCounters route = counters.get(routeId);
+            if (route != null) {
+                route.addTo(answer, null);
+            }
+        }
+        return answer.trim();
+    }
+
+    /**
+     * Takes a snapshot of the statistics of all the routes.
+     */
+    public RouteStatisticsSnapshot snapshot() {
+        return snapshot(counters.keySet());
+    }
+
+    /**
+     * Takes a snapshot of the statistics of the given routes, where the exchanges and processing time totals are
+     * the increase since the previous delta snapshot of the client, and makes this snapshot the baseline of the
+     * client. The first delta snapshot of a client (or of a route) contains the totals.
+     *
+     * @param routeIds the ids of the routes
+     * @param client   the name of the client
+     */
+    public RouteStatisticsSnapshot deltaSnapshot(Collection<String> routeIds, String client) {
+        RouteStatisticsSnapshot answer = new RouteStatisticsSnapshot(System.currentTimeMillis(), true, routeIds.size());
+        synchronized (baselines) {
+            Map<String, long[]> baseline = baselines.computeIfAbsent(client, k -> new HashMap<>());
+            // forget the removed routes
+            baseline.keySet().retainAll(counters.keySet());
+            for (String routeId : routeIds) {
+                RouteCounters route = counters.get(routeId);
+                if (route != null) {
+                    route.addTo(answer, baseline.computeIfAbsent(routeId, k -> new long[3]));
+                }
+            }
+        }
+        return answer.trim();
+    }
+
+    private final class RouteCounters extends RoutePolicySupport {
+        private final String routeId;
+        // the start time of the inflight exchanges, kept here rather than as an exchange property so it is not
+        // visible to the routes nor copied to the exchanges created from them (exchanges use identity equality)
+        private final Map<Exchange, Long> started = new ConcurrentHashMap<>();
+        private final LongAdder total = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder inflight = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final AtomicLong minTime = new AtomicLong(-1);
+        private final AtomicLong maxTime = new AtomicLong(-1);
+        private volatile long lastTime = -1;
+
+        RouteCounters(String routeId) {
+            this.routeId = routeId;
+        }
+
+        @Override
+        public void onExchangeBegin(Route route, Exchange exchange) {
+            inflight.increment();
+            started.put(exchange, System.nanoTime());
+        }
+
+        @Override
+        public void onExchangeDone(Route route, Exchange exchange) {
+            Long start = started.remove(exchange);
+            inflight.decrement();
+            total.increment();
+            if (exchange.isFailed()) {
+                failed.increment();
+            }
+            if (start != null) {
+                long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                totalTime.add(time);
+                minTime.accumulateAndGet(time, (min, t) -> min < 0 ? t : Math.min(min, t));
+                maxTime.accumulateAndGet(time, Math::max);
+                lastTime = time;
+            }
+        }
+
+        @Override
+        public void onRemove(Route route) {
+            counters.remove(routeId, this);
+            started.clear();
+        }
+
+        /**
+         * Adds the counters to the snapshot, as the increase since the given baseline totals, which are then
+         * updated, unless the baseline is <tt>null</tt>.
+         */
+        void addTo(RouteStatisticsSnapshot snapshot, long[] baseline) {
+            long t = total.sum();
+            long f = failed.sum();
+            long tt = totalTime.sum();
+            if (baseline != null) {
+                snapshot.add(routeId, t - baseline[0], f - baseline[1], inflight.sum(), tt - baseline[2], minTime.get(), maxTime.get(), lastTime);
+                baseline[0] = t;
+                baseline[1] = f;
+                baseline[2] = tt;
+            } else {
+                snapshot.add(routeId, t, f, inflight.sum(), tt, minTime.get(), maxTime.get(), lastTime);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.stats;
+
+import java.util.Arrays;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * A snapshot of the statistics of many routes, stored as one array per counter with the counters of the route
+ * at index <tt>i</tt> of {@link #getRouteIds()} at the same index of every array.
+ * <p/>
+ * When the snapshot is a delta, the exchanges and processing time totals are the increase since the previous
+ * delta snapshot of the same client, and the other counters are the current values.
+ */
+@JsonPropertyOrder({"timestamp", "delta", "routeIds", "exchangesTotal", "exchangesFailed", "exchangesInflight",
+    "totalProcessingTime", "minProcessingTime", "maxProcessingTime", "lastProcessingTime"})
+public final class RouteStatisticsSnapshot {
+
+    private final long timestamp;
+    private final boolean delta;
+    private String[] routeIds;
+    private long[] exchangesTotal;
+    private long[] exchangesFailed;
+    private long[] exchangesInflight;
+    private long[] totalProcessingTime;
+    private long[] minProcessingTime;
+    private long[] maxProcessingTime;
+    private long[] lastProcessingTime;
+    private int size;
+
+    public RouteStatisticsSnapshot(long timestamp, boolean delta, int capacity) {
+        this.timestamp = timestamp;
+        this.delta = delta;
+        this.routeIds = new String[capacity];
+        this.exchangesTotal = new long[capacity];
+        this.exchangesFailed = new long[capacity];
+        this.exchangesInflight = new long[capacity];
+        this.totalProcessingTime = new long[capacity];
+        this.minProcessingTime = new long[capacity];
+        this.maxProcessingTime = new long[capacity];
+        this.lastProcessingTime = new long[capacity];
+    }
+
+    /**
+     * Adds the counters of a route, the processing times are in millis.
+     */
+    public void add(String routeId, long total, long failed, long inflight, long totalTime, long minTime, long maxTime, long lastTime) {
+        int index = size++;
+        routeIds[index] = routeId;
+        exchangesTotal[index] = total;
+        exchangesFailed[index] = failed;
+        exchangesInflight[index] = inflight;
+        totalProcessingTime[index] = totalTime;
+        minProcessingTime[index] = minTime;
+        maxProcessingTime[index] = maxTime;
+        lastProcessingTime[index] = lastTime;
+    }
+
+    /**
+     * Trims the arrays to the number of routes added, when fewer routes than the capacity have been added.
+     */
+    public RouteStatisticsSnapshot trim() {
+        if (size < routeIds.length) {
+            routeIds = Arrays.copyOf(routeIds, size);
+            exchangesTotal = Arrays.copyOf(exchangesTotal, size);
+            exchangesFailed = Arrays.copyOf(exchangesFailed, size);
+            exchangesInflight = Arrays.copyOf(exchangesInflight, size);
+            totalProcessingTime = Arrays.copyOf(totalProcessingTime, size);
+            minProcessingTime = Arrays.copyOf(minProcessingTime, size);
+            maxProcessingTime = Arrays.copyOf(maxProcessingTime, size);
+            lastProcessingTime = Arrays.copyOf(lastProcessingTime, size);
+        }
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The time in millis when the snapshot was taken.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public boolean isDelta() {
+        return delta;
+    }
+
+    public String[] getRouteIds() {
+        return routeIds;
+    }
+
+    public long[] getExchangesTotal() {
+        return exchangesTotal;
+    }
+
+    public long[] getExchangesFailed() {
+        return exchangesFailed;
+    }
+
+    public long[] getExchangesInflight() {
+        return exchangesInflight;
+    }
+
+    public long[] getTotalProcessingTime() {
+        return totalProcessingTime;
+    }
+
+    public long[] getMinProcessingTime() {
+        return minProcessingTime;
+    }
+
+    public long[] getMaxProcessingTime() {
+        return maxProcessingTime;
+    }
+
+    public long[] getLastProcessingTime() {
+        return lastProcessingTime;
+    }
+}
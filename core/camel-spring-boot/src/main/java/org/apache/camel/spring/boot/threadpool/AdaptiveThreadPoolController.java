@@ -0,0 +1,433 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Resizes the thread pools of the registered thread pool profiles at runtime, according to the time the tasks
+ * wait in their queue and their throughput, in the style of a gradient concurrency limiter.
+ * <p/>
+ * At each interval the smoothed queue latency of each thread pool is compared with the target latency:
+ * <ul>
+ *     <li>above the target, the pool size is increased in proportion of the gap, unless the previous increase
+ *     did not improve the throughput, in which case the bottleneck is downstream and the size is kept until the
+ *     throughput changes</li>
+ *     <li>well below the target with idle threads, the pool size is decreased by a tenth</li>
+ * </ul>
+ * The core pool size is kept within the configured bounds, and the max pool size keeps its distance to the core
+ * pool size. Only the executors are resized: the thread pool profiles are shared by the thread pools, so they are
+ * left as configured. Only the thread pools created after the controller are resized.
+ */
+public class AdaptiveThreadPoolController implements InstrumentedThreadPoolFactory.Listener, InitializingBean, DisposableBean {
+
+    /**
+     * The action decided for a thread pool.
+     */
+    public enum Action {
+        INCREASE,
+        DECREASE,
+        HOLD
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveThreadPoolController.class);
+    private static final int MAX_DECISIONS = 100;
+    private static final double SMOOTHING = 0.3;
+    private static final double THROUGHPUT_TOLERANCE = 0.05;
+
+    private final CamelContext camelContext;
+    private final long interval;
+    private final long targetLatency;
+    private final int minPoolSize;
+    private final int maxPoolSize;
+    private final Set<String> profiles;
+    private final Map<InstrumentedThreadPoolExecutor, PoolState> pools = new ConcurrentHashMap<>();
+    private final Deque<Decision> decisions = new ArrayDeque<>();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param camelContext  the camel context
+     * @param interval      the interval in millis between the decisions
+     * @param targetLatency the target time in millis the tasks wait in the queue
+     * @param minPoolSize   the min core pool size
+     * @param maxPoolSize   the max core pool size
+     * @param profiles      the ids of the profiles to control, or empty for all the registered profiles
+     */
+    public AdaptiveThreadPoolController(CamelContext camelContext, long interval, long targetLatency,
+                                        int minPoolSize, int maxPoolSize, Collection<String> profiles) {
+        if (minPoolSize < 1 || maxPoolSize < minPoolSize) {
+            throw new IllegalArgumentException("Invalid pool size bounds: " + minPoolSize + " - " + maxPoolSize);
+        }
+        this.camelContext = camelContext;
+        this.interval = interval;
+        this.targetLatency = TimeUnit.MILLISECONDS.toNanos(targetLatency);
+        this.minPoolSize = minPoolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.profiles = profiles != null ? new HashSet<>(profiles) : new HashSet<>();
+
+        InstrumentedThreadPoolFactory.install(camelContext.getExecutorServiceManager()).addListener(this);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        scheduler = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "AdaptiveThreadPoolController");
+        scheduler.scheduleWithFixedDelay(this::control, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (scheduler != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(scheduler);
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public void onThreadPoolCreated(String profileId, String name, ExecutorService executor) {
+        if (executor instanceof InstrumentedThreadPoolExecutor && isControlled(profileId)) {
+            InstrumentedThreadPoolExecutor tpe = (InstrumentedThreadPoolExecutor) executor;
+            pools.put(tpe, new PoolState(tpe, System.nanoTime()));
+        }
+    }
+
+    /**
+     * The current state of the controlled thread pools.
+     */
+    public List<PoolInfo> getPools() {
+        List<PoolInfo> answer = new ArrayList<>();
+        for (PoolState state : pools.values()) {
+            answer.add(new PoolInfo(state));
+        }
+        return answer;
+    }
+
+    /**
+     * The last decisions, the most recent first.
+     */
+    public List<Decision> getDecisions() {
+        synchronized (decisions) {
+            return new ArrayList<>(decisions);
+        }
+    }
+
+    /**
+     * Samples the thread pools and resizes them.
+     */
+    void control() {
+        try {
+            long now = System.nanoTime();
+            for (Iterator<PoolState> it = pools.values().iterator(); it.hasNext();) {
+                PoolState state = it.next();
+                if (state.executor.isShutdown()) {
+                    it.remove();
+                    continue;
+                }
+                Decision decision = state.sample(now);
+                if (decision != null) {
+                    record(decision);
+                }
+            }
+        } catch (Exception e) {
+            LOG.warn("Error controlling thread pools: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean isControlled(String profileId) {
+        if (profileId == null) {
+            return false;
+        }
+        if (!profiles.isEmpty()) {
+            return profiles.contains(profileId);
+        }
+        return getProfile(profileId) != null;
+    }
+
+    private ThreadPoolProfile getProfile(String profileId) {
+        ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
+        ThreadPoolProfile profile = manager.getDefaultThreadPoolProfile();
+        if (profile != null && profileId.equals(profile.getId())) {
+            return profile;
+        }
+        return manager.getThreadPoolProfile(profileId);
+    }
+
+    private void record(Decision decision) {
+        LOG.debug("Thread pool: {} of profile: {} {} from {} to {} ({})", decision.name, decision.profile,
+            decision.action, decision.previousPoolSize, decision.poolSize, decision.reason);
+        synchronized (decisions) {
+            decisions.addFirst(decision);
+            if (decisions.size() > MAX_DECISIONS) {
+                decisions.removeLast();
+            }
+        }
+    }
+
+    private void resize(InstrumentedThreadPoolExecutor executor, int poolSize, int maxPoolSize) {
+        // keep the core pool size lower than the max pool size at all times
+        if (maxPoolSize > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(maxPoolSize);
+            executor.setCorePoolSize(poolSize);
+        } else {
+            executor.setCorePoolSize(poolSize);
+            executor.setMaximumPoolSize(maxPoolSize);
+        }
+    }
+
+    private final class PoolState {
+        private final InstrumentedThreadPoolExecutor executor;
+        private final int headroom;
+        private long lastTime;
+        private long lastExecuted;
+        private long lastLatency;
+        // read by the endpoint
+        private volatile double latency = -1;
+        private volatile double throughput = -1;
+        private double throughputBeforeIncrease = -1;
+        private double throughputOnHold = -1;
+        private Action lastAction = Action.HOLD;
+
+        PoolState(InstrumentedThreadPoolExecutor executor, long now) {
+            this.executor = executor;
+            this.headroom = Math.max(0, executor.getMaximumPoolSize() - executor.getCorePoolSize());
+            this.lastTime = now;
+        }
+
+        Decision sample(long now) {
+            long executed = executor.getExecutedCount();
+            long totalLatency = executor.getTotalLatency();
+            long tasks = executed - lastExecuted;
+            double elapsed = Math.max(1, now - lastTime) / 1_000_000_000.0;
+
+            double sampleLatency;
+            if (tasks > 0) {
+                sampleLatency = (double) (totalLatency - lastLatency) / tasks;
+            } else if (executor.getQueue().isEmpty()) {
+                sampleLatency = 0;
+            } else {
+                // tasks are waiting and none could start
+                sampleLatency = 2.0 * targetLatency;
+            }
+            double sampleThroughput = tasks / elapsed;
+
+            latency = latency < 0 ? sampleLatency : latency + SMOOTHING * (sampleLatency - latency);
+            throughput = throughput < 0 ? sampleThroughput : throughput + SMOOTHING * (sampleThroughput - throughput);
+            lastTime = now;
+            lastExecuted = executed;
+            lastLatency = totalLatency;
+
+            int size = executor.getCorePoolSize();
+            double gradient = latency / targetLatency;
+            int newSize = size;
+            Action action = Action.HOLD;
+            String reason = null;
+
+            if (gradient <= 1.0) {
+                // the latency is back on target, so the next increase is evaluated again
+                throughputOnHold = -1;
+            }
+            if (gradient > 1.0) {
+                if (lastAction == Action.INCREASE && throughput < throughputBeforeIncrease * (1 + THROUGHPUT_TOLERANCE)) {
+                    // more threads did not help, the bottleneck is downstream
+                    reason = "Latency above target without throughput gain";
+                    throughputOnHold = throughput;
+                } else if (throughputOnHold >= 0 && Math.abs(throughput - throughputOnHold) <= throughputOnHold * THROUGHPUT_TOLERANCE) {
+                    // keep holding until the downstream throughput changes
+                    reason = "Latency above target without throughput change";
+                } else {
+                    throughputOnHold = -1;
+                    newSize = size + Math.max(1, (int) Math.ceil(size * (Math.min(gradient, 2.0) - 1.0)));
+                    reason = "Latency above target";
+                }
+            } else if (gradient < 0.5 && executor.getActiveCount() < size) {
+                newSize = Math.max(executor.getActiveCount(), size - Math.max(1, size / 10));
+                reason = "Latency below target";
+            }
+            newSize = Math.max(minPoolSize, Math.min(maxPoolSize, newSize));
+
+            if (newSize > size) {
+                action = Action.INCREASE;
+                throughputBeforeIncrease = throughput;
+            } else if (newSize < size) {
+                action = Action.DECREASE;
+            }
+            Action previous = lastAction;
+            lastAction = action;
+
+            if (action != Action.HOLD) {
+                resize(executor, newSize, newSize + headroom);
+            } else if (reason == null || previous == Action.HOLD) {
+                // only report holding when it follows a resize
+                return null;
+            }
+            return new Decision(System.currentTimeMillis(), executor.getProfileId(), executor.getName(), action,
+                size, newSize, latency / 1_000_000.0, throughput, reason);
+        }
+    }
+
+    /**
+     * The state of a controlled thread pool.
+     */
+    public static final class PoolInfo {
+        private final String profile;
+        private final String name;
+        private final int poolSize;
+        private final int maxPoolSize;
+        private final int activeCount;
+        private final int queueSize;
+        private final double latency;
+        private final double throughput;
+
+        PoolInfo(PoolState state) {
+            this.profile = state.executor.getProfileId();
+            this.name = state.executor.getName();
+            this.poolSize = state.executor.getCorePoolSize();
+            this.maxPoolSize = state.executor.getMaximumPoolSize();
+            this.activeCount = state.executor.getActiveCount();
+            this.queueSize = state.executor.getQueue().size();
+            this.latency = Math.max(0, state.latency) / 1_000_000.0;
+            this.throughput = Math.max(0, state.throughput);
+        }
+
+        public String getProfile() {
+            return profile;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+
+        public int getActiveCount() {
+            return activeCount;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        /**
+         * The smoothed time in millis the tasks wait in the queue.
+         */
+        public double getLatency() {
+            return latency;
+        }
+
+        /**
+         * The smoothed number of tasks started per second.
+         */
+        public double getThroughput() {
+            return throughput;
+        }
+    }
+
+    /**
+     * A decision taken for a thread pool.
+     */
+    public static final class Decision {
+        private final long timestamp;
+        private final String profile;
+        private final String name;
+        private final Action action;
+        private final int previousPoolSize;
+        private final int poolSize;
+        private final double latency;
+        private final double throughput;
+        private final String reason;
+
+        Decision(long timestamp, String profile, String name, Action action, int previousPoolSize, int poolSize,
+                 double latency, double throughput, String reason) {
+            this.timestamp = timestamp;
+            this.profile = profile;
+            this.name = name;
+            this.action = action;
+            this.previousPoolSize = previousPoolSize;
+            this.poolSize = poolSize;
+            this.latency = latency;
+            this.throughput = throughput;
+            this.reason = reason;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public String getProfile() {
+            return profile;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Action getAction() {
+            return action;
+        }
+
+        public int getPreviousPoolSize() {
+            return previousPoolSize;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        /**
+         * The smoothed time in millis the tasks waited in the queue.
+         */
+        public double getLatency() {
+            return latency;
+        }
+
+        /**
+         * The smoothed number of tasks started per second.
+         */
+        public double getThroughput() {
+            return throughput;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -22,10 +22,15 @@ import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnBean(CamelAutoConfiguration.class)
 @EnableConfigurationProperties(CamelThreadPoolConfigurationProperties.class)
@@ -56,18 +61,51 @@ public class CamelThreadPoolAutoConfiguration {
                     .maxQueueSize(v.getMaxQueueSize())
                     .allowCoreThreadTimeOut(v.getAllowCoreThreadTimeOut())
                     .rejectedPolicy(v.getRejectedPolicy()).build();
-            if (!tpp.isEmpty()) {
+            ThreadPoolType type = v.getType() != null ? v.getType() : tp.getType();
+            if (!tpp.isEmpty() || type != null) {
                 camelContext.getExecutorServiceManager().registerThreadPoolProfile(tpp);
             }
+            if (type != null && type != ThreadPoolType.THREAD_POOL) {
+                threadPoolFactory(camelContext).setThreadPoolType(tpp.getId(), type);
+            }
         });
 
-        if (!dp.isEmpty()) {
+        if (!dp.isEmpty() || tp.getType() != null) {
             dp.setDefaultProfile(true);
             camelContext.getExecutorServiceManager().setDefaultThreadPoolProfile(dp);
         }
+        if (tp.getType() != null && tp.getType() != ThreadPoolType.THREAD_POOL) {
+            CamelThreadPoolFactory factory = threadPoolFactory(camelContext);
+            factory.setThreadPoolType(dp.getId(), tp.getType());
+            factory.setDefaultProfileId(dp.getId());
+        }
 
         // need to return something
         return dp;
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "camel.threadpool", name = "adaptive-enabled")
+    public AdaptiveThreadPoolController adaptiveThreadPoolController(CamelContext camelContext, CamelThreadPoolConfigurationProperties tp) {
+        return new AdaptiveThreadPoolController(camelContext, tp.getAdaptiveInterval(), tp.getAdaptiveTargetLatency(),
+            tp.getAdaptiveMinPoolSize(), tp.getAdaptiveMaxPoolSize(), tp.getAdaptiveProfiles());
+    }
+
+    private static CamelThreadPoolFactory threadPoolFactory(CamelContext camelContext) {
+        return CamelThreadPoolFactory.install(camelContext.getExecutorServiceManager());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    @ConditionalOnProperty(prefix = "camel.threadpool", name = "metrics-enabled", matchIfMissing = true)
+    static class CamelThreadPoolMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public CamelThreadPoolMetrics camelThreadPoolMetrics(CamelContext camelContext) {
+            return new CamelThreadPoolMetrics(camelContext);
+        }
+    }
+
 }
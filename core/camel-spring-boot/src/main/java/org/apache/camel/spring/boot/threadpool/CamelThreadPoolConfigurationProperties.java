@@ -16,7 +16,9 @@
  */
 package org.apache.camel.spring.boot.threadpool;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -63,6 +65,50 @@ public class CamelThreadPoolConfigurationProperties {
      */
     private ThreadPoolRejectedPolicy rejectedPolicy;
 
+    /**
+     * Sets the default type of thread pool: a classic thread pool, a work-stealing fork join pool or a virtual
+     * thread per task (requires Java 21 or later, otherwise a classic thread pool is used).
+     * The type of the default profile is also used for cached thread pools when using virtual threads.
+     */
+    private ThreadPoolType type;
+
+    /**
+     * Whether to publish Micrometer metrics (active threads, queue size, rejected tasks and queue latency)
+     * of the thread pools created by Camel, when Micrometer is on the classpath
+     */
+    private boolean metricsEnabled = true;
+
+    /**
+     * Whether to resize the thread pools of the registered profiles at runtime according to the time the tasks
+     * wait in the queue and their throughput
+     */
+    private boolean adaptiveEnabled;
+
+    /**
+     * The interval in millis between the resizing decisions of the adaptive thread pools
+     */
+    private long adaptiveInterval = 5000;
+
+    /**
+     * The target time in millis the tasks wait in the queue of the adaptive thread pools
+     */
+    private long adaptiveTargetLatency = 50;
+
+    /**
+     * The minimum core pool size of the adaptive thread pools
+     */
+    private int adaptiveMinPoolSize = 1;
+
+    /**
+     * The maximum core pool size of the adaptive thread pools
+     */
+    private int adaptiveMaxPoolSize = 100;
+
+    /**
+     * The ids of the thread pool profiles to resize, all the registered profiles when empty
+     */
+    private List<String> adaptiveProfiles = new ArrayList<>();
+
     /**
      * Adds a configuration for a specific thread pool profile (inherits default values)
      */
@@ -124,6 +170,70 @@ public class CamelThreadPoolConfigurationProperties {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public ThreadPoolType getType() {
+        return type;
+    }
+
+    public void setType(ThreadPoolType type) {
+        this.type = type;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public boolean isAdaptiveEnabled() {
+        return adaptiveEnabled;
+    }
+
+    public void setAdaptiveEnabled(boolean adaptiveEnabled) {
+        this.adaptiveEnabled = adaptiveEnabled;
+    }
+
+    public long getAdaptiveInterval() {
+        return adaptiveInterval;
+    }
+
+    public void setAdaptiveInterval(long adaptiveInterval) {
+        this.adaptiveInterval = adaptiveInterval;
+    }
+
+    public long getAdaptiveTargetLatency() {
+        return adaptiveTargetLatency;
+    }
+
+    public void setAdaptiveTargetLatency(long adaptiveTargetLatency) {
+        this.adaptiveTargetLatency = adaptiveTargetLatency;
+    }
+
+    public int getAdaptiveMinPoolSize() {
+        return adaptiveMinPoolSize;
+    }
+
+    public void setAdaptiveMinPoolSize(int adaptiveMinPoolSize) {
+        this.adaptiveMinPoolSize = adaptiveMinPoolSize;
+    }
+
+    public int getAdaptiveMaxPoolSize() {
+        return adaptiveMaxPoolSize;
+    }
+
+    public void setAdaptiveMaxPoolSize(int adaptiveMaxPoolSize) {
+        this.adaptiveMaxPoolSize = adaptiveMaxPoolSize;
+    }
+
+    public List<String> getAdaptiveProfiles() {
+        return adaptiveProfiles;
+    }
+
+    public void setAdaptiveProfiles(List<String> adaptiveProfiles) {
+        this.adaptiveProfiles = adaptiveProfiles;
+    }
+
     public Map<String, ThreadPoolProfileConfigurationProperties> getConfig() {
         return config;
     }
@@ -135,7 +245,7 @@ public class CamelThreadPoolConfigurationProperties {
     public boolean isEmpty() {
         return poolSize == null && maxPoolSize == null && keepAliveTime == null && timeUnit == null
                 && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null
-                && config.isEmpty();
+                && type == null && config.isEmpty();
     }
 
     @ConfigurationProperties(prefix = "camel.threadpool.config")
@@ -183,6 +293,12 @@ public class CamelThreadPoolConfigurationProperties {
          */
         private ThreadPoolRejectedPolicy rejectedPolicy;
 
+        /**
+         * Sets the type of thread pool: a classic thread pool, a work-stealing fork join pool or a virtual
+         * thread per task (requires Java 21 or later, otherwise a classic thread pool is used).
+         */
+        private ThreadPoolType type;
+
         public String getId() {
             return id;
         }
@@ -247,6 +363,14 @@ public class CamelThreadPoolConfigurationProperties {
             this.rejectedPolicy = rejectedPolicy;
         }
 
+        public ThreadPoolType getType() {
+            return type;
+        }
+
+        public void setType(ThreadPoolType type) {
+            this.type = type;
+        }
+
     }
 }
 
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spi.ThreadPoolFactory;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ThreadPoolFactory} which creates fork join pools or virtual thread per task executors for the
+ * thread pool profiles configured with a {@link ThreadPoolType}, and delegates to another factory otherwise.
+ * <p/>
+ * Cached thread pools use virtual threads when the type of the default profile is {@link ThreadPoolType#VIRTUAL},
+ * and scheduled thread pools are always created by the delegate. Virtual threads are looked up by reflection, so
+ * a classic thread pool is used on JVMs which do not support them.
+ */
+public class CamelThreadPoolFactory implements ThreadPoolFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelThreadPoolFactory.class);
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+    private final ExecutorServiceManager manager;
+    private final ThreadPoolFactory delegate;
+    private final Map<String, ThreadPoolType> types = new ConcurrentHashMap<>();
+    private final AtomicBoolean warned = new AtomicBoolean();
+    private volatile String defaultProfileId;
+
+    public CamelThreadPoolFactory(ExecutorServiceManager manager, ThreadPoolFactory delegate) {
+        this.manager = manager;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Installs the factory on the given executor service manager, unless already installed. The factory is placed
+     * in front of the current one, but behind an {@link InstrumentedThreadPoolFactory} so the thread pools it
+     * creates are instrumented too.
+     */
+    public static CamelThreadPoolFactory install(ExecutorServiceManager manager) {
+        ThreadPoolFactory current = manager.getThreadPoolFactory();
+        InstrumentedThreadPoolFactory instrumented = null;
+        if (current instanceof InstrumentedThreadPoolFactory) {
+            instrumented = (InstrumentedThreadPoolFactory) current;
+            current = instrumented.getDelegate();
+        }
+        if (current instanceof CamelThreadPoolFactory) {
+            return (CamelThreadPoolFactory) current;
+        }
+
+        CamelThreadPoolFactory answer = new CamelThreadPoolFactory(manager, current);
+        if (instrumented != null) {
+            instrumented.setDelegate(answer);
+        } else {
+            manager.setThreadPoolFactory(answer);
+        }
+        return answer;
+    }
+
+    public ThreadPoolFactory getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Sets the type of the thread pools of the given profile.
+     */
+    public void setThreadPoolType(String profileId, ThreadPoolType type) {
+        if (type != null) {
+            types.put(profileId, type);
+        } else {
+            types.remove(profileId);
+        }
+    }
+
+    /**
+     * Gets the type of the thread pools of the given profile.
+     */
+    public ThreadPoolType getThreadPoolType(String profileId) {
+        ThreadPoolType answer = profileId != null ? types.get(profileId) : null;
+        return answer != null ? answer : ThreadPoolType.THREAD_POOL;
+    }
+
+    /**
+     * Sets the id of the default profile, which type is also used for the cached thread pools.
+     */
+    public void setDefaultProfileId(String defaultProfileId) {
+        this.defaultProfileId = defaultProfileId;
+    }
+
+    /**
+     * Whether virtual threads are supported by the JVM.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        if (getThreadPoolType(defaultProfileId) == ThreadPoolType.VIRTUAL && isVirtualThreadsSupported(null)) {
+            return newVirtualThreadPool(threadFactory);
+        }
+        return delegate.newCachedThreadPool(threadFactory);
+    }
+
+    @Override
+    public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        switch (getThreadPoolType(profile.getId())) {
+        case FORK_JOIN:
+            return newForkJoinPool(profile, threadFactory);
+        case VIRTUAL:
+            if (isVirtualThreadsSupported(profile.getId())) {
+                return newVirtualThreadPool(threadFactory);
+            }
+            return delegate.newThreadPool(profile, threadFactory);
+        default:
+            return delegate.newThreadPool(profile, threadFactory);
+        }
+    }
+
+    @Override
+    public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        return delegate.newScheduledThreadPool(profile, threadFactory);
+    }
+
+    private ExecutorService newForkJoinPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        int parallelism = profile.getMaxPoolSize() != null && profile.getMaxPoolSize() > 0
+            ? profile.getMaxPoolSize() : Runtime.getRuntime().availableProcessors();
+        String name = getName(threadFactory);
+
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(manager.resolveThreadName(name));
+            return thread;
+        };
+        // async mode as the tasks are event-style and never joined
+        return new InstrumentedForkJoinPool(parallelism, factory, null, true);
+    }
+
+    private ExecutorService newVirtualThreadPool(ThreadFactory threadFactory) {
+        String name = getName(threadFactory);
+
+        ThreadFactory factory = r -> {
+            Thread thread = VIRTUAL_THREAD_FACTORY.newThread(r);
+            thread.setName(manager.resolveThreadName(name));
+            return thread;
+        };
+        try {
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) method.invoke(null, factory);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot create virtual thread executor", e);
+        }
+    }
+
+    private boolean isVirtualThreadsSupported(String profileId) {
+        if (isVirtualThreadsSupported()) {
+            return true;
+        }
+        if (warned.compareAndSet(false, true)) {
+            LOG.warn("Virtual threads are not supported by this JVM, thread pool profile: {} uses a classic thread pool instead",
+                profileId != null ? profileId : defaultProfileId);
+        }
+        return false;
+    }
+
+    private static String getName(ThreadFactory threadFactory) {
+        if (threadFactory instanceof CamelThreadFactory) {
+            return ((CamelThreadFactory) threadFactory).getName();
+        }
+        return "Thread";
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            // Thread.ofVirtual().factory() using the public builder interface as the builder class is internal
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> type = Class.forName("java.lang.Thread$Builder");
+            return (ThreadFactory) type.getMethod("factory").invoke(builder);
+        } catch (Throwable e) {
+            // not supported (before Java 21, or a preview feature which is not enabled)
+            return null;
+        }
+    }
+}
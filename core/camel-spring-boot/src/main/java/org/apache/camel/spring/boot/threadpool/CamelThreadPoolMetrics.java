@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExecutorServiceManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A Micrometer {@link MeterBinder} for the thread pools created by the Camel {@link ExecutorServiceManager}, such
+ * as the ones of the profiles configured with <tt>camel.threadpool</tt>.
+ * <p/>
+ * The thread pool factory of the executor service manager is wrapped by an {@link InstrumentedThreadPoolFactory},
+ * and the following meters are registered with the <tt>profile</tt> and <tt>name</tt> tags for each thread pool
+ * created afterwards, and an <tt>id</tt> tag telling apart the thread pools having the same profile and name:
+ * <ul>
+ *     <li>camel.threadpool.active: the number of threads executing tasks</li>
+ *     <li>camel.threadpool.size: the number of threads</li>
+ *     <li>camel.threadpool.queued: the number of tasks in the queue</li>
+ *     <li>camel.threadpool.rejected: the number of rejected tasks</li>
+ *     <li>camel.threadpool.latency: the time the tasks have waited in the queue</li>
+ * </ul>
+ * The meters of a thread pool are removed when it has terminated, or been shut down for a fork join pool. The other
+ * thread pools, such as the scheduled thread pools, do not notify their termination, so their meters are removed
+ * when the next thread pool is created once they have been shut down. This way the meters of the thread pools
+ * created again and again, such as when routes are restarted, do not pile up.
+ */
+public class CamelThreadPoolMetrics implements MeterBinder, InstrumentedThreadPoolFactory.Listener {
+
+    private final List<PendingThreadPool> pending = new ArrayList<>();
+    private final AtomicLong ids = new AtomicLong();
+    // the meters of the thread pools which do not notify their termination
+    private final Map<ExecutorService, Runnable> unhooked = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    public CamelThreadPoolMetrics(CamelContext camelContext) {
+        InstrumentedThreadPoolFactory.install(camelContext.getExecutorServiceManager()).addListener(this);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        synchronized (pending) {
+            this.registry = registry;
+            // the thread pools created before the registry was bound
+            for (PendingThreadPool tp : pending) {
+                bind(registry, tp.profileId, tp.name, tp.executor);
+            }
+            pending.clear();
+        }
+    }
+
+    @Override
+    public void onThreadPoolCreated(String profileId, String name, ExecutorService executor) {
+        removeShutdown();
+        MeterRegistry answer = registry;
+        if (answer == null) {
+            synchronized (pending) {
+                answer = registry;
+                if (answer == null) {
+                    pending.add(new PendingThreadPool(profileId, name, executor));
+                    return;
+                }
+            }
+        }
+        bind(answer, profileId, name, executor);
+    }
+
+    private void bind(MeterRegistry registry, String profileId, String name, ExecutorService executor) {
+        // the meters of each thread pool must be distinct, as they are removed when it has terminated
+        Tags tags = Tags.of("profile", profileId != null ? profileId : "cached", "name", name != null ? name : "unknown",
+            "id", Long.toString(ids.incrementAndGet()));
+
+        List<Meter> meters = new ArrayList<>();
+        if (executor instanceof ForkJoinPool) {
+            ForkJoinPool pool = (ForkJoinPool) executor;
+            meters.add(Gauge.builder("camel.threadpool.active", pool, ForkJoinPool::getActiveThreadCount)
+                .tags(tags).description("The number of threads executing tasks").register(registry));
+            meters.add(Gauge.builder("camel.threadpool.size", pool, ForkJoinPool::getPoolSize)
+                .tags(tags).description("The number of threads").register(registry));
+            meters.add(Gauge.builder("camel.threadpool.queued", pool, p -> p.getQueuedSubmissionCount() + p.getQueuedTaskCount())
+                .tags(tags).description("The number of tasks in the queue").register(registry));
+        } else if (executor instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor tpe = (ThreadPoolExecutor) executor;
+            meters.add(Gauge.builder("camel.threadpool.active", tpe, ThreadPoolExecutor::getActiveCount)
+                .tags(tags).description("The number of threads executing tasks").register(registry));
+            meters.add(Gauge.builder("camel.threadpool.size", tpe, ThreadPoolExecutor::getPoolSize)
+                .tags(tags).description("The number of threads").register(registry));
+            meters.add(Gauge.builder("camel.threadpool.queued", tpe, e -> e.getQueue().size())
+                .tags(tags).description("The number of tasks in the queue").register(registry));
+        } else {
+            return;
+        }
+
+        if (executor instanceof InstrumentedThreadPoolExecutor) {
+            InstrumentedThreadPoolExecutor itpe = (InstrumentedThreadPoolExecutor) executor;
+            meters.add(FunctionCounter.builder("camel.threadpool.rejected", itpe, InstrumentedThreadPoolExecutor::getRejectedCount)
+                .tags(tags).description("The number of rejected tasks").register(registry));
+            meters.add(FunctionTimer.builder("camel.threadpool.latency", itpe, InstrumentedThreadPoolExecutor::getExecutedCount,
+                    InstrumentedThreadPoolExecutor::getTotalLatency, TimeUnit.NANOSECONDS)
+                .tags(tags).description("The time the tasks have waited in the queue").register(registry));
+        }
+
+        Runnable remove = () -> meters.forEach(registry::remove);
+        if (executor instanceof InstrumentedThreadPoolExecutor) {
+            ((InstrumentedThreadPoolExecutor) executor).setOnTerminated(remove);
+            if (executor.isTerminated()) {
+                remove.run();
+            }
+        } else if (executor instanceof InstrumentedForkJoinPool) {
+            ((InstrumentedForkJoinPool) executor).setOnShutdown(remove);
+        } else {
+            unhooked.put(executor, remove);
+        }
+    }
+
+    /**
+     * Removes the meters of the thread pools which do not notify their termination, once they have been shut down.
+     */
+    private void removeShutdown() {
+        unhooked.entrySet().removeIf(e -> {
+            if (e.getKey().isShutdown()) {
+                e.getValue().run();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static final class PendingThreadPool {
+        private final String profileId;
+        private final String name;
+        private final ExecutorService executor;
+
+        PendingThreadPool(String profileId, String name, ExecutorService executor) {
+            this.profileId = profileId;
+            this.name = name;
+            this.executor = executor;
+        }
+    }
+}
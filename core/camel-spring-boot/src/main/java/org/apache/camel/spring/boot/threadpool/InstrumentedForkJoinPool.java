@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link ForkJoinPool} which runs a task once it has been shut down, as a fork join pool has no hook telling
+ * when it has terminated.
+ */
+public class InstrumentedForkJoinPool extends ForkJoinPool {
+
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+    private volatile Runnable onShutdown;
+
+    public InstrumentedForkJoinPool(int parallelism, ForkJoinWorkerThreadFactory factory,
+                                    Thread.UncaughtExceptionHandler handler, boolean asyncMode) {
+        super(parallelism, factory, handler, asyncMode);
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        shutdownDone();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> answer = super.shutdownNow();
+        shutdownDone();
+        return answer;
+    }
+
+    /**
+     * Sets a task to run when the pool has been shut down, which is run right away if it already has.
+     */
+    public void setOnShutdown(Runnable onShutdown) {
+        this.onShutdown = onShutdown;
+        if (shutdown.get()) {
+            shutdownDone();
+        }
+    }
+
+    private void shutdownDone() {
+        shutdown.set(true);
+        Runnable task = onShutdown;
+        if (task != null) {
+            onShutdown = null;
+            task.run();
+        }
+    }
+}
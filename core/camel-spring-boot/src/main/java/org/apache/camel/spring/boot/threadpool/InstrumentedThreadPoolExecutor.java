@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
+
+/**
+ * A {@link RejectableThreadPoolExecutor} which counts the rejected tasks and measures the time the tasks wait in
+ * the queue before being executed.
+ * <p/>
+ * The tasks are queued as given, so {@link #remove(Runnable)}, {@link #getQueue()} and {@link #shutdownNow()} see
+ * the submitted tasks. The submission time of the pending tasks is kept aside until they are executed.
+ */
+public class InstrumentedThreadPoolExecutor extends RejectableThreadPoolExecutor {
+
+    private final String profileId;
+    private final String name;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder tasks = new LongAdder();
+    private final LongAdder latency = new LongAdder();
+    private final Map<Runnable, Long> submitted = new ConcurrentHashMap<>();
+    private volatile Runnable onTerminated;
+
+    public InstrumentedThreadPoolExecutor(String profileId, String name, int corePoolSize, int maximumPoolSize,
+                                          long keepAliveTime, TimeUnit unit, BlockingQueue<Runnable> workQueue,
+                                          ThreadFactory threadFactory, RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+        this.profileId = profileId;
+        this.name = name;
+        setRejectedExecutionHandler(handler);
+    }
+
+    /**
+     * Creates an instrumented executor with the same configuration and queue as the given executor, which must
+     * not have been used.
+     */
+    public static InstrumentedThreadPoolExecutor of(String profileId, String name, ThreadPoolExecutor executor) {
+        InstrumentedThreadPoolExecutor answer = new InstrumentedThreadPoolExecutor(profileId, name,
+            executor.getCorePoolSize(), executor.getMaximumPoolSize(), executor.getKeepAliveTime(TimeUnit.NANOSECONDS),
+            TimeUnit.NANOSECONDS, executor.getQueue(), executor.getThreadFactory(), executor.getRejectedExecutionHandler());
+        answer.allowCoreThreadTimeOut(executor.allowsCoreThreadTimeOut());
+        return answer;
+    }
+
+    @Override
+    public void setRejectedExecutionHandler(RejectedExecutionHandler handler) {
+        super.setRejectedExecutionHandler((r, executor) -> {
+            rejected.increment();
+            submitted.remove(r);
+            handler.rejectedExecution(r, executor);
+        });
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command != null) {
+            submitted.put(command, System.nanoTime());
+        }
+        super.execute(command);
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+        Long queued = submitted.remove(r);
+        if (queued != null) {
+            tasks.increment();
+            latency.add(System.nanoTime() - queued);
+        }
+    }
+
+    @Override
+    public boolean remove(Runnable task) {
+        boolean answer = super.remove(task);
+        if (answer) {
+            submitted.remove(task);
+        }
+        return answer;
+    }
+
+    @Override
+    public void purge() {
+        super.purge();
+        // the cancelled tasks have been removed from the queue (a task being queued meanwhile is not timed)
+        submitted.keySet().removeIf(task -> !getQueue().contains(task));
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> answer = super.shutdownNow();
+        answer.forEach(submitted::remove);
+        return answer;
+    }
+
+    @Override
+    protected void terminated() {
+        super.terminated();
+        Runnable task = onTerminated;
+        if (task != null) {
+            task.run();
+        }
+    }
+
+    /**
+     * Sets a task to run when the executor has terminated.
+     */
+    public void setOnTerminated(Runnable onTerminated) {
+        this.onTerminated = onTerminated;
+    }
+
+    public String getProfileId() {
+        return profileId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The number of rejected tasks.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * The number of tasks which have been taken for execution.
+     */
+    public long getExecutedCount() {
+        return tasks.sum();
+    }
+
+    /**
+     * The total time in nanos the executed tasks have waited before being executed.
+     */
+    public long getTotalLatency() {
+        return latency.sum();
+    }
+}
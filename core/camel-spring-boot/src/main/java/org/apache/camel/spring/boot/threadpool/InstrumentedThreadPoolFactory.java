@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spi.ThreadPoolFactory;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
+
+/**
+ * A {@link ThreadPoolFactory} which creates the thread pools using another factory, and notifies listeners of
+ * every thread pool created. The plain thread pool executors are replaced by {@link InstrumentedThreadPoolExecutor}s
+ * with the same configuration, so their rejected tasks and queue latency can be observed.
+ */
+public class InstrumentedThreadPoolFactory implements ThreadPoolFactory {
+
+    /**
+     * Listener notified of the thread pools created by the factory.
+     */
+    public interface Listener {
+
+        /**
+         * A thread pool has been created.
+         *
+         * @param profileId the id of the profile of the thread pool, or <tt>null</tt> for a cached thread pool
+         * @param name      the name of the threads of the thread pool
+         * @param executor  the thread pool
+         */
+        void onThreadPoolCreated(String profileId, String name, ExecutorService executor);
+
+    }
+
+    private volatile ThreadPoolFactory delegate;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public InstrumentedThreadPoolFactory(ThreadPoolFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Installs an instrumented factory on the given executor service manager, unless already installed.
+     */
+    public static InstrumentedThreadPoolFactory install(ExecutorServiceManager manager) {
+        ThreadPoolFactory factory = manager.getThreadPoolFactory();
+        if (factory instanceof InstrumentedThreadPoolFactory) {
+            return (InstrumentedThreadPoolFactory) factory;
+        }
+        InstrumentedThreadPoolFactory answer = new InstrumentedThreadPoolFactory(factory);
+        manager.setThreadPoolFactory(answer);
+        return answer;
+    }
+
+    public ThreadPoolFactory getDelegate() {
+        return delegate;
+    }
+
+    public void setDelegate(ThreadPoolFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        return created(null, threadFactory, delegate.newCachedThreadPool(threadFactory));
+    }
+
+    @Override
+    public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        return created(profile.getId(), threadFactory, delegate.newThreadPool(profile, threadFactory));
+    }
+
+    @Override
+    public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        return created(profile.getId(), threadFactory, delegate.newScheduledThreadPool(profile, threadFactory));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends ExecutorService> T created(String profileId, ThreadFactory threadFactory, T executor) {
+        String name = threadFactory instanceof CamelThreadFactory ? ((CamelThreadFactory) threadFactory).getName() : null;
+
+        T answer = executor;
+        Class<?> type = executor.getClass();
+        if (type == ThreadPoolExecutor.class || type == RejectableThreadPoolExecutor.class) {
+            // replace the executor (which has not started any thread yet) with an instrumented one
+            answer = (T) InstrumentedThreadPoolExecutor.of(profileId, name, (ThreadPoolExecutor) executor);
+            executor.shutdown();
+        }
+
+        for (Listener listener : listeners) {
+            listener.onThreadPoolCreated(profileId, name, answer);
+        }
+        return answer;
+    }
+}
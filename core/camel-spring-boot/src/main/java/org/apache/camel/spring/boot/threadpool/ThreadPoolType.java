@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+/**
+ * The type of the thread pools created for a thread pool profile.
+ */
+public enum ThreadPoolType {
+
+    /**
+     * A classic thread pool executor sized by the pool size, max pool size and max queue size of the profile.
+     */
+    THREAD_POOL,
+
+    /**
+     * A work-stealing fork join pool, with a parallelism of the max pool size of the profile
+     * (or the number of available processors).
+     */
+    FORK_JOIN,
+
+    /**
+     * A virtual thread per task, when supported by the JVM (Java 21 or later), otherwise a classic thread pool
+     * executor is used. The sizes of the profile are not used.
+     */
+    VIRTUAL
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A set of comma separated ant path patterns (as matched by {@link org.apache.camel.util.AntPathMatcher}) compiled
+ * once, so a path can be matched against all the patterns without parsing them again.
+ * <p/>
+ * Patterns without wildcards are matched using a hash lookup, patterns which are a plain path followed by
+ * <tt>/**</tt> are matched using a prefix trie, and any other pattern is compiled to a regular expression.
+ */
+public final class AntPathPatterns {
+
+    private final String patterns;
+    private final Set<String> literals = new HashSet<>();
+    private final Node prefixes = new Node();
+    private final List<Pattern> regexes = new ArrayList<>();
+
+    private AntPathPatterns(String patterns) {
+        this.patterns = patterns;
+        for (String part : patterns.split(",")) {
+            // allow spaces around the separators, such as com/foo/**, com/bar/**
+            part = part.trim();
+            if (!part.isEmpty()) {
+                add(part);
+            }
+        }
+    }
+
+    /**
+     * Compiles the given comma separated ant path patterns.
+     *
+     * @return the compiled patterns, or <tt>null</tt> if there are no patterns
+     */
+    public static AntPathPatterns compile(String patterns) {
+        return ObjectHelper.isNotEmpty(patterns) ? new AntPathPatterns(patterns) : null;
+    }
+
+    /**
+     * Whether the path matches any of the patterns.
+     */
+    public boolean matches(String path) {
+        if (literals.contains(path) || prefixes.matches(path)) {
+            return true;
+        }
+        for (Pattern regex : regexes) {
+            if (regex.matcher(path).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return patterns;
+    }
+
+    private void add(String pattern) {
+        if (!hasWildcards(pattern)) {
+            literals.add(pattern);
+        } else if (pattern.endsWith("/**") && !hasWildcards(pattern.substring(0, pattern.length() - 3))) {
+            prefixes.add(pattern.substring(0, pattern.length() - 3));
+        } else {
+            regexes.add(Pattern.compile(toRegex(pattern)));
+        }
+    }
+
+    private static boolean hasWildcards(String pattern) {
+        return pattern.indexOf('*') != -1 || pattern.indexOf('?') != -1;
+    }
+
+    /**
+     * Translates an ant path pattern to a regular expression, where <tt>?</tt> matches one character,
+     * <tt>*</tt> zero or more characters and <tt>**</tt> zero or more directories.
+     */
+    static String toRegex(String pattern) {
+        String[] segments = pattern.split("/", -1);
+        StringBuilder sb = new StringBuilder();
+        boolean separator = false;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            boolean last = i == segments.length - 1;
+            if ("**".equals(segment)) {
+                if (last) {
+                    // a trailing /** also matches the directory itself
+                    sb.append(i == 0 ? ".*" : "(?:/.*)?");
+                } else {
+                    sb.append(i == 0 ? "(?:.*/)?" : "/(?:.*/)?");
+                }
+                separator = false;
+            } else {
+                if (separator) {
+                    sb.append('/');
+                }
+                appendSegment(sb, segment);
+                separator = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendSegment(StringBuilder sb, String segment) {
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < segment.length(); i++) {
+            char ch = segment.charAt(i);
+            if (ch == '*' || ch == '?') {
+                if (literal.length() > 0) {
+                    sb.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                sb.append(ch == '*' ? "[^/]*" : "[^/]");
+            } else {
+                literal.append(ch);
+            }
+        }
+        if (literal.length() > 0) {
+            sb.append(Pattern.quote(literal.toString()));
+        }
+    }
+
+    /**
+     * A character trie of the plain paths of the <tt>path/**</tt> patterns.
+     */
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private boolean prefix;
+
+        void add(String path) {
+            Node node = this;
+            for (int i = 0; i < path.length(); i++) {
+                node = node.children.computeIfAbsent(path.charAt(i), c -> new Node());
+            }
+            node.prefix = true;
+        }
+
+        boolean matches(String path) {
+            Node node = this;
+            for (int i = 0; i < path.length(); i++) {
+                if (node.prefix && path.charAt(i) == '/') {
+                    return true;
+                }
+                node = node.children.get(path.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+            }
+            // path/** also matches the path itself
+            return node.prefix;
+        }
+    }
+}
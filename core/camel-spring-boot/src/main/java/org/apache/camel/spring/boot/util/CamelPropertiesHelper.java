@@ -23,6 +23,8 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Component;
 import org.apache.camel.PropertyBindingException;
 import org.apache.camel.spi.PropertyConfigurer;
+import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.startup.CamelStartupRecorder;
 import org.apache.camel.support.IntrospectionSupport;
 import org.apache.camel.support.PropertyBindingSupport;
 import org.apache.camel.support.service.ServiceHelper;
@@ -49,6 +51,22 @@ public final class CamelPropertiesHelper {
             false);
     }
 
+    /**
+     * Binds the options of the given component configuration on the component.
+     * <p/>
+     * The options are set using the {@link org.apache.camel.spi.PropertyConfigurer} of the component, and only the options
+     * which cannot be set directly fall back to {@link #setCamelProperties(CamelContext, Object, Map, boolean)}.
+     */
+    public static void bindProperties(CamelContext camelContext, ComponentConfigurationPropertiesCommon source, Component target) {
+        ObjectHelper.notNull(source, "source");
+
+        try (CamelStartupRecorder.Step step = CamelStartupRecorder.get(camelContext).beginStep(CamelStartupRecorder.TYPE_COMPONENT, target.getClass().getSimpleName())) {
+            ComponentPropertiesBinder binder = new ComponentPropertiesBinder(camelContext, target);
+            source.bindTo(binder);
+            binder.complete();
+        }
+    }
+
     /**
      * Sets the properties on the target bean.
      * <p/>
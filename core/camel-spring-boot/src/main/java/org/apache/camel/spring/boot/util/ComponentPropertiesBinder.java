@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Component;
+import org.apache.camel.spi.PropertyConfigurer;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * Binds component options from Spring Boot configuration directly on the component using its generated
+ * {@link PropertyConfigurer}, without introspecting the configuration bean.
+ * <p/>
+ * Options which the configurer cannot set as-is (no configurer, an unknown option, a failed type conversion
+ * or a value using references or property placeholders) are collected and bound afterwards using
+ * {@link CamelPropertiesHelper#setCamelProperties(CamelContext, Object, Map, boolean)}.
+ */
+public final class ComponentPropertiesBinder {
+
+    private final CamelContext camelContext;
+    private final Component target;
+    private final PropertyConfigurer configurer;
+    private final Map<String, Object> remaining = new LinkedHashMap<>();
+
+    public ComponentPropertiesBinder(CamelContext camelContext, Component target) {
+        ObjectHelper.notNull(camelContext, "camel context");
+        ObjectHelper.notNull(target, "target");
+
+        this.camelContext = camelContext;
+        this.target = target;
+
+        // the component needs to be initialized to have the configurer ready
+        ServiceHelper.initService(target);
+        this.configurer = target.getComponentPropertyConfigurer();
+    }
+
+    /**
+     * Binds the given option, null values are ignored.
+     */
+    public ComponentPropertiesBinder bind(String name, Object value) {
+        if (value == null) {
+            return this;
+        }
+
+        boolean hit = false;
+        if (configurer != null && !requiresResolving(value)) {
+            try {
+                hit = configurer.configure(camelContext, target, name, value, true);
+            } catch (Exception e) {
+                // the value could not be converted, let property binding try harder
+                hit = false;
+            }
+        }
+        if (!hit) {
+            remaining.put(name, value);
+        }
+        return this;
+    }
+
+    /**
+     * Binds all the given options, null values are ignored.
+     */
+    public ComponentPropertiesBinder bind(Map<String, Object> properties) {
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            bind(entry.getKey(), entry.getValue());
+        }
+        return this;
+    }
+
+    /**
+     * Binds the options which could not be set directly by the configurer.
+     */
+    public void complete() {
+        if (!remaining.isEmpty()) {
+            CamelPropertiesHelper.setCamelProperties(camelContext, target, remaining, false);
+            remaining.clear();
+        }
+    }
+
+    private static boolean requiresResolving(Object value) {
+        if (value instanceof String) {
+            String text = (String) value;
+            return text.startsWith("#") || text.contains("{{");
+        }
+        return false;
+    }
+}
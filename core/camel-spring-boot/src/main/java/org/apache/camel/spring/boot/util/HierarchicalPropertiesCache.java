@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+/**
+ * Caches the evaluation of hierarchical "enabled" flags for an {@link Environment}.
+ * <p/>
+ * A single {@link Binder} is kept per environment and the outcome is memoized per chain of prefixes, as
+ * the same chains are evaluated by every auto configuration condition and component customizer. The cached
+ * values are discarded when the environment changes (Spring Cloud <tt>EnvironmentChangeEvent</tt>) or when
+ * {@link #invalidate(Environment)} is invoked.
+ */
+public final class HierarchicalPropertiesCache {
+
+    /**
+     * The event published by Spring Cloud when properties of the environment have been changed,
+     * referred to by name as Spring Cloud is an optional dependency.
+     */
+    public static final String ENVIRONMENT_CHANGE_EVENT = "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+    private static final Map<Environment, HierarchicalPropertiesCache> CACHES = new WeakHashMap<>();
+
+    // the cache is the value of a weak map so it must not hold on the environment
+    private final WeakReference<Environment> environment;
+    private final ConcurrentMap<String, Boolean> results = new ConcurrentHashMap<>();
+    private volatile Binder binder;
+
+    private HierarchicalPropertiesCache(Environment environment) {
+        this.environment = new WeakReference<>(environment);
+    }
+
+    /**
+     * Gets the cache for the given environment.
+     */
+    public static HierarchicalPropertiesCache get(Environment environment) {
+        synchronized (CACHES) {
+            return CACHES.computeIfAbsent(environment, HierarchicalPropertiesCache::new);
+        }
+    }
+
+    /**
+     * Discards the cached values of the given environment, to be called when its properties have been changed.
+     */
+    public static void invalidate(Environment environment) {
+        HierarchicalPropertiesCache cache;
+        synchronized (CACHES) {
+            cache = CACHES.get(environment);
+        }
+        if (cache != null) {
+            cache.invalidate();
+        }
+    }
+
+    /**
+     * Determine the value of the "enabled" flag for a hierarchy of properties.
+     *
+     * @param prefixes an ordered list of prefixed (less restrictive to more restrictive)
+     * @return the value of the key `enabled` for most restrictive prefix
+     */
+    public boolean evaluate(Iterable<String> prefixes) {
+        String key = String.join(",", prefixes);
+        Boolean answer = results.get(key);
+        if (answer == null) {
+            answer = doEvaluate(prefixes);
+            results.put(key, answer);
+        }
+        return answer;
+    }
+
+    /**
+     * Discards the cached values.
+     */
+    public void invalidate() {
+        results.clear();
+        binder = null;
+    }
+
+    private boolean doEvaluate(Iterable<String> prefixes) {
+        Binder binder = getBinder();
+        boolean answer = true;
+
+        // Loop over all the prefixes to find out the value of the key `enabled`
+        // for the most restrictive prefix.
+        for (String prefix : prefixes) {
+            // evaluate the value of the current prefix using the parent one
+            // as default value so if the enabled property is not set, the parent
+            // one is used.
+            String property = prefix.endsWith(".") ? prefix + "enabled" : prefix + ".enabled";
+            answer = binder.bind(property, Bindable.of(Boolean.class)).orElse(answer);
+        }
+
+        return answer;
+    }
+
+    private Binder getBinder() {
+        Binder answer = binder;
+        if (answer == null) {
+            Environment env = environment.get();
+            if (env == null) {
+                throw new IllegalStateException("The environment has been discarded");
+            }
+            answer = Binder.get(env);
+            binder = answer;
+        }
+        return answer;
+    }
+
+    /**
+     * Invalidates the cache of the environment when Spring Cloud publishes an <tt>EnvironmentChangeEvent</tt>.
+     */
+    public static class InvalidationListener implements ApplicationListener<ApplicationEvent>, EnvironmentAware {
+
+        private Environment environment;
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public void onApplicationEvent(ApplicationEvent event) {
+            if (environment != null && ENVIRONMENT_CHANGE_EVENT.equals(event.getClass().getName())) {
+                invalidate(environment);
+            }
+        }
+    }
+}
@@ -16,10 +16,9 @@
  */
 package org.apache.camel.spring.boot.util;
 
+import java.util.Arrays;
 import java.util.Collection;
 
-import org.springframework.boot.context.properties.bind.Bindable;
-import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
 
@@ -47,45 +46,19 @@ public final class HierarchicalPropertiesEvaluator {
      * @return the value of the key `enabled` for most restrictive prefix
      */
     public static boolean evaluate(Environment environment, String... prefixes) {
-        boolean answer = true;
-
-        // Loop over all the prefixes to find out the value of the key `enabled`
-        // for the most restrictive prefix.
-        for (String prefix : prefixes) {
-            // evaluate the value of the current prefix using the parent one
-            // as default value so if the enabled property is not set, the parent
-            // one is used.
-            answer = isEnabled(environment, prefix, answer);
-        }
-
-        return answer;
+        return evaluate(environment, Arrays.asList(prefixes));
     }
 
     /**
      * Determine the value of the "enabled" flag for a hierarchy of properties.
+     * <p/>
+     * The outcome is cached per environment, see {@link HierarchicalPropertiesCache}.
      *
      * @param environment the environment
      * @param prefixes an ordered list of prefixed (less restrictive to more restrictive)
      * @return the value of the key `enabled` for most restrictive prefix
      */
     public static boolean evaluate(Environment environment, Collection<String> prefixes) {
-        boolean answer = true;
-
-        // Loop over all the prefixes to find out the value of the key `enabled`
-        // for the most restrictive prefix.
-        for (String prefix : prefixes) {
-            // evaluate the value of the current prefix using the parent one
-            // as default value so if the enabled property is not set, the parent
-            // one is used.
-            answer = isEnabled(environment, prefix, answer);
-        }
-
-        return answer;
-    }
-
-    private static boolean isEnabled(Environment environment, String prefix, boolean defaultValue) {
-        String property = prefix.endsWith(".") ? prefix + "enabled" : prefix + ".enabled";
-        Binder binder = Binder.get(environment);
-        return binder.bind(property, Bindable.of(Boolean.class)).orElse(defaultValue);
+        return HierarchicalPropertiesCache.get(environment).evaluate(prefixes);
     }
 }
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.SmartApplicationListener;
+
+/**
+ * Caches the values of the properties resolved by the Camel properties parsers from the Spring environment, as
+ * resolving a property walks all the property sources of the environment and placeholders can be resolved for
+ * every message (for example in dynamic endpoint uris).
+ * <p/>
+ * The cached values are discarded when the environment changes (Spring Cloud <tt>EnvironmentChangeEvent</tt>),
+ * when the application context is refreshed or when {@link #invalidate()} is invoked. The cache is cleared when
+ * it reaches its maximum size. The cache is disabled until a maximum size is set.
+ * <p/>
+ * The <tt>random.*</tt> properties, which have a new value every time they are resolved, and the missing
+ * properties, which may be added to the environment later on, are never cached.
+ */
+public class PropertiesParserCache implements SmartApplicationListener {
+
+    private static final String RANDOM_PREFIX = "random.";
+
+    private final ConcurrentMap<String, String> values = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile int maximumCacheSize;
+
+    public int getMaximumCacheSize() {
+        return maximumCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of cached properties, 0 to disable the cache.
+     */
+    public void setMaximumCacheSize(int maximumCacheSize) {
+        this.maximumCacheSize = maximumCacheSize;
+        if (maximumCacheSize <= 0) {
+            values.clear();
+        }
+    }
+
+    /**
+     * Gets the value of the given property, resolving it with the given function when not cached.
+     */
+    public String get(String key, Function<String, String> resolver) {
+        if (maximumCacheSize <= 0 || key.startsWith(RANDOM_PREFIX)) {
+            return resolver.apply(key);
+        }
+
+        String value = values.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        String answer = resolver.apply(key);
+        if (answer != null) {
+            if (values.size() >= maximumCacheSize) {
+                values.clear();
+            }
+            values.put(key, answer);
+        }
+        return answer;
+    }
+
+    /**
+     * Discards the cached values, to be called when the properties of the environment have been changed.
+     */
+    public void invalidate() {
+        values.clear();
+    }
+
+    public int getCacheSize() {
+        return values.size();
+    }
+
+    /**
+     * The number of properties which have been found in the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of properties which have been resolved from the environment.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+        return ContextRefreshedEvent.class.isAssignableFrom(eventType)
+            || HierarchicalPropertiesCache.ENVIRONMENT_CHANGE_EVENT.equals(eventType.getName());
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        invalidate();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.apache.camel.CamelContext;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBinding;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
+
+/**
+ * A single converter which converts bean references (such as <tt>#myBean</tt> or <tt>#bean:myBean</tt>) into the
+ * referenced bean from the Camel registry, for all the types contributed by the starters as
+ * {@link RegistryReferenceTypes} beans.
+ * <p/>
+ * It is created once, with the types of all the starters, and declared as a {@link ConfigurationPropertiesBinding}
+ * bean so it is scoped to the application context instead of being added to the shared conversion service. The
+ * Camel context is looked up on demand, as the converter is needed to bind the configuration properties used to
+ * create the Camel context.
+ */
+public final class RegistryReferenceConverter implements GenericConverter {
+
+    private final Supplier<CamelContext> camelContext;
+    private final Set<ConvertiblePair> convertibleTypes;
+
+    public RegistryReferenceConverter(Supplier<CamelContext> camelContext, Iterable<RegistryReferenceTypes> types) {
+        this.camelContext = camelContext;
+
+        Set<ConvertiblePair> pairs = new LinkedHashSet<>();
+        for (RegistryReferenceTypes entry : types) {
+            for (Class<?> type : entry.getTypes()) {
+                pairs.add(new ConvertiblePair(String.class, type));
+            }
+        }
+        this.convertibleTypes = Collections.unmodifiableSet(pairs);
+    }
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return convertibleTypes;
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (source == null) {
+            return null;
+        }
+        String ref = source.toString();
+        if (!ref.startsWith("#")) {
+            return null;
+        }
+        CamelContext context = camelContext.get();
+        if (context == null) {
+            return null;
+        }
+        ref = ref.startsWith("#bean:") ? ref.substring(6) : ref.substring(1);
+        return context.getRegistry().lookupByNameAndType(ref, targetType.getType());
+    }
+}
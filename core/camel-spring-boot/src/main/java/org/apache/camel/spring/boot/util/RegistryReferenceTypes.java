@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The types which a starter can convert from a bean reference (such as <tt>#bean:myBean</tt>), contributed as a bean
+ * so that the {@link RegistryReferenceConverter} is created once with the types of all the starters.
+ */
+public final class RegistryReferenceTypes {
+
+    private final Set<Class<?>> types;
+
+    public RegistryReferenceTypes(Class<?>... types) {
+        this.types = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(types)));
+    }
+
+    public Set<Class<?>> getTypes() {
+        return types;
+    }
+}
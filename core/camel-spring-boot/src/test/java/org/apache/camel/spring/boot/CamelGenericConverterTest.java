@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+public class CamelGenericConverterTest {
+
+    @Test
+    public void testConvertUsingCamel() {
+        CamelContext camelContext = new DefaultCamelContext();
+        camelContext.getTypeConverterRegistry().addTypeConverter(Invoice.class, String.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                return type.cast(new Invoice((String) value));
+            }
+        });
+
+        DefaultConversionService conversionService = new DefaultConversionService();
+        Assert.assertFalse(conversionService.canConvert(String.class, Invoice.class));
+
+        CamelGenericConverter converter = new CamelGenericConverter(camelContext);
+        conversionService.addConverter(converter);
+
+        Assert.assertEquals("INV-1", conversionService.convert("INV-1", Invoice.class).getId());
+        // spring conversions are left unchanged
+        Assert.assertFalse(converter.matches(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Integer.class)));
+        Assert.assertEquals(Integer.valueOf(10), conversionService.convert("10", Integer.class));
+    }
+
+    @Test
+    public void testClose() {
+        CamelContext camelContext = new DefaultCamelContext();
+        camelContext.getTypeConverterRegistry().addTypeConverter(Invoice.class, String.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                return type.cast(new Invoice((String) value));
+            }
+        });
+
+        CamelGenericConverter converter = new CamelGenericConverter(camelContext);
+        Assert.assertTrue(converter.matches(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Invoice.class)));
+
+        converter.close();
+        Assert.assertFalse(converter.matches(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Invoice.class)));
+    }
+
+    public static final class Invoice {
+        private final String id;
+
+        Invoice(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+}
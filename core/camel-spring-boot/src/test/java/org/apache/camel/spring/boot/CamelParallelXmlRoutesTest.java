@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Route;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Loads the XML routes with several threads, including an explicit location which does not exist.
+ */
+@DirtiesContext
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        CamelParallelXmlRoutesTest.class,
+        RouteConfigWithCamelContextInjected.class },
+    properties = {
+        "camel.springboot.xml-routes=file:src/test/resources/routes/foo.xml,classpath:camel/missing-routes.xml,file:src/test/resources/routes/bar.xml",
+        "camel.springboot.xml-routes-parallelism=2"}
+)
+public class CamelParallelXmlRoutesTest extends Assert {
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    public void testRoutesAddedInResourceOrder() {
+        assertNotNull(camelContext.getRoute("foo"));
+        assertNotNull(camelContext.getRoute("bar"));
+
+        List<String> ids = camelContext.getRoutes().stream().map(Route::getId).collect(Collectors.toList());
+        assertTrue(ids.indexOf("foo") < ids.indexOf("bar"));
+    }
+
+    @Test
+    public void testMissingLocationSkipped() {
+        // the missing location does not fail starting Camel
+        assertTrue(camelContext.getStatus().isStarted());
+        assertEquals(2, camelContext.getRoutes().stream().filter(r -> r.getId().equals("foo") || r.getId().equals("bar")).count());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FatJarPackageScanClassResolverTest {
+
+    @Test
+    public void testScanNestedJars() throws Exception {
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver();
+
+        List<String> entries = resolver.doLoadJarClassEntries(new ByteArrayInputStream(createFatJar()), "app.jar");
+
+        Assert.assertTrue(entries.contains("org/foo/MyApplication.class"));
+        Assert.assertTrue(entries.contains("org/bar/MyNestedClass.class"));
+    }
+
+    @Test
+    public void testScanNestedJarsInParallel() throws Exception {
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver();
+        resolver.setParallelism(4);
+
+        List<String> entries = resolver.doLoadJarClassEntries(new ByteArrayInputStream(createFatJar()), "app.jar");
+
+        Assert.assertEquals(2, entries.size());
+        Assert.assertEquals("org/foo/MyApplication.class", entries.get(0));
+        Assert.assertEquals("org/bar/MyNestedClass.class", entries.get(1));
+    }
+
+    @Test
+    public void testScanIndex() throws Exception {
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver() {
+            @Override
+            protected Map<String, List<String>> loadScanIndex() {
+                return Collections.singletonMap("BOOT-INF/lib/bar.jar", Collections.singletonList("org/bar/MyIndexedClass.class"));
+            }
+        };
+        resolver.setScanIndexEnabled(true);
+
+        List<String> entries = resolver.doLoadJarClassEntries(new ByteArrayInputStream(createFatJar()), "app.jar");
+
+        Assert.assertTrue(entries.contains("org/foo/MyApplication.class"));
+        Assert.assertTrue(entries.contains("org/bar/MyIndexedClass.class"));
+        Assert.assertFalse(entries.contains("org/bar/MyNestedClass.class"));
+    }
+
+    @Test
+    public void testNestedJarCache() throws Exception {
+        AtomicInteger inflated = new AtomicInteger();
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver() {
+            @Override
+            protected List<String> doLoadJarClassEntries(InputStream stream, String urlPath, boolean inspectNestedJars, boolean closeStream) {
+                if (!inspectNestedJars) {
+                    inflated.incrementAndGet();
+                }
+                return super.doLoadJarClassEntries(stream, urlPath, inspectNestedJars, closeStream);
+            }
+        };
+        byte[] fatJar = createStoredFatJar();
+
+        List<String> first = resolver.doLoadJarClassEntries(new ByteArrayInputStream(fatJar), "app.jar");
+        Assert.assertEquals(2, inflated.get());
+
+        // the nested jars are not inflated again
+        List<String> second = resolver.doLoadJarClassEntries(new ByteArrayInputStream(fatJar), "app.jar");
+        Assert.assertEquals(2, inflated.get());
+        Assert.assertEquals(first, second);
+
+        resolver.clearNestedJarCache();
+        resolver.doLoadJarClassEntries(new ByteArrayInputStream(fatJar), "app.jar");
+        Assert.assertEquals(4, inflated.get());
+    }
+
+    @Test
+    public void testNestedJarCacheInParallel() throws Exception {
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver();
+        resolver.setParallelism(4);
+        byte[] fatJar = createStoredFatJar();
+
+        List<String> expected = Arrays.asList(
+            "org/foo/MyApplication.class", "org/bar/MyBarClass.class", "org/baz/MyBazClass.class", "org/foo/MyOtherClass.class");
+
+        // the first scan inflates the nested jars concurrently, the second one uses the cache
+        Assert.assertEquals(expected, resolver.doLoadJarClassEntries(new ByteArrayInputStream(fatJar), "app.jar"));
+        Assert.assertEquals(expected, resolver.doLoadJarClassEntries(new ByteArrayInputStream(fatJar), "app.jar"));
+    }
+
+    private static byte[] createStoredFatJar() throws IOException {
+        ByteArrayOutputStream fat = new ByteArrayOutputStream();
+        try (JarOutputStream jar = new JarOutputStream(fat)) {
+            jar.putNextEntry(new JarEntry("BOOT-INF/classes/org/foo/MyApplication.class"));
+            jar.closeEntry();
+            putStoredEntry(jar, "BOOT-INF/lib/bar.jar", createJar("org/bar/MyBarClass.class"));
+            putStoredEntry(jar, "BOOT-INF/lib/baz.jar", createJar("org/baz/MyBazClass.class"));
+            jar.putNextEntry(new JarEntry("BOOT-INF/classes/org/foo/MyOtherClass.class"));
+            jar.closeEntry();
+        }
+        return fat.toByteArray();
+    }
+
+    private static byte[] createJar(String className) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (JarOutputStream jar = new JarOutputStream(bos)) {
+            jar.putNextEntry(new JarEntry(className));
+            jar.closeEntry();
+        }
+        return bos.toByteArray();
+    }
+
+    private static void putStoredEntry(JarOutputStream jar, String name, byte[] data) throws IOException {
+        // spring-boot stores the nested jars uncompressed, so their CRC is known upfront
+        CRC32 crc = new CRC32();
+        crc.update(data);
+
+        JarEntry entry = new JarEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(data.length);
+        entry.setCompressedSize(data.length);
+        entry.setCrc(crc.getValue());
+
+        jar.putNextEntry(entry);
+        jar.write(data);
+        jar.closeEntry();
+    }
+
+    private static byte[] createFatJar() throws IOException {
+        ByteArrayOutputStream nested = new ByteArrayOutputStream();
+        try (JarOutputStream jar = new JarOutputStream(nested)) {
+            jar.putNextEntry(new JarEntry("org/bar/MyNestedClass.class"));
+            jar.closeEntry();
+        }
+
+        ByteArrayOutputStream fat = new ByteArrayOutputStream();
+        try (JarOutputStream jar = new JarOutputStream(fat)) {
+            jar.putNextEntry(new JarEntry("BOOT-INF/classes/org/foo/MyApplication.class"));
+            jar.closeEntry();
+            jar.putNextEntry(new JarEntry("BOOT-INF/lib/bar.jar"));
+            jar.write(nested.toByteArray());
+            jar.closeEntry();
+        }
+        return fat.toByteArray();
+    }
+}
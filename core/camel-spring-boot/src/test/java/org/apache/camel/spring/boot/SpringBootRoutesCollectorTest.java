@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.List;
+
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+public class SpringBootRoutesCollectorTest {
+
+    @Test
+    public void testExcludedBuilderNotCreated() {
+        try (AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext()) {
+            applicationContext.register(RoutesConfiguration.class, FooRoute.class);
+            // a lazy builder is created by the collector only
+            applicationContext.registerBean(FailingRoute.class, definition -> definition.setLazyInit(true));
+            applicationContext.refresh();
+
+            SpringBootRoutesCollector collector = new SpringBootRoutesCollector(applicationContext);
+            List<RoutesBuilder> routes = collector.collectRoutesFromRegistry(new DefaultCamelContext(), "**/*FailingRoute", null);
+
+            Assert.assertEquals(2, routes.size());
+            Assert.assertTrue(routes.contains(applicationContext.getBean(FooRoute.class)));
+            Assert.assertTrue(routes.contains(applicationContext.getBean("barRoute")));
+        }
+    }
+
+    @Test
+    public void testBeanMethodFilteredByInstance() {
+        try (AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext(RoutesConfiguration.class, FooRoute.class)) {
+            SpringBootRoutesCollector collector = new SpringBootRoutesCollector(applicationContext);
+            // the bean method returns a RouteBuilder, so the builder is filtered by the class of the instance
+            List<RoutesBuilder> routes = collector.collectRoutesFromRegistry(new DefaultCamelContext(), "**/*RoutesConfiguration*", null);
+
+            Assert.assertEquals(1, routes.size());
+            Assert.assertSame(applicationContext.getBean(FooRoute.class), routes.get(0));
+        }
+    }
+
+    @Configuration
+    public static class RoutesConfiguration {
+
+        @Bean
+        public RouteBuilder barRoute() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:bar").to("mock:bar");
+                }
+            };
+        }
+    }
+
+    public static class FooRoute extends RouteBuilder {
+
+        @Override
+        public void configure() throws Exception {
+            from("direct:foo").to("mock:foo");
+        }
+    }
+
+    public static class FailingRoute extends RouteBuilder {
+
+        public FailingRoute() {
+            throw new IllegalStateException("Excluded routes should not be created");
+        }
+
+        @Override
+        public void configure() throws Exception {
+            from("direct:failing").to("mock:failing");
+        }
+    }
+}
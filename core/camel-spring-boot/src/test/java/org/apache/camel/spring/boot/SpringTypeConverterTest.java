@@ -18,6 +18,7 @@ package org.apache.camel.spring.boot;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Assert;
@@ -28,8 +29,10 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
@@ -73,6 +76,50 @@ public class SpringTypeConverterTest {
         Assert.assertNull(converter.convertTo(String.class, source));
     }
 
+    @Test
+    public void testConversionDecisionsCached() {
+        converter.setMaximumCacheSize(1000);
+
+        Assert.assertEquals(Integer.valueOf(10), converter.convertTo(Integer.class, "10"));
+        Assert.assertEquals(Integer.valueOf(20), converter.convertTo(Integer.class, "20"));
+        Assert.assertNull(converter.convertTo(SpringTypeConverter.class, "30"));
+        Assert.assertEquals(2, converter.getCacheSize());
+
+        converter.invalidate();
+        Assert.assertEquals(0, converter.getCacheSize());
+    }
+
+    @Test
+    public void testMissingConverterCached() {
+        DefaultConversionService service = new DefaultConversionService();
+        SpringTypeConverter converter = new SpringTypeConverter(Collections.singletonList(service));
+        converter.setMaximumCacheSize(1000);
+
+        Person person = new Person("Name", 30);
+        Assert.assertNull(converter.convertTo(String.class, person));
+        Assert.assertEquals(1, converter.getCacheSize());
+
+        // a converter added later on is used once the cache is invalidated
+        service.addConverter(Person.class, String.class, Person::getName);
+        Assert.assertNull(converter.convertTo(String.class, person));
+        converter.invalidate();
+        Assert.assertEquals("Name", converter.convertTo(String.class, person));
+        Assert.assertEquals(1, converter.getCacheSize());
+    }
+
+    @Test
+    public void testInvalidatedOnRefresh() {
+        try (AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext(SpringTypeConversionConfiguration.class)) {
+            SpringTypeConverter converter = applicationContext.getBean(SpringTypeConverter.class);
+            converter.setMaximumCacheSize(1000);
+            Assert.assertEquals(Integer.valueOf(10), converter.convertTo(Integer.class, "10"));
+            Assert.assertEquals(1, converter.getCacheSize());
+
+            applicationContext.publishEvent(new ContextRefreshedEvent(applicationContext));
+            Assert.assertEquals(0, converter.getCacheSize());
+        }
+    }
+
     public static class Person {
         private String name;
         private int age;
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.spring.boot.CamelGenericConverterTest.Invoice;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Tests the Camel type converters are added to a conversion service of the environment, rather than to the
+ * conversion service shared by the application contexts.
+ */
+@DirtiesContext
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        TypeConversionBridgeTest.TestConfig.class,
+        TypeConversionBridgeTest.class },
+    properties = {
+        "camel.springboot.type-conversion-bridge=true",
+        "test.invoice=INV-1"}
+)
+public class TypeConversionBridgeTest extends Assert {
+
+    @Autowired
+    ConfigurableEnvironment environment;
+
+    @Value("${test.invoice}")
+    Invoice invoice;
+
+    @Autowired
+    ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    public void testConversionServiceNotShared() {
+        assertNotSame(ApplicationConversionService.getSharedInstance(), environment.getConversionService());
+        assertSame(environment.getConversionService(), beanFactory.getConversionService());
+        assertFalse(ApplicationConversionService.getSharedInstance().canConvert(String.class, Invoice.class));
+    }
+
+    @Test
+    public void testConverterNotSeenByOtherContext() {
+        try (ConfigurableApplicationContext other = new SpringApplicationBuilder(OtherConfig.class)
+            .web(WebApplicationType.NONE)
+            .properties("camel.springboot.name=other")
+            .run()) {
+            assertFalse(other.getEnvironment().getConversionService().canConvert(String.class, Invoice.class));
+        }
+        // this context still converts using camel
+        assertEquals("INV-1", environment.getProperty("test.invoice", Invoice.class).getId());
+    }
+
+    @Test
+    public void testValueInjection() {
+        assertEquals("INV-1", invoice.getId());
+    }
+
+    @Test
+    public void testEnvironmentProperty() {
+        assertEquals("INV-1", environment.getProperty("test.invoice", Invoice.class).getId());
+        // spring conversions are left unchanged
+        assertEquals(Integer.valueOf(10), environment.getConversionService().convert("10", Integer.class));
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    public static class OtherConfig {
+    }
+
+    @Configuration
+    public static class TestConfig {
+
+        @Bean
+        CamelContextConfiguration invoiceConverter() {
+            return new CamelContextConfiguration() {
+                @Override
+                public void beforeApplicationStart(CamelContext camelContext) {
+                    camelContext.getTypeConverterRegistry().addTypeConverter(Invoice.class, String.class, new TypeConverterSupport() {
+                        @Override
+                        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                            return type.cast(new Invoice((String) value));
+                        }
+                    });
+                }
+
+                @Override
+                public void afterApplicationStart(CamelContext camelContext) {
+                    // noop
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.NamedNode;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.model.ChoiceDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.model.TryDefinition;
+import org.apache.camel.model.language.XPathExpression;
+import org.apache.camel.model.rest.RestsDefinition;
+import org.apache.camel.spi.XMLRoutesDefinitionLoader;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class XmlRoutesModelCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private CamelContext camelContext;
+    private XMLRoutesDefinitionLoader loader;
+    private File directory;
+
+    @Before
+    public void setUp() throws Exception {
+        camelContext = new DefaultCamelContext();
+        loader = camelContext.adapt(ExtendedCamelContext.class).getXMLRoutesDefinitionLoader();
+        directory = folder.newFolder("cache");
+    }
+
+    @Test
+    public void testRoutesRoundTrip() throws Exception {
+        RoutesDefinition parsed = load("routes", "src/test/resources/routes-cache/routes.xml", RoutesDefinition.class, new AtomicInteger());
+
+        AtomicInteger parses = new AtomicInteger();
+        RoutesDefinition cached = load("routes", "src/test/resources/routes-cache/routes.xml", RoutesDefinition.class, parses);
+        Assert.assertEquals("The routes should be loaded from the cache", 0, parses.get());
+        Assert.assertNotSame(parsed, cached);
+        Assert.assertEquals(dump(parsed), dump(cached));
+
+        RouteDefinition choice = cached.getRoutes().get(0);
+        Assert.assertEquals("choice", choice.getId());
+        Assert.assertEquals("false", choice.getAutoStartup());
+        Assert.assertEquals("direct:choice", choice.getInput().getUri());
+        ChoiceDefinition choiceDefinition = (ChoiceDefinition) choice.getOutputs().get(1);
+        Assert.assertEquals(2, choiceDefinition.getWhenClauses().size());
+        Assert.assertEquals(1, choiceDefinition.getOtherwise().getOutputs().size());
+
+        // the namespaces declared in the XML are applied to the expressions
+        XPathExpression xpath = (XPathExpression) choiceDefinition.getWhenClauses().get(0).getExpression();
+        Map<String, String> namespaces = xpath.getNamespaces();
+        Assert.assertEquals("http://example.com/foo", namespaces.get("foo"));
+
+        RouteDefinition doTry = cached.getRoutes().get(1);
+        TryDefinition tryDefinition = (TryDefinition) doTry.getOutputs().get(0);
+        Assert.assertEquals(1, tryDefinition.getCatchClauses().size());
+        Assert.assertEquals(2, tryDefinition.getCatchClauses().get(0).getExceptions().size());
+        Assert.assertNotNull(tryDefinition.getFinallyClause());
+    }
+
+    @Test
+    public void testRestsRoundTrip() throws Exception {
+        RestsDefinition parsed = load("rests", "src/test/resources/routes-cache/rests.xml", RestsDefinition.class, new AtomicInteger());
+
+        AtomicInteger parses = new AtomicInteger();
+        RestsDefinition cached = load("rests", "src/test/resources/routes-cache/rests.xml", RestsDefinition.class, parses);
+        Assert.assertEquals("The rests should be loaded from the cache", 0, parses.get());
+        Assert.assertEquals(dump(parsed), dump(cached));
+        Assert.assertEquals(2, cached.getRests().get(0).getVerbs().size());
+        Assert.assertEquals(1, cached.getRests().get(0).getVerbs().get(0).getParams().size());
+    }
+
+    @Test
+    public void testChangedContent() throws Exception {
+        load("routes", "src/test/resources/routes-cache/routes.xml", RoutesDefinition.class, new AtomicInteger());
+
+        AtomicInteger parses = new AtomicInteger();
+        RoutesDefinition routes = load("routes", "src/test/resources/routes/foo.xml", RoutesDefinition.class, parses);
+        Assert.assertEquals(1, parses.get());
+        Assert.assertEquals("foo", routes.getRoutes().get(0).getId());
+    }
+
+    @Test
+    public void testCorruptedEntry() throws Exception {
+        load("routes", "src/test/resources/routes-cache/routes.xml", RoutesDefinition.class, new AtomicInteger());
+        File[] files = directory.listFiles();
+        Assert.assertEquals(1, files.length);
+        Files.write(files[0].toPath(), new byte[] {1, 2, 3});
+
+        // parsed again and cached again
+        AtomicInteger parses = new AtomicInteger();
+        load("routes", "src/test/resources/routes-cache/routes.xml", RoutesDefinition.class, parses);
+        Assert.assertEquals(1, parses.get());
+        load("routes", "src/test/resources/routes-cache/routes.xml", RoutesDefinition.class, parses);
+        Assert.assertEquals(1, parses.get());
+    }
+
+    private <T> T load(String kind, String file, Class<T> type, AtomicInteger parses) throws Exception {
+        XmlRoutesModelCache cache = new XmlRoutesModelCache(directory.getPath(), camelContext);
+        try (InputStream is = new FileInputStream(file)) {
+            return cache.load(kind, is, type, in -> {
+                parses.incrementAndGet();
+                return type.cast(RoutesDefinition.class == type
+                    ? loader.loadRoutesDefinition(camelContext, in) : loader.loadRestsDefinition(camelContext, in));
+            });
+        }
+    }
+
+    private String dump(Object definition) throws Exception {
+        return camelContext.adapt(ExtendedCamelContext.class).getModelToXMLDumper().dumpModelAsXml(camelContext, (NamedNode) definition);
+    }
+}
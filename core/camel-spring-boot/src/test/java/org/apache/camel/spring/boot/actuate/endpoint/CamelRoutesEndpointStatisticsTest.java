@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RoutesView;
+import org.apache.camel.spring.boot.stats.RouteStatisticsSnapshot;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import static org.awaitility.Awaitility.await;
+
+/*
+ * Test for the statistics of the {@link CamelRoutesEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(classes = {CamelAutoConfiguration.class, CamelRoutesEndpointAutoConfiguration.class, ActuatorTestRoute.class},
+                           properties = {"management.endpoints.web.exposure.include=*",
+                                         "management.endpoint.camelroutes.statistics-enabled=true"})
+public class CamelRoutesEndpointStatisticsTest extends Assert {
+
+    @Autowired
+    CamelRoutesEndpoint endpoint;
+
+    @Test
+    public void testRoutesStatistics() throws Exception {
+        RouteStatisticsSnapshot stats = snapshot();
+        assertEquals(1, stats.size());
+        assertEquals("foo-route", stats.getRouteIds()[0]);
+
+        // the timer route fires every second
+        await().atMost(5, TimeUnit.SECONDS).until(() -> snapshot().getExchangesTotal()[0] > 0);
+
+        stats = snapshot();
+        assertFalse(stats.isDelta());
+        assertTrue(stats.getExchangesTotal()[0] > 0);
+        assertEquals(0, stats.getExchangesFailed()[0]);
+    }
+
+    @Test
+    public void testRoutesDeltaStatisticsPerClient() throws Exception {
+        await().atMost(5, TimeUnit.SECONDS).until(() -> snapshot().getExchangesTotal()[0] > 0);
+
+        // the first delta of a client contains the totals
+        RouteStatisticsSnapshot first = delta("a");
+        assertTrue(first.isDelta());
+        assertTrue(first.getExchangesTotal()[0] > 0);
+
+        // reading the statistics does not change the baseline of the clients
+        snapshot();
+        // and the baseline of a client does not change the baseline of another client
+        long total = snapshot().getExchangesTotal()[0];
+        RouteStatisticsSnapshot other = delta("b");
+        assertTrue(other.getExchangesTotal()[0] >= total);
+
+        long since = delta("a").getExchangesTotal()[0];
+        assertTrue(since < snapshot().getExchangesTotal()[0]);
+    }
+
+    private RouteStatisticsSnapshot snapshot() {
+        return (RouteStatisticsSnapshot) endpoint.readRoutesView(RoutesView.STATS, null, null, null, null, "foo-route");
+    }
+
+    private RouteStatisticsSnapshot delta(String client) {
+        return (RouteStatisticsSnapshot) endpoint.takeRoutesView(RoutesView.STATS, null, null, null, null, "foo-route", client);
+    }
+
+}
@@ -16,7 +16,9 @@
  */
 package org.apache.camel.spring.boot.actuate.endpoint;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
@@ -25,13 +27,16 @@ import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RouteDe
 import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RouteEndpointInfo;
 import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.TimeInfo;
 import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.WriteAction;
+import org.apache.camel.util.IOHelper;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit4.SpringRunner;
 
@@ -50,6 +55,9 @@ public class CamelRoutesEndpointTest extends Assert {
     @Autowired
     CamelRoutesEndpoint endpoint;
 
+    @Autowired
+    CamelRoutesStreamEndpoint streamEndpoint;
+
     @Autowired
     CamelContext camelContext;
 
@@ -65,6 +73,37 @@ public class CamelRoutesEndpointTest extends Assert {
         assertTrue(routes.stream().anyMatch(r -> r.getProperties().containsKey("key2") &&  "val2".equals(r.getProperties().get("key2"))));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRoutesEndpointFiltered() throws Exception {
+        List<RouteEndpointInfo> routes = (List<RouteEndpointInfo>) endpoint.readRoutes(null, null, "foo-route-group", null, "foo", null);
+        assertEquals(1, routes.size());
+        assertEquals("foo-route", routes.get(0).getId());
+
+        routes = (List<RouteEndpointInfo>) endpoint.readRoutes(1, 10, "foo-route-group", null, null, null);
+        assertTrue(routes.isEmpty());
+
+        List<Map<String, Object>> fields = (List<Map<String, Object>>) endpoint.readRoutes(0, 1, null, "started", "foo", "id,uptimeMillis");
+        assertEquals(1, fields.size());
+        assertEquals("foo-route", fields.get(0).get("id"));
+        assertTrue(fields.get(0).containsKey("uptimeMillis"));
+        assertFalse(fields.get(0).containsKey("group"));
+    }
+
+    @Test
+    public void testRoutesEndpointStream() throws Exception {
+        Resource resource = streamEndpoint.streamRoutes(null, null, null, null, "foo-route", "id,group");
+        try (InputStream is = resource.getInputStream()) {
+            String lines = IOHelper.loadText(is);
+            assertEquals("{\"id\":\"foo-route\",\"group\":\"foo-route-group\"}\n", lines);
+        }
+    }
+
+    @Test(expected = InvalidEndpointRequestException.class)
+    public void testRoutesEndpointUnknownField() throws Exception {
+        endpoint.readRoutes(null, null, null, null, null, "id,unknown");
+    }
+
     @Test
     public void testReadOperation() throws Exception {
         Object answer = endpoint.doReadAction("foo-route", ReadAction.INFO);
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelStartupEndpoint.StartupEndpointInfo;
+import org.apache.camel.spring.boot.startup.CamelStartupRecorder;
+import org.apache.camel.spring.boot.startup.StartupStep;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/*
+ * Test for the {@link CamelStartupEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(classes = {CamelAutoConfiguration.class, CamelStartupEndpointAutoConfiguration.class, ActuatorTestRoute.class},
+                           properties = {"management.endpoints.web.exposure.include=*",
+                                         "camel.springboot.startup-recorder-enabled=true"})
+public class CamelStartupEndpointTest extends Assert {
+
+    @Autowired
+    CamelStartupEndpoint endpoint;
+
+    @Autowired
+    CamelStartupRecorder recorder;
+
+    @Test
+    public void testStartupEndpoint() throws Exception {
+        StartupEndpointInfo info = endpoint.readStartup();
+
+        assertTrue(info.isEnabled());
+        assertTrue(info.getSteps().stream().anyMatch(s -> CamelStartupRecorder.TYPE_CAMEL_CONTEXT.equals(s.getType())));
+        assertTrue(info.getSteps().stream().anyMatch(s -> CamelStartupRecorder.TYPE_ROUTES.equals(s.getType())));
+        assertTrue(info.getSteps().stream().anyMatch(s -> CamelStartupRecorder.TYPE_ROUTES_COLLECTOR.equals(s.getType())));
+
+        List<StartupStep> builders = endpoint.readSteps(CamelStartupRecorder.TYPE_ROUTE_BUILDER);
+        assertTrue(builders.stream().anyMatch(s -> ActuatorTestRoute.class.getName().equals(s.getName())));
+        // the route builders are added when configuring the routes
+        StartupStep routes = endpoint.readSteps(CamelStartupRecorder.TYPE_ROUTES).get(0);
+        assertTrue(builders.stream().allMatch(s -> s.getParentId() == routes.getId()));
+    }
+
+    @Test
+    public void testStopRecordingWhenStarted() throws Exception {
+        // the context has been started so no more steps are recorded
+        assertFalse(recorder.isRecording());
+
+        int size = recorder.getSteps().size();
+        recorder.beginStep("after", "startup").close();
+        assertEquals(size, recorder.getSteps().size());
+    }
+
+    @Test
+    public void testNestedSteps() throws Exception {
+        CamelStartupRecorder recorder = new CamelStartupRecorder(true, false);
+        try (CamelStartupRecorder.Step outer = recorder.beginStep("outer", "a")) {
+            try (CamelStartupRecorder.Step inner = recorder.beginStep("inner", "b")) {
+                // noop
+            }
+        }
+
+        List<StartupStep> steps = recorder.getSteps();
+        assertEquals(2, steps.size());
+        assertEquals("outer", steps.get(0).getType());
+        assertEquals(0, steps.get(0).getLevel());
+        assertEquals("inner", steps.get(1).getType());
+        assertEquals(1, steps.get(1).getLevel());
+        assertEquals(steps.get(0).getId(), steps.get(1).getParentId());
+
+        CamelStartupRecorder disabled = new CamelStartupRecorder(false, false);
+        disabled.beginStep("outer", "a").close();
+        assertTrue(disabled.getSteps().isEmpty());
+    }
+}
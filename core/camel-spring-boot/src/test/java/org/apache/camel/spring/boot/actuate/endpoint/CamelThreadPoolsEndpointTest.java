@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelThreadPoolsEndpoint.ThreadPoolsEndpointInfo;
+import org.apache.camel.spring.boot.threadpool.AdaptiveThreadPoolController;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolAutoConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import static org.awaitility.Awaitility.await;
+
+/*
+ * Test for the {@link CamelThreadPoolsEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(classes = {CamelAutoConfiguration.class, CamelThreadPoolAutoConfiguration.class,
+                           CamelThreadPoolsEndpointAutoConfiguration.class, ActuatorTestRoute.class},
+                           properties = {"management.endpoints.web.exposure.include=*",
+                                         "camel.threadpool.config[adaptive].pool-size=1",
+                                         "camel.threadpool.config[adaptive].max-pool-size=1",
+                                         "camel.threadpool.adaptive-enabled=true",
+                                         "camel.threadpool.adaptive-interval=100",
+                                         "camel.threadpool.adaptive-target-latency=10",
+                                         "camel.threadpool.adaptive-max-pool-size=4"})
+public class CamelThreadPoolsEndpointTest extends Assert {
+
+    @Autowired
+    CamelThreadPoolsEndpoint endpoint;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    public void testIncreasePoolSize() throws Exception {
+        ExecutorService executor = camelContext.getExecutorServiceManager().newThreadPool(this, "MyPool", "adaptive");
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            // block the only thread so the tasks wait in the queue
+            for (int i = 0; i < 10; i++) {
+                executor.submit(() -> {
+                    latch.await(10, TimeUnit.SECONDS);
+                    return null;
+                });
+            }
+
+            await().atMost(10, TimeUnit.SECONDS).until(() -> ((ThreadPoolExecutor) executor).getCorePoolSize() > 1);
+
+            ThreadPoolsEndpointInfo info = endpoint.readThreadPools();
+            assertTrue(info.getPools().stream().anyMatch(p -> "adaptive".equals(p.getProfile())));
+            assertTrue(info.getDecisions().stream().anyMatch(d -> d.getAction() == AdaptiveThreadPoolController.Action.INCREASE));
+            // the core pool size is bounded
+            assertTrue(((ThreadPoolExecutor) executor).getCorePoolSize() <= 4);
+            // the profile shared by the thread pools is left as configured
+            assertEquals(1, camelContext.getExecutorServiceManager().getThreadPoolProfile("adaptive").getPoolSize().intValue());
+        } finally {
+            latch.countDown();
+            camelContext.getExecutorServiceManager().shutdownNow(executor);
+        }
+    }
+}
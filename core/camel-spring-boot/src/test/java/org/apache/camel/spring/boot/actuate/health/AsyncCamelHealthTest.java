@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import static org.awaitility.Awaitility.await;
+
+@DirtiesContext
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+    classes = {CamelAutoConfiguration.class, CamelHealthCheckAutoConfiguration.class, MyCamelRoute.class, AsyncCamelHealthTest.TestConfiguration.class},
+    properties = {"camel.health.async-enabled=true", "camel.health.async-interval=100"})
+public class AsyncCamelHealthTest extends Assert {
+
+    @Autowired
+    CamelHealthCheckIndicator indicator;
+
+    static final List<CamelHealthChangedEvent> EVENTS = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void shouldHaveCachedHealth() throws Exception {
+        assertTrue(indicator instanceof AsyncCamelHealthCheckIndicator);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> Status.UP.equals(indicator.health().getStatus()));
+        assertNotNull(indicator.health().getDetails().get("timestamp"));
+
+        assertFalse(EVENTS.isEmpty());
+        assertEquals(Status.UP, EVENTS.get(EVENTS.size() - 1).getStatus());
+        // the checks are run once camel has started, so camel is not reported down while starting
+        assertTrue(EVENTS.stream().noneMatch(e -> Status.DOWN.equals(e.getStatus())));
+    }
+
+    @Configuration
+    public static class TestConfiguration {
+
+        @Bean
+        ApplicationListener<CamelHealthChangedEvent> healthChangedListener() {
+            return EVENTS::add;
+        }
+    }
+
+}
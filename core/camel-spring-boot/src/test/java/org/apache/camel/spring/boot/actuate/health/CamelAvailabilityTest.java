@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.cluster.CamelClusterMember;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.cluster.ClusteredRouteController;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.cluster.AbstractCamelClusterService;
+import org.apache.camel.support.cluster.AbstractCamelClusterView;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import static org.awaitility.Awaitility.await;
+
+@DirtiesContext
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+    classes = {CamelAutoConfiguration.class, CamelHealthCheckAutoConfiguration.class, MyCamelRoute.class},
+    properties = {"camel.health.availability-enabled=true"})
+public class CamelAvailabilityTest extends Assert {
+
+    @Autowired
+    @Qualifier("camelLiveness")
+    HealthIndicator liveness;
+
+    @Autowired
+    @Qualifier("camelReadiness")
+    HealthIndicator readiness;
+
+    @Autowired
+    ApplicationAvailability availability;
+
+    @Test
+    public void shouldBeLiveAndReady() throws Exception {
+        assertEquals(Status.UP, liveness.health().getStatus());
+        assertEquals(Status.UP, readiness.health().getStatus());
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+    }
+
+    @Test
+    public void shouldIgnoreRoutesNotStartedAutomatically() throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:manual").routeId("manual").autoStartup(false).to("mock:manual");
+            }
+        });
+        context.start();
+        try {
+            CamelAvailabilityProbe probe = new CamelAvailabilityProbe(context, true);
+            assertEquals(Status.UP, probe.readiness().getStatus());
+        } finally {
+            context.stop();
+        }
+    }
+
+    @Test
+    public void shouldNotBeReadyWhileRouteIsStarting() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean slow = new AtomicBoolean();
+        CamelContext context = new DefaultCamelContext();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(new SlowEndpoint(getContext(), slow, release)).routeId("slow").to("mock:slow");
+            }
+        });
+        context.start();
+
+        CamelAvailabilityProbe probe = new CamelAvailabilityProbe(context, true);
+        CamelReadinessStatePublisher publisher = new CamelReadinessStatePublisher(context, probe);
+        List<ReadinessState> states = new CopyOnWriteArrayList<>();
+        publisher.setApplicationEventPublisher(event -> {
+            if (event instanceof AvailabilityChangeEvent) {
+                states.add((ReadinessState) ((AvailabilityChangeEvent<?>) event).getState());
+            }
+        });
+        publisher.afterPropertiesSet();
+        try {
+            assertEquals(Status.UP, probe.readiness().getStatus());
+            publisher.onApplicationEvent(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+            // restart the route with a consumer which takes a while to start
+            context.getRouteController().stopRoute("slow");
+            slow.set(true);
+            CompletableFuture<Void> started = CompletableFuture.runAsync(() -> {
+                try {
+                    context.getRouteController().startRoute("slow");
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            });
+            await().atMost(5, TimeUnit.SECONDS).until(() -> context.getRouteController().getRouteStatus("slow").isStarting());
+
+            Health health = probe.readiness();
+            assertEquals(Status.DOWN, health.getStatus());
+            assertEquals(Collections.singletonList("slow"), health.getDetails().get("startingRoutes"));
+            await().atMost(5, TimeUnit.SECONDS).until(() -> !states.isEmpty() && states.get(states.size() - 1) == ReadinessState.REFUSING_TRAFFIC);
+
+            release.countDown();
+            started.get(5, TimeUnit.SECONDS);
+            assertEquals(Status.UP, probe.readiness().getStatus());
+            await().atMost(5, TimeUnit.SECONDS).until(() -> states.get(states.size() - 1) == ReadinessState.ACCEPTING_TRAFFIC);
+            // the readiness is published only when it changes
+            assertEquals(Arrays.asList(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC), states);
+        } finally {
+            release.countDown();
+            publisher.destroy();
+            context.stop();
+        }
+    }
+
+    @Test
+    public void shouldNotBeReadyWithoutLeadership() throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        ClusteredRouteController controller = new ClusteredRouteController();
+        controller.setCamelContext(context);
+        controller.setNamespace("test");
+        controller.setClusterService(new NoLeadershipClusterService());
+        context.setRouteController(controller);
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:clustered").routeId("clustered").to("mock:clustered");
+            }
+        });
+        context.start();
+        try {
+            assertFalse(context.getRouteController().getRouteStatus("clustered").isStarted());
+
+            Health health = new CamelAvailabilityProbe(context, true).readiness();
+            assertEquals(Status.DOWN, health.getStatus());
+            assertEquals(Collections.singletonList("clustered"), health.getDetails().get("routesWithoutLeadership"));
+
+            // the clustered routes are not taken into account when the leadership is not required
+            assertEquals(Status.UP, new CamelAvailabilityProbe(context, false).readiness().getStatus());
+        } finally {
+            context.stop();
+        }
+    }
+
+    @Test
+    public void shouldStayLiveWhenStopping() throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        CamelAvailabilityProbe probe = new CamelAvailabilityProbe(context, true);
+        probe.afterPropertiesSet();
+        context.start();
+        context.stop();
+        try {
+            assertEquals(Status.UP, probe.liveness().getStatus());
+            assertEquals(Status.DOWN, probe.readiness().getStatus());
+        } finally {
+            probe.destroy();
+        }
+    }
+
+    /**
+     * An endpoint whose consumer waits to be released before starting, once slow is set.
+     */
+    private static final class SlowEndpoint extends DefaultEndpoint {
+
+        private final AtomicBoolean slow;
+        private final CountDownLatch release;
+
+        SlowEndpoint(CamelContext context, AtomicBoolean slow, CountDownLatch release) {
+            super("slow:start", null);
+            setCamelContext(context);
+            this.slow = slow;
+            this.release = release;
+        }
+
+        @Override
+        public Producer createProducer() throws Exception {
+            throw new UnsupportedOperationException("Consumer only");
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) throws Exception {
+            return new DefaultConsumer(this, processor) {
+                @Override
+                protected void doStart() throws Exception {
+                    if (slow.get()) {
+                        release.await(5, TimeUnit.SECONDS);
+                    }
+                    super.doStart();
+                }
+            };
+        }
+    }
+
+    /**
+     * A cluster service which never grants the leadership.
+     */
+    private static final class NoLeadershipClusterService extends AbstractCamelClusterService<AbstractCamelClusterView> {
+
+        NoLeadershipClusterService() {
+            setId("no-leadership");
+        }
+
+        @Override
+        protected AbstractCamelClusterView createView(String namespace) throws Exception {
+            return new AbstractCamelClusterView(this, namespace) {
+                private final CamelClusterMember localMember = new CamelClusterMember() {
+                    @Override
+                    public boolean isLeader() {
+                        return false;
+                    }
+
+                    @Override
+                    public boolean isLocal() {
+                        return true;
+                    }
+
+                    @Override
+                    public String getId() {
+                        return "local";
+                    }
+                };
+
+                @Override
+                public Optional<CamelClusterMember> getLeader() {
+                    return Optional.empty();
+                }
+
+                @Override
+                public CamelClusterMember getLocalMember() {
+                    return localMember;
+                }
+
+                @Override
+                public List<CamelClusterMember> getMembers() {
+                    return Collections.singletonList(localMember);
+                }
+
+                @Override
+                protected void doStart() throws Exception {
+                    // never elected
+                }
+
+                @Override
+                protected void doStop() throws Exception {
+                    // noop
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.impl.cloud.DefaultServiceDefinition;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.awaitility.Awaitility.await;
+
+public class CamelCloudCachingServiceDiscoveryTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        CountingServiceDiscovery discovery = new CountingServiceDiscovery();
+        CamelCloudCachingServiceDiscovery cache = new CamelCloudCachingServiceDiscovery(discovery, executor, 60000, 60000);
+
+        Assert.assertEquals(8080, cache.getServices("svc").get(0).getPort());
+        Assert.assertEquals(8080, cache.getServices("svc").get(0).getPort());
+        Assert.assertEquals(1, discovery.calls.get());
+
+        cache.invalidate("svc");
+        Assert.assertEquals(8081, cache.getServices("svc").get(0).getPort());
+        Assert.assertEquals(2, discovery.calls.get());
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() throws Exception {
+        CountingServiceDiscovery discovery = new CountingServiceDiscovery();
+        CamelCloudCachingServiceDiscovery cache = new CamelCloudCachingServiceDiscovery(discovery, executor, 0, 60000);
+
+        Assert.assertEquals(8080, cache.getServices("svc").get(0).getPort());
+        Thread.sleep(5);
+        // the stale services are returned while being refreshed
+        Assert.assertEquals(8080, cache.getServices("svc").get(0).getPort());
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> discovery.calls.get() == 2);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> cache.getServices("svc").get(0).getPort() >= 8081);
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        CountingServiceDiscovery discovery = new CountingServiceDiscovery();
+        CamelCloudCachingServiceDiscovery cache = new CamelCloudCachingServiceDiscovery(discovery, executor, 0, 0);
+
+        Assert.assertEquals(8080, cache.getServices("svc").get(0).getPort());
+        Thread.sleep(5);
+        discovery.fail = true;
+        // the last services found are kept
+        Assert.assertEquals(8080, cache.getServices("svc").get(0).getPort());
+    }
+
+    @Test
+    public void testWatch() throws Exception {
+        CountingServiceDiscovery discovery = new CountingServiceDiscovery();
+        CamelCloudCachingServiceDiscovery cache = new CamelCloudCachingServiceDiscovery(discovery, executor, 60000, 60000);
+        cache.watch(Collections.singletonList(discovery));
+
+        Assert.assertEquals(8080, cache.getServices("svc").get(0).getPort());
+        Assert.assertNotNull(discovery.onChange);
+
+        discovery.onChange.run();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> cache.getServices("svc").get(0).getPort() == 8081);
+    }
+
+    @Test
+    public void testUnwatchOnInvalidate() throws Exception {
+        CountingServiceDiscovery discovery = new CountingServiceDiscovery();
+        CamelCloudCachingServiceDiscovery cache = new CamelCloudCachingServiceDiscovery(discovery, executor, 60000, 60000);
+        cache.watch(Collections.singletonList(discovery));
+
+        cache.getServices("svc");
+        cache.invalidate("svc");
+        Assert.assertNull(discovery.onChange);
+
+        cache.getServices("svc");
+        Assert.assertNotNull(discovery.onChange);
+        cache.invalidateAll();
+        Assert.assertNull(discovery.onChange);
+    }
+
+    @Test
+    public void testConcurrentLoadsCoalesced() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountingServiceDiscovery discovery = new CountingServiceDiscovery() {
+            @Override
+            public List<ServiceDefinition> getServices(String name) {
+                loading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getServices(name);
+            }
+        };
+        CamelCloudCachingServiceDiscovery cache = new CamelCloudCachingServiceDiscovery(discovery, executor, 60000, 60000);
+
+        Thread first = new Thread(() -> cache.getServices("svc"));
+        first.start();
+        Assert.assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Thread second = new Thread(() -> cache.getServices("svc"));
+        second.start();
+        // the second lookup waits for the first one
+        await().atMost(5, TimeUnit.SECONDS).until(() -> second.getState() == Thread.State.WAITING);
+        release.countDown();
+        first.join(5000);
+        second.join(5000);
+
+        Assert.assertEquals(1, discovery.calls.get());
+    }
+
+    @Test
+    public void testChangeDuringLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountingServiceDiscovery discovery = new CountingServiceDiscovery() {
+            @Override
+            public List<ServiceDefinition> getServices(String name) {
+                loading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getServices(name);
+            }
+        };
+        CamelCloudCachingServiceDiscovery cache = new CamelCloudCachingServiceDiscovery(discovery, executor, 60000, 60000);
+        cache.watch(Collections.singletonList(discovery));
+
+        Thread first = new Thread(() -> cache.getServices("svc"));
+        first.start();
+        Assert.assertTrue(loading.await(5, TimeUnit.SECONDS));
+        AtomicReference<List<ServiceDefinition>> joined = new AtomicReference<>();
+        Thread second = new Thread(() -> joined.set(cache.getServices("svc")));
+        second.start();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> second.getState() == Thread.State.WAITING);
+
+        // the instances change while the lookup is in progress
+        discovery.onChange.run();
+        release.countDown();
+        first.join(5000);
+        second.join(5000);
+
+        // the lookup which joined the lookup in progress looks up the services again
+        Assert.assertTrue(joined.get().get(0).getPort() > 8080);
+        // and so does the refresh triggered by the change
+        await().atMost(5, TimeUnit.SECONDS).until(() -> cache.getServices("svc").get(0).getPort() > 8080);
+        Assert.assertTrue(discovery.calls.get() >= 2);
+    }
+
+    private static class CountingServiceDiscovery implements WatchableServiceDiscovery {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean fail;
+        private volatile Runnable onChange;
+
+        @Override
+        public List<ServiceDefinition> getServices(String name) {
+            if (fail) {
+                throw new IllegalStateException("Registry not available");
+            }
+            int port = 8080 + calls.getAndIncrement();
+            return Collections.singletonList(new DefaultServiceDefinition(name, "localhost", port));
+        }
+
+        @Override
+        public void watch(String name, Runnable onChange) {
+            this.onChange = onChange;
+        }
+
+        @Override
+        public void unwatch(String name) {
+            this.onChange = null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceHealth;
+import org.apache.camel.impl.cloud.DefaultServiceDefinition;
+import org.apache.camel.impl.cloud.DefaultServiceHealth;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CamelCloudCompiledServiceFilterTest {
+
+    @Test
+    public void testFilter() {
+        CamelCloudCompiledServiceFilter filter = new CamelCloudCompiledServiceFilter(
+            Collections.singletonMap("service", Arrays.asList("localhost:9002", "invalid", "localhost:")));
+
+        ServiceDefinition s1 = new DefaultServiceDefinition("service", "localhost", 9001);
+        ServiceDefinition s2 = new DefaultServiceDefinition("service", "localhost", 9002);
+        ServiceDefinition s3 = new DefaultServiceDefinition("service", "localhost", 9003, new DefaultServiceHealth(false));
+        ServiceDefinition s4 = new DefaultServiceDefinition("other", "localhost", 9002);
+
+        Assert.assertTrue(filter.isBlacklisted(s2));
+        Assert.assertFalse(filter.isBlacklisted(s4));
+        Assert.assertEquals(Collections.singletonList(s1), filter.apply(Arrays.asList(s1, s2, s3)));
+        Assert.assertEquals(Collections.singletonList(s4), filter.apply(Collections.singletonList(s4)));
+    }
+
+    @Test
+    public void testMemoization() {
+        CamelCloudCompiledServiceFilter filter = new CamelCloudCompiledServiceFilter(
+            Collections.singletonMap("service", Collections.singletonList("localhost:9002")));
+
+        AtomicInteger checks = new AtomicInteger();
+        ServiceDefinition s1 = new CountingServiceDefinition("localhost", 9001, checks);
+        ServiceDefinition s2 = new CountingServiceDefinition("localhost", 9002, checks);
+        ServiceDefinition s3 = new CountingServiceDefinition("localhost", 9003, checks);
+        List<ServiceDefinition> services = new ArrayList<>(Arrays.asList(s1, s2));
+
+        CamelCloudCachingServiceDiscovery discovery = new CamelCloudCachingServiceDiscovery(
+            name -> services, Executors.newSingleThreadExecutor(), 60000, 60000);
+
+        List<ServiceDefinition> first = filter.apply(discovery.getServices("service"));
+        Assert.assertEquals(Collections.singletonList(s1), first);
+        Assert.assertEquals(2, checks.get());
+
+        // the same cached list is not filtered again, and each call gets its own list
+        first.add(s3);
+        Assert.assertEquals(Collections.singletonList(s1), filter.apply(discovery.getServices("service")));
+        Assert.assertEquals(2, checks.get());
+
+        // the services have been refreshed
+        services.add(s3);
+        discovery.invalidate("service");
+        Assert.assertEquals(Arrays.asList(s1, s3), filter.apply(discovery.getServices("service")));
+        Assert.assertEquals(5, checks.get());
+    }
+
+    @Test
+    public void testNotMemoizedWithoutCache() {
+        CamelCloudCompiledServiceFilter filter = new CamelCloudCompiledServiceFilter(Collections.emptyMap());
+
+        AtomicInteger checks = new AtomicInteger();
+        List<ServiceDefinition> services = Collections.singletonList(new CountingServiceDefinition("localhost", 9001, checks));
+
+        filter.apply(services);
+        filter.apply(services);
+        Assert.assertEquals(2, checks.get());
+    }
+
+    private static final class CountingServiceDefinition extends DefaultServiceDefinition {
+        private final AtomicInteger checks;
+
+        CountingServiceDefinition(String host, int port, AtomicInteger checks) {
+            super("service", host, port);
+            this.checks = checks;
+        }
+
+        @Override
+        public ServiceHealth getHealth() {
+            checks.incrementAndGet();
+            return super.getHealth();
+        }
+    }
+}
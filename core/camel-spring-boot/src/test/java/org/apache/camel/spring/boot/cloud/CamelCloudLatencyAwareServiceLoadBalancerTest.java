@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.cloud.DefaultServiceDefinition;
+import org.apache.camel.impl.cloud.StaticServiceDiscovery;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+public class CamelCloudLatencyAwareServiceLoadBalancerTest {
+
+    @Test
+    public void testPreferFasterInstance() throws Exception {
+        CamelCloudLatencyAwareServiceLoadBalancer loadBalancer = newLoadBalancer();
+
+        int fast = 0;
+        for (int i = 0; i < 100; i++) {
+            int port = loadBalancer.process("svc", service -> {
+                if (service.getPort() == 8081) {
+                    Thread.sleep(20);
+                }
+                return service.getPort();
+            });
+            if (port == 8080) {
+                fast++;
+            }
+        }
+
+        Assert.assertTrue("Calls to the fast instance: " + fast, fast > 90);
+    }
+
+    @Test
+    public void testAvoidFailingInstance() throws Exception {
+        CamelCloudLatencyAwareServiceLoadBalancer loadBalancer = newLoadBalancer();
+
+        int failures = 0;
+        for (int i = 0; i < 100; i++) {
+            try {
+                loadBalancer.process("svc", service -> {
+                    if (service.getPort() == 8081) {
+                        throw new IllegalStateException("Service unavailable");
+                    }
+                    return service.getPort();
+                });
+            } catch (IllegalStateException e) {
+                failures++;
+            }
+        }
+
+        Assert.assertTrue("Failed calls: " + failures, failures < 10);
+    }
+
+    @Test
+    public void testRecoveredInstance() throws Exception {
+        CamelCloudLatencyAwareServiceLoadBalancer loadBalancer = newLoadBalancer();
+        loadBalancer.setDecayTime(50);
+
+        for (int i = 0; i < 20; i++) {
+            try {
+                loadBalancer.process("svc", service -> {
+                    if (service.getPort() == 8081) {
+                        throw new IllegalStateException("Service unavailable");
+                    }
+                    return service.getPort();
+                });
+            } catch (IllegalStateException e) {
+                // expected
+            }
+        }
+
+        // the failures have decayed, the instance is probed again and is now the fastest
+        Thread.sleep(500);
+        int recovered = 0;
+        for (int i = 0; i < 100; i++) {
+            int port = loadBalancer.process("svc", service -> {
+                if (service.getPort() == 8080) {
+                    Thread.sleep(5);
+                }
+                return service.getPort();
+            });
+            if (port == 8081) {
+                recovered++;
+            }
+        }
+
+        Assert.assertTrue("Calls to the recovered instance: " + recovered, recovered > 50);
+    }
+
+    @Test
+    public void testConcurrentCallsToNewInstance() throws Exception {
+        StaticServiceDiscovery serviceDiscovery = new StaticServiceDiscovery();
+        serviceDiscovery.setServers(Arrays.asList(
+            new DefaultServiceDefinition("svc", "localhost", 8080)));
+        CamelCloudLatencyAwareServiceLoadBalancer loadBalancer = newLoadBalancer(serviceDiscovery);
+
+        for (int i = 0; i < 10; i++) {
+            loadBalancer.process("svc", service -> {
+                Thread.sleep(5);
+                return service.getPort();
+            });
+        }
+
+        // a new instance is discovered while several calls are in flight
+        serviceDiscovery.setServers(Arrays.asList(
+            new DefaultServiceDefinition("svc", "localhost", 8080),
+            new DefaultServiceDefinition("svc", "localhost", 8081)));
+
+        int calls = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(calls);
+        CountDownLatch started = new CountDownLatch(calls);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger newInstance = new AtomicInteger();
+        try {
+            for (int i = 0; i < calls; i++) {
+                executor.submit(() -> loadBalancer.process("svc", service -> {
+                    if (service.getPort() == 8081) {
+                        newInstance.incrementAndGet();
+                    }
+                    started.countDown();
+                    release.await();
+                    return service.getPort();
+                }));
+            }
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+
+        // the new instance is probed, but its in-flight calls count before it is measured
+        Assert.assertTrue("Calls to the new instance: " + newInstance.get(), newInstance.get() > 0);
+        Assert.assertTrue("Calls to the new instance: " + newInstance.get(), newInstance.get() < calls - 2);
+    }
+
+    @Test
+    public void testRemovedInstancesDiscarded() throws Exception {
+        StaticServiceDiscovery serviceDiscovery = new StaticServiceDiscovery();
+        serviceDiscovery.setServers(Arrays.asList(
+            new DefaultServiceDefinition("svc", "localhost", 8080),
+            new DefaultServiceDefinition("svc", "localhost", 8081)));
+        CamelCloudLatencyAwareServiceLoadBalancer loadBalancer = newLoadBalancer(serviceDiscovery);
+
+        for (int i = 0; i < 10; i++) {
+            loadBalancer.process("svc", service -> service.getPort());
+        }
+        Assert.assertEquals(2, loadBalancer.getInstanceCount("svc"));
+
+        serviceDiscovery.setServers(Arrays.asList(
+            new DefaultServiceDefinition("svc", "localhost", 8082)));
+        loadBalancer.process("svc", service -> service.getPort());
+        loadBalancer.process("svc", service -> service.getPort());
+        Assert.assertEquals(1, loadBalancer.getInstanceCount("svc"));
+    }
+
+    @Test
+    public void testLoadBalancerPerServiceCall() {
+        new ApplicationContextRunner()
+            .withConfiguration(
+                AutoConfigurations.of(
+                    CamelAutoConfiguration.class,
+                    CamelCloudAutoConfiguration.class,
+                    CamelCloudServiceLoadBalancerAutoConfiguration.class
+                )
+            )
+            .withPropertyValues("camel.cloud.load-balancer.type=latency-aware")
+            .run(context -> {
+                Assert.assertEquals(CamelCloudLoadBalancerType.LATENCY_AWARE,
+                    context.getBean(CamelCloudConfigurationProperties.class).getLoadBalancer().getType());
+                // each service call sets its own service discovery and filter on its load balancer
+                Assert.assertNotSame(context.getBean("load-balancer"), context.getBean("load-balancer"));
+            });
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void testNoServices() throws Exception {
+        CamelCloudLatencyAwareServiceLoadBalancer loadBalancer = newLoadBalancer();
+        loadBalancer.process("unknown", service -> service.getPort());
+    }
+
+    private static CamelCloudLatencyAwareServiceLoadBalancer newLoadBalancer() {
+        StaticServiceDiscovery serviceDiscovery = new StaticServiceDiscovery();
+        serviceDiscovery.setServers(Arrays.asList(
+            new DefaultServiceDefinition("svc", "localhost", 8080),
+            new DefaultServiceDefinition("svc", "localhost", 8081)));
+        return newLoadBalancer(serviceDiscovery);
+    }
+
+    private static CamelCloudLatencyAwareServiceLoadBalancer newLoadBalancer(StaticServiceDiscovery serviceDiscovery) {
+        CamelCloudLatencyAwareServiceLoadBalancer loadBalancer = new CamelCloudLatencyAwareServiceLoadBalancer();
+        loadBalancer.setCamelContext(new DefaultCamelContext());
+        loadBalancer.setServiceDiscovery(serviceDiscovery);
+        loadBalancer.setServiceFilter(services -> services);
+        loadBalancer.start();
+        return loadBalancer;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.cloud;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceDiscovery;
+import org.apache.camel.impl.cloud.DefaultServiceDefinition;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CamelCloudParallelServiceDiscoveryTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testDeadlineAndFallback() throws Exception {
+        SlowServiceDiscovery slow = new SlowServiceDiscovery();
+        Map<String, ServiceDiscovery> sources = new LinkedHashMap<>();
+        sources.put("static", name -> Collections.singletonList(new DefaultServiceDefinition(name, "localhost", 8080)));
+        sources.put("slow", slow);
+
+        CamelCloudParallelServiceDiscovery discovery = new CamelCloudParallelServiceDiscovery(
+            sources, executor, 5000, Collections.singletonMap("slow", 200L));
+
+        Assert.assertEquals(2, discovery.getServices("svc").size());
+
+        // the slow source misses its deadline, its last services are used
+        slow.delay = 5000;
+        long start = System.currentTimeMillis();
+        List<ServiceDefinition> services = discovery.getServices("svc");
+        Assert.assertTrue(System.currentTimeMillis() - start < 2000);
+        Assert.assertEquals(2, services.size());
+
+        CamelCloudParallelServiceDiscovery.SourceStatistics statistics = discovery.getStatistics().get("slow");
+        Assert.assertEquals(2, statistics.getCalls());
+        Assert.assertEquals(1, statistics.getTimeouts());
+        Assert.assertEquals(1, statistics.getFallbacks());
+        Assert.assertEquals(2, discovery.getStatistics().get("static").getSuccesses());
+    }
+
+    @Test
+    public void testSingleSourceDeadline() throws Exception {
+        SlowServiceDiscovery slow = new SlowServiceDiscovery();
+        slow.delay = 5000;
+
+        CamelCloudParallelServiceDiscovery discovery = new CamelCloudParallelServiceDiscovery(
+            Collections.singletonMap("slow", slow), executor, 200, null);
+
+        long start = System.currentTimeMillis();
+        Assert.assertTrue(discovery.getServices("svc").isEmpty());
+        Assert.assertTrue(System.currentTimeMillis() - start < 2000);
+        Assert.assertEquals(1, discovery.getStatistics().get("slow").getTimeouts());
+    }
+
+    @Test
+    public void testLatencyOfEachSource() throws Exception {
+        SlowServiceDiscovery slow = new SlowServiceDiscovery();
+        slow.delay = 500;
+        Map<String, ServiceDiscovery> sources = new LinkedHashMap<>();
+        sources.put("slow", slow);
+        sources.put("static", name -> Collections.singletonList(new DefaultServiceDefinition(name, "localhost", 8080)));
+
+        CamelCloudParallelServiceDiscovery discovery = new CamelCloudParallelServiceDiscovery(
+            sources, executor, 5000, null);
+
+        Assert.assertEquals(2, discovery.getServices("svc").size());
+
+        // the static source is collected after the slow one, its latency must not include the wait
+        Assert.assertTrue(discovery.getStatistics().get("slow").getTotalLatency() >= TimeUnit.MILLISECONDS.toNanos(500));
+        Assert.assertTrue(discovery.getStatistics().get("static").getTotalLatency() < TimeUnit.MILLISECONDS.toNanos(250));
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        Map<String, ServiceDiscovery> sources = new LinkedHashMap<>();
+        sources.put("static", name -> Collections.singletonList(new DefaultServiceDefinition(name, "localhost", 8080)));
+        sources.put("failing", name -> {
+            throw new IllegalStateException("Registry not available");
+        });
+
+        CamelCloudParallelServiceDiscovery discovery = new CamelCloudParallelServiceDiscovery(
+            sources, executor, 1000, null);
+
+        Assert.assertEquals(1, discovery.getServices("svc").size());
+        Assert.assertEquals(1, discovery.getStatistics().get("failing").getFailures());
+    }
+
+    private static class SlowServiceDiscovery implements ServiceDiscovery {
+        private volatile long delay;
+
+        @Override
+        public List<ServiceDefinition> getServices(String name) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.singletonList(new DefaultServiceDefinition(name, "remote", 8081));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.stats;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RouteStatisticsCollectorTest {
+
+    @Test
+    public void testStartTimeNotInExchangeProperties() throws Exception {
+        RouteStatisticsCollector collector = new RouteStatisticsCollector();
+        CopyOnWriteArrayList<Map<String, Object>> properties = new CopyOnWriteArrayList<>();
+
+        CamelContext camelContext = new DefaultCamelContext();
+        camelContext.addRoutePolicyFactory(collector);
+        camelContext.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("start")
+                    .process(e -> properties.add(new HashMap<>(e.getProperties())))
+                    .split(body())
+                        .process(e -> properties.add(new HashMap<>(e.getProperties())))
+                        .to("direct:sub");
+                from("direct:sub").routeId("sub")
+                    .process(e -> properties.add(new HashMap<>(e.getProperties())));
+            }
+        });
+        camelContext.start();
+        try {
+            camelContext.createProducerTemplate().sendBody("direct:start", Arrays.asList("a", "b"));
+
+            Assert.assertEquals(5, properties.size());
+            for (Map<String, Object> map : properties) {
+                for (String key : map.keySet()) {
+                    Assert.assertFalse("Unexpected property " + key, key.startsWith("CamelRouteStatistics"));
+                }
+            }
+
+            RouteStatisticsSnapshot snapshot = collector.snapshot(Arrays.asList("start", "sub"));
+            Assert.assertEquals(1, snapshot.getExchangesTotal()[0]);
+            Assert.assertEquals(2, snapshot.getExchangesTotal()[1]);
+            Assert.assertEquals(0, snapshot.getExchangesInflight()[0]);
+            Assert.assertEquals(0, snapshot.getExchangesInflight()[1]);
+            Assert.assertTrue(snapshot.getLastProcessingTime()[0] >= 0);
+        } finally {
+            camelContext.stop();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CamelThreadPoolFactoryTest {
+
+    @Test
+    public void testForkJoinPool() throws Exception {
+        CamelContext camelContext = new DefaultCamelContext();
+        ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
+        manager.registerThreadPoolProfile(new ThreadPoolProfileBuilder("forkJoin").maxPoolSize(3).build());
+        CamelThreadPoolFactory.install(manager).setThreadPoolType("forkJoin", ThreadPoolType.FORK_JOIN);
+
+        ExecutorService executor = manager.newThreadPool(this, "MyPool", "forkJoin");
+        try {
+            Assert.assertTrue(executor instanceof ForkJoinPool);
+            Assert.assertEquals(3, ((ForkJoinPool) executor).getParallelism());
+            String name = executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+            Assert.assertTrue(name, name.contains("MyPool"));
+        } finally {
+            manager.shutdownNow(executor);
+        }
+
+        // other profiles are not affected
+        executor = manager.newDefaultThreadPool(this, "MyOtherPool");
+        try {
+            Assert.assertTrue(executor instanceof ThreadPoolExecutor);
+        } finally {
+            manager.shutdownNow(executor);
+        }
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        CamelContext camelContext = new DefaultCamelContext();
+        ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
+        CamelThreadPoolFactory factory = CamelThreadPoolFactory.install(manager);
+        factory.setThreadPoolType(manager.getDefaultThreadPoolProfile().getId(), ThreadPoolType.VIRTUAL);
+
+        ExecutorService executor = manager.newDefaultThreadPool(this, "MyPool");
+        try {
+            // falls back to a classic thread pool when virtual threads are not supported
+            Assert.assertEquals(!CamelThreadPoolFactory.isVirtualThreadsSupported(), executor instanceof ThreadPoolExecutor);
+            Assert.assertEquals("done", executor.submit(() -> "done").get(5, TimeUnit.SECONDS));
+        } finally {
+            manager.shutdownNow(executor);
+        }
+    }
+
+    @Test
+    public void testInstrumented() throws Exception {
+        CamelContext camelContext = new DefaultCamelContext();
+        ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
+        new CamelThreadPoolMetrics(camelContext);
+        CamelThreadPoolFactory factory = CamelThreadPoolFactory.install(manager);
+
+        // installed behind the instrumented factory, only once
+        Assert.assertTrue(manager.getThreadPoolFactory() instanceof InstrumentedThreadPoolFactory);
+        Assert.assertSame(factory, ((InstrumentedThreadPoolFactory) manager.getThreadPoolFactory()).getDelegate());
+        Assert.assertSame(factory, CamelThreadPoolFactory.install(manager));
+
+        ExecutorService executor = manager.newDefaultThreadPool(this, "MyPool");
+        try {
+            Assert.assertTrue(executor instanceof InstrumentedThreadPoolExecutor);
+        } finally {
+            manager.shutdownNow(executor);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CamelThreadPoolMetricsTest {
+
+    @Test
+    public void testThreadPoolMetrics() throws Exception {
+        CamelContext camelContext = new DefaultCamelContext();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new CamelThreadPoolMetrics(camelContext).bindTo(registry);
+
+        ExecutorService executor = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "MyPool", 2);
+        Assert.assertTrue(executor instanceof InstrumentedThreadPoolExecutor);
+        for (int i = 0; i < 10; i++) {
+            executor.submit(() -> { });
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(10, ((InstrumentedThreadPoolExecutor) executor).getExecutedCount());
+        // the meters are removed once the thread pool has terminated
+        Assert.assertNull(registry.find("camel.threadpool.latency").functionTimer());
+    }
+
+    @Test
+    public void testThreadPoolMeters() throws Exception {
+        CamelContext camelContext = new DefaultCamelContext();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new CamelThreadPoolMetrics(camelContext).bindTo(registry);
+
+        ExecutorService executor = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "MyPool", 2);
+        try {
+            executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+
+            FunctionTimer latency = registry.find("camel.threadpool.latency").functionTimer();
+            Assert.assertNotNull(latency);
+            Assert.assertEquals(1, (long) latency.count());
+            Assert.assertNotNull(registry.find("camel.threadpool.queued").gauge());
+            Assert.assertNotNull(registry.find("camel.threadpool.rejected").functionCounter());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSameNameThreadPoolMeters() throws Exception {
+        CamelContext camelContext = new DefaultCamelContext();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new CamelThreadPoolMetrics(camelContext).bindTo(registry);
+
+        ExecutorService first = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "MyPool", 1);
+        ExecutorService second = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "MyPool", 1);
+        try {
+            Assert.assertEquals(2, registry.find("camel.threadpool.latency").functionTimers().size());
+
+            first.shutdown();
+            first.awaitTermination(5, TimeUnit.SECONDS);
+            // the meters of the other thread pool are kept
+            Assert.assertEquals(1, registry.find("camel.threadpool.latency").functionTimers().size());
+        } finally {
+            second.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testForkJoinPoolMetersRemoved() throws Exception {
+        CamelContext camelContext = new DefaultCamelContext();
+        ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new CamelThreadPoolMetrics(camelContext).bindTo(registry);
+        manager.registerThreadPoolProfile(new ThreadPoolProfileBuilder("forkJoin").maxPoolSize(2).build());
+        CamelThreadPoolFactory.install(manager).setThreadPoolType("forkJoin", ThreadPoolType.FORK_JOIN);
+
+        // as when a route using the thread pool is restarted
+        for (int i = 0; i < 3; i++) {
+            ExecutorService executor = manager.newThreadPool(this, "MyForkJoinPool", "forkJoin");
+            Assert.assertTrue(executor instanceof ForkJoinPool);
+            Assert.assertEquals(1, registry.find("camel.threadpool.size").tag("name", "MyForkJoinPool").gauges().size());
+            manager.shutdown(executor);
+            Assert.assertTrue(registry.find("camel.threadpool.size").tag("name", "MyForkJoinPool").gauges().isEmpty());
+        }
+    }
+
+    @Test
+    public void testScheduledThreadPoolMetersRemoved() throws Exception {
+        CamelContext camelContext = new DefaultCamelContext();
+        ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new CamelThreadPoolMetrics(camelContext).bindTo(registry);
+
+        // as when a route using the thread pool is restarted
+        for (int i = 0; i < 3; i++) {
+            ScheduledExecutorService executor = manager.newScheduledThreadPool(this, "MyScheduledPool", 1);
+            Assert.assertTrue(registry.find("camel.threadpool.size").tag("name", "MyScheduledPool").gauges().size() <= 1);
+            manager.shutdown(executor);
+        }
+        // the meters of the scheduled thread pools which have been shut down are removed when a thread pool is created
+        ExecutorService executor = manager.newFixedThreadPool(this, "MyPool", 1);
+        try {
+            Assert.assertTrue(registry.find("camel.threadpool.size").tag("name", "MyScheduledPool").gauges().isEmpty());
+        } finally {
+            manager.shutdownNow(executor);
+        }
+    }
+
+    @Test
+    public void testQueuedTasksNotWrapped() throws Exception {
+        CamelContext camelContext = new DefaultCamelContext();
+        new CamelThreadPoolMetrics(camelContext).bindTo(new SimpleMeterRegistry());
+
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) camelContext.getExecutorServiceManager().newFixedThreadPool(this, "MyPool", 1);
+        try {
+            Future<?> blocker = executor.submit(() -> {
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Runnable task = () -> { };
+            executor.execute(task);
+            Assert.assertTrue(executor.getQueue().contains(task));
+            Assert.assertTrue(executor.remove(task));
+            blocker.get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(1, ((InstrumentedThreadPoolExecutor) executor).getExecutedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import org.apache.camel.util.AntPathMatcher;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AntPathPatternsTest {
+
+    private static final String[] PATHS = {
+        "com/foo/MyRoute", "com/foo/bar/MyRoute", "com/foo/MyRouteTest", "com/foo/bar/TestRoute",
+        "com/MyRoute", "org/foo/MyRoute", "com/foobar/MyRoute", "com/foo"
+    };
+
+    @Test
+    public void testNoPatterns() {
+        Assert.assertNull(AntPathPatterns.compile(null));
+        Assert.assertNull(AntPathPatterns.compile(""));
+    }
+
+    @Test
+    public void testLiteral() {
+        AntPathPatterns patterns = AntPathPatterns.compile("com/foo/MyRoute,org/foo/MyRoute");
+
+        Assert.assertTrue(patterns.matches("com/foo/MyRoute"));
+        Assert.assertTrue(patterns.matches("org/foo/MyRoute"));
+        Assert.assertFalse(patterns.matches("com/foo/MyRouteTest"));
+    }
+
+    @Test
+    public void testPrefix() {
+        AntPathPatterns patterns = AntPathPatterns.compile("com/foo/**");
+
+        Assert.assertTrue(patterns.matches("com/foo/MyRoute"));
+        Assert.assertTrue(patterns.matches("com/foo/bar/MyRoute"));
+        Assert.assertFalse(patterns.matches("com/foobar/MyRoute"));
+        Assert.assertFalse(patterns.matches("org/foo/MyRoute"));
+    }
+
+    @Test
+    public void testSpacesAndEmptyPatterns() {
+        AntPathPatterns patterns = AntPathPatterns.compile("com/foo/**, com/bar/**,,");
+
+        Assert.assertTrue(patterns.matches("com/foo/MyRoute"));
+        Assert.assertTrue(patterns.matches("com/bar/MyRoute"));
+        Assert.assertFalse(patterns.matches("org/foo/MyRoute"));
+        // an empty pattern does not match an empty path
+        Assert.assertFalse(patterns.matches(""));
+    }
+
+    @Test
+    public void testSameAsAntPathMatcher() {
+        AntPathMatcher matcher = new AntPathMatcher();
+        String[] patterns = {"com/foo/**", "**/*Test*", "com/**/My*", "com/*/MyRoute", "com/foo/?yRoute", "**", "com/foo"};
+        for (String pattern : patterns) {
+            AntPathPatterns compiled = AntPathPatterns.compile(pattern);
+            for (String path : PATHS) {
+                Assert.assertEquals(pattern + " -> " + path, matcher.match(pattern, path), compiled.matches(path));
+            }
+        }
+    }
+}
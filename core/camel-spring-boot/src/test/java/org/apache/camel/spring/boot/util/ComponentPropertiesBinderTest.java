@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import javax.net.ssl.HostnameVerifier;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.http.HttpComponent;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ComponentPropertiesBinderTest {
+
+    @Test
+    public void testBindProperties() {
+        HostnameVerifier verifier = (host, session) -> true;
+        CamelContext camelContext = new DefaultCamelContext();
+        camelContext.getRegistry().bind("myVerifier", verifier);
+
+        HttpComponent component = new HttpComponent();
+        component.setCamelContext(camelContext);
+
+        MyConfiguration configuration = new MyConfiguration();
+        configuration.setConnectionsPerRoute(7);
+        configuration.setX509HostnameVerifier("#myVerifier");
+
+        CamelPropertiesHelper.bindProperties(camelContext, configuration, component);
+
+        Assert.assertEquals(7, component.getConnectionsPerRoute());
+        Assert.assertSame(verifier, component.getX509HostnameVerifier());
+    }
+
+    public static class MyConfiguration extends ComponentConfigurationPropertiesCommon {
+        private Integer connectionsPerRoute;
+        private String x509HostnameVerifier;
+
+        public Integer getConnectionsPerRoute() {
+            return connectionsPerRoute;
+        }
+
+        public void setConnectionsPerRoute(Integer connectionsPerRoute) {
+            this.connectionsPerRoute = connectionsPerRoute;
+        }
+
+        public String getX509HostnameVerifier() {
+            return x509HostnameVerifier;
+        }
+
+        public void setX509HostnameVerifier(String x509HostnameVerifier) {
+            this.x509HostnameVerifier = x509HostnameVerifier;
+        }
+
+        @Override
+        public void bindTo(ComponentPropertiesBinder binder) {
+            binder.bind("connectionsPerRoute", connectionsPerRoute);
+            binder.bind("x509HostnameVerifier", x509HostnameVerifier);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+public class HierarchicalPropertiesCacheTest {
+
+    @Test
+    public void testInvalidate() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("test.group.enabled", "true");
+        properties.put("test.group.subgroup.enabled", "false");
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+
+        HierarchicalPropertiesCache cache = HierarchicalPropertiesCache.get(environment);
+        Assert.assertSame(cache, HierarchicalPropertiesCache.get(environment));
+        Assert.assertFalse(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group", "test.group.subgroup"));
+
+        // the outcome is cached until invalidated
+        properties.put("test.group.subgroup.enabled", "true");
+        Assert.assertFalse(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group", "test.group.subgroup"));
+
+        HierarchicalPropertiesCache.invalidate(environment);
+        Assert.assertTrue(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group", "test.group.subgroup"));
+    }
+}
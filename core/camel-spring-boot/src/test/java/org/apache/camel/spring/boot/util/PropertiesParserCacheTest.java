@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+public class PropertiesParserCacheTest {
+
+    @Test
+    public void testCache() {
+        PropertiesParserCache cache = new PropertiesParserCache();
+        cache.setMaximumCacheSize(1000);
+        AtomicInteger resolved = new AtomicInteger();
+        Function<String, String> resolver = key -> {
+            resolved.incrementAndGet();
+            return "bar";
+        };
+
+        Assert.assertEquals("bar", cache.get("foo", resolver));
+        Assert.assertEquals("bar", cache.get("foo", resolver));
+
+        Assert.assertEquals(1, resolved.get());
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(1, cache.getCacheSize());
+    }
+
+    @Test
+    public void testMissingNotCached() {
+        PropertiesParserCache cache = new PropertiesParserCache();
+        cache.setMaximumCacheSize(1000);
+
+        Assert.assertNull(cache.get("missing", key -> null));
+        // the property has been added to the environment since
+        Assert.assertEquals("added", cache.get("missing", key -> "added"));
+        Assert.assertEquals(1, cache.getCacheSize());
+    }
+
+    @Test
+    public void testRandomNotCached() {
+        PropertiesParserCache cache = new PropertiesParserCache();
+        cache.setMaximumCacheSize(1000);
+        AtomicInteger counter = new AtomicInteger();
+
+        Assert.assertEquals("1", cache.get("random.int", key -> Integer.toString(counter.incrementAndGet())));
+        Assert.assertEquals("2", cache.get("random.int", key -> Integer.toString(counter.incrementAndGet())));
+        Assert.assertEquals(0, cache.getCacheSize());
+    }
+
+    @Test
+    public void testInvalidation() {
+        PropertiesParserCache cache = new PropertiesParserCache();
+        cache.setMaximumCacheSize(1000);
+        cache.get("foo", key -> "bar");
+
+        Assert.assertTrue(cache.supportsEventType(ContextRefreshedEvent.class));
+        Assert.assertFalse(cache.supportsEventType(ContextClosedEvent.class));
+        cache.onApplicationEvent(new ContextRefreshedEvent(new GenericApplicationContext()));
+
+        Assert.assertEquals(0, cache.getCacheSize());
+        Assert.assertEquals("baz", cache.get("foo", key -> "baz"));
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        PropertiesParserCache cache = new PropertiesParserCache();
+
+        Assert.assertEquals("bar", cache.get("foo", key -> "bar"));
+        Assert.assertEquals("baz", cache.get("foo", key -> "baz"));
+        Assert.assertEquals(0, cache.getCacheSize());
+        Assert.assertEquals(0, cache.getMissCount());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.Collections;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RegistryReferenceConverterTest {
+
+    @Test
+    public void testConvertReference() {
+        MyOption option = new MyOption();
+        CamelContext camelContext = new DefaultCamelContext();
+        camelContext.getRegistry().bind("myOption", option);
+
+        RegistryReferenceConverter converter = new RegistryReferenceConverter(
+            () -> camelContext, Collections.singletonList(new RegistryReferenceTypes(MyOption.class)));
+
+        ApplicationConversionService conversionService = new ApplicationConversionService();
+        conversionService.addConverter(converter);
+
+        Assert.assertTrue(conversionService.canConvert(String.class, MyOption.class));
+        Assert.assertSame(option, conversionService.convert("#myOption", MyOption.class));
+        Assert.assertSame(option, conversionService.convert("#bean:myOption", MyOption.class));
+        Assert.assertNull(conversionService.convert("#bean:unknown", MyOption.class));
+    }
+
+    @Test
+    public void testBindReference() {
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CamelAutoConfiguration.class))
+            .withUserConfiguration(TestConfiguration.class)
+            .withPropertyValues("test.option=#bean:myOption")
+            .run(context -> {
+                assertThat(context).hasSingleBean(RegistryReferenceConverter.class);
+                assertThat(context.getBean(TestProperties.class).getOption()).isSameAs(context.getBean("myOption"));
+            });
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(TestProperties.class)
+    public static class TestConfiguration {
+        @Bean
+        public MyOption myOption() {
+            return new MyOption();
+        }
+
+        @Bean
+        public static RegistryReferenceTypes testReferenceTypes() {
+            return new RegistryReferenceTypes(MyOption.class);
+        }
+    }
+
+    @ConfigurationProperties(prefix = "test")
+    public static class TestProperties {
+        private MyOption option;
+
+        public MyOption getOption() {
+            return option;
+        }
+
+        public void setOption(MyOption option) {
+            this.option = option;
+        }
+    }
+
+    public static class MyOption {
+    }
+}
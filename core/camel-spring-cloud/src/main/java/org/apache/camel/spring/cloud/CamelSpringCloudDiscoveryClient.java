@@ -17,9 +17,11 @@
 package org.apache.camel.spring.cloud;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+import org.apache.camel.cloud.ServiceDefinition;
 import org.apache.camel.cloud.ServiceDiscovery;
 import org.springframework.cloud.client.DefaultServiceInstance;
 import org.springframework.cloud.client.ServiceInstance;
@@ -28,6 +30,7 @@ import org.springframework.cloud.client.discovery.DiscoveryClient;
 public class CamelSpringCloudDiscoveryClient implements DiscoveryClient {
     private final String description;
     private final ServiceDiscovery serviceDiscovery;
+    private final ServiceConversionCache<ServiceDefinition, ServiceInstance> conversions;
     private ServiceInstance localInstance;
 
     public CamelSpringCloudDiscoveryClient(String description, ServiceDiscovery serviceDiscovery) {
@@ -38,6 +41,7 @@ public class CamelSpringCloudDiscoveryClient implements DiscoveryClient {
         this.description = description;
         this.serviceDiscovery = serviceDiscovery;
         this.localInstance = localServiceDiscovery;
+        this.conversions = ServiceConversionCache.forServiceDefinitions(CamelSpringCloudDiscoveryClient::convert);
     }
 
     @Override
@@ -52,13 +56,25 @@ public class CamelSpringCloudDiscoveryClient implements DiscoveryClient {
 
     @Override
     public List<ServiceInstance> getInstances(String serviceId) {
-        return serviceDiscovery.getServices(serviceId).stream()
-            .map(s -> new DefaultServiceInstance(s.getName(), s.getHost(), s.getPort(), false, s.getMetadata()))
-            .collect(Collectors.toList());
+        return conversions.convertAll(serviceId, serviceDiscovery.getServices(serviceId));
     }
 
     @Override
     public List<String> getServices() {
         return Collections.emptyList();
     }
+
+    // *************************************************************************
+    // Helpers
+    // *************************************************************************
+
+    private static ServiceInstance convert(ServiceDefinition definition) {
+        // the instance is shared by subsequent lookups so it must not expose a mutable metadata
+        Map<String, String> metadata = definition.getMetadata();
+        metadata = metadata == null || metadata.isEmpty()
+            ? Collections.emptyMap()
+            : Collections.unmodifiableMap(new HashMap<>(metadata));
+
+        return new DefaultServiceInstance(definition.getName(), definition.getHost(), definition.getPort(), false, metadata);
+    }
 }
@@ -25,9 +25,11 @@ import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
 
 public class DefaultServiceLoadBalancer implements ServiceLoadBalancer {
     private final LoadBalancerClient client;
+    private final ServiceConversionCache<ServiceInstance, ServiceDefinition> conversions;
 
     public DefaultServiceLoadBalancer(LoadBalancerClient client) {
         this.client = client;
+        this.conversions = ServiceConversionCache.forServiceInstances(this::createServiceDefinition);
     }
 
     @Override
@@ -40,6 +42,14 @@ public class DefaultServiceLoadBalancer implements ServiceLoadBalancer {
     }
 
     protected ServiceDefinition convertServiceInstanceToServiceDefinition(ServiceInstance instance) {
+        return conversions.convert(instance.getServiceId(), instance);
+    }
+
+    /**
+     * Creates the definition of the given instance, which is cached and shared by the following calls
+     * selecting the same instance.
+     */
+    protected ServiceDefinition createServiceDefinition(ServiceInstance instance) {
         return new DefaultServiceDefinition(
             instance.getServiceId(),
             instance.getHost(),
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.cloud;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.util.ObjectHelper;
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Caches the conversion of service instances between the Camel and the Spring Cloud models, so the views are
+ * only built again when the registry returns a different instance list.
+ * <p/>
+ * The last conversion is kept per service: an instance is looked up by identity first and then by its key (such
+ * as host and port) and equivalence (name, host, port and metadata) so that registries returning new but equal
+ * objects on every lookup hit the cache as well. The converted instances are shared by the lookups, so they must
+ * be immutable, but each lookup gets its own list. The conversions of a service are discarded when it has no
+ * instances anymore, and all the conversions are discarded when too many services are cached.
+ */
+public final class ServiceConversionCache<S, T> {
+
+    /**
+     * The max number of instances remembered per service for single conversions.
+     */
+    public static final int DEFAULT_MAX_INSTANCES = 64;
+
+    /**
+     * The max number of services for which the conversions are remembered.
+     */
+    public static final int DEFAULT_MAX_SERVICES = 256;
+
+    private final Function<? super S, ? extends T> converter;
+    private final Function<? super S, ?> key;
+    private final BiPredicate<? super S, ? super S> equivalence;
+    private final int maxInstances;
+    private final ConcurrentMap<String, Snapshot<S, T>> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * @param converter    the conversion of an instance
+     * @param key          the key of an instance, which must be equal for equivalent instances
+     * @param equivalence  whether two instances have the same conversion
+     * @param maxInstances the max number of instances remembered per service for single conversions
+     */
+    public ServiceConversionCache(Function<? super S, ? extends T> converter, Function<? super S, ?> key,
+                                  BiPredicate<? super S, ? super S> equivalence, int maxInstances) {
+        ObjectHelper.notNull(converter, "converter");
+        ObjectHelper.notNull(key, "key");
+        ObjectHelper.notNull(equivalence, "equivalence");
+
+        this.converter = converter;
+        this.key = key;
+        this.equivalence = equivalence;
+        this.maxInstances = maxInstances;
+    }
+
+    /**
+     * Creates a cache for conversions of Camel {@link ServiceDefinition}s.
+     */
+    public static <T> ServiceConversionCache<ServiceDefinition, T> forServiceDefinitions(Function<? super ServiceDefinition, ? extends T> converter) {
+        return new ServiceConversionCache<>(converter, d -> d.getHost() + ':' + d.getPort(),
+            ServiceConversionCache::isSameDefinition, DEFAULT_MAX_INSTANCES);
+    }
+
+    /**
+     * Creates a cache for conversions of Spring Cloud {@link ServiceInstance}s.
+     */
+    public static <T> ServiceConversionCache<ServiceInstance, T> forServiceInstances(Function<? super ServiceInstance, ? extends T> converter) {
+        return new ServiceConversionCache<>(converter, i -> i.getHost() + ':' + i.getPort(),
+            ServiceConversionCache::isSameInstance, DEFAULT_MAX_INSTANCES);
+    }
+
+    /**
+     * Converts the instances of the given service, the returned list belongs to the caller.
+     */
+    public List<T> convertAll(String serviceId, List<? extends S> sources) {
+        if (serviceId == null) {
+            return convertEach(sources);
+        }
+        if (sources.isEmpty()) {
+            // the service has gone
+            snapshots.remove(serviceId);
+            return new ArrayList<>();
+        }
+
+        Snapshot<S, T> last = snapshots.get(serviceId);
+        if (last != null && last.matches(sources, equivalence)) {
+            return new ArrayList<>(last.converted);
+        }
+
+        final int size = sources.size();
+        final List<S> keys = new ArrayList<>(size);
+        final List<T> converted = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            S source = sources.get(i);
+            T answer = last != null ? last.find(source, key, equivalence) : null;
+            if (answer == null) {
+                answer = converter.apply(source);
+            }
+
+            keys.add(source);
+            converted.add(answer);
+        }
+
+        put(serviceId, new Snapshot<>(keys, converted, key));
+
+        return new ArrayList<>(converted);
+    }
+
+    /**
+     * Converts a single instance of the given service.
+     */
+    public T convert(String serviceId, S source) {
+        if (serviceId == null) {
+            return converter.apply(source);
+        }
+
+        Snapshot<S, T> last = snapshots.get(serviceId);
+        T answer = last != null ? last.find(source, key, equivalence) : null;
+
+        if (answer == null) {
+            answer = converter.apply(source);
+
+            // remember the instance, dropping the eldest one once the limit is reached
+            final int size = last != null ? last.sources.size() : 0;
+            final int from = size >= maxInstances ? size - maxInstances + 1 : 0;
+            final List<S> keys = new ArrayList<>(size - from + 1);
+            final List<T> converted = new ArrayList<>(size - from + 1);
+
+            for (int i = from; i < size; i++) {
+                keys.add(last.sources.get(i));
+                converted.add(last.converted.get(i));
+            }
+
+            keys.add(source);
+            converted.add(answer);
+
+            put(serviceId, new Snapshot<>(keys, converted, key));
+        }
+
+        return answer;
+    }
+
+    /**
+     * Discards the cached conversions.
+     */
+    public void clear() {
+        snapshots.clear();
+    }
+
+    /**
+     * The number of services for which the conversions are cached.
+     */
+    int size() {
+        return snapshots.size();
+    }
+
+    // *************************************************************************
+    // Helpers
+    // *************************************************************************
+
+    private void put(String serviceId, Snapshot<S, T> snapshot) {
+        if (snapshots.size() >= DEFAULT_MAX_SERVICES && !snapshots.containsKey(serviceId)) {
+            // the removed services are not notified, so start over once there are too many
+            snapshots.clear();
+        }
+        snapshots.put(serviceId, snapshot);
+    }
+
+    private List<T> convertEach(List<? extends S> sources) {
+        final List<T> answer = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            answer.add(converter.apply(sources.get(i)));
+        }
+
+        return answer;
+    }
+
+    private static boolean isSameDefinition(ServiceDefinition d1, ServiceDefinition d2) {
+        return d1.getPort() == d2.getPort()
+            && Objects.equals(d1.getHost(), d2.getHost())
+            && Objects.equals(d1.getName(), d2.getName())
+            && Objects.equals(d1.getMetadata(), d2.getMetadata());
+    }
+
+    private static boolean isSameInstance(ServiceInstance i1, ServiceInstance i2) {
+        return i1.getPort() == i2.getPort()
+            && Objects.equals(i1.getHost(), i2.getHost())
+            && Objects.equals(i1.getServiceId(), i2.getServiceId())
+            && Objects.equals(i1.getMetadata(), i2.getMetadata());
+    }
+
+    /**
+     * An immutable pair of source instances and their conversions, indexed by identity and by key.
+     */
+    private static final class Snapshot<S, T> {
+        private final List<S> sources;
+        private final List<T> converted;
+        private final Map<S, T> identities;
+        private final Map<Object, List<Integer>> indexes;
+
+        Snapshot(List<S> sources, List<T> converted, Function<? super S, ?> key) {
+            this.sources = sources;
+            this.converted = converted;
+            this.identities = new IdentityHashMap<>(sources.size());
+            this.indexes = new HashMap<>(sources.size() * 4 / 3 + 1);
+
+            for (int i = 0; i < sources.size(); i++) {
+                this.identities.put(sources.get(i), converted.get(i));
+                this.indexes.computeIfAbsent(key.apply(sources.get(i)), k -> new ArrayList<>(1)).add(i);
+            }
+        }
+
+        boolean matches(List<? extends S> candidates, BiPredicate<? super S, ? super S> equivalence) {
+            final int size = candidates.size();
+            if (size != sources.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < size; i++) {
+                S candidate = candidates.get(i);
+                S source = sources.get(i);
+
+                if (candidate != source && !equivalence.test(candidate, source)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        T find(S candidate, Function<? super S, ?> key, BiPredicate<? super S, ? super S> equivalence) {
+            T answer = identities.get(candidate);
+            if (answer == null) {
+                List<Integer> candidates = indexes.get(key.apply(candidate));
+                if (candidates != null) {
+                    for (int i = 0; i < candidates.size(); i++) {
+                        int index = candidates.get(i);
+                        if (equivalence.test(candidate, sources.get(index))) {
+                            return converted.get(index);
+                        }
+                    }
+                }
+            }
+
+            return answer;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.cloud;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.cloud.ServiceDefinition;
+import org.apache.camel.cloud.ServiceDiscovery;
+import org.apache.camel.impl.cloud.DefaultServiceDefinition;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+public class ServiceConversionCacheTest {
+
+    @Test
+    public void testConvertAll() {
+        AtomicInteger conversions = new AtomicInteger();
+        ServiceConversionCache<ServiceDefinition, String> cache = ServiceConversionCache.forServiceDefinitions(
+            d -> {
+                conversions.incrementAndGet();
+                return d.getHost() + ":" + d.getPort();
+            }
+        );
+
+        ServiceDefinition s1 = new DefaultServiceDefinition("service", "127.0.0.1", 1001);
+        ServiceDefinition s2 = new DefaultServiceDefinition("service", "127.0.0.1", 1002);
+
+        List<String> first = cache.convertAll("service", Arrays.asList(s1, s2));
+        Assert.assertEquals(Arrays.asList("127.0.0.1:1001", "127.0.0.1:1002"), first);
+        Assert.assertEquals(2, conversions.get());
+
+        // same instances
+        Assert.assertEquals(first, cache.convertAll("service", Arrays.asList(s1, s2)));
+        // new but equal instances
+        Assert.assertEquals(first, cache.convertAll("service", Arrays.asList(
+            new DefaultServiceDefinition("service", "127.0.0.1", 1002),
+            new DefaultServiceDefinition("service", "127.0.0.1", 1001))));
+        Assert.assertEquals(2, conversions.get());
+
+        // only the new instance is converted
+        ServiceDefinition s3 = new DefaultServiceDefinition("service", "127.0.0.1", 1003);
+        List<String> second = cache.convertAll("service", Arrays.asList(s2, s3));
+        Assert.assertEquals(Arrays.asList("127.0.0.1:1002", "127.0.0.1:1003"), second);
+        Assert.assertSame(first.get(1), second.get(0));
+        Assert.assertEquals(3, conversions.get());
+
+        // changed metadata
+        cache.convertAll("service", Arrays.asList(
+            s2,
+            new DefaultServiceDefinition("service", "127.0.0.1", 1003, Collections.singletonMap("zone", "a"))));
+        Assert.assertEquals(4, conversions.get());
+    }
+
+    @Test
+    public void testConvert() {
+        AtomicInteger conversions = new AtomicInteger();
+        ServiceConversionCache<ServiceInstance, String> cache = new ServiceConversionCache<>(
+            i -> {
+                conversions.incrementAndGet();
+                return i.getHost() + ":" + i.getPort();
+            },
+            ServiceInstance::getPort,
+            (i1, i2) -> i1.getPort() == i2.getPort(),
+            2
+        );
+
+        ServiceInstance i1 = new DefaultServiceInstance("service", "127.0.0.1", 1001, false, Collections.emptyMap());
+        ServiceInstance i2 = new DefaultServiceInstance("service", "127.0.0.1", 1002, false, Collections.emptyMap());
+        ServiceInstance i3 = new DefaultServiceInstance("service", "127.0.0.1", 1003, false, Collections.emptyMap());
+
+        String converted = cache.convert("service", i1);
+        Assert.assertSame(converted, cache.convert("service", i1));
+        cache.convert("service", i2);
+        cache.convert("service", i1);
+        Assert.assertEquals(2, conversions.get());
+
+        // i1 is evicted as the eldest entry
+        cache.convert("service", i3);
+        cache.convert("service", i1);
+        Assert.assertEquals(4, conversions.get());
+    }
+
+    @Test
+    public void testConvertAllMutable() {
+        ServiceConversionCache<ServiceDefinition, String> cache = ServiceConversionCache.forServiceDefinitions(
+            d -> d.getHost() + ":" + d.getPort());
+        List<ServiceDefinition> definitions = Collections.singletonList(new DefaultServiceDefinition("service", "127.0.0.1", 1001));
+
+        List<String> first = cache.convertAll("service", definitions);
+        first.add("127.0.0.1:1002");
+        // each lookup gets its own list
+        Assert.assertEquals(Collections.singletonList("127.0.0.1:1001"), cache.convertAll("service", definitions));
+        cache.convertAll("service", Collections.emptyList()).add("127.0.0.1:1003");
+    }
+
+    @Test
+    public void testRemovedServiceEvicted() {
+        ServiceConversionCache<ServiceDefinition, String> cache = ServiceConversionCache.forServiceDefinitions(
+            d -> d.getHost() + ":" + d.getPort());
+
+        cache.convertAll("service", Collections.singletonList(new DefaultServiceDefinition("service", "127.0.0.1", 1001)));
+        Assert.assertEquals(1, cache.size());
+
+        cache.convertAll("service", Collections.emptyList());
+        Assert.assertEquals(0, cache.size());
+
+        for (int i = 0; i <= ServiceConversionCache.DEFAULT_MAX_SERVICES; i++) {
+            cache.convertAll("service-" + i, Collections.singletonList(new DefaultServiceDefinition("service-" + i, "127.0.0.1", 1001)));
+        }
+        Assert.assertTrue(cache.size() <= ServiceConversionCache.DEFAULT_MAX_SERVICES);
+    }
+
+    @Test
+    public void testDiscoveryClient() {
+        List<ServiceDefinition> definitions = Arrays.asList(
+            new DefaultServiceDefinition("service", "127.0.0.1", 1001, Collections.singletonMap("zone", "a")),
+            new DefaultServiceDefinition("service", "127.0.0.1", 1002));
+        ServiceDiscovery discovery = name -> definitions;
+
+        CamelSpringCloudDiscoveryClient client = new CamelSpringCloudDiscoveryClient("test", discovery);
+
+        List<ServiceInstance> instances = client.getInstances("service");
+        Assert.assertEquals(2, instances.size());
+        Assert.assertEquals("a", instances.get(0).getMetadata().get("zone"));
+        List<ServiceInstance> again = client.getInstances("service");
+        Assert.assertNotSame(instances, again);
+        Assert.assertSame(instances.get(0), again.get(0));
+    }
+}
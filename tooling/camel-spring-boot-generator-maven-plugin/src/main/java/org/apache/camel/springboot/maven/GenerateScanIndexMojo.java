@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.springboot.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Generates the <tt>META-INF/camel-scan-index</tt> file which lists all the .class entries of the module,
+ * so the Camel Spring Boot package scanner can avoid inflating and scanning the jar when nested in a fat jar.
+ */
+@Mojo(name = "generate-scan-index", threadSafe = true, defaultPhase = LifecyclePhase.PROCESS_CLASSES)
+public class GenerateScanIndexMojo extends AbstractMojo {
+
+    /**
+     * Location of the index file, must be kept in sync with the one used by FatJarPackageScanClassResolver
+     */
+    public static final String SCAN_INDEX = "META-INF/camel-scan-index";
+
+    /**
+     * The output directory containing the compiled classes
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}")
+    protected File outputDirectory;
+
+    /**
+     * Whether to skip the generation of the index
+     */
+    @Parameter(property = "camel.scan-index.skip", defaultValue = "false")
+    protected boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip) {
+            getLog().info("Skipping generation of the scan index");
+            return;
+        }
+        if (outputDirectory == null || !outputDirectory.isDirectory()) {
+            getLog().debug("No classes to index in " + outputDirectory);
+            return;
+        }
+
+        Path root = outputDirectory.toPath();
+        List<String> entries;
+        try (Stream<Path> files = Files.walk(root)) {
+            entries = files
+                    .filter(Files::isRegularFile)
+                    .map(root::relativize)
+                    .map(p -> p.toString().replace(File.separatorChar, '/'))
+                    .filter(s -> s.endsWith(".class"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error scanning classes in " + outputDirectory, e);
+        }
+        if (entries.isEmpty()) {
+            getLog().debug("No classes to index in " + outputDirectory);
+            return;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("# Generated by camel-spring-boot-generator-maven-plugin - do not edit this file!\n");
+        for (String entry : entries) {
+            sb.append(entry).append('\n');
+        }
+        String content = sb.toString();
+
+        File file = new File(outputDirectory, SCAN_INDEX);
+        try {
+            if (file.isFile() && content.equals(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8))) {
+                getLog().debug("File " + file + " has been left unchanged");
+                return;
+            }
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error writing scan index " + file, e);
+        }
+        getLog().info("Generated scan index with " + entries.size() + " class entries");
+    }
+
+}
@@ -534,9 +534,6 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
                 boolean complexOptions = model.getOptions().stream().anyMatch(this::isComplexType);
                 createComponentConfigurationSource(pkg, model, overrideComponentName);
                 createComponentAutoConfigurationSource(pkg, model, overrideComponentName, complexOptions);
-                if (complexOptions) {
-                    createComponentConverterSource(pkg, model);
-                }
                 createComponentSpringFactorySource(pkg, model);
             }
         }
@@ -597,9 +594,6 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
                 boolean complexOptions = model.getOptions().stream().anyMatch(this::isComplexType);
                 createDataFormatConfigurationSource(pkg, model, overrideDataFormatName);
                 createDataFormatAutoConfigurationSource(pkg, model, overrideDataFormatName, complexOptions);
-                if (complexOptions) {
-                    createDataFormatConverterSource(pkg, model);
-                }
                 createDataFormatSpringFactorySource(pkg, model);
             }
         }
@@ -645,9 +639,6 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
                 boolean complexOptions = model.getOptions().stream().anyMatch(this::isComplexType);
                 createLanguageConfigurationSource(pkg, model, overrideLanguageName);
                 createLanguageAutoConfigurationSource(pkg, model, overrideLanguageName, complexOptions);
-                if (complexOptions) {
-                    createLanguageConverterSource(pkg, model);
-                }
                 createLanguageSpringFactorySource(pkg, model);
             }
         }
@@ -684,6 +675,9 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addAnnotation(Generated.class.getName()).setStringValue("value", SpringBootAutoConfigurationMojo.class.getName());
         javaClass.addAnnotation("org.springframework.boot.context.properties.ConfigurationProperties").setStringValue("prefix", prefix);
 
+        // bind the options directly using the component property configurer instead of introspecting this class
+        StringBuilder bindBody = new StringBuilder();
+
         for (ComponentOptionModel option : model.getComponentOptions()) {
 
             if (skipComponentOption(model, option)) {
@@ -697,6 +691,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             type = getSimpleJavaType(type);
 
             Property prop = javaClass.addProperty(type, option.getName());
+            bindBody.append("binder.bind(\"").append(option.getName()).append("\", ").append(option.getName()).append(");\n");
             if (option.isDeprecated()) {
                 prop.getField().addAnnotation(Deprecated.class);
                 prop.getAccessor().addAnnotation(Deprecated.class);
@@ -740,6 +735,17 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             }
         }
 
+        if (bindBody.length() > 0) {
+            javaClass.addImport("org.apache.camel.spring.boot.util.ComponentPropertiesBinder");
+            Method method = javaClass.addMethod()
+                    .setName("bindTo")
+                    .setPublic()
+                    .setReturnType(void.class)
+                    .addParameter("org.apache.camel.spring.boot.util.ComponentPropertiesBinder", "binder")
+                    .setBody(bindBody.toString());
+            method.addAnnotation(Override.class);
+        }
+
         String fileName = packageName.replaceAll("\\.", "\\/") + "/" + name + ".java";
         writeSourceIfChanged(javaClass, fileName, true);
     }
@@ -1288,7 +1294,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
                         new String[]{"camel.component", "camel.component." + componentName});
 
         javaClass.addImport(ApplicationContext.class);
-        javaClass.addImport("org.springframework.boot.convert.ApplicationConversionService");
+        javaClass.addImport("org.springframework.beans.factory.ObjectProvider");
         javaClass.addImport("org.apache.camel.CamelContext");
         javaClass.addImport("org.apache.camel.Component");
         javaClass.addImport("org.apache.camel.spi.ComponentCustomizer");
@@ -1299,18 +1305,18 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addImport("org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator");
         javaClass.addImport(model.getJavaType());
 
+        // the configuration is looked up on demand, so it can be bound lazily (camel.springboot.lazy-components)
         javaClass.addField().setPrivate().setName("applicationContext").setType(ApplicationContext.class).addAnnotation(Autowired.class);
         javaClass.addField().setPrivate().setFinal(true).setName("camelContext").setType(loadClass("org.apache.camel.CamelContext"));
-        javaClass.addField().setPrivate().setName("configuration").setType(configClass).addAnnotation(Autowired.class);
+        javaClass.addField().setPrivate().setName("configuration")
+                .setType(loadType("org.springframework.beans.factory.ObjectProvider<" + configClass.getName() + ">")).addAnnotation(Autowired.class);
 
-        String converterClassName = name.replace("ComponentAutoConfiguration", "ComponentConverter");
-        Method ctr = javaClass.addMethod().setConstructor(true).setPublic().setName(name).addParameter("org.apache.camel.CamelContext", "camelContext");
+        javaClass.addMethod().setConstructor(true).setPublic().setName(name).addParameter("org.apache.camel.CamelContext", "camelContext")
+                .setBody("this.camelContext = camelContext;\n");
         if (complexOptions) {
-            ctr.setBody("this.camelContext = camelContext;\n"
-                    + "ApplicationConversionService acs = (ApplicationConversionService) ApplicationConversionService.getSharedInstance();\n"
-                    + "acs.addConverter(new " + converterClassName + "(camelContext));\n");
-        } else {
-            ctr.setBody("this.camelContext = camelContext;\n");
+            // we need complex types only which unique types only
+            Stream<String> types = model.getOptions().stream().filter(this::isComplexType).map(SpringBootAutoConfigurationMojo::getJavaType).distinct();
+            addRegistryReferenceTypes(javaClass, "camel.component." + componentName, types);
         }
 
         // add method for auto configure
@@ -1332,148 +1338,6 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         writeSourceIfChanged(javaClass, fileName, false);
     }
 
-    private void createComponentConverterSource(String packageName, ComponentModel model)
-            throws MojoFailureException {
-
-        final String name = model.getJavaType().substring(model.getJavaType().lastIndexOf(".") + 1).replace("Component", "ComponentConverter");
-
-        // create converter class and write source
-        JavaClass javaClass = new JavaClass(getProjectClassLoader());
-        javaClass.setPackage(packageName);
-        javaClass.setName(name);
-        javaClass.getJavaDoc().setFullText("Generated by camel-package-maven-plugin - do not edit this file!");
-        javaClass.addAnnotation(Generated.class).setStringValue("value", SpringBootAutoConfigurationMojo.class.getName());
-        javaClass.addImport("java.util.LinkedHashSet");
-        javaClass.addImport("java.util.Set");
-        javaClass.addImport("org.apache.camel.CamelContext");
-        javaClass.addImport("org.springframework.core.convert.TypeDescriptor");
-        javaClass.addImport("org.springframework.core.convert.converter.GenericConverter");
-
-        javaClass.implementInterface("org.springframework.core.convert.converter.GenericConverter");
-        javaClass.addField().setPrivate().setFinal(true).setName("camelContext").setType(loadClass("org.apache.camel.CamelContext"));
-        javaClass.addMethod().setConstructor(true).setPublic().setName(name).addParameter("org.apache.camel.CamelContext", "camelContext")
-                .setBody("this.camelContext = camelContext;\n");
-
-        String body = createConverterPairBody(model);
-        javaClass.addMethod().setName("getConvertibleTypes").setPublic().setReturnType("Set<ConvertiblePair>")
-                .setBody(body);
-        body = createConvertBody(model);
-        javaClass.addMethod().setName("convert").setPublic().setReturnType("Object")
-                .addParameter("Object", "source")
-                .addParameter("TypeDescriptor", "sourceType")
-                .addParameter("TypeDescriptor", "targetType")
-                .setBody(body);
-        sortImports(javaClass);
-
-        String fileName = packageName.replaceAll("\\.", "\\/") + "/" + name + ".java";
-        writeSourceIfChanged(javaClass, fileName, false);
-    }
-
-    private String createConvertBody(ComponentModel model) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("if (source == null) {\n");
-        sb.append("    return null;\n");
-        sb.append("}\n");
-        sb.append("String ref = source.toString();\n");
-        sb.append("if (!ref.startsWith(\"#\")) {\n");
-        sb.append("    return null;\n");
-        sb.append("}\n");
-        sb.append("ref = ref.startsWith(\"#bean:\") ? ref.substring(6) : ref.substring(1);\n");
-        sb.append("switch (targetType.getName()) {\n");
-        // we need complex types only which unique types only
-        Stream<String> s = model.getComponentOptions().stream().filter(this::isComplexType).map(SpringBootAutoConfigurationMojo::getJavaType).distinct();
-        s.forEach(type -> {
-            sb.append("    case \"").append(type).append("\": return camelContext.getRegistry().lookupByNameAndType(ref, ").append(type).append(".class);\n");
-        });
-        sb.append("}\n");
-        sb.append("return null;\n");
-        return sb.toString();
-    }
-
-    private String createConvertBody(DataFormatModel model) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("if (source == null) {\n");
-        sb.append("    return null;\n");
-        sb.append("}\n");
-        sb.append("String ref = source.toString();\n");
-        sb.append("if (!ref.startsWith(\"#\")) {\n");
-        sb.append("    return null;\n");
-        sb.append("}\n");
-        sb.append("ref = ref.startsWith(\"#bean:\") ? ref.substring(6) : ref.substring(1);\n");
-        sb.append("switch (targetType.getName()) {\n");
-        // we need complex types only which unique types only
-        Stream<String> s = model.getOptions().stream().filter(this::isComplexType).map(SpringBootAutoConfigurationMojo::getJavaType).distinct();
-        s.forEach(type -> {
-            sb.append("    case \"").append(type).append("\": return camelContext.getRegistry().lookupByNameAndType(ref, ").append(type).append(".class);\n");
-        });
-        sb.append("}\n");
-        sb.append("return null;\n");
-        return sb.toString();
-    }
-
-    private String createConvertBody(LanguageModel model) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("if (source == null) {\n");
-        sb.append("    return null;\n");
-        sb.append("}\n");
-        sb.append("String ref = source.toString();\n");
-        sb.append("if (!ref.startsWith(\"#\")) {\n");
-        sb.append("    return null;\n");
-        sb.append("}\n");
-        sb.append("ref = ref.startsWith(\"#bean:\") ? ref.substring(6) : ref.substring(1);\n");
-        sb.append("switch (targetType.getName()) {\n");
-        // we need complex types only which unique types only
-        Stream<String> s = model.getOptions().stream().filter(this::isComplexType).map(SpringBootAutoConfigurationMojo::getJavaType).distinct();
-        s.forEach(type -> {
-            sb.append("    case \"").append(type).append("\": return camelContext.getRegistry().lookupByNameAndType(ref, ").append(type).append(".class);\n");
-        });
-        sb.append("}\n");
-        sb.append("return null;\n");
-        return sb.toString();
-    }
-
-    private String createConverterPairBody(ComponentModel model) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Set<ConvertiblePair> answer = new LinkedHashSet<>();\n");
-        // we need complex types only which unique types only
-        Stream<String> s = model.getOptions().stream().filter(this::isComplexType).map(SpringBootAutoConfigurationMojo::getJavaType).distinct();
-        s.forEach(type -> {
-            sb.append("answer.add(new ConvertiblePair(String.class, ");
-            sb.append(type);
-            sb.append(".class));\n");
-        });
-        sb.append("return answer;\n");
-        return sb.toString();
-    }
-
-    private String createConverterPairBody(DataFormatModel model) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Set<ConvertiblePair> answer = new LinkedHashSet<>();\n");
-        // we need complex types only which unique types only
-        Stream<String> s = model.getOptions().stream().filter(this::isComplexType).map(SpringBootAutoConfigurationMojo::getJavaType).distinct();
-        s.forEach(type -> {
-            sb.append("answer.add(new ConvertiblePair(String.class, ");
-            sb.append(type);
-            sb.append(".class));\n");
-        });
-        sb.append("return answer;\n");
-        return sb.toString();
-    }
-
-    private String createConverterPairBody(LanguageModel model) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Set<ConvertiblePair> answer = new LinkedHashSet<>();\n");
-        // we need complex types only which unique types only
-        Stream<String> s = model.getOptions().stream().filter(this::isComplexType).map(SpringBootAutoConfigurationMojo::getJavaType).distinct();
-        s.forEach(type -> {
-            sb.append("answer.add(new ConvertiblePair(String.class, ");
-            sb.append(type);
-            sb.append(".class));\n");
-        });
-        sb.append("return answer;\n");
-        return sb.toString();
-    }
-
     private void createDataFormatAutoConfigurationSource(String packageName, DataFormatModel model, String overrideName, boolean complexOptions)
             throws MojoFailureException {
 
@@ -1499,7 +1363,6 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
                         new String[]{"camel.dataformat", "camel.dataformat." + dataformatName});
 
         javaClass.addImport(ApplicationContext.class);
-        javaClass.addImport("org.springframework.boot.convert.ApplicationConversionService");
         javaClass.addImport("org.apache.camel.CamelContext");
         javaClass.addImport("org.apache.camel.spring.boot.CamelAutoConfiguration");
         javaClass.addImport("org.apache.camel.spring.boot.DataFormatConfigurationProperties");
@@ -1514,14 +1377,12 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addField().setPrivate().setFinal(true).setName("camelContext").setType(loadClass("org.apache.camel.CamelContext"));
         javaClass.addField().setPrivate().setName("configuration").setType(configClass).addAnnotation(Autowired.class);
 
-        String converterClassName = name.replace("DataFormatAutoConfiguration", "DataFormatConverter");
-        Method ctr = javaClass.addMethod().setConstructor(true).setPublic().setName(name).addParameter("org.apache.camel.CamelContext", "camelContext");
+        javaClass.addMethod().setConstructor(true).setPublic().setName(name).addParameter("org.apache.camel.CamelContext", "camelContext")
+                .setBody("this.camelContext = camelContext;\n");
         if (complexOptions) {
-            ctr.setBody("this.camelContext = camelContext;\n"
-                    + "ApplicationConversionService acs = (ApplicationConversionService) ApplicationConversionService.getSharedInstance();\n"
-                    + "acs.addConverter(new " + converterClassName + "(camelContext));\n");
-        } else {
-            ctr.setBody("this.camelContext = camelContext;\n");
+            // we need complex types only which unique types only
+            Stream<String> types = model.getOptions().stream().filter(this::isComplexType).map(SpringBootAutoConfigurationMojo::getJavaType).distinct();
+            addRegistryReferenceTypes(javaClass, "camel.dataformat." + dataformatName, types);
         }
 
         String body = createDataFormatBody(model.getShortJavaType(), dataformatName);
@@ -1542,43 +1403,6 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         writeSourceIfChanged(javaClass, fileName, false);
     }
 
-    private void createDataFormatConverterSource(String packageName, DataFormatModel model)
-            throws MojoFailureException {
-
-        final String name = model.getJavaType().substring(model.getJavaType().lastIndexOf(".") + 1).replace("DataFormat", "DataFormatConverter");
-
-        // create converter class and write source
-        JavaClass javaClass = new JavaClass(getProjectClassLoader());
-        javaClass.setPackage(packageName);
-        javaClass.setName(name);
-        javaClass.getJavaDoc().setFullText("Generated by camel-package-maven-plugin - do not edit this file!");
-        javaClass.addAnnotation(Generated.class).setStringValue("value", SpringBootAutoConfigurationMojo.class.getName());
-        javaClass.addImport("java.util.LinkedHashSet");
-        javaClass.addImport("java.util.Set");
-        javaClass.addImport("org.apache.camel.CamelContext");
-        javaClass.addImport("org.springframework.core.convert.TypeDescriptor");
-        javaClass.addImport("org.springframework.core.convert.converter.GenericConverter");
-
-        javaClass.implementInterface("org.springframework.core.convert.converter.GenericConverter");
-        javaClass.addField().setPrivate().setFinal(true).setName("camelContext").setType(loadClass("org.apache.camel.CamelContext"));
-        javaClass.addMethod().setConstructor(true).setPublic().setPublic().setName(name).addParameter("org.apache.camel.CamelContext", "camelContext")
-                .setBody("this.camelContext = camelContext;\n");
-
-        String body = createConverterPairBody(model);
-        javaClass.addMethod().setName("getConvertibleTypes").setPublic().setReturnType("Set<ConvertiblePair>")
-                .setBody(body);
-        body = createConvertBody(model);
-        javaClass.addMethod().setName("convert").setPublic().setReturnType("Object")
-                .addParameter("Object", "source")
-                .addParameter("TypeDescriptor", "sourceType")
-                .addParameter("TypeDescriptor", "targetType")
-                .setBody(body);
-        sortImports(javaClass);
-
-        String fileName = packageName.replaceAll("\\.", "\\/") + "/" + name + ".java";
-        writeSourceIfChanged(javaClass, fileName, false);
-    }
-
     private void createLanguageAutoConfigurationSource(String packageName, LanguageModel model, String overrideName, boolean complexOptions)
             throws MojoFailureException {
 
@@ -1604,7 +1428,6 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
                         new String[]{"camel.language", "camel.language." + languageName});
 
         javaClass.addImport(ApplicationContext.class);
-        javaClass.addImport("org.springframework.boot.convert.ApplicationConversionService");
         javaClass.addImport("org.apache.camel.CamelContext");
         javaClass.addImport("org.apache.camel.spring.boot.CamelAutoConfiguration");
         javaClass.addImport("org.apache.camel.spring.boot.LanguageConfigurationProperties");
@@ -1619,14 +1442,12 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addField().setPrivate().setFinal(true).setName("camelContext").setType(loadClass("org.apache.camel.CamelContext"));
         javaClass.addField().setPrivate().setName("configuration").setType(configClass).addAnnotation(Autowired.class);
 
-        String converterClassName = name.replace("LanguageAutoConfiguration", "LanguageConverter");
-        Method ctr = javaClass.addMethod().setConstructor(true).setPublic().setName(name).addParameter("org.apache.camel.CamelContext", "camelContext");
+        javaClass.addMethod().setConstructor(true).setPublic().setName(name).addParameter("org.apache.camel.CamelContext", "camelContext")
+                .setBody("this.camelContext = camelContext;\n");
         if (complexOptions) {
-            ctr.setBody("this.camelContext = camelContext;\n"
-                    + "ApplicationConversionService acs = (ApplicationConversionService) ApplicationConversionService.getSharedInstance();\n"
-                    + "acs.addConverter(new " + converterClassName + "(camelContext));\n");
-        } else {
-            ctr.setBody("this.camelContext = camelContext;\n");
+            // we need complex types only which unique types only
+            Stream<String> types = model.getOptions().stream().filter(this::isComplexType).map(SpringBootAutoConfigurationMojo::getJavaType).distinct();
+            addRegistryReferenceTypes(javaClass, "camel.language." + languageName, types);
         }
 
         String body = createLanguageBody(model.getShortJavaType(), languageName);
@@ -1653,43 +1474,6 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         writeComponentSpringFactorySource(packageName, name);
     }
 
-    private void createLanguageConverterSource(String packageName, LanguageModel model)
-            throws MojoFailureException {
-
-        final String name = model.getJavaType().substring(model.getJavaType().lastIndexOf(".") + 1).replace("Language", "LanguageConverter");
-
-        // create converter class and write source
-        JavaClass javaClass = new JavaClass(getProjectClassLoader());
-        javaClass.setPackage(packageName);
-        javaClass.setName(name);
-        javaClass.getJavaDoc().setFullText("Generated by camel-package-maven-plugin - do not edit this file!");
-        javaClass.addAnnotation(Generated.class).setStringValue("value", SpringBootAutoConfigurationMojo.class.getName());
-        javaClass.addImport("java.util.LinkedHashSet");
-        javaClass.addImport("java.util.Set");
-        javaClass.addImport("org.apache.camel.CamelContext");
-        javaClass.addImport("org.springframework.core.convert.TypeDescriptor");
-        javaClass.addImport("org.springframework.core.convert.converter.GenericConverter");
-
-        javaClass.implementInterface("org.springframework.core.convert.converter.GenericConverter");
-        javaClass.addField().setPrivate().setFinal(true).setName("camelContext").setType(loadClass("org.apache.camel.CamelContext"));
-        javaClass.addMethod().setConstructor(true).setPublic().setName(name).addParameter("org.apache.camel.CamelContext", "camelContext")
-                .setBody("this.camelContext = camelContext;\n");
-
-        String body = createConverterPairBody(model);
-        javaClass.addMethod().setName("getConvertibleTypes").setPublic().setReturnType("Set<ConvertiblePair>")
-                .setBody(body);
-        body = createConvertBody(model);
-        javaClass.addMethod().setName("convert").setPublic().setReturnType("Object")
-                .addParameter("Object", "source")
-                .addParameter("TypeDescriptor", "sourceType")
-                .addParameter("TypeDescriptor", "targetType")
-                .setBody(body);
-        sortImports(javaClass);
-
-        String fileName = packageName.replaceAll("\\.", "\\/") + "/" + name + ".java";
-        writeSourceIfChanged(javaClass, fileName, false);
-    }
-
     private void createDataFormatSpringFactorySource(String packageName, DataFormatModel model) throws MojoFailureException {
         int pos = model.getJavaType().lastIndexOf(".");
         String name = model.getJavaType().substring(pos + 1);
@@ -1706,12 +1490,31 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         writeComponentSpringFactorySource(packageName, name);
     }
 
+    private static void addRegistryReferenceTypes(JavaClass javaClass, String prefix, Stream<String> types) {
+        javaClass.addImport("org.apache.camel.spring.boot.util.RegistryReferenceTypes");
+
+        // the types are contributed as a bean so the registry reference converter is created once with all of them
+        StringBuilder sb = new StringBuilder();
+        sb.append("return new RegistryReferenceTypes(");
+        sb.append(types.map(type -> "\n        " + type + ".class").collect(Collectors.joining(",")));
+        sb.append(");\n");
+
+        Method method = javaClass.addMethod()
+                .setName("referenceTypes")
+                .setPublic()
+                .setStatic()
+                .setBody(sb.toString())
+                .setReturnType("org.apache.camel.spring.boot.util.RegistryReferenceTypes");
+
+        method.addAnnotation(Bean.class).setStringValue("name", prefix + ".reference-types");
+    }
+
     private static String createComponentBody(String shortJavaType, String name) {
         return new StringBuilder()
                 .append("return new ComponentCustomizer() {\n")
                 .append("    @Override\n")
                 .append("    public void configure(String name, Component target) {\n")
-                .append("        CamelPropertiesHelper.copyProperties(camelContext, configuration, target);\n")
+                .append("        CamelPropertiesHelper.bindProperties(camelContext, configuration.getObject(), target);\n")
                 .append("    }\n")
                 .append("    @Override\n")
                 .append("    public boolean isEnabled(String name, Component target) {\n")